@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.commons;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Header of the binary files written by OpenRAO: a magic number identifying the kind of file, followed by one byte
+ * holding the version of its format.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class BinaryFileHeader {
+    private final byte[] magicNumber;
+    private final int formatVersion;
+
+    /**
+     * @param magicNumber ASCII magic number identifying the kind of file
+     * @param formatVersion version of the format written in new files, between 0 and 255
+     */
+    public BinaryFileHeader(String magicNumber, int formatVersion) {
+        if (formatVersion < 0 || formatVersion > 255) {
+            throw new OpenRaoException("Binary file format version must be between 0 and 255");
+        }
+        this.magicNumber = magicNumber.getBytes(StandardCharsets.US_ASCII);
+        this.formatVersion = formatVersion;
+    }
+
+    public int getFormatVersion() {
+        return formatVersion;
+    }
+
+    public int getLength() {
+        return magicNumber.length + 1;
+    }
+
+    public void write(OutputStream outputStream) throws IOException {
+        outputStream.write(magicNumber);
+        outputStream.write(formatVersion);
+    }
+
+    /**
+     * Reads the header of a file and returns the version of its format, or -1 if the file does not start with the
+     * magic number.
+     */
+    public int read(InputStream inputStream) throws IOException {
+        byte[] header = inputStream.readNBytes(getLength());
+        if (header.length < getLength() || !Arrays.equals(header, 0, magicNumber.length, magicNumber, 0, magicNumber.length)) {
+            return -1;
+        }
+        return header[magicNumber.length] & 0xFF;
+    }
+}
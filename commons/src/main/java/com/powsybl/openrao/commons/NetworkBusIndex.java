@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.commons;
+
+import com.google.common.cache.CacheBuilder;
+import com.powsybl.iidm.network.BoundaryLine;
+import com.powsybl.iidm.network.Bus;
+import com.powsybl.iidm.network.DefaultNetworkListener;
+import com.powsybl.iidm.network.Identifiable;
+import com.powsybl.iidm.network.Injection;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.TopologyKind;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of the bus breaker view buses of a network, by id, by name and by UCTE node code, and of its boundary lines
+ * by pairing key (X-node). It is built in a single pass over the network, so that resolving many nodes (virtual hubs,
+ * GLSK nodes, ICS nodes, UCTE CRAC nodes...) does not scan all the voltage levels for each of them.
+ * <p>
+ * The index is immutable once built, and can thus be queried concurrently. The index of each variant of a network is
+ * cached (see {@link #of(Network)}), and dropped when the buses or the boundary lines of the network may have changed.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class NetworkBusIndex {
+    private static final Map<Network, CachedIndexes> CACHE = CacheBuilder.newBuilder().weakKeys().weakValues().<Network, CachedIndexes>build().asMap();
+    private static final int UCTE_NODE_LENGTH = 8;
+    private static final String UCTE_WILDCARD_CHARACTER = "*";
+
+    private final Map<String, Bus> busPerId = new HashMap<>();
+    private final Map<String, Bus> busPerName = new HashMap<>();
+    // buses per id without its last character, to resolve UCTE node codes ending with a wildcard
+    private final Map<String, List<Bus>> busesPerIdPrefix = new HashMap<>();
+    private final Map<String, BoundaryLine> boundaryLinePerPairingKey = new HashMap<>();
+
+    private NetworkBusIndex(Network network) {
+        // when several elements share the same key, the first one in the network order is kept
+        network.getVoltageLevelStream()
+            .flatMap(voltageLevel -> voltageLevel.getBusBreakerView().getBusStream())
+            .forEach(bus -> {
+                if (busPerId.putIfAbsent(bus.getId(), bus) == null && !bus.getId().isEmpty()) {
+                    busesPerIdPrefix.computeIfAbsent(bus.getId().substring(0, bus.getId().length() - 1), prefix -> new ArrayList<>()).add(bus);
+                }
+                bus.getOptionalName().ifPresent(name -> busPerName.putIfAbsent(name, bus));
+            });
+        network.getBoundaryLineStream()
+            .filter(boundaryLine -> boundaryLine.getPairingKey() != null)
+            .forEach(boundaryLine -> boundaryLinePerPairingKey.putIfAbsent(boundaryLine.getPairingKey(), boundaryLine));
+    }
+
+    /**
+     * Returns the index of the working variant of the network, which is only built once as long as its buses and
+     * boundary lines do not change.
+     */
+    public static NetworkBusIndex of(Network network) {
+        Network rootNetwork = network.getNetwork();
+        if (rootNetwork != network && rootNetwork.getSubnetwork(network.getId()) != null) {
+            // the index of a subnetwork only holds its own elements, and is not cached
+            return new NetworkBusIndex(network);
+        }
+        // network proxies (such as lazy networks) share the index of the network they wrap
+        return CACHE.computeIfAbsent(rootNetwork, n -> {
+            CachedIndexes cachedIndexes = new CachedIndexes();
+            n.addListener(cachedIndexes);
+            return cachedIndexes;
+        }).get(rootNetwork);
+    }
+
+    /**
+     * Holds the indexes of the variants of a network. The indexes of all the variants are dropped when an element that
+     * may change the buses or the boundary lines is added or removed (anything but an injection, other than a boundary
+     * line, connected to an existing bus of a bus breaker voltage level), or when the name or the pairing key of an element changes. The
+     * index of a variant is dropped when a switch or a connection changes in this variant.
+     * It is referenced by the network as a listener, and thus lives as long as the network.
+     */
+    private static final class CachedIndexes extends DefaultNetworkListener {
+        private final Map<String, NetworkBusIndex> indexPerVariant = new ConcurrentHashMap<>();
+
+        NetworkBusIndex get(Network network) {
+            return indexPerVariant.computeIfAbsent(network.getVariantManager().getWorkingVariantId(), variantId -> new NetworkBusIndex(network));
+        }
+
+        private void invalidate(String variantId) {
+            if (variantId == null) {
+                indexPerVariant.clear();
+            } else {
+                indexPerVariant.remove(variantId);
+            }
+        }
+
+        private void onTopologyUpdate(Identifiable<?> identifiable) {
+            if (identifiable instanceof BoundaryLine
+                || !(identifiable instanceof Injection<?> injection && injection.getTerminal().getVoltageLevel().getTopologyKind() == TopologyKind.BUS_BREAKER)) {
+                indexPerVariant.clear();
+            }
+        }
+
+        @Override
+        public void onCreation(Identifiable<?> identifiable) {
+            onTopologyUpdate(identifiable);
+        }
+
+        @Override
+        public void beforeRemoval(Identifiable<?> identifiable) {
+            onTopologyUpdate(identifiable);
+        }
+
+        @Override
+        public void onUpdate(Identifiable<?> identifiable, String attribute, String variantId, Object oldValue, Object newValue) {
+            if (attribute.equals("name") || attribute.equals("pairingKey")) {
+                indexPerVariant.clear();
+            } else if (attribute.startsWith("connect") || attribute.equals("open")) {
+                // connection of a terminal, connectable bus of a terminal, state of a switch...
+                invalidate(variantId);
+            }
+        }
+
+        @Override
+        public void onVariantOverwritten(String sourceVariantId, String targetVariantId) {
+            invalidate(targetVariantId);
+        }
+
+        @Override
+        public void onVariantRemoved(String variantId) {
+            invalidate(variantId);
+        }
+    }
+
+    /**
+     * Bus of the bus breaker view with the given id
+     */
+    public Optional<Bus> getBus(String id) {
+        return Optional.ofNullable(busPerId.get(id));
+    }
+
+    /**
+     * Bus of the bus breaker view with the given name
+     */
+    public Optional<Bus> getBusByName(String name) {
+        return Optional.ofNullable(busPerName.get(name));
+    }
+
+    /**
+     * Bus of the bus breaker view with the given UCTE node code. Codes shorter than 8 characters, or ending with the
+     * wildcard character '*', are completed with blank spaces.
+     */
+    public Optional<Bus> getBusByUcteNodeCode(String ucteNodeCode) {
+        Bus bus = busPerId.get(ucteNodeCode);
+        if (bus != null) {
+            return Optional.of(bus);
+        }
+        String nodeCode = ucteNodeCode.endsWith(UCTE_WILDCARD_CHARACTER) ? ucteNodeCode.substring(0, ucteNodeCode.length() - 1) : ucteNodeCode;
+        if (nodeCode.length() >= UCTE_NODE_LENGTH) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(busPerId.get(String.format("%1$-" + UCTE_NODE_LENGTH + "s", nodeCode)));
+    }
+
+    /**
+     * Buses of the bus breaker view matching the given UCTE node code: a code ending with the wildcard character '*'
+     * matches all the buses whose id only differs by its last character, a code shorter than 8 characters matches the
+     * bus whose id is the code completed with blank spaces, and any other code matches the bus with this id.
+     */
+    public Set<Bus> getBusesMatchingUcteNodeCode(String ucteNodeCode) {
+        if (ucteNodeCode.length() < UCTE_NODE_LENGTH) {
+            return getBus(String.format("%1$-" + UCTE_NODE_LENGTH + "s", ucteNodeCode)).map(Set::of).orElse(Set.of());
+        } else if (ucteNodeCode.endsWith(UCTE_WILDCARD_CHARACTER)) {
+            return Set.copyOf(busesPerIdPrefix.getOrDefault(ucteNodeCode.substring(0, ucteNodeCode.length() - 1), List.of()));
+        } else {
+            return getBus(ucteNodeCode).map(Set::of).orElse(Set.of());
+        }
+    }
+
+    /**
+     * Boundary line with the given pairing key (X-node)
+     */
+    public Optional<BoundaryLine> getBoundaryLine(String pairingKey) {
+        return Optional.ofNullable(boundaryLinePerPairingKey.get(pairingKey));
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.commons;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static com.powsybl.openrao.commons.logs.OpenRaoLoggerProvider.TECHNICAL_LOGS;
+
+/**
+ * Executor shared by the parallel computations of OpenRAO.
+ * <p>
+ * Worker threads are taken from process-wide thread pools and reused from one computation to another instead of
+ * creating a new thread pool for each call. Each executor caps the number of worker threads running on platform
+ * threads for the computations it runs (including the network pools that reserve their threads here). When the cap is
+ * reached, the calling thread processes the tasks itself, so that nested parallel computations never deadlock and never
+ * oversubscribe the CPU, and takes over the worker threads released by the other computations as soon as they are
+ * available.
+ * <p>
+ * A RAO runs its computation with an executor capped by its multi-threading parameters (see
+ * {@link #forComputation(int)} and {@link #call(Supplier)}). The executor is bound to the threads of the computation,
+ * so that the nested computations (for instance the RAO run for each timestamp of a time-coupled RAO) share the cap
+ * of the enclosing one. Outside of any computation, {@link #current()} returns a default executor capped by the number
+ * of available processors.
+ * <p>
+ * I/O-bound computations can be run on virtual threads. They do not count in the cap because they do not hold a
+ * platform thread while they are blocked, and are only bounded by the parallelism of the call.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class SharedExecutor {
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+    private static final ExecutorService PLATFORM_THREADS_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "openrao-worker-" + THREAD_COUNT.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final ExecutorService VIRTUAL_THREADS_EXECUTOR = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("openrao-virtual-worker-", 0).factory());
+
+    private static final SharedExecutor DEFAULT_EXECUTOR = new SharedExecutor(Runtime.getRuntime().availableProcessors());
+    private static final ThreadLocal<SharedExecutor> BOUND_EXECUTOR = new ThreadLocal<>();
+
+    private final int maxParallelism;
+    private final AtomicInteger reservedThreads = new AtomicInteger();
+
+    private SharedExecutor(int maxParallelism) {
+        this.maxParallelism = maxParallelism;
+    }
+
+    /**
+     * Creates an executor running at most maxParallelism worker threads simultaneously, in addition to the threads
+     * that started the computations.
+     */
+    public static SharedExecutor withMaxParallelism(int maxParallelism) {
+        if (maxParallelism < 1) {
+            throw new OpenRaoException("The maximum parallelism must be strictly positive (got %s).".formatted(maxParallelism));
+        }
+        return new SharedExecutor(maxParallelism);
+    }
+
+    /**
+     * Executor of the computation running in the current thread, or the default executor outside of any computation.
+     */
+    public static SharedExecutor current() {
+        SharedExecutor boundExecutor = BOUND_EXECUTOR.get();
+        return boundExecutor != null ? boundExecutor : DEFAULT_EXECUTOR;
+    }
+
+    /**
+     * Executor for a new computation capped at maxParallelism worker threads. A computation started from within
+     * another one keeps the executor, and thus the cap, of the enclosing computation.
+     */
+    public static SharedExecutor forComputation(int maxParallelism) {
+        SharedExecutor boundExecutor = BOUND_EXECUTOR.get();
+        return boundExecutor != null ? boundExecutor : withMaxParallelism(maxParallelism);
+    }
+
+    public int getMaxParallelism() {
+        return maxParallelism;
+    }
+
+    /**
+     * Runs the computation in the calling thread with this executor bound to it, so that the parallel computations it
+     * starts are capped by this executor.
+     */
+    public <V> V call(Supplier<V> computation) {
+        SharedExecutor previousExecutor = BOUND_EXECUTOR.get();
+        BOUND_EXECUTOR.set(this);
+        try {
+            return computation.get();
+        } finally {
+            restore(previousExecutor);
+        }
+    }
+
+    /**
+     * Wraps a task submitted to another thread pool so that it runs with this executor bound to its thread.
+     */
+    public Runnable wrap(Runnable task) {
+        return () -> call(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Wraps a task submitted to another thread pool so that it runs with this executor bound to its thread.
+     */
+    public <V> Callable<V> wrap(Callable<V> task) {
+        return () -> {
+            SharedExecutor previousExecutor = BOUND_EXECUTOR.get();
+            BOUND_EXECUTOR.set(this);
+            try {
+                return task.call();
+            } finally {
+                restore(previousExecutor);
+            }
+        };
+    }
+
+    private static void restore(SharedExecutor previousExecutor) {
+        if (previousExecutor == null) {
+            BOUND_EXECUTOR.remove();
+        } else {
+            BOUND_EXECUTOR.set(previousExecutor);
+        }
+    }
+
+    /**
+     * Reserves up to the required number of worker threads and returns the number of threads actually reserved,
+     * which is lower if the maximum parallelism is reached. The reserved threads must be released with
+     * {@link #release(int)}.
+     */
+    public int reserve(int requiredThreads) {
+        if (requiredThreads <= 0) {
+            return 0;
+        }
+        while (true) {
+            int currentlyReservedThreads = reservedThreads.get();
+            int grantedThreads = Math.min(requiredThreads, maxParallelism - currentlyReservedThreads);
+            if (grantedThreads <= 0) {
+                return 0;
+            }
+            if (reservedThreads.compareAndSet(currentlyReservedThreads, currentlyReservedThreads + grantedThreads)) {
+                return grantedThreads;
+            }
+        }
+    }
+
+    public void release(int threads) {
+        if (threads > 0) {
+            reservedThreads.addAndGet(-threads);
+        }
+    }
+
+    /**
+     * Applies the function to all the inputs using at most parallelism threads (including the calling thread) and
+     * returns the results in the order of the inputs.
+     */
+    public <T, R> List<R> map(List<T> inputs, Function<T, R> function, int parallelism, boolean virtualThreads) {
+        return new Computation<>(inputs, function, Math.min(parallelism, inputs.size()) - 1, virtualThreads).run();
+    }
+
+    private final class Computation<T, R> {
+        private final List<T> inputs;
+        private final Function<T, R> function;
+        private final int maxWorkers;
+        private final boolean virtualThreads;
+        private final AtomicInteger nextIndex = new AtomicInteger();
+        private final AtomicReferenceArray<R> results;
+        private final List<Future<?>> futures = new ArrayList<>();
+
+        private Computation(List<T> inputs, Function<T, R> function, int maxWorkers, boolean virtualThreads) {
+            this.inputs = inputs;
+            this.function = function;
+            this.maxWorkers = Math.max(maxWorkers, 0);
+            this.virtualThreads = virtualThreads;
+            this.results = new AtomicReferenceArray<>(inputs.size());
+        }
+
+        private List<R> run() {
+            submitWorkers();
+            if (futures.size() < maxWorkers) {
+                TECHNICAL_LOGS.debug("{} worker thread(s) out of {} available, the calling thread runs the other tasks until threads are released", futures.size(), maxWorkers);
+            }
+
+            RuntimeException exception = null;
+            try {
+                // the calling thread takes over the worker threads released by the other computations while it runs
+                int index = nextIndex.getAndIncrement();
+                while (index < inputs.size()) {
+                    runTask(index);
+                    submitWorkers();
+                    index = nextIndex.getAndIncrement();
+                }
+            } catch (RuntimeException e) {
+                exception = e;
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new OpenRaoException(e);
+                } catch (ExecutionException e) {
+                    if (exception == null) {
+                        exception = new OpenRaoException(e);
+                    }
+                }
+            }
+            if (exception != null) {
+                throw exception instanceof OpenRaoException openRaoException ? openRaoException : new OpenRaoException(exception);
+            }
+
+            List<R> orderedResults = new ArrayList<>(inputs.size());
+            for (int i = 0; i < inputs.size(); i++) {
+                orderedResults.add(results.get(i));
+            }
+            return orderedResults;
+        }
+
+        private void runTask(int index) {
+            try {
+                results.set(index, function.apply(inputs.get(index)));
+            } catch (RuntimeException e) {
+                // prevent the other workers from starting new tasks
+                nextIndex.set(inputs.size());
+                throw e;
+            }
+        }
+
+        /**
+         * Submits new workers, up to the maximum number of workers and to the number of tasks left
+         */
+        private void submitWorkers() {
+            int requiredWorkers = Math.min(maxWorkers - futures.size(), inputs.size() - nextIndex.get());
+            int workers = virtualThreads ? Math.max(requiredWorkers, 0) : reserve(requiredWorkers);
+            ExecutorService executor = virtualThreads ? VIRTUAL_THREADS_EXECUTOR : PLATFORM_THREADS_EXECUTOR;
+            for (int i = 0; i < workers; i++) {
+                // the workers run with this executor bound, so that the computations they start share its cap
+                futures.add(executor.submit(wrap(() -> {
+                    try {
+                        int index = nextIndex.getAndIncrement();
+                        while (index < inputs.size()) {
+                            runTask(index);
+                            index = nextIndex.getAndIncrement();
+                        }
+                    } finally {
+                        if (!virtualThreads) {
+                            release(1);
+                        }
+                    }
+                })));
+            }
+        }
+    }
+}
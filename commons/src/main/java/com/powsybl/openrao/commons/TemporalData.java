@@ -31,7 +31,15 @@ public interface TemporalData<T> {
 
     <U> TemporalData<U> map(Function<T, U> function);
 
-    <U> TemporalData<U> mapMultiThreading(Function<T, U> function, int parallelism);
+    default <U> TemporalData<U> mapMultiThreading(Function<T, U> function, int parallelism) {
+        return mapMultiThreading(function, parallelism, false);
+    }
+
+    /**
+     * Maps the data using at most parallelism threads of the {@link SharedExecutor}. Virtual threads should be
+     * preferred for I/O-bound functions.
+     */
+    <U> TemporalData<U> mapMultiThreading(Function<T, U> function, int parallelism, boolean virtualThreads);
 
     void clear();
 }
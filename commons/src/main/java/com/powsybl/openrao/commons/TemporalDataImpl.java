@@ -13,10 +13,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -46,33 +42,14 @@ public class TemporalDataImpl<T> implements TemporalData<T> {
         return new TemporalDataImpl<>(dataPerTimestamp.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, entry -> function.apply(entry.getValue()))));
     }
 
-    public <U> TemporalData<U> mapMultiThreading(Function<T, U> function, int parallelism) {
-        try (ExecutorService executor = Executors.newFixedThreadPool(parallelism)) {
-            try {
-                List<Future<Map.Entry<OffsetDateTime, U>>> futures = new ArrayList<>();
-
-                for (Map.Entry<OffsetDateTime, T> entry : dataPerTimestamp.entrySet()) {
-                    futures.add(executor.submit(() ->
-                        Map.entry(entry.getKey(), function.apply(entry.getValue()))
-                    ));
-                }
-
-                Map<OffsetDateTime, U> result = new HashMap<>();
-
-                for (Future<Map.Entry<OffsetDateTime, U>> future : futures) {
-                    Map.Entry<OffsetDateTime, U> e = future.get();
-                    result.put(e.getKey(), e.getValue());
-                }
-
-                return new TemporalDataImpl<>(result);
-
-            } catch (InterruptedException | ExecutionException e) {
-                Thread.currentThread().interrupt();
-                throw new OpenRaoException(e);
-            } finally {
-                executor.shutdown();
-            }
+    public <U> TemporalData<U> mapMultiThreading(Function<T, U> function, int parallelism, boolean virtualThreads) {
+        List<Map.Entry<OffsetDateTime, T>> entries = new ArrayList<>(dataPerTimestamp.entrySet());
+        List<U> results = SharedExecutor.current().map(entries, entry -> function.apply(entry.getValue()), parallelism, virtualThreads);
+        Map<OffsetDateTime, U> result = new HashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            result.put(entries.get(i).getKey(), results.get(i));
         }
+        return new TemporalDataImpl<>(result);
     }
 
     public void clear() {
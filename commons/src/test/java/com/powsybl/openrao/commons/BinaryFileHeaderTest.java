@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.commons;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class BinaryFileHeaderTest {
+
+    @Test
+    void testWriteAndRead() throws IOException {
+        BinaryFileHeader header = new BinaryFileHeader("TEST", 3);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        header.write(outputStream);
+        outputStream.write(42);
+        assertArrayEquals(new byte[]{'T', 'E', 'S', 'T', 3, 42}, outputStream.toByteArray());
+        assertEquals(5, header.getLength());
+
+        ByteArrayInputStream inputStream = new ByteArrayInputStream(outputStream.toByteArray());
+        assertEquals(3, header.read(inputStream));
+        // the stream is left right after the header
+        assertEquals(42, inputStream.read());
+    }
+
+    @Test
+    void testReadOtherVersion() throws IOException {
+        assertEquals(200, new BinaryFileHeader("TEST", 3).read(new ByteArrayInputStream(new byte[]{'T', 'E', 'S', 'T', (byte) 200})));
+    }
+
+    @Test
+    void testReadInvalidHeader() throws IOException {
+        BinaryFileHeader header = new BinaryFileHeader("TEST", 3);
+        assertEquals(-1, header.read(new ByteArrayInputStream(new byte[]{'T', 'E', 'X', 'T', 3})));
+        assertEquals(-1, header.read(new ByteArrayInputStream(new byte[]{'T', 'E', 'S'})));
+        assertEquals(-1, header.read(new ByteArrayInputStream(new byte[0])));
+    }
+
+    @Test
+    void testInvalidFormatVersion() {
+        assertThrows(OpenRaoException.class, () -> new BinaryFileHeader("TEST", 256));
+        assertThrows(OpenRaoException.class, () -> new BinaryFileHeader("TEST", -1));
+    }
+}
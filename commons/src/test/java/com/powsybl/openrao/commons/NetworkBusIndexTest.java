@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.commons;
+
+import com.powsybl.iidm.network.Bus;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.TopologyKind;
+import com.powsybl.iidm.network.VoltageLevel;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class NetworkBusIndexTest {
+
+    private static Network createNetwork() {
+        Network network = Network.create("network", "test");
+        VoltageLevel voltageLevel = network.newSubstation().setId("substation").add()
+            .newVoltageLevel().setId("voltageLevel").setNominalV(400).setTopologyKind(TopologyKind.BUS_BREAKER).add();
+        voltageLevel.getBusBreakerView().newBus().setId("FFR1AA1 ").setName("bus 1").add();
+        voltageLevel.getBusBreakerView().newBus().setId("FFR1AA12").setName("bus 12").add();
+        voltageLevel.getBusBreakerView().newBus().setId("FFR1AA2 ").add();
+        voltageLevel.newBoundaryLine()
+            .setId("boundaryLine").setBus("FFR1AA2 ").setPairingKey("XNODE")
+            .setP0(0).setQ0(0)
+            .setR(0).setX(5).setB(0).setG(0)
+            .add();
+        return network;
+    }
+
+    private static Set<String> getIds(Set<Bus> buses) {
+        return buses.stream().map(Bus::getId).collect(Collectors.toSet());
+    }
+
+    @Test
+    void testBusLookupById() {
+        NetworkBusIndex networkBusIndex = NetworkBusIndex.of(createNetwork());
+        assertEquals("FFR1AA1 ", networkBusIndex.getBus("FFR1AA1 ").orElseThrow().getId());
+        assertEquals("FFR1AA12", networkBusIndex.getBus("FFR1AA12").orElseThrow().getId());
+        assertTrue(networkBusIndex.getBus("FFR1AA1").isEmpty());
+        assertTrue(networkBusIndex.getBus("unknown").isEmpty());
+    }
+
+    @Test
+    void testBusLookupByName() {
+        NetworkBusIndex networkBusIndex = NetworkBusIndex.of(createNetwork());
+        assertEquals("FFR1AA1 ", networkBusIndex.getBusByName("bus 1").orElseThrow().getId());
+        assertEquals("FFR1AA12", networkBusIndex.getBusByName("bus 12").orElseThrow().getId());
+        assertTrue(networkBusIndex.getBusByName("FFR1AA2 ").isEmpty());
+        assertTrue(networkBusIndex.getBusByName("unknown").isEmpty());
+    }
+
+    @Test
+    void testBusLookupByUcteNodeCode() {
+        Network network = Network.read("TestCase12Nodes.uct", getClass().getResourceAsStream("/TestCase12Nodes.uct"));
+        NetworkBusIndex networkBusIndex = NetworkBusIndex.of(network);
+        assertEquals("FFR1AA1 ", networkBusIndex.getBusByUcteNodeCode("FFR1AA1 ").orElseThrow().getId());
+        assertEquals("FFR1AA1 ", networkBusIndex.getBusByUcteNodeCode("FFR1AA1").orElseThrow().getId());
+        assertEquals("FFR1AA1 ", networkBusIndex.getBusByUcteNodeCode("FFR1AA1*").orElseThrow().getId());
+        assertTrue(networkBusIndex.getBusByUcteNodeCode("FFR1AA12").isEmpty());
+        assertTrue(networkBusIndex.getBusByUcteNodeCode("FFR1AA12*").isEmpty());
+    }
+
+    @Test
+    void testBusesMatchingUcteNodeCode() {
+        NetworkBusIndex networkBusIndex = NetworkBusIndex.of(createNetwork());
+        assertEquals(Set.of("FFR1AA1 ", "FFR1AA12"), getIds(networkBusIndex.getBusesMatchingUcteNodeCode("FFR1AA1*")));
+        assertEquals(Set.of("FFR1AA2 "), getIds(networkBusIndex.getBusesMatchingUcteNodeCode("FFR1AA2*")));
+        assertEquals(Set.of("FFR1AA1 "), getIds(networkBusIndex.getBusesMatchingUcteNodeCode("FFR1AA1")));
+        assertEquals(Set.of("FFR1AA12"), getIds(networkBusIndex.getBusesMatchingUcteNodeCode("FFR1AA12")));
+        assertTrue(networkBusIndex.getBusesMatchingUcteNodeCode("FFR1AA3*").isEmpty());
+        assertTrue(networkBusIndex.getBusesMatchingUcteNodeCode("FFR1AA").isEmpty());
+    }
+
+    @Test
+    void testBoundaryLineLookupByPairingKey() {
+        NetworkBusIndex networkBusIndex = NetworkBusIndex.of(createNetwork());
+        assertEquals("boundaryLine", networkBusIndex.getBoundaryLine("XNODE").orElseThrow().getId());
+        assertTrue(networkBusIndex.getBoundaryLine("boundaryLine").isEmpty());
+    }
+
+    @Test
+    void testIndexIsCachedUntilTheBusesChange() {
+        Network network = createNetwork();
+        NetworkBusIndex networkBusIndex = NetworkBusIndex.of(network);
+        assertSame(networkBusIndex, NetworkBusIndex.of(network));
+
+        // an injection connected to an existing bus does not change the buses
+        network.getVoltageLevel("voltageLevel").newLoad().setId("load").setBus("FFR1AA1 ").setP0(0).setQ0(0).add();
+        assertSame(networkBusIndex, NetworkBusIndex.of(network));
+
+        network.getVoltageLevel("voltageLevel").getBusBreakerView().newBus().setId("FFR1AA3 ").add();
+        NetworkBusIndex updatedNetworkBusIndex = NetworkBusIndex.of(network);
+        assertNotSame(networkBusIndex, updatedNetworkBusIndex);
+        assertEquals("FFR1AA3 ", updatedNetworkBusIndex.getBusByUcteNodeCode("FFR1AA3").orElseThrow().getId());
+        assertTrue(networkBusIndex.getBus("FFR1AA3 ").isEmpty());
+    }
+
+    @Test
+    void testIndexIsCachedPerVariant() {
+        Network network = createNetwork();
+        String initialVariantId = network.getVariantManager().getWorkingVariantId();
+        NetworkBusIndex initialNetworkBusIndex = NetworkBusIndex.of(network);
+
+        network.getVariantManager().cloneVariant(initialVariantId, "otherVariant");
+        network.getVariantManager().setWorkingVariant("otherVariant");
+        NetworkBusIndex otherNetworkBusIndex = NetworkBusIndex.of(network);
+        assertNotSame(initialNetworkBusIndex, otherNetworkBusIndex);
+        assertSame(otherNetworkBusIndex, NetworkBusIndex.of(network));
+
+        network.getVariantManager().setWorkingVariant(initialVariantId);
+        assertSame(initialNetworkBusIndex, NetworkBusIndex.of(network));
+
+        // overwriting a variant drops its index only
+        network.getVariantManager().cloneVariant(initialVariantId, "otherVariant", true);
+        assertSame(initialNetworkBusIndex, NetworkBusIndex.of(network));
+        network.getVariantManager().setWorkingVariant("otherVariant");
+        assertNotSame(otherNetworkBusIndex, NetworkBusIndex.of(network));
+    }
+}
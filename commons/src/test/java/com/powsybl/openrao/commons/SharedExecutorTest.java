@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.commons;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class SharedExecutorTest {
+    private final List<Integer> inputs = IntStream.range(0, 20).boxed().toList();
+
+    @Test
+    void testMapKeepsInputsOrder() {
+        List<Integer> expectedResults = inputs.stream().map(i -> 2 * i).toList();
+        assertEquals(expectedResults, SharedExecutor.current().map(inputs, i -> 2 * i, 4, false));
+        assertEquals(expectedResults, SharedExecutor.current().map(inputs, i -> 2 * i, 4, true));
+    }
+
+    @Test
+    void testMaxParallelismIsRespected() {
+        SharedExecutor executor = SharedExecutor.withMaxParallelism(2);
+        AtomicInteger runningTasks = new AtomicInteger();
+        AtomicInteger maxRunningTasks = new AtomicInteger();
+        executor.map(inputs, i -> {
+            maxRunningTasks.accumulateAndGet(runningTasks.incrementAndGet(), Math::max);
+            // nested computations must not deadlock when the maximum parallelism is reached
+            SharedExecutor.current().map(List.of(1, 2, 3), j -> j, 3, false);
+            runningTasks.decrementAndGet();
+            return i;
+        }, 10, false);
+        // 2 worker threads + the calling thread
+        assertTrue(maxRunningTasks.get() <= 3);
+    }
+
+    @Test
+    void testExecutorsHaveIndependentCaps() {
+        SharedExecutor executor = SharedExecutor.withMaxParallelism(3);
+        SharedExecutor otherExecutor = SharedExecutor.withMaxParallelism(1);
+        assertEquals(3, executor.getMaxParallelism());
+        assertEquals(1, otherExecutor.getMaxParallelism());
+        assertEquals(3, executor.reserve(3));
+        assertEquals(1, otherExecutor.reserve(1));
+        executor.release(3);
+        otherExecutor.release(1);
+    }
+
+    @Test
+    void testReserveAndRelease() {
+        SharedExecutor executor = SharedExecutor.withMaxParallelism(3);
+        assertEquals(2, executor.reserve(2));
+        assertEquals(1, executor.reserve(5));
+        assertEquals(0, executor.reserve(1));
+        executor.release(3);
+        assertEquals(3, executor.reserve(3));
+        executor.release(3);
+    }
+
+    @Test
+    void testNestedComputationsShareTheEnclosingExecutor() {
+        SharedExecutor executor = SharedExecutor.withMaxParallelism(5);
+        // outside of any computation, a new computation gets its own executor
+        assertNotSame(executor, SharedExecutor.forComputation(5));
+        assertEquals(Runtime.getRuntime().availableProcessors(), SharedExecutor.current().getMaxParallelism());
+
+        List<SharedExecutor> nestedExecutors = executor.call(() -> executor.map(List.of(1, 2, 3), i -> SharedExecutor.forComputation(1), 3, false));
+        nestedExecutors.forEach(nestedExecutor -> assertSame(executor, nestedExecutor));
+        assertSame(executor, executor.call(SharedExecutor::current));
+        // the executor is unbound once the computation is over
+        assertNotSame(executor, SharedExecutor.current());
+    }
+
+    @Test
+    void testMapTakesOverReleasedThreads() {
+        SharedExecutor executor = SharedExecutor.withMaxParallelism(2);
+        // all the worker threads are held by another computation (a network pool for instance)
+        assertEquals(2, executor.reserve(2));
+        Set<String> threadNames = ConcurrentHashMap.newKeySet();
+        CountDownLatch workerStarted = new CountDownLatch(1);
+        List<Integer> results = executor.map(inputs, i -> {
+            threadNames.add(Thread.currentThread().getName());
+            if (i == 0) {
+                // the threads are released while the calling thread runs the first task
+                executor.release(2);
+            } else if (Thread.currentThread().getName().startsWith("openrao-worker-")) {
+                workerStarted.countDown();
+            } else {
+                awaitQuietly(workerStarted);
+            }
+            return i;
+        }, 3, false);
+        assertEquals(inputs, results);
+        assertTrue(threadNames.stream().anyMatch(name -> name.startsWith("openrao-worker-")));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    void testMapPropagatesExceptions() {
+        OpenRaoException exception = assertThrows(OpenRaoException.class, () -> SharedExecutor.current().map(inputs, i -> {
+            if (i == 10) {
+                throw new OpenRaoException("Error on input 10");
+            }
+            return i;
+        }, 4, false));
+        assertTrue(exception.getMessage().contains("Error on input 10"));
+    }
+
+    @Test
+    void testInvalidMaxParallelism() {
+        OpenRaoException exception = assertThrows(OpenRaoException.class, () -> SharedExecutor.withMaxParallelism(0));
+        assertEquals("The maximum parallelism must be strictly positive (got 0).", exception.getMessage());
+    }
+}
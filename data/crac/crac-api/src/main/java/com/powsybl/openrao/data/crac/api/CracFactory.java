@@ -62,6 +62,17 @@ public interface CracFactory {
      */
     String getName();
 
+    /**
+     * Get a factory whose CRACs share their immutable definitions with one another, to reduce the memory footprint of
+     * CRACs built from the same source, typically the CRACs of the different timestamps of a time-coupled process.
+     * By default, nothing is shared and this factory is returned.
+     *
+     * @return A {@code CracFactory} instance sharing the definitions of the CRACs it creates.
+     */
+    default CracFactory withSharedDefinitions() {
+        return this;
+    }
+
     /**
      * Find a {@code CracFactory} implementation by its name
      *
@@ -41,6 +41,8 @@ public class CracCreationParameters extends AbstractExtendable<CracCreationParam
         Suppliers.memoize(() -> ExtensionProviders.createProvider(ConfigLoader.class, MODULE_NAME));
 
     private String cracFactoryName = DEFAULT_CRAC_FACTORY_NAME;
+    // factory instance overriding the one found by name, not serialized
+    private CracFactory cracFactory = null;
 
     public enum MonitoredLineSide {
         MONITOR_LINES_ON_SIDE_ONE(Set.of(TwoSides.ONE)),
@@ -68,10 +70,20 @@ public class CracCreationParameters extends AbstractExtendable<CracCreationParam
 
     public void setCracFactoryName(String cracFactoryName) {
         this.cracFactoryName = cracFactoryName;
+        this.cracFactory = null;
+    }
+
+    /**
+     * Sets the factory instance used to create the CRACs, for instance a factory sharing some definitions between the
+     * CRACs of several timestamps. This instance is not serialized, only its name is.
+     */
+    public void setCracFactory(CracFactory cracFactory) {
+        this.cracFactory = cracFactory;
+        this.cracFactoryName = cracFactory.getName();
     }
 
     public CracFactory getCracFactory() {
-        return CracFactory.find(cracFactoryName);
+        return cracFactory != null ? cracFactory : CracFactory.find(cracFactoryName);
     }
 
     public Set<TwoSides> getDefaultMonitoredSides() {
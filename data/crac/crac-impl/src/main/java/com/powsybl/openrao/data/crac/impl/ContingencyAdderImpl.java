@@ -65,12 +65,12 @@ public class ContingencyAdderImpl extends AbstractIdentifiableAdder<ContingencyA
     @Override
     public Contingency add() {
         checkId();
-        ContingencyBuilder builder = Contingency.builder(id);
+        ContingencyBuilder builder = Contingency.builder(owner.internString(id));
         // Elements are in TreeMap which will not allow duplication and elements will be added in their id natural order,
         // then even if elements are stored in a list, same set of elements will be equals if build with this adder
-        elementsTypeById.forEach((id, type) -> addElementsInContingency(builder, id, type));
+        elementsTypeById.forEach((id, type) -> addElementsInContingency(builder, owner.internString(id), type));
         if (name != null) {
-            builder.addName(name);
+            builder.addName(owner.internString(name));
         }
         Contingency contingency = builder.build();
         if (owner.getContingency(id) != null) {  // contingency with same id already exist in the Crac
@@ -7,6 +7,7 @@
 
 package com.powsybl.openrao.data.crac.impl;
 
+import com.powsybl.action.Action;
 import com.powsybl.contingency.Contingency;
 import com.powsybl.openrao.commons.OpenRaoException;
 import com.powsybl.openrao.commons.PhysicalParameter;
@@ -80,10 +81,20 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
     private final Map<Instant, RaUsageLimits> raUsageLimitsPerInstant = new HashMap<>();
     private Instant lastInstantAdded = null;
     private final OffsetDateTime timestamp;
+    private final CracInterner interner;
 
-    public CracImpl(String id, String name, OffsetDateTime timestamp) {
+    /**
+     * Creates a CRAC whose immutable definitions (identifiers, elementary actions, ...) are shared with the other
+     * CRACs created with the same interner. The interner can be null, in which case nothing is shared.
+     */
+    public CracImpl(String id, String name, OffsetDateTime timestamp, CracInterner interner) {
         super(id, name);
         this.timestamp = timestamp;
+        this.interner = interner;
+    }
+
+    public CracImpl(String id, String name, OffsetDateTime timestamp) {
+        this(id, name, timestamp, null);
     }
 
     public CracImpl(String id, String name) {
@@ -159,7 +170,7 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
         String name = (networkElementName != null) ? networkElementName : networkElementId;
         NetworkElement cracNetworkElement = getNetworkElement(networkElementId);
         if (cracNetworkElement == null) {
-            cracNetworkElement = new NetworkElementImpl(networkElementId, name);
+            cracNetworkElement = new NetworkElementImpl(internString(networkElementId), internString(name));
         } else if (!cracNetworkElement.getName().equals(name)) {
             throw new OpenRaoException(format(SAME_ELEMENT_ID_DIFFERENT_NAME_ERROR_MESSAGE, networkElementId));
         }
@@ -314,6 +325,18 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
         contingencies.put(contingency.getId(), contingency);
     }
 
+    String internString(String string) {
+        return interner == null ? string : interner.internString(string);
+    }
+
+    Action internElementaryAction(Action elementaryAction) {
+        return interner == null ? elementaryAction : interner.internElementaryAction(elementaryAction);
+    }
+
+    Map<Integer, Double> internTapToAngleConversionMap(Map<Integer, Double> tapToAngleConversionMap) {
+        return interner == null ? tapToAngleConversionMap : interner.internTapToAngleConversionMap(tapToAngleConversionMap);
+    }
+
     /**
      * Check if a Contingency is referenced in the CRAC (ie in a Cnec or in a RemedialAction's UsageRule)
      *
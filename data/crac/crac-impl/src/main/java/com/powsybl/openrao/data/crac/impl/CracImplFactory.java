@@ -23,23 +23,41 @@ public class CracImplFactory implements CracFactory {
 
     private static final String NAME = "CracImplFactory";
 
+    private final CracInterner interner;
+
+    public CracImplFactory() {
+        this(null);
+    }
+
+    /**
+     * Factory of CRACs sharing their immutable definitions through the given interner.
+     */
+    public CracImplFactory(CracInterner interner) {
+        this.interner = interner;
+    }
+
     @Override
     public String getName() {
         return NAME;
     }
 
+    @Override
+    public CracFactory withSharedDefinitions() {
+        return new CracImplFactory(new CracInterner());
+    }
+
     @Override
     public Crac create(String id, String name, OffsetDateTime timestamp) {
-        return new CracImpl(id, name, timestamp);
+        return new CracImpl(id, name, timestamp, interner);
     }
 
     @Override
     public Crac create(String id, String name) {
-        return new CracImpl(id, name);
+        return new CracImpl(id, name, null, interner);
     }
 
     @Override
     public Crac create(String id) {
-        return new CracImpl(id);
+        return new CracImpl(id, id, null, interner);
     }
 }
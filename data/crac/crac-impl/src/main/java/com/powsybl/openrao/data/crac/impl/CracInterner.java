@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.crac.impl;
+
+import com.powsybl.action.Action;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pool of immutable CRAC definitions shared by several {@link CracImpl}, typically the CRACs of the different
+ * timestamps of a time-coupled process, which are built from the same source and mostly differ by their thresholds and
+ * by the availability of their remedial actions.
+ * <p>
+ * Only immutable values are shared: the identifiers and names of the network elements and of the contingencies, the
+ * elementary actions of the network actions and the tap to angle conversion maps of the PSTs are only stored once in
+ * memory, whatever the number of CRACs built with the same interner. The network elements and the contingencies
+ * themselves can be modified (extensions, contingency elements...), so each CRAC keeps its own instances, like its
+ * CNECs, remedial actions and usage rules.
+ * <p>
+ * An interner can be shared between CRACs built concurrently.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class CracInterner {
+    private final Map<String, String> strings = new ConcurrentHashMap<>();
+    private final Map<Action, Action> elementaryActions = new ConcurrentHashMap<>();
+    private final Map<Map<Integer, Double>, Map<Integer, Double>> tapToAngleConversionMaps = new ConcurrentHashMap<>();
+
+    String internString(String string) {
+        return string == null ? null : strings.computeIfAbsent(string, s -> s);
+    }
+
+    Action internElementaryAction(Action elementaryAction) {
+        Action internedElementaryAction = elementaryActions.putIfAbsent(elementaryAction, elementaryAction);
+        return internedElementaryAction != null ? internedElementaryAction : elementaryAction;
+    }
+
+    Map<Integer, Double> internTapToAngleConversionMap(Map<Integer, Double> tapToAngleConversionMap) {
+        Map<Integer, Double> immutableTapToAngleConversionMap = Collections.unmodifiableMap(new HashMap<>(tapToAngleConversionMap));
+        return tapToAngleConversionMaps.computeIfAbsent(immutableTapToAngleConversionMap, map -> map);
+    }
+
+    int getStringCount() {
+        return strings.size();
+    }
+
+    int getElementaryActionCount() {
+        return elementaryActions.size();
+    }
+}
@@ -112,7 +112,7 @@ public class NetworkActionAdderImpl extends AbstractRemedialActionAdder<NetworkA
     }
 
     void addElementaryAction(Action elementaryAction, NetworkElement... networkElements) {
-        this.elementaryActions.add(elementaryAction);
+        this.elementaryActions.add(getCrac().internElementaryAction(elementaryAction));
         Collections.addAll(this.networkElements, networkElements);
     }
 }
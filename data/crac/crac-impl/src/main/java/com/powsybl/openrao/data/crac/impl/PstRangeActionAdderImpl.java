@@ -114,7 +114,7 @@ public class PstRangeActionAdderImpl extends AbstractRemedialActionAdder<PstRang
 
         NetworkElement networkElement = this.getCrac().addNetworkElement(networkElementId, networkElementName);
         PstRangeActionImpl pstWithRange = new PstRangeActionImpl(
-            this.id, this.name, this.operator, this.usageRules, validRanges, networkElement, groupId, initialTap, tapToAngleConversionMap, speed, activationCost, variationCosts
+            this.id, this.name, this.operator, this.usageRules, validRanges, networkElement, groupId, initialTap, getCrac().internTapToAngleConversionMap(tapToAngleConversionMap), speed, activationCost, variationCosts
         );
         this.getCrac().addPstRangeAction(pstWithRange);
         return pstWithRange;
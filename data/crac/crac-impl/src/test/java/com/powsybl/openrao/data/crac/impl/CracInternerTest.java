@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.crac.impl;
+
+import com.powsybl.contingency.BranchContingency;
+import com.powsybl.contingency.ContingencyElementType;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.crac.api.networkaction.ActionType;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class CracInternerTest {
+    private final CracInterner interner = new CracInterner();
+    private final CracImplFactory factory = new CracImplFactory(interner);
+
+    private Crac createCrac(int hour, String networkElementName) {
+        Crac crac = factory.create("crac", "crac", OffsetDateTime.of(2026, 1, 1, hour, 0, 0, 0, ZoneOffset.UTC));
+        // new strings, so that the identifiers of the different CRACs are only shared by the interner
+        crac.newContingency().withId(new String("contingency")).withContingencyElement("line", ContingencyElementType.LINE).add();
+        crac.newNetworkAction()
+            .withId("networkAction")
+            .withOperator("FR")
+            .newSwitchAction().withNetworkElement(new String("switch"), networkElementName).withActionType(ActionType.OPEN).add()
+            .add();
+        crac.newPstRangeAction()
+            .withId("pstRangeAction")
+            .withOperator("FR")
+            .withNetworkElement("pst")
+            .withInitialTap(0)
+            .withTapToAngleConversionMap(Map.of(-1, -10., 0, 0., 1, 10.))
+            .add();
+        return crac;
+    }
+
+    @Test
+    void testImmutableDefinitionsAreSharedBetweenCracs() {
+        Crac crac1 = createCrac(0, "switch");
+        Crac crac2 = createCrac(1, "switch");
+
+        assertSame(crac1.getPstRangeAction("pstRangeAction").getTapToAngleConversionMap(), crac2.getPstRangeAction("pstRangeAction").getTapToAngleConversionMap());
+        assertSame(crac1.getNetworkAction("networkAction").getElementaryActions().iterator().next(), crac2.getNetworkAction("networkAction").getElementaryActions().iterator().next());
+        assertSame(((CracImpl) crac1).getNetworkElement("switch").getId(), ((CracImpl) crac2).getNetworkElement("switch").getId());
+        assertSame(crac1.getContingency("contingency").getId(), crac2.getContingency("contingency").getId());
+
+        // the network elements and the contingencies can be modified, so they remain specific to each CRAC
+        assertNotSame(((CracImpl) crac1).getNetworkElement("switch"), ((CracImpl) crac2).getNetworkElement("switch"));
+        assertNotSame(crac1.getContingency("contingency"), crac2.getContingency("contingency"));
+        assertEquals(crac1.getContingency("contingency"), crac2.getContingency("contingency"));
+        assertNotSame(crac1.getNetworkAction("networkAction"), crac2.getNetworkAction("networkAction"));
+
+        assertEquals(1, interner.getElementaryActionCount());
+    }
+
+    @Test
+    void testModifyingContingencyOfOneCracDoesNotAffectOtherCracs() {
+        Crac crac1 = createCrac(0, "switch");
+        Crac crac2 = createCrac(1, "switch");
+
+        crac1.getContingency("contingency").addElement(new BranchContingency("other line"));
+        assertEquals(2, crac1.getContingency("contingency").getElements().size());
+        assertEquals(1, crac2.getContingency("contingency").getElements().size());
+    }
+
+    @Test
+    void testNetworkElementWithAnotherNameIsNotShared() {
+        Crac crac1 = createCrac(0, "switch");
+        Crac crac2 = createCrac(1, "other name");
+
+        assertEquals("switch", ((CracImpl) crac1).getNetworkElement("switch").getName());
+        assertEquals("other name", ((CracImpl) crac2).getNetworkElement("switch").getName());
+    }
+
+    @Test
+    void testSharedDefinitionsFactory() {
+        CracImplFactory sharedFactory = (CracImplFactory) new CracImplFactory().withSharedDefinitions();
+        Crac crac1 = sharedFactory.create("crac1");
+        Crac crac2 = sharedFactory.create("crac2");
+        crac1.newContingency().withId("contingency").withContingencyElement("line", ContingencyElementType.LINE).add();
+        crac2.newContingency().withId("contingency").withContingencyElement("line", ContingencyElementType.LINE).add();
+        assertSame(crac1.getContingency("contingency").getId(), crac2.getContingency("contingency").getId());
+
+        // each call gives a new pool of definitions
+        Crac crac3 = ((CracImplFactory) new CracImplFactory().withSharedDefinitions()).create("crac3");
+        crac3.newContingency().withId(new String("contingency")).withContingencyElement("line", ContingencyElementType.LINE).add();
+        assertNotSame(crac1.getContingency("contingency").getId(), crac3.getContingency("contingency").getId());
+    }
+}
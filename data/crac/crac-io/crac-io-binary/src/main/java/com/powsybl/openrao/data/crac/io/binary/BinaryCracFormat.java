@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.crac.io.binary;
+
+import com.powsybl.openrao.commons.BinaryFileHeader;
+
+/**
+ * Layout of the binary CRAC snapshots: a magic number, the version of the snapshot format, the length of the
+ * snapshot, the table of all the strings of the CRAC, the CRAC itself, written by the {@link CracSnapshotWriter} in a
+ * fixed order with no field names, and a CRC32 checksum of the string table and the CRAC. The snapshots hold the same
+ * content as the JSON CRAC format.
+ * <p>
+ * The version of the snapshot format must be incremented whenever the encoding changes, since the snapshots are not
+ * meant to be read by other versions of the loader.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class BinaryCracFormat {
+    static final String FORMAT = "BINARY";
+
+    // kinds of usage rules
+    static final int ON_INSTANT = 0;
+    static final int ON_CONTINGENCY_STATE = 1;
+    static final int ON_CONSTRAINT = 2;
+    static final int ON_FLOW_CONSTRAINT_IN_COUNTRY = 3;
+
+    // kinds of elementary actions
+    static final int TERMINALS_CONNECTION_ACTION = 0;
+    static final int SWITCH_ACTION = 1;
+    static final int PHASE_TAP_CHANGER_TAP_POSITION_ACTION = 2;
+    static final int GENERATOR_ACTION = 3;
+    static final int LOAD_ACTION = 4;
+    static final int BOUNDARY_LINE_ACTION = 5;
+    static final int SHUNT_COMPENSATOR_POSITION_ACTION = 6;
+    static final int SWITCH_PAIR = 7;
+    static final int AC_EMULATION_DEACTIVATION_ACTION = 8;
+
+    static final BinaryFileHeader HEADER = new BinaryFileHeader("ORCB", 3);
+
+    private BinaryCracFormat() {
+    }
+}
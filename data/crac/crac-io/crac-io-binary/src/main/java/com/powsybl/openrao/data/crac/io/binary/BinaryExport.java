@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.crac.io.binary;
+
+import com.google.auto.service.AutoService;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.crac.api.io.Exporter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * CRAC object export as a binary snapshot, meant to be reloaded quickly by the {@link BinaryImport}
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@AutoService(Exporter.class)
+public class BinaryExport implements Exporter {
+
+    @Override
+    public String getFormat() {
+        return BinaryCracFormat.FORMAT;
+    }
+
+    @Override
+    public void exportData(Crac crac, OutputStream outputStream) {
+        try {
+            CracSnapshotWriter.write(crac, outputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
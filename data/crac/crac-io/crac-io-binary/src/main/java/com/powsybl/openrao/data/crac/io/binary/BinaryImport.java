@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.crac.io.binary;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.auto.service.AutoService;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.openrao.commons.OpenRaoException;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.crac.api.CracCreationContext;
+import com.powsybl.openrao.data.crac.api.io.Importer;
+import com.powsybl.openrao.data.crac.api.parameters.CracCreationParameters;
+import com.powsybl.openrao.data.crac.io.json.JsonCracCreationContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+import static com.powsybl.openrao.commons.logs.OpenRaoLoggerProvider.TECHNICAL_LOGS;
+
+/**
+ * Reloads the binary CRAC snapshots written by the {@link BinaryExport}, with the dedicated {@link CracSnapshotReader}.
+ * Unlike JSON CRACs, the snapshots are not validated against the JSON schema since they can only be produced from a
+ * valid CRAC. Snapshots of another format version, truncated or corrupted, are rejected as a whole: the creation
+ * context is then unsuccessful and holds no CRAC.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@AutoService(Importer.class)
+public class BinaryImport implements Importer {
+
+    @Override
+    public String getFormat() {
+        return BinaryCracFormat.FORMAT;
+    }
+
+    @Override
+    public boolean exists(String filename, InputStream inputStream) {
+        try {
+            return BinaryCracFormat.HEADER.read(inputStream) != -1;
+        } catch (IOException e) {
+            TECHNICAL_LOGS.debug("File could not be processed as binary CRAC. Reason: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public CracCreationContext importData(InputStream inputStream, CracCreationParameters cracCreationParameters, Network network) {
+        if (network == null) {
+            throw new OpenRaoException("Network object is null but it is needed to map contingency's elements");
+        }
+        try {
+            int formatVersion = BinaryCracFormat.HEADER.read(inputStream);
+            if (formatVersion != BinaryCracFormat.HEADER.getFormatVersion()) {
+                throw new OpenRaoException(formatVersion == -1 ? "Input is not a binary CRAC" : "Binary CRAC format version %d is not supported".formatted(formatVersion));
+            }
+            Crac crac = CracSnapshotReader.read(SnapshotInput.read(inputStream), cracCreationParameters.getCracFactory(), network);
+            return new JsonCracCreationContext(true, crac, network.getNameOrId());
+        } catch (JsonProcessingException e) {
+            return failedCreationContext(SnapshotInput.corrupted(e.getOriginalMessage()).getMessage(), network);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (OpenRaoException e) {
+            return failedCreationContext(e.getMessage(), network);
+        } catch (RuntimeException e) {
+            // inconsistent content despite a valid checksum (unknown enum constant, missing identifier...): the partially
+            // read CRAC is dropped
+            return failedCreationContext(SnapshotInput.corrupted(e.toString()).getMessage(), network);
+        }
+    }
+
+    private static CracCreationContext failedCreationContext(String error, Network network) {
+        CracCreationContext cracCreationContext = new JsonCracCreationContext(false, null, network.getNameOrId());
+        cracCreationContext.getCreationReport().error(error);
+        return cracCreationContext;
+    }
+}
@@ -0,0 +1,393 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.crac.io.binary;
+
+import com.powsybl.contingency.ContingencyElementType;
+import com.powsybl.iidm.network.Country;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.PhaseTapChanger;
+import com.powsybl.iidm.network.TwoSides;
+import com.powsybl.iidm.network.TwoWindingsTransformer;
+import com.powsybl.openrao.commons.OpenRaoException;
+import com.powsybl.openrao.commons.Unit;
+import com.powsybl.openrao.data.crac.api.ContingencyAdder;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.crac.api.CracFactory;
+import com.powsybl.openrao.data.crac.api.InstantKind;
+import com.powsybl.openrao.data.crac.api.RemedialActionAdder;
+import com.powsybl.openrao.data.crac.api.cnec.AngleCnecAdder;
+import com.powsybl.openrao.data.crac.api.cnec.CnecAdder;
+import com.powsybl.openrao.data.crac.api.cnec.FlowCnecAdder;
+import com.powsybl.openrao.data.crac.api.cnec.VoltageCnecAdder;
+import com.powsybl.openrao.data.crac.api.networkaction.ActionType;
+import com.powsybl.openrao.data.crac.api.networkaction.NetworkActionAdder;
+import com.powsybl.openrao.data.crac.api.range.RangeType;
+import com.powsybl.openrao.data.crac.api.rangeaction.CounterTradeRangeActionAdder;
+import com.powsybl.openrao.data.crac.api.rangeaction.HvdcRangeActionAdder;
+import com.powsybl.openrao.data.crac.api.rangeaction.InjectionRangeActionAdder;
+import com.powsybl.openrao.data.crac.api.rangeaction.PstRangeActionAdder;
+import com.powsybl.openrao.data.crac.api.rangeaction.StandardRangeActionAdder;
+import com.powsybl.openrao.data.crac.api.rangeaction.VariationDirection;
+import com.powsybl.openrao.data.crac.api.threshold.BranchThresholdAdder;
+import com.powsybl.openrao.data.crac.api.threshold.ThresholdAdder;
+import com.powsybl.openrao.data.crac.api.usagerule.OnFlowConstraintInCountryAdder;
+import com.powsybl.openrao.data.crac.io.commons.iidm.IidmHvdcHelper;
+import com.powsybl.openrao.data.crac.io.commons.iidm.IidmInjectionHelper;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.powsybl.openrao.data.crac.io.binary.BinaryCracFormat.AC_EMULATION_DEACTIVATION_ACTION;
+import static com.powsybl.openrao.data.crac.io.binary.BinaryCracFormat.BOUNDARY_LINE_ACTION;
+import static com.powsybl.openrao.data.crac.io.binary.BinaryCracFormat.GENERATOR_ACTION;
+import static com.powsybl.openrao.data.crac.io.binary.BinaryCracFormat.LOAD_ACTION;
+import static com.powsybl.openrao.data.crac.io.binary.BinaryCracFormat.ON_CONSTRAINT;
+import static com.powsybl.openrao.data.crac.io.binary.BinaryCracFormat.ON_CONTINGENCY_STATE;
+import static com.powsybl.openrao.data.crac.io.binary.BinaryCracFormat.ON_FLOW_CONSTRAINT_IN_COUNTRY;
+import static com.powsybl.openrao.data.crac.io.binary.BinaryCracFormat.ON_INSTANT;
+import static com.powsybl.openrao.data.crac.io.binary.BinaryCracFormat.PHASE_TAP_CHANGER_TAP_POSITION_ACTION;
+import static com.powsybl.openrao.data.crac.io.binary.BinaryCracFormat.SHUNT_COMPENSATOR_POSITION_ACTION;
+import static com.powsybl.openrao.data.crac.io.binary.BinaryCracFormat.SWITCH_ACTION;
+import static com.powsybl.openrao.data.crac.io.binary.BinaryCracFormat.SWITCH_PAIR;
+import static com.powsybl.openrao.data.crac.io.binary.BinaryCracFormat.TERMINALS_CONNECTION_ACTION;
+
+/**
+ * Rebuilds a CRAC from a binary snapshot written by the {@link CracSnapshotWriter}, directly through the adders of the
+ * CRAC. The snapshot is read sequentially, with no field names to match and no intermediate tree of objects.
+ * <p>
+ * As with the JSON CRAC format, the initial taps of the PSTs and the initial setpoints of the HVDC and injection range
+ * actions are read from the network, which may be in a different state than the one the snapshot was written from.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class CracSnapshotReader {
+    private final SnapshotInput input;
+    private final Network network;
+
+    private CracSnapshotReader(SnapshotInput input, Network network) {
+        this.input = input;
+        this.network = network;
+    }
+
+    static Crac read(SnapshotInput input, CracFactory cracFactory, Network network) throws IOException {
+        return new CracSnapshotReader(input, network).readCrac(cracFactory);
+    }
+
+    @FunctionalInterface
+    private interface ElementReader {
+        void read() throws IOException;
+    }
+
+    private void readAll(ElementReader elementReader) throws IOException {
+        int count = input.readCount();
+        for (int i = 0; i < count; i++) {
+            elementReader.read();
+        }
+    }
+
+    private Double readOptionalDouble() {
+        return input.readBoolean() ? input.readDouble() : null;
+    }
+
+    private Crac readCrac(CracFactory cracFactory) throws IOException {
+        String id = input.readString();
+        String name = input.readString();
+        String timestamp = input.readString();
+        Crac crac = cracFactory.create(id, name, timestamp == null ? null : OffsetDateTime.parse(timestamp));
+        readAll(() -> crac.newInstant(input.readString(), InstantKind.valueOf(input.readString())));
+        readAll(() -> readRaUsageLimits(crac));
+        readAll(() -> readContingency(crac.newContingency()));
+        readAll(() -> readFlowCnec(crac.newFlowCnec()));
+        readAll(() -> readAngleCnec(crac.newAngleCnec()));
+        readAll(() -> readVoltageCnec(crac.newVoltageCnec()));
+        readAll(() -> readPstRangeAction(crac.newPstRangeAction()));
+        readAll(() -> readHvdcRangeAction(crac.newHvdcRangeAction()));
+        readAll(() -> readInjectionRangeAction(crac.newInjectionRangeAction()));
+        readAll(() -> readCounterTradeRangeAction(crac.newCounterTradeRangeAction()));
+        readAll(() -> readNetworkAction(crac.newNetworkAction()));
+        SnapshotExtensions.read(input, crac);
+        input.checkFullyRead();
+        return crac;
+    }
+
+    private void readRaUsageLimits(Crac crac) throws IOException {
+        crac.newRaUsageLimits(input.readString())
+            .withMaxRa(input.readInt())
+            .withMaxTopoPerTso(readLimitsPerTso())
+            .withMaxPstPerTso(readLimitsPerTso())
+            .withMaxRaPerTso(readLimitsPerTso())
+            .withMaxElementaryActionPerTso(readLimitsPerTso())
+            .add();
+    }
+
+    private Map<String, Integer> readLimitsPerTso() throws IOException {
+        Map<String, Integer> limitsPerTso = new HashMap<>();
+        readAll(() -> limitsPerTso.put(input.readString(), input.readInt()));
+        return limitsPerTso;
+    }
+
+    private void readContingency(ContingencyAdder contingencyAdder) throws IOException {
+        contingencyAdder.withId(input.readString());
+        String name = input.readString();
+        if (name != null) {
+            contingencyAdder.withName(name);
+        }
+        readAll(() -> contingencyAdder.withContingencyElement(input.readString(), ContingencyElementType.valueOf(input.readString())));
+        contingencyAdder.add();
+    }
+
+    private <J extends CnecAdder<J>> void readCnec(J cnecAdder) {
+        cnecAdder.withId(input.readString()).withName(input.readString());
+        String operator = input.readString();
+        if (operator != null) {
+            cnecAdder.withOperator(operator);
+        }
+        String border = input.readString();
+        if (border != null) {
+            cnecAdder.withBorder(border);
+        }
+        cnecAdder.withInstant(input.readString());
+        String contingencyId = input.readString();
+        if (contingencyId != null) {
+            cnecAdder.withContingency(contingencyId);
+        }
+        cnecAdder.withOptimized(input.readBoolean())
+            .withMonitored(input.readBoolean())
+            .withReliabilityMargin(input.readDouble());
+    }
+
+    private <I extends ThresholdAdder<I>> I readThreshold(I thresholdAdder) {
+        thresholdAdder.withUnit(Unit.valueOf(input.readString()));
+        Double min = readOptionalDouble();
+        if (min != null) {
+            thresholdAdder.withMin(min);
+        }
+        Double max = readOptionalDouble();
+        if (max != null) {
+            thresholdAdder.withMax(max);
+        }
+        return thresholdAdder;
+    }
+
+    private void readFlowCnec(FlowCnecAdder flowCnecAdder) throws IOException {
+        readCnec(flowCnecAdder);
+        flowCnecAdder.withNetworkElement(input.readString());
+        for (TwoSides side : TwoSides.values()) {
+            double nominalVoltage = input.readDouble();
+            if (!Double.isNaN(nominalVoltage)) {
+                flowCnecAdder.withNominalVoltage(nominalVoltage, side);
+            }
+            Double iMax = readOptionalDouble();
+            if (iMax != null) {
+                flowCnecAdder.withIMax(iMax, side);
+            }
+        }
+        readAll(() -> {
+            BranchThresholdAdder branchThresholdAdder = readThreshold(flowCnecAdder.newThreshold());
+            branchThresholdAdder.withSide(TwoSides.valueOf(input.readString())).add();
+        });
+        SnapshotExtensions.read(input, flowCnecAdder.add());
+    }
+
+    private void readAngleCnec(AngleCnecAdder angleCnecAdder) throws IOException {
+        readCnec(angleCnecAdder);
+        angleCnecAdder.withExportingNetworkElement(input.readString())
+            .withImportingNetworkElement(input.readString());
+        readAll(() -> readThreshold(angleCnecAdder.newThreshold()).add());
+        SnapshotExtensions.read(input, angleCnecAdder.add());
+    }
+
+    private void readVoltageCnec(VoltageCnecAdder voltageCnecAdder) throws IOException {
+        readCnec(voltageCnecAdder);
+        voltageCnecAdder.withNetworkElement(input.readString());
+        readAll(() -> readThreshold(voltageCnecAdder.newThreshold()).add());
+        SnapshotExtensions.read(input, voltageCnecAdder.add());
+    }
+
+    private <T extends RemedialActionAdder<T>> void readRemedialAction(T remedialActionAdder) throws IOException {
+        remedialActionAdder.withId(input.readString()).withName(input.readString());
+        String operator = input.readString();
+        if (operator != null) {
+            remedialActionAdder.withOperator(operator);
+        }
+        Double activationCost = readOptionalDouble();
+        if (activationCost != null) {
+            remedialActionAdder.withActivationCost(activationCost);
+        }
+        if (input.readBoolean()) {
+            remedialActionAdder.withSpeed(input.readInt());
+        }
+        readAll(() -> readUsageRule(remedialActionAdder));
+    }
+
+    private <T extends RemedialActionAdder<T>> void readUsageRule(T remedialActionAdder) {
+        int usageRuleKind = input.readIndex();
+        String instantId = input.readString();
+        switch (usageRuleKind) {
+            case ON_INSTANT -> remedialActionAdder.newOnInstantUsageRule().withInstant(instantId).add();
+            case ON_CONTINGENCY_STATE -> remedialActionAdder.newOnContingencyStateUsageRule()
+                .withInstant(instantId)
+                .withContingency(input.readString())
+                .add();
+            case ON_CONSTRAINT -> remedialActionAdder.newOnConstraintUsageRule()
+                .withInstant(instantId)
+                .withCnec(input.readString())
+                .add();
+            case ON_FLOW_CONSTRAINT_IN_COUNTRY -> {
+                OnFlowConstraintInCountryAdder<T> onFlowConstraintInCountryAdder = remedialActionAdder.newOnFlowConstraintInCountryUsageRule()
+                    .withInstant(instantId)
+                    .withCountry(Country.valueOf(input.readString()));
+                String contingencyId = input.readString();
+                if (contingencyId != null) {
+                    onFlowConstraintInCountryAdder.withContingency(contingencyId);
+                }
+                onFlowConstraintInCountryAdder.add();
+            }
+            default -> throw new OpenRaoException("Unknown kind of usage rule %d in binary CRAC".formatted(usageRuleKind));
+        }
+    }
+
+    private <T extends StandardRangeActionAdder<T>> void readStandardRangeAction(T standardRangeActionAdder) throws IOException {
+        readRemedialAction(standardRangeActionAdder);
+        String groupId = input.readString();
+        if (groupId != null) {
+            standardRangeActionAdder.withGroupId(groupId);
+        }
+        for (VariationDirection variationDirection : new VariationDirection[]{VariationDirection.UP, VariationDirection.DOWN}) {
+            Double variationCost = readOptionalDouble();
+            if (variationCost != null) {
+                standardRangeActionAdder.withVariationCost(variationCost, variationDirection);
+            }
+        }
+        readAll(() -> standardRangeActionAdder.newRange()
+            .withMin(input.readDouble())
+            .withMax(input.readDouble())
+            .withRangeType(RangeType.valueOf(input.readString()))
+            .add());
+    }
+
+    private void readPstRangeAction(PstRangeActionAdder pstRangeActionAdder) throws IOException {
+        readRemedialAction(pstRangeActionAdder);
+        String groupId = input.readString();
+        if (groupId != null) {
+            pstRangeActionAdder.withGroupId(groupId);
+        }
+        for (VariationDirection variationDirection : new VariationDirection[]{VariationDirection.UP, VariationDirection.DOWN}) {
+            Double variationCost = readOptionalDouble();
+            if (variationCost != null) {
+                pstRangeActionAdder.withVariationCost(variationCost, variationDirection);
+            }
+        }
+        String networkElementId = input.readString();
+        pstRangeActionAdder.withNetworkElement(networkElementId)
+            .withInitialTap(getPhaseTapChanger(networkElementId).getTapPosition());
+        readAll(() -> pstRangeActionAdder.newTapRange()
+            .withMinTap(input.readInt())
+            .withMaxTap(input.readInt())
+            .withRangeType(RangeType.valueOf(input.readString()))
+            .add());
+        Map<Integer, Double> tapToAngleConversionMap = new HashMap<>();
+        readAll(() -> tapToAngleConversionMap.put(input.readInt(), input.readDouble()));
+        pstRangeActionAdder.withTapToAngleConversionMap(tapToAngleConversionMap).add();
+    }
+
+    private PhaseTapChanger getPhaseTapChanger(String networkElementId) {
+        TwoWindingsTransformer transformer = network.getTwoWindingsTransformer(networkElementId);
+        if (transformer == null) {
+            throw new OpenRaoException(String.format("PST %s does not exist in the current network", networkElementId));
+        }
+        PhaseTapChanger phaseTapChanger = transformer.getPhaseTapChanger();
+        if (phaseTapChanger == null) {
+            throw new OpenRaoException(String.format("Transformer %s is not a PST but is defined as a TapRange", networkElementId));
+        }
+        return phaseTapChanger;
+    }
+
+    private void readHvdcRangeAction(HvdcRangeActionAdder hvdcRangeActionAdder) throws IOException {
+        readStandardRangeAction(hvdcRangeActionAdder);
+        String networkElementId = input.readString();
+        hvdcRangeActionAdder.withNetworkElement(networkElementId)
+            .withInitialSetpoint(IidmHvdcHelper.getCurrentSetpoint(network, networkElementId))
+            .add();
+    }
+
+    private void readInjectionRangeAction(InjectionRangeActionAdder injectionRangeActionAdder) throws IOException {
+        readStandardRangeAction(injectionRangeActionAdder);
+        Map<String, Double> injectionDistributionKeys = new LinkedHashMap<>();
+        readAll(() -> {
+            String networkElementId = input.readString();
+            double key = input.readDouble();
+            injectionRangeActionAdder.withNetworkElementAndKey(key, networkElementId);
+            injectionDistributionKeys.put(networkElementId, key);
+        });
+        injectionRangeActionAdder.withInitialSetpoint(IidmInjectionHelper.getCurrentSetpoint(network, injectionDistributionKeys)).add();
+    }
+
+    private void readCounterTradeRangeAction(CounterTradeRangeActionAdder counterTradeRangeActionAdder) throws IOException {
+        readStandardRangeAction(counterTradeRangeActionAdder);
+        counterTradeRangeActionAdder.withExportingArea(input.readString())
+            .withImportingArea(input.readString())
+            .withInitialSetpoint(input.readDouble())
+            .add();
+    }
+
+    private void readNetworkAction(NetworkActionAdder networkActionAdder) throws IOException {
+        readRemedialAction(networkActionAdder);
+        readAll(() -> readElementaryAction(networkActionAdder));
+        networkActionAdder.add();
+    }
+
+    private void readElementaryAction(NetworkActionAdder networkActionAdder) {
+        int elementaryActionKind = input.readIndex();
+        switch (elementaryActionKind) {
+            case TERMINALS_CONNECTION_ACTION -> networkActionAdder.newTerminalsConnectionAction()
+                .withNetworkElement(input.readString())
+                .withActionType(readActionType())
+                .add();
+            case SWITCH_ACTION -> networkActionAdder.newSwitchAction()
+                .withNetworkElement(input.readString())
+                .withActionType(readActionType())
+                .add();
+            case PHASE_TAP_CHANGER_TAP_POSITION_ACTION -> networkActionAdder.newPhaseTapChangerTapPositionAction()
+                .withNetworkElement(input.readString())
+                .withTapPosition(input.readInt())
+                .add();
+            case GENERATOR_ACTION -> networkActionAdder.newGeneratorAction()
+                .withNetworkElement(input.readString())
+                .withActivePowerValue(input.readDouble())
+                .add();
+            case LOAD_ACTION -> networkActionAdder.newLoadAction()
+                .withNetworkElement(input.readString())
+                .withActivePowerValue(input.readDouble())
+                .add();
+            case BOUNDARY_LINE_ACTION -> networkActionAdder.newBoundaryLineAction()
+                .withNetworkElement(input.readString())
+                .withActivePowerValue(input.readDouble())
+                .add();
+            case SHUNT_COMPENSATOR_POSITION_ACTION -> networkActionAdder.newShuntCompensatorPositionAction()
+                .withNetworkElement(input.readString())
+                .withSectionCount(input.readInt())
+                .add();
+            case SWITCH_PAIR -> networkActionAdder.newSwitchPair()
+                .withSwitchToOpen(input.readString())
+                .withSwitchToClose(input.readString())
+                .add();
+            case AC_EMULATION_DEACTIVATION_ACTION -> networkActionAdder.newAcEmulationDeactivationAction()
+                .withNetworkElement(input.readString())
+                .add();
+            default -> throw new OpenRaoException("Unknown kind of elementary action %d in binary CRAC".formatted(elementaryActionKind));
+        }
+    }
+
+    private ActionType readActionType() {
+        return input.readBoolean() ? ActionType.OPEN : ActionType.CLOSE;
+    }
+}
@@ -0,0 +1,359 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.crac.io.binary;
+
+import com.powsybl.action.Action;
+import com.powsybl.action.BoundaryLineAction;
+import com.powsybl.action.GeneratorAction;
+import com.powsybl.action.HvdcAction;
+import com.powsybl.action.LoadAction;
+import com.powsybl.action.PhaseTapChangerTapPositionAction;
+import com.powsybl.action.ShuntCompensatorPositionAction;
+import com.powsybl.action.SwitchAction;
+import com.powsybl.action.TerminalsConnectionAction;
+import com.powsybl.contingency.Contingency;
+import com.powsybl.contingency.ContingencyElement;
+import com.powsybl.iidm.network.TwoSides;
+import com.powsybl.openrao.commons.OpenRaoException;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.crac.api.Instant;
+import com.powsybl.openrao.data.crac.api.RaUsageLimits;
+import com.powsybl.openrao.data.crac.api.RemedialAction;
+import com.powsybl.openrao.data.crac.api.cnec.AngleCnec;
+import com.powsybl.openrao.data.crac.api.cnec.Cnec;
+import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
+import com.powsybl.openrao.data.crac.api.cnec.VoltageCnec;
+import com.powsybl.openrao.data.crac.api.networkaction.NetworkAction;
+import com.powsybl.openrao.data.crac.api.networkaction.SwitchPair;
+import com.powsybl.openrao.data.crac.api.range.StandardRange;
+import com.powsybl.openrao.data.crac.api.range.TapRange;
+import com.powsybl.openrao.data.crac.api.rangeaction.CounterTradeRangeAction;
+import com.powsybl.openrao.data.crac.api.rangeaction.HvdcRangeAction;
+import com.powsybl.openrao.data.crac.api.rangeaction.InjectionRangeAction;
+import com.powsybl.openrao.data.crac.api.rangeaction.PstRangeAction;
+import com.powsybl.openrao.data.crac.api.rangeaction.RangeAction;
+import com.powsybl.openrao.data.crac.api.rangeaction.StandardRangeAction;
+import com.powsybl.openrao.data.crac.api.rangeaction.VariationDirection;
+import com.powsybl.openrao.data.crac.api.threshold.BranchThreshold;
+import com.powsybl.openrao.data.crac.api.threshold.Threshold;
+import com.powsybl.openrao.data.crac.api.usagerule.OnConstraint;
+import com.powsybl.openrao.data.crac.api.usagerule.OnContingencyState;
+import com.powsybl.openrao.data.crac.api.usagerule.OnFlowConstraintInCountry;
+import com.powsybl.openrao.data.crac.api.usagerule.OnInstant;
+import com.powsybl.openrao.data.crac.api.usagerule.UsageRule;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.powsybl.openrao.data.crac.io.binary.BinaryCracFormat.AC_EMULATION_DEACTIVATION_ACTION;
+import static com.powsybl.openrao.data.crac.io.binary.BinaryCracFormat.BOUNDARY_LINE_ACTION;
+import static com.powsybl.openrao.data.crac.io.binary.BinaryCracFormat.GENERATOR_ACTION;
+import static com.powsybl.openrao.data.crac.io.binary.BinaryCracFormat.LOAD_ACTION;
+import static com.powsybl.openrao.data.crac.io.binary.BinaryCracFormat.ON_CONSTRAINT;
+import static com.powsybl.openrao.data.crac.io.binary.BinaryCracFormat.ON_CONTINGENCY_STATE;
+import static com.powsybl.openrao.data.crac.io.binary.BinaryCracFormat.ON_FLOW_CONSTRAINT_IN_COUNTRY;
+import static com.powsybl.openrao.data.crac.io.binary.BinaryCracFormat.ON_INSTANT;
+import static com.powsybl.openrao.data.crac.io.binary.BinaryCracFormat.PHASE_TAP_CHANGER_TAP_POSITION_ACTION;
+import static com.powsybl.openrao.data.crac.io.binary.BinaryCracFormat.SHUNT_COMPENSATOR_POSITION_ACTION;
+import static com.powsybl.openrao.data.crac.io.binary.BinaryCracFormat.SWITCH_ACTION;
+import static com.powsybl.openrao.data.crac.io.binary.BinaryCracFormat.SWITCH_PAIR;
+import static com.powsybl.openrao.data.crac.io.binary.BinaryCracFormat.TERMINALS_CONNECTION_ACTION;
+
+/**
+ * Writes a CRAC as a binary snapshot, to be read by the {@link CracSnapshotReader}. The objects of the CRAC are written
+ * in the order in which they must be added to a new CRAC: the instants and contingencies before the CNECs, and the
+ * CNECs before the remedial actions whose usage rules reference them.
+ * <p>
+ * Unlike the JSON CRAC format, the snapshot also holds the data which the CRAC importers read from the network and
+ * which do not depend on its state (types of the contingency elements, nominal voltages and current limits of the
+ * FlowCNECs, tap to angle conversion maps of the PSTs), so that they do not have to be read again on reload.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class CracSnapshotWriter {
+    private final SnapshotOutput output = new SnapshotOutput();
+
+    private CracSnapshotWriter() {
+    }
+
+    static void write(Crac crac, OutputStream outputStream) throws IOException {
+        CracSnapshotWriter writer = new CracSnapshotWriter();
+        writer.writeCrac(crac);
+        BinaryCracFormat.HEADER.write(outputStream);
+        writer.output.writeTo(outputStream);
+    }
+
+    @FunctionalInterface
+    private interface ElementWriter<T> {
+        void write(T element) throws IOException;
+    }
+
+    private <T> void writeAll(Collection<T> elements, ElementWriter<T> elementWriter) throws IOException {
+        output.writeCount(elements.size());
+        for (T element : elements) {
+            elementWriter.write(element);
+        }
+    }
+
+    private void writeOptionalDouble(Optional<Double> value) throws IOException {
+        output.writeBoolean(value.isPresent());
+        if (value.isPresent()) {
+            output.writeDouble(value.get());
+        }
+    }
+
+    private void writeCrac(Crac crac) throws IOException {
+        output.writeString(crac.getId());
+        output.writeString(crac.getName());
+        output.writeString(crac.getTimestamp().map(timestamp -> timestamp.format(DateTimeFormatter.ISO_DATE_TIME)).orElse(null));
+        writeAll(crac.getSortedInstants(), this::writeInstant);
+        writeAll(crac.getRaUsageLimitsPerInstant().entrySet(), this::writeRaUsageLimits);
+        writeAll(crac.getContingencies(), this::writeContingency);
+        writeAll(crac.getFlowCnecs(), this::writeFlowCnec);
+        writeAll(crac.getAngleCnecs(), this::writeAngleCnec);
+        writeAll(crac.getVoltageCnecs(), this::writeVoltageCnec);
+        writeAll(crac.getPstRangeActions(), this::writePstRangeAction);
+        writeAll(crac.getHvdcRangeActions(), this::writeHvdcRangeAction);
+        writeAll(crac.getInjectionRangeActions(), this::writeInjectionRangeAction);
+        writeAll(crac.getCounterTradeRangeActions(), this::writeCounterTradeRangeAction);
+        writeAll(crac.getNetworkActions(), this::writeNetworkAction);
+        SnapshotExtensions.write(crac, output);
+    }
+
+    private void writeInstant(Instant instant) throws IOException {
+        output.writeString(instant.getId());
+        output.writeString(instant.getKind().name());
+    }
+
+    private void writeRaUsageLimits(Map.Entry<Instant, RaUsageLimits> raUsageLimitsOfInstant) throws IOException {
+        RaUsageLimits raUsageLimits = raUsageLimitsOfInstant.getValue();
+        output.writeString(raUsageLimitsOfInstant.getKey().getId());
+        output.writeInt(raUsageLimits.getMaxRa());
+        writeLimitsPerTso(raUsageLimits.getMaxTopoPerTso());
+        writeLimitsPerTso(raUsageLimits.getMaxPstPerTso());
+        writeLimitsPerTso(raUsageLimits.getMaxRaPerTso());
+        writeLimitsPerTso(raUsageLimits.getMaxElementaryActionsPerTso());
+    }
+
+    private void writeLimitsPerTso(Map<String, Integer> limitsPerTso) throws IOException {
+        writeAll(limitsPerTso.entrySet(), limitOfTso -> {
+            output.writeString(limitOfTso.getKey());
+            output.writeInt(limitOfTso.getValue());
+        });
+    }
+
+    private void writeContingency(Contingency contingency) throws IOException {
+        output.writeString(contingency.getId());
+        output.writeString(contingency.getName().orElse(null));
+        writeAll(contingency.getElements(), this::writeContingencyElement);
+    }
+
+    private void writeContingencyElement(ContingencyElement contingencyElement) throws IOException {
+        output.writeString(contingencyElement.getId());
+        output.writeString(contingencyElement.getType().name());
+    }
+
+    private void writeCnec(Cnec<?> cnec) throws IOException {
+        output.writeString(cnec.getId());
+        output.writeString(cnec.getName());
+        output.writeString(cnec.getOperator());
+        output.writeString(cnec.getBorder());
+        output.writeString(cnec.getState().getInstant().getId());
+        output.writeString(cnec.getState().getContingency().map(Contingency::getId).orElse(null));
+        output.writeBoolean(cnec.isOptimized());
+        output.writeBoolean(cnec.isMonitored());
+        output.writeDouble(cnec.getReliabilityMargin());
+    }
+
+    private void writeThreshold(Threshold threshold) throws IOException {
+        output.writeString(threshold.getUnit().name());
+        writeOptionalDouble(threshold.min());
+        writeOptionalDouble(threshold.max());
+    }
+
+    private void writeFlowCnec(FlowCnec flowCnec) throws IOException {
+        writeCnec(flowCnec);
+        output.writeString(flowCnec.getNetworkElement().getId());
+        for (TwoSides side : TwoSides.values()) {
+            Double nominalVoltage = flowCnec.getNominalVoltage(side);
+            output.writeDouble(nominalVoltage == null ? Double.NaN : nominalVoltage);
+            writeOptionalDouble(flowCnec.getIMax(side));
+        }
+        writeAll(flowCnec.getThresholds(), this::writeBranchThreshold);
+        SnapshotExtensions.write(flowCnec, output);
+    }
+
+    private void writeBranchThreshold(BranchThreshold branchThreshold) throws IOException {
+        writeThreshold(branchThreshold);
+        output.writeString(branchThreshold.getSide().name());
+    }
+
+    private void writeAngleCnec(AngleCnec angleCnec) throws IOException {
+        writeCnec(angleCnec);
+        output.writeString(angleCnec.getExportingNetworkElement().getId());
+        output.writeString(angleCnec.getImportingNetworkElement().getId());
+        writeAll(angleCnec.getThresholds(), this::writeThreshold);
+        SnapshotExtensions.write(angleCnec, output);
+    }
+
+    private void writeVoltageCnec(VoltageCnec voltageCnec) throws IOException {
+        writeCnec(voltageCnec);
+        output.writeString(voltageCnec.getNetworkElement().getId());
+        writeAll(voltageCnec.getThresholds(), this::writeThreshold);
+        SnapshotExtensions.write(voltageCnec, output);
+    }
+
+    private void writeRemedialAction(RemedialAction<?> remedialAction) throws IOException {
+        output.writeString(remedialAction.getId());
+        output.writeString(remedialAction.getName());
+        output.writeString(remedialAction.getOperator());
+        writeOptionalDouble(remedialAction.getActivationCost());
+        Optional<Integer> speed = remedialAction.getSpeed();
+        output.writeBoolean(speed.isPresent());
+        if (speed.isPresent()) {
+            output.writeInt(speed.get());
+        }
+        writeAll(remedialAction.getUsageRules(), this::writeUsageRule);
+    }
+
+    private void writeUsageRule(UsageRule usageRule) throws IOException {
+        if (usageRule instanceof OnInstant) {
+            output.writeCount(ON_INSTANT);
+            output.writeString(usageRule.getInstant().getId());
+        } else if (usageRule instanceof OnContingencyState onContingencyState) {
+            output.writeCount(ON_CONTINGENCY_STATE);
+            output.writeString(usageRule.getInstant().getId());
+            output.writeString(onContingencyState.getContingency().getId());
+        } else if (usageRule instanceof OnConstraint<?> onConstraint) {
+            output.writeCount(ON_CONSTRAINT);
+            output.writeString(usageRule.getInstant().getId());
+            output.writeString(onConstraint.getCnec().getId());
+        } else if (usageRule instanceof OnFlowConstraintInCountry onFlowConstraintInCountry) {
+            output.writeCount(ON_FLOW_CONSTRAINT_IN_COUNTRY);
+            output.writeString(usageRule.getInstant().getId());
+            output.writeString(onFlowConstraintInCountry.getCountry().name());
+            output.writeString(onFlowConstraintInCountry.getContingency().map(Contingency::getId).orElse(null));
+        } else {
+            throw new OpenRaoException("Usage rule of type %s cannot be written in a binary CRAC".formatted(usageRule.getClass().getSimpleName()));
+        }
+    }
+
+    private void writeRangeAction(RangeAction<?> rangeAction) throws IOException {
+        writeRemedialAction(rangeAction);
+        output.writeString(rangeAction.getGroupId().orElse(null));
+        writeOptionalDouble(rangeAction.getVariationCost(VariationDirection.UP));
+        writeOptionalDouble(rangeAction.getVariationCost(VariationDirection.DOWN));
+    }
+
+    private void writeStandardRangeAction(StandardRangeAction<?> standardRangeAction) throws IOException {
+        writeRangeAction(standardRangeAction);
+        writeAll(standardRangeAction.getRanges(), this::writeStandardRange);
+    }
+
+    private void writeStandardRange(StandardRange standardRange) throws IOException {
+        output.writeDouble(standardRange.getMin());
+        output.writeDouble(standardRange.getMax());
+        output.writeString(standardRange.getRangeType().name());
+    }
+
+    private void writePstRangeAction(PstRangeAction pstRangeAction) throws IOException {
+        writeRangeAction(pstRangeAction);
+        output.writeString(pstRangeAction.getNetworkElement().getId());
+        writeAll(pstRangeAction.getRanges(), this::writeTapRange);
+        writeAll(pstRangeAction.getTapToAngleConversionMap().entrySet(), angleOfTap -> {
+            output.writeInt(angleOfTap.getKey());
+            output.writeDouble(angleOfTap.getValue());
+        });
+    }
+
+    private void writeTapRange(TapRange tapRange) throws IOException {
+        output.writeInt(tapRange.getMinTap());
+        output.writeInt(tapRange.getMaxTap());
+        output.writeString(tapRange.getRangeType().name());
+    }
+
+    private void writeHvdcRangeAction(HvdcRangeAction hvdcRangeAction) throws IOException {
+        writeStandardRangeAction(hvdcRangeAction);
+        output.writeString(hvdcRangeAction.getNetworkElement().getId());
+    }
+
+    private void writeInjectionRangeAction(InjectionRangeAction injectionRangeAction) throws IOException {
+        writeStandardRangeAction(injectionRangeAction);
+        writeAll(injectionRangeAction.getInjectionDistributionKeys().entrySet(), keyOfInjection -> {
+            output.writeString(keyOfInjection.getKey().getId());
+            output.writeDouble(keyOfInjection.getValue());
+        });
+    }
+
+    private void writeCounterTradeRangeAction(CounterTradeRangeAction counterTradeRangeAction) throws IOException {
+        writeStandardRangeAction(counterTradeRangeAction);
+        output.writeString(counterTradeRangeAction.getExportingArea());
+        output.writeString(counterTradeRangeAction.getImportingArea());
+        output.writeDouble(counterTradeRangeAction.getInitialSetpoint());
+    }
+
+    private void writeNetworkAction(NetworkAction networkAction) throws IOException {
+        writeRemedialAction(networkAction);
+        writeAll(networkAction.getElementaryActions(), this::writeElementaryAction);
+    }
+
+    private void writeElementaryAction(Action elementaryAction) throws IOException {
+        switch (elementaryAction) {
+            case TerminalsConnectionAction terminalsConnectionAction -> {
+                output.writeCount(TERMINALS_CONNECTION_ACTION);
+                output.writeString(terminalsConnectionAction.getElementId());
+                output.writeBoolean(terminalsConnectionAction.isOpen());
+            }
+            case SwitchAction switchAction -> {
+                output.writeCount(SWITCH_ACTION);
+                output.writeString(switchAction.getSwitchId());
+                output.writeBoolean(switchAction.isOpen());
+            }
+            case PhaseTapChangerTapPositionAction phaseTapChangerTapPositionAction -> {
+                output.writeCount(PHASE_TAP_CHANGER_TAP_POSITION_ACTION);
+                output.writeString(phaseTapChangerTapPositionAction.getTransformerId());
+                output.writeInt(phaseTapChangerTapPositionAction.getTapPosition());
+            }
+            case GeneratorAction generatorAction -> {
+                output.writeCount(GENERATOR_ACTION);
+                output.writeString(generatorAction.getGeneratorId());
+                output.writeDouble(generatorAction.getActivePowerValue().getAsDouble());
+            }
+            case LoadAction loadAction -> {
+                output.writeCount(LOAD_ACTION);
+                output.writeString(loadAction.getLoadId());
+                output.writeDouble(loadAction.getActivePowerValue().getAsDouble());
+            }
+            case BoundaryLineAction boundaryLineAction -> {
+                output.writeCount(BOUNDARY_LINE_ACTION);
+                output.writeString(boundaryLineAction.getBoundaryLineId());
+                output.writeDouble(boundaryLineAction.getActivePowerValue().getAsDouble());
+            }
+            case ShuntCompensatorPositionAction shuntCompensatorPositionAction -> {
+                output.writeCount(SHUNT_COMPENSATOR_POSITION_ACTION);
+                output.writeString(shuntCompensatorPositionAction.getShuntCompensatorId());
+                output.writeInt(shuntCompensatorPositionAction.getSectionCount());
+            }
+            case SwitchPair switchPair -> {
+                output.writeCount(SWITCH_PAIR);
+                output.writeString(switchPair.getSwitchToOpen().getId());
+                output.writeString(switchPair.getSwitchToClose().getId());
+            }
+            case HvdcAction hvdcAction -> {
+                output.writeCount(AC_EMULATION_DEACTIVATION_ACTION);
+                output.writeString(hvdcAction.getHvdcId());
+            }
+            default -> throw new OpenRaoException("Elementary action of type %s cannot be written in a binary CRAC".formatted(elementaryAction.getClass().getSimpleName()));
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.crac.io.binary;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.powsybl.commons.extensions.Extendable;
+import com.powsybl.commons.json.JsonUtil;
+import com.powsybl.openrao.data.crac.io.json.ExtensionsHandler;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Encoding of the extensions of the CRAC and of its CNECs. The extensions are provided by other modules, so they are
+ * written with their JSON serializers and embedded in the snapshot as JSON documents. Objects without extensions, by
+ * far the most common, are encoded as an empty document.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class SnapshotExtensions {
+    private static final String EXTENDABLE_ATTRIBUTE = "extendable";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new SimpleModule()
+        .addSerializer(ExtensionsOf.class, new ExtensionsSerializer())
+        .addDeserializer(ExtensionsOf.class, new ExtensionsDeserializer()));
+
+    private SnapshotExtensions() {
+    }
+
+    static void write(Extendable<?> extendable, SnapshotOutput output) throws IOException {
+        output.writeBytes(extendable.getExtensions().isEmpty() ? new byte[0] : OBJECT_MAPPER.writeValueAsBytes(new ExtensionsOf(extendable)));
+    }
+
+    static void read(SnapshotInput input, Extendable<?> extendable) throws IOException {
+        byte[] extensions = input.readBytes();
+        if (extensions.length > 0) {
+            ObjectReader reader = OBJECT_MAPPER.readerFor(ExtensionsOf.class).withAttribute(EXTENDABLE_ATTRIBUTE, extendable);
+            reader.readValue(extensions);
+        }
+    }
+
+    private record ExtensionsOf(Extendable<?> extendable) {
+    }
+
+    private static final class ExtensionsSerializer extends JsonSerializer<ExtensionsOf> {
+        @Override
+        public void serialize(ExtensionsOf extensionsOf, JsonGenerator jsonGenerator, SerializerProvider serializerProvider) throws IOException {
+            jsonGenerator.writeStartObject();
+            JsonUtil.writeExtensions(extensionsOf.extendable(), jsonGenerator, serializerProvider, ExtensionsHandler.getExtensionsSerializers());
+            jsonGenerator.writeEndObject();
+        }
+    }
+
+    private static final class ExtensionsDeserializer extends JsonDeserializer<ExtensionsOf> {
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public ExtensionsOf deserialize(JsonParser jsonParser, DeserializationContext deserializationContext) throws IOException {
+            Extendable extendable = (Extendable) deserializationContext.getAttribute(EXTENDABLE_ATTRIBUTE);
+            // the document only holds the "extensions" field written by JsonUtil
+            if (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+                jsonParser.nextToken();
+                List extensions = JsonUtil.readExtensions(jsonParser, deserializationContext, ExtensionsHandler.getExtensionsSerializers());
+                ExtensionsHandler.getExtensionsSerializers().addExtensions(extendable, extensions);
+                jsonParser.nextToken();
+            }
+            return new ExtensionsOf(extendable);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.crac.io.binary;
+
+import com.powsybl.openrao.commons.OpenRaoException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+/**
+ * Reads the primitive values written by a {@link SnapshotOutput}. The whole snapshot is loaded in memory and its
+ * length and checksum are checked, and its string table is decoded once, so that each string of the CRAC is only
+ * instantiated once.
+ * <p>
+ * Malformed snapshots are rejected with an {@link OpenRaoException}, whatever the inconsistency found.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class SnapshotInput {
+    private static final int LENGTH_BYTES = Integer.BYTES;
+    private static final int CHECKSUM_BYTES = Integer.BYTES;
+    private static final int MAX_VAR_INT_BYTES = 5;
+
+    private final ByteBuffer buffer;
+    private final String[] strings;
+
+    private SnapshotInput(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.strings = new String[readCount()];
+        for (int i = 0; i < strings.length; i++) {
+            int length = readCount();
+            strings[i] = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+        }
+    }
+
+    /**
+     * Reads the string table and the body of a snapshot, once its header was read
+     *
+     * @throws OpenRaoException if the snapshot is truncated or corrupted
+     */
+    static SnapshotInput read(InputStream inputStream) throws IOException {
+        ByteBuffer snapshot = ByteBuffer.wrap(inputStream.readAllBytes());
+        if (snapshot.remaining() < LENGTH_BYTES) {
+            throw truncated();
+        }
+        int length = snapshot.getInt();
+        if (length < 0) {
+            throw corrupted("invalid length %d".formatted(length));
+        } else if (snapshot.remaining() < (long) length + CHECKSUM_BYTES) {
+            throw truncated();
+        } else if (snapshot.remaining() > (long) length + CHECKSUM_BYTES) {
+            throw corrupted("unexpected data after the end of the CRAC");
+        }
+        CRC32 checksum = new CRC32();
+        checksum.update(snapshot.array(), snapshot.position(), length);
+        if ((int) checksum.getValue() != snapshot.getInt(snapshot.position() + length)) {
+            throw corrupted("checksum mismatch");
+        }
+        return new SnapshotInput(snapshot.slice(snapshot.position(), length));
+    }
+
+    static OpenRaoException truncated() {
+        return new OpenRaoException("Binary CRAC is truncated");
+    }
+
+    static OpenRaoException corrupted(String reason) {
+        return new OpenRaoException("Binary CRAC is corrupted: %s".formatted(reason));
+    }
+
+    /**
+     * Reads a count (of elements, of bytes...), which cannot exceed the number of bytes left in the snapshot since
+     * each element is written on one byte at least
+     */
+    int readCount() {
+        int value = readIndex();
+        if (value > buffer.remaining()) {
+            throw corrupted("invalid count %d".formatted(value));
+        }
+        return value;
+    }
+
+    /**
+     * Reads a non-negative integer (an index, a kind of element...)
+     */
+    int readIndex() {
+        int value = readVarInt();
+        if (value < 0) {
+            throw corrupted("invalid index %d".formatted(value));
+        }
+        return value;
+    }
+
+    int readInt() {
+        int value = readVarInt();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private int readVarInt() {
+        int value = 0;
+        int shift = 0;
+        byte currentByte;
+        do {
+            if (shift >= 7 * MAX_VAR_INT_BYTES) {
+                throw corrupted("invalid integer");
+            }
+            currentByte = get();
+            value |= (currentByte & 0x7F) << shift;
+            shift += 7;
+        } while ((currentByte & 0x80) != 0);
+        return value;
+    }
+
+    double readDouble() {
+        try {
+            return buffer.getDouble();
+        } catch (BufferUnderflowException e) {
+            throw corrupted("unexpected end of the CRAC");
+        }
+    }
+
+    boolean readBoolean() {
+        return get() != 0;
+    }
+
+    String readString() {
+        int reference = readIndex();
+        if (reference > strings.length) {
+            throw corrupted("invalid string reference %d".formatted(reference));
+        }
+        return reference == 0 ? null : strings[reference - 1];
+    }
+
+    byte[] readBytes() {
+        byte[] value = new byte[readCount()];
+        buffer.get(value);
+        return value;
+    }
+
+    /**
+     * Checks that the whole snapshot was read
+     */
+    void checkFullyRead() {
+        if (buffer.hasRemaining()) {
+            throw corrupted("%d unread bytes after the end of the CRAC".formatted(buffer.remaining()));
+        }
+    }
+
+    private byte get() {
+        try {
+            return buffer.get();
+        } catch (BufferUnderflowException e) {
+            throw corrupted("unexpected end of the CRAC");
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.crac.io.binary;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Writes the primitive values of a binary CRAC snapshot. The strings are written once in a table at the start of the
+ * snapshot, and then referenced by their index in this table, so the body of the snapshot is buffered until all the
+ * strings are known.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class SnapshotOutput {
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+    private final DataOutputStream bodyOutput = new DataOutputStream(body);
+    private final Map<String, Integer> stringIndexes = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+
+    /**
+     * Writes a non-negative integer (a count, an index...) on as few bytes as possible
+     */
+    void writeCount(int value) throws IOException {
+        writeVarInt(bodyOutput, value);
+    }
+
+    /**
+     * Writes a signed integer, small absolute values being written on as few bytes as possible
+     */
+    void writeInt(int value) throws IOException {
+        writeVarInt(bodyOutput, (value << 1) ^ (value >> 31));
+    }
+
+    void writeDouble(double value) throws IOException {
+        bodyOutput.writeDouble(value);
+    }
+
+    void writeBoolean(boolean value) throws IOException {
+        bodyOutput.writeBoolean(value);
+    }
+
+    /**
+     * Writes a nullable string, as a reference to the string table
+     */
+    void writeString(String value) throws IOException {
+        if (value == null) {
+            writeCount(0);
+            return;
+        }
+        Integer index = stringIndexes.get(value);
+        if (index == null) {
+            index = strings.size();
+            stringIndexes.put(value, index);
+            strings.add(value);
+        }
+        writeCount(index + 1);
+    }
+
+    void writeBytes(byte[] value) throws IOException {
+        writeCount(value.length);
+        bodyOutput.write(value);
+    }
+
+    /**
+     * Writes the length of the snapshot, the string table and the body of the snapshot, and then their CRC32 checksum
+     * so that truncated or corrupted snapshots are detected before they are read
+     */
+    void writeTo(OutputStream outputStream) throws IOException {
+        ByteArrayOutputStream content = new ByteArrayOutputStream(body.size() + 16 * strings.size());
+        DataOutputStream contentOutput = new DataOutputStream(content);
+        writeVarInt(contentOutput, strings.size());
+        for (String string : strings) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(contentOutput, bytes.length);
+            contentOutput.write(bytes);
+        }
+        body.writeTo(contentOutput);
+        contentOutput.flush();
+
+        CRC32 checksum = new CRC32();
+        checksum.update(content.toByteArray());
+        DataOutputStream output = new DataOutputStream(outputStream);
+        output.writeInt(content.size());
+        content.writeTo(output);
+        output.writeInt((int) checksum.getValue());
+        output.flush();
+    }
+
+    private static void writeVarInt(DataOutputStream output, int value) throws IOException {
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            output.writeByte((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        output.writeByte(remaining);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.crac.io.binary;
+
+import com.powsybl.contingency.ContingencyElementType;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.TwoSides;
+import com.powsybl.openrao.commons.Unit;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.crac.api.networkaction.ActionType;
+import com.powsybl.openrao.data.crac.impl.utils.ExhaustiveCracCreation;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static com.powsybl.openrao.commons.logs.OpenRaoLoggerProvider.TECHNICAL_LOGS;
+
+/**
+ * Manual benchmark comparing the time needed to reload a large CRAC from a binary snapshot and from JSON. It is not
+ * run with the tests, since its timings depend on the machine, and can be launched from the test classpath, e.g.
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.powsybl.openrao.data.crac.io.binary.BinaryImportBenchmark -Dexec.args="5000 5 10"}, with the
+ * number of contingencies of the CRAC (two FlowCNECs each), the number of warm-up iterations and the number of measured
+ * iterations as optional arguments.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class BinaryImportBenchmark {
+    private static final int DEFAULT_NUMBER_OF_CONTINGENCIES = 5000;
+    private static final int DEFAULT_WARM_UP_ITERATIONS = 5;
+    private static final int DEFAULT_MEASURED_ITERATIONS = 10;
+
+    private BinaryImportBenchmark() {
+    }
+
+    private static Crac createLargeCrac(int numberOfContingencies) {
+        Crac crac = ExhaustiveCracCreation.create();
+        for (int i = 0; i < numberOfContingencies; i++) {
+            String contingencyId = "benchmarkContingency" + i;
+            crac.newContingency().withId(contingencyId)
+                .withContingencyElement("ne1Id", ContingencyElementType.LINE)
+                .add();
+            for (String instantId : new String[]{"outage", "curative"}) {
+                crac.newFlowCnec().withId("benchmarkCnec" + i + " - " + instantId)
+                    .withNetworkElement("ne4Id")
+                    .withInstant(instantId)
+                    .withContingency(contingencyId)
+                    .withOperator("operator1")
+                    .withOptimized()
+                    .newThreshold().withSide(TwoSides.TWO).withUnit(Unit.AMPERE).withMin(-800.).withMax(800.).add()
+                    .withNominalVoltage(220.)
+                    .add();
+            }
+            crac.newNetworkAction().withId("benchmarkNetworkAction" + i)
+                .newTerminalsConnectionAction().withActionType(ActionType.OPEN).withNetworkElement("ne1Id").add()
+                .newOnContingencyStateUsageRule().withContingency(contingencyId).withInstant("curative").add()
+                .add();
+        }
+        return crac;
+    }
+
+    private static byte[] write(Crac crac, String format) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        crac.write(format, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    private static long timeImport(String filename, byte[] content, Network network, int warmUpIterations, int measuredIterations) throws IOException {
+        for (int i = 0; i < warmUpIterations; i++) {
+            Crac.read(filename, new ByteArrayInputStream(content), network);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < measuredIterations; i++) {
+            Crac.read(filename, new ByteArrayInputStream(content), network);
+        }
+        return (System.nanoTime() - start) / measuredIterations;
+    }
+
+    private static int getArgument(String[] args, int index, int defaultValue) {
+        return args.length > index ? Integer.parseInt(args[index]) : defaultValue;
+    }
+
+    public static void main(String[] args) throws IOException {
+        int numberOfContingencies = getArgument(args, 0, DEFAULT_NUMBER_OF_CONTINGENCIES);
+        int warmUpIterations = getArgument(args, 1, DEFAULT_WARM_UP_ITERATIONS);
+        int measuredIterations = getArgument(args, 2, DEFAULT_MEASURED_ITERATIONS);
+
+        Crac crac = createLargeCrac(numberOfContingencies);
+        Network network = ExhaustiveCracCreation.createAssociatedNetwork();
+        byte[] snapshot = write(crac, "BINARY");
+        byte[] json = write(crac, "JSON");
+        if (Crac.read("crac.bin", new ByteArrayInputStream(snapshot), network).getFlowCnecs().size() != crac.getFlowCnecs().size()) {
+            throw new IllegalStateException("The CRAC reloaded from the binary snapshot does not match the original CRAC");
+        }
+
+        long jsonImportTime = timeImport("crac.json", json, network, warmUpIterations, measuredIterations);
+        long binaryImportTime = timeImport("crac.bin", snapshot, network, warmUpIterations, measuredIterations);
+        TECHNICAL_LOGS.info("Import of a CRAC with {} FlowCNECs: {} ms from JSON ({} bytes), {} ms from binary ({} bytes), speed-up {}",
+            crac.getFlowCnecs().size(), jsonImportTime / 1_000_000, json.length, binaryImportTime / 1_000_000, snapshot.length,
+            String.format("%.1f", (double) jsonImportTime / binaryImportTime));
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.crac.io.binary;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.TwoSides;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.crac.api.CracCreationContext;
+import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
+import com.powsybl.openrao.data.crac.api.parameters.CracCreationParameters;
+import com.powsybl.openrao.data.crac.impl.utils.ExhaustiveCracCreation;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class BinaryImportExportTest {
+
+    private static byte[] write(Crac crac, String format) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        crac.write(format, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    @Test
+    void testRoundTripMatchesJson() throws IOException {
+        Crac crac = ExhaustiveCracCreation.create();
+        Network network = ExhaustiveCracCreation.createAssociatedNetwork();
+        byte[] snapshot = write(crac, "BINARY");
+        Crac reloadedCrac = Crac.read("crac.bin", new ByteArrayInputStream(snapshot), network);
+
+        // the reloaded CRAC must be exported to the exact same JSON as the original CRAC
+        String expectedJson = new String(write(crac, "JSON"), StandardCharsets.UTF_8);
+        assertEquals(expectedJson, new String(write(reloadedCrac, "JSON"), StandardCharsets.UTF_8));
+        assertTrue(snapshot.length < expectedJson.length());
+    }
+
+    @Test
+    void testRoundTripKeepsNetworkData() throws IOException {
+        Crac crac = ExhaustiveCracCreation.create();
+        Crac reloadedCrac = Crac.read("crac.bin", new ByteArrayInputStream(write(crac, "BINARY")), ExhaustiveCracCreation.createAssociatedNetwork());
+
+        crac.getContingencies().forEach(contingency -> assertEquals(contingency.getElements(), reloadedCrac.getContingency(contingency.getId()).getElements()));
+        crac.getFlowCnecs().forEach(flowCnec -> {
+            FlowCnec reloadedFlowCnec = reloadedCrac.getFlowCnec(flowCnec.getId());
+            for (TwoSides side : TwoSides.values()) {
+                assertEquals(flowCnec.getNominalVoltage(side), reloadedFlowCnec.getNominalVoltage(side));
+                assertEquals(flowCnec.getIMax(side), reloadedFlowCnec.getIMax(side));
+            }
+        });
+        crac.getPstRangeActions().forEach(pstRangeAction -> assertEquals(pstRangeAction.getTapToAngleConversionMap(), reloadedCrac.getPstRangeAction(pstRangeAction.getId()).getTapToAngleConversionMap()));
+    }
+
+    @Test
+    void testExists() {
+        byte[] snapshot = write(ExhaustiveCracCreation.create(), "BINARY");
+        assertTrue(new BinaryImport().exists("crac.bin", new ByteArrayInputStream(snapshot)));
+        assertFalse(new BinaryImport().exists("crac.json", new ByteArrayInputStream(write(ExhaustiveCracCreation.create(), "JSON"))));
+        assertFalse(new BinaryImport().exists("empty.bin", new ByteArrayInputStream(new byte[0])));
+    }
+
+    private static CracCreationContext importSnapshot(byte[] snapshot, Network network) {
+        return new BinaryImport().importData(new ByteArrayInputStream(snapshot), new CracCreationParameters(), network);
+    }
+
+    private static void assertImportFails(byte[] snapshot, Network network, String expectedError) {
+        CracCreationContext cracCreationContext = importSnapshot(snapshot, network);
+        assertFalse(cracCreationContext.isCreationSuccessful());
+        assertNull(cracCreationContext.getCrac());
+        assertEquals(1, cracCreationContext.getCreationReport().getReport().size());
+        assertTrue(cracCreationContext.getCreationReport().getReport().getFirst().contains(expectedError),
+            () -> "Unexpected error: " + cracCreationContext.getCreationReport().getReport().getFirst());
+    }
+
+    private static void updateChecksum(byte[] snapshot) {
+        int contentStart = BinaryCracFormat.HEADER.getLength() + Integer.BYTES;
+        CRC32 checksum = new CRC32();
+        checksum.update(snapshot, contentStart, snapshot.length - contentStart - Integer.BYTES);
+        ByteBuffer.wrap(snapshot).putInt(snapshot.length - Integer.BYTES, (int) checksum.getValue());
+    }
+
+    @Test
+    void testUnsupportedFormatVersion() {
+        Network network = ExhaustiveCracCreation.createAssociatedNetwork();
+        byte[] snapshot = write(ExhaustiveCracCreation.create(), "BINARY");
+        int formatVersion = BinaryCracFormat.HEADER.getFormatVersion();
+
+        snapshot[4] = (byte) (formatVersion + 1);
+        assertImportFails(snapshot, network, "Binary CRAC format version %d is not supported".formatted(formatVersion + 1));
+
+        // snapshots written with a former version of the format are not read either
+        snapshot[4] = (byte) (formatVersion - 1);
+        assertImportFails(snapshot, network, "Binary CRAC format version %d is not supported".formatted(formatVersion - 1));
+    }
+
+    @Test
+    void testNotABinaryCrac() {
+        Network network = ExhaustiveCracCreation.createAssociatedNetwork();
+        assertImportFails(write(ExhaustiveCracCreation.create(), "JSON"), network, "Input is not a binary CRAC");
+        assertImportFails(new byte[0], network, "Input is not a binary CRAC");
+    }
+
+    @Test
+    void testTruncatedSnapshot() {
+        Network network = ExhaustiveCracCreation.createAssociatedNetwork();
+        byte[] snapshot = write(ExhaustiveCracCreation.create(), "BINARY");
+        // the snapshot is truncated anywhere after its header
+        for (int length = BinaryCracFormat.HEADER.getLength(); length < snapshot.length; length++) {
+            assertImportFails(Arrays.copyOf(snapshot, length), network, "Binary CRAC is truncated");
+        }
+    }
+
+    @Test
+    void testSnapshotWithTrailingData() {
+        byte[] snapshot = write(ExhaustiveCracCreation.create(), "BINARY");
+        assertImportFails(Arrays.copyOf(snapshot, snapshot.length + 1), ExhaustiveCracCreation.createAssociatedNetwork(), "Binary CRAC is corrupted: unexpected data after the end of the CRAC");
+    }
+
+    @Test
+    void testCorruptedSnapshot() {
+        Network network = ExhaustiveCracCreation.createAssociatedNetwork();
+        byte[] snapshot = write(ExhaustiveCracCreation.create(), "BINARY");
+        // any byte of the content or of the checksum is corrupted
+        for (int position = BinaryCracFormat.HEADER.getLength() + Integer.BYTES; position < snapshot.length; position++) {
+            byte[] corruptedSnapshot = snapshot.clone();
+            corruptedSnapshot[position] ^= (byte) 0xFF;
+            assertImportFails(corruptedSnapshot, network, "Binary CRAC is corrupted: checksum mismatch");
+        }
+    }
+
+    @Test
+    void testInconsistentSnapshotWithValidChecksum() {
+        Network network = ExhaustiveCracCreation.createAssociatedNetwork();
+        byte[] snapshot = write(ExhaustiveCracCreation.create(), "BINARY");
+        // the content is corrupted before the checksum is computed: the import either succeeds (e.g. with another
+        // threshold value) or fails as a whole, but never throws nor returns a partially read CRAC
+        int numberOfFailures = 0;
+        for (int position = BinaryCracFormat.HEADER.getLength() + Integer.BYTES; position < snapshot.length - Integer.BYTES; position += 7) {
+            byte[] corruptedSnapshot = snapshot.clone();
+            corruptedSnapshot[position] ^= (byte) 0xFF;
+            updateChecksum(corruptedSnapshot);
+            CracCreationContext cracCreationContext = importSnapshot(corruptedSnapshot, network);
+            if (!cracCreationContext.isCreationSuccessful()) {
+                numberOfFailures++;
+                assertNull(cracCreationContext.getCrac());
+                assertEquals(1, cracCreationContext.getCreationReport().getReport().size());
+            }
+        }
+        assertTrue(numberOfFailures > 0);
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.crac.io.cim.craccreator;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.openrao.commons.SharedExecutor;
+import com.powsybl.openrao.data.crac.io.commons.cgmes.CgmesBranchHelper;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the CGMES branches referenced in the CIM CRAC and keeps them for the whole import, since a same branch is
+ * often referenced by several series. Resolving a half-line requires going through all the tie-lines of the network:
+ * the branches referenced by a batch of series can thus be resolved concurrently before the series are read, so that
+ * the series themselves are still read and added to the CRAC sequentially, in the same order.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+class CgmesBranchResolver {
+    private final Network network;
+    private final int parallelism;
+    private final Map<String, CgmesBranchHelper> branchHelpers = new ConcurrentHashMap<>();
+
+    CgmesBranchResolver(Network network, int parallelism) {
+        this.network = network;
+        this.parallelism = parallelism;
+    }
+
+    CgmesBranchHelper getBranchHelper(String mrId) {
+        return branchHelpers.computeIfAbsent(mrId, id -> new CgmesBranchHelper(id, network));
+    }
+
+    void resolveConcurrently(Collection<String> mrIds) {
+        List<String> mrIdsToResolve = mrIds.stream().distinct().filter(mrId -> !branchHelpers.containsKey(mrId)).toList();
+        List<CgmesBranchHelper> resolvedBranchHelpers = SharedExecutor.current().map(mrIdsToResolve, mrId -> new CgmesBranchHelper(mrId, network), parallelism, false);
+        for (int i = 0; i < mrIdsToResolve.size(); i++) {
+            branchHelpers.put(mrIdsToResolve.get(i), resolvedBranchHelpers.get(i));
+        }
+    }
+}
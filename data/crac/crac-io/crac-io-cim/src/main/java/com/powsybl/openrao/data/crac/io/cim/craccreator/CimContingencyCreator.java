@@ -24,6 +24,7 @@ import com.powsybl.openrao.data.crac.io.commons.api.ImportStatus;
 import com.powsybl.openrao.data.crac.io.commons.api.StandardElementaryCreationContext;
 import com.powsybl.openrao.data.crac.io.commons.cgmes.CgmesBranchHelper;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -37,6 +38,7 @@ public class CimContingencyCreator {
     private final Network network;
     private final List<TimeSeries> cimTimeSeries;
     private Set<ElementaryCreationContext> cimContingencyCreationContexts;
+    private Set<String> readContingencyIds;
     private CimCracCreationContext cracCreationContext;
 
     public Set<ElementaryCreationContext> getContingencyCreationContexts() {
@@ -52,18 +54,27 @@ public class CimContingencyCreator {
 
     public void createAndAddContingencies() {
         this.cimContingencyCreationContexts = new HashSet<>();
+        this.readContingencyIds = new HashSet<>();
+        List<ContingencySeries> contingencySeries = new ArrayList<>();
         CimCracUtils.applyActionToEveryPoint(
                 cimTimeSeries,
                 cracCreationContext.getTimeStamp().toInstant(),
                 point -> point.getSeries().stream().filter(this::describesContingencyToImport).forEach(
-                        series -> series.getContingencySeries().forEach(this::addContingency)
+                        series -> contingencySeries.addAll(series.getContingencySeries())
                 )
         );
+        // the elements that are not directly found in the network may be half-lines, which are resolved concurrently
+        cracCreationContext.getBranchResolver().resolveConcurrently(contingencySeries.stream()
+            .flatMap(cimContingency -> cimContingency.getRegisteredResource().stream())
+            .map(registeredResource -> registeredResource.getMRID().getValue())
+            .filter(networkElementId -> network.getIdentifiable(networkElementId) == null)
+            .toList());
+        contingencySeries.forEach(this::addContingency);
         this.cracCreationContext.setContingencyCreationContexts(cimContingencyCreationContexts);
     }
 
     private void addContingency(ContingencySeries cimContingency) {
-        if (cimContingencyCreationContexts.stream().anyMatch(ccc -> ccc.getNativeObjectId().equals(cimContingency.getMRID()))) {
+        if (!readContingencyIds.add(cimContingency.getMRID())) {
             return;
         }
 
@@ -127,7 +138,7 @@ public class CimContingencyCreator {
         Identifiable<?> networkElementToReturn = null;
         Identifiable<?> networkElement = network.getIdentifiable(networkElementIdInCrac);
         if (networkElement == null) {
-            CgmesBranchHelper cgmesBranchHelper = new CgmesBranchHelper(networkElementIdInCrac, network);
+            CgmesBranchHelper cgmesBranchHelper = cracCreationContext.getBranchResolver().getBranchHelper(networkElementIdInCrac);
             if (cgmesBranchHelper.isValid()) {
                 networkElementToReturn = cgmesBranchHelper.getBranch();
                 networkElement = cgmesBranchHelper.getBranch();
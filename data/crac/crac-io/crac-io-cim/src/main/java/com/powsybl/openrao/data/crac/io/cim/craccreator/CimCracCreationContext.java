@@ -39,8 +39,9 @@ public class CimCracCreationContext implements CracCreationContext {
     private final OffsetDateTime networkCaseDate;
     private final String networkName;
     private Map<String, Branch<?>> networkBranches;
+    private final CgmesBranchResolver branchResolver;
 
-    CimCracCreationContext(Crac crac, OffsetDateTime timeStamp, Network network) {
+    CimCracCreationContext(Crac crac, OffsetDateTime timeStamp, Network network, int parallelism) {
         this.crac = crac;
         creationReport = new CracCreationReport();
         this.timeStamp = timeStamp;
@@ -50,6 +51,7 @@ public class CimCracCreationContext implements CracCreationContext {
         this.networkCaseDate = network.getCaseDate().toInstant().atOffset(ZoneOffset.UTC);
         networkBranches = new HashMap<>();
         network.getBranches().forEach(branch -> networkBranches.put(branch.getId(), branch));
+        this.branchResolver = new CgmesBranchResolver(network, parallelism);
     }
 
     protected CimCracCreationContext(CimCracCreationContext toCopy) {
@@ -65,6 +67,7 @@ public class CimCracCreationContext implements CracCreationContext {
         this.networkName = toCopy.networkName;
         this.networkCaseDate = toCopy.networkCaseDate;
         this.networkBranches = new HashMap<>(toCopy.networkBranches);
+        this.branchResolver = toCopy.branchResolver;
     }
 
     @Override
@@ -251,6 +254,10 @@ public class CimCracCreationContext implements CracCreationContext {
         return networkBranches;
     }
 
+    CgmesBranchResolver getBranchResolver() {
+        return branchResolver;
+    }
+
     void setCreationFailure() {
         this.isCreationSuccessful = false;
         this.crac = null;
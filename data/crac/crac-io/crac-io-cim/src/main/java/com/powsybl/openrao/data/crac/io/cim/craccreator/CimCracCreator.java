@@ -42,10 +42,12 @@ class CimCracCreator {
 
         CimCracCreationParameters cimCracCreationParameters = parameters.getExtension(CimCracCreationParameters.class);
         OffsetDateTime offsetDateTime = null;
+        int parallelism = 1;
         if (cimCracCreationParameters != null) {
             offsetDateTime = cimCracCreationParameters.getTimestamp();
+            parallelism = cimCracCreationParameters.getNumberOfThreads();
         }
-        this.creationContext = new CimCracCreationContext(crac, offsetDateTime, network);
+        this.creationContext = new CimCracCreationContext(crac, offsetDateTime, network, parallelism);
 
         // Get warning messages from parameters parsing
         if (cimCracCreationParameters != null) {
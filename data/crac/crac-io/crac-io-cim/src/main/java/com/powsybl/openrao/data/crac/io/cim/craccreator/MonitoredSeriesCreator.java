@@ -30,7 +30,7 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -74,7 +74,14 @@ public class MonitoredSeriesCreator {
     public void createAndAddMonitoredSeries() {
         this.monitoredSeriesCreationContexts = new HashMap<>();
 
-        for (Series cimSerie : getCnecSeries()) {
+        Set<Series> cnecSeries = getCnecSeries();
+        cracCreationContext.getBranchResolver().resolveConcurrently(cnecSeries.stream()
+            .flatMap(series -> series.getMonitoredSeries().stream())
+            .flatMap(monitoredSeries -> monitoredSeries.getRegisteredResource().stream())
+            .map(registeredResource -> registeredResource.getMRID().getValue())
+            .toList());
+
+        for (Series cimSerie : cnecSeries) {
             List<Contingency> contingencies = new ArrayList<>();
             List<String> invalidContingencies = new ArrayList<>();
             String optimizationStatus = cimSerie.getOptimizationMarketObjectStatusStatus();
@@ -98,7 +105,8 @@ public class MonitoredSeriesCreator {
     }
 
     private Set<Series> getCnecSeries() {
-        Set<Series> cnecSeries = new HashSet<>();
+        // keep the order of the series in the file
+        Set<Series> cnecSeries = new LinkedHashSet<>();
         CimCracUtils.applyActionToEveryPoint(
             cimTimeSeries,
             cracCreationContext.getTimeStamp().toInstant(),
@@ -147,7 +155,7 @@ public class MonitoredSeriesCreator {
         String resourceName = monitoredRegisteredResource.getName();
 
         //Get network element
-        CgmesBranchHelper branchHelper = new CgmesBranchHelper(monitoredRegisteredResource.getMRID().getValue(), network);
+        CgmesBranchHelper branchHelper = cracCreationContext.getBranchResolver().getBranchHelper(monitoredRegisteredResource.getMRID().getValue());
         if (!branchHelper.isValid()) {
             saveMonitoredSeriesCreationContexts(nativeId, MonitoredSeriesCreationContext.notImported(
                 nativeId,
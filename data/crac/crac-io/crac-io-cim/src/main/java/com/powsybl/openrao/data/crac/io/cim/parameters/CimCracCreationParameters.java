@@ -22,6 +22,7 @@ public class CimCracCreationParameters extends AbstractAlignedRaCracCreationPara
     private Set<RangeActionSpeed> speedSet = new HashSet<>();
     private VoltageCnecsCreationParameters voltageCnecsCreationParameters = null;
     private OffsetDateTime timestamp = null;
+    private int numberOfThreads = 1;
 
     @Override
     public String getName() {
@@ -94,4 +95,18 @@ public class CimCracCreationParameters extends AbstractAlignedRaCracCreationPara
     public void setTimestamp(OffsetDateTime timestamp) {
         this.timestamp = timestamp;
     }
+
+    /**
+     * Number of threads used to resolve the network elements referenced in the CRAC
+     */
+    public int getNumberOfThreads() {
+        return numberOfThreads;
+    }
+
+    public void setNumberOfThreads(int numberOfThreads) {
+        if (numberOfThreads < 1) {
+            throw new OpenRaoException(String.format("The number of threads must be strictly positive (got %s).", numberOfThreads));
+        }
+        this.numberOfThreads = numberOfThreads;
+    }
 }
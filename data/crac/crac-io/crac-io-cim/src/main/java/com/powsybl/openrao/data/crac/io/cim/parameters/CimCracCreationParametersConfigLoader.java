@@ -30,6 +30,7 @@ public class CimCracCreationParametersConfigLoader implements CracCreationParame
         if (configOptional.isPresent()) {
             ModuleConfig config = configOptional.get();
             parameters.setRangeActionGroupsAsString(config.getStringListProperty("range-action-groups", AbstractAlignedRaCracCreationParameters.getDefaultRaGroupsAsString()));
+            config.getOptionalIntProperty("number-of-threads").ifPresent(parameters::setNumberOfThreads);
         }
         return parameters;
     }
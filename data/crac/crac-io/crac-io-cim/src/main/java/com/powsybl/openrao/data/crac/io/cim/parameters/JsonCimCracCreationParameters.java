@@ -37,6 +37,7 @@ public class JsonCimCracCreationParameters implements JsonCracCreationParameters
     private static final String TIMESERIES_MRIDS = "timeseries-mrids";
     private static final String VOLTAGE_CNECS_CREATION_PARAMETERS = "voltage-cnecs-creation-parameters";
     private static final String TIMESTAMP = "timestamp";
+    private static final String NUMBER_OF_THREADS = "number-of-threads";
 
     @Override
     public void serialize(CimCracCreationParameters cimParameters, JsonGenerator jsonGenerator, SerializerProvider serializerProvider) throws IOException {
@@ -46,6 +47,7 @@ public class JsonCimCracCreationParameters implements JsonCracCreationParameters
         serializeRangeActionSpeedSet(cimParameters.getRangeActionSpeedSet(), jsonGenerator);
         serializeVoltageCnecsCreationParameters(cimParameters.getVoltageCnecsCreationParameters(), jsonGenerator);
         serializeTimestamp(cimParameters.getTimestamp(), jsonGenerator);
+        jsonGenerator.writeNumberField(NUMBER_OF_THREADS, cimParameters.getNumberOfThreads());
         jsonGenerator.writeEndObject();
     }
 
@@ -78,6 +80,9 @@ public class JsonCimCracCreationParameters implements JsonCracCreationParameters
                     jsonParser.nextToken();
                     parameters.setTimestamp(OffsetDateTime.parse(jsonParser.readValueAs(String.class)));
                     break;
+                case NUMBER_OF_THREADS:
+                    parameters.setNumberOfThreads(jsonParser.nextIntValue(1));
+                    break;
                 default:
                     throw new OpenRaoException("Unexpected field: " + jsonParser.currentName());
             }
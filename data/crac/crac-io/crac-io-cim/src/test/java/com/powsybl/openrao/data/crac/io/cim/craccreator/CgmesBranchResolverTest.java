@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.crac.io.cim.craccreator;
+
+import com.google.common.base.Suppliers;
+import com.powsybl.computation.local.LocalComputationManager;
+import com.powsybl.iidm.network.ImportConfig;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.openrao.data.crac.io.commons.cgmes.CgmesBranchHelper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class CgmesBranchResolverTest {
+    private static final List<String> MR_IDS = List.of(
+        "_ffbabc27-1ccd-4fdc-b037-e341706c8d29",
+        "_e8acf6b6-99cb-45ad-b8dc-16c7866a4ddc",
+        "_df16b3dd-c905-4a6f-84ee-f067be86f5da",
+        "_b58bf21a-096a-4dae-9a01-3f03b60c24c7",
+        "DOES_NOT_EXIST",
+        "_ffbabc27-1ccd-4fdc-b037-e341706c8d29"
+    );
+
+    private static Network network;
+
+    @BeforeAll
+    public static void loadNetwork() {
+        Properties importParams = new Properties();
+        importParams.put("iidm.import.cgmes.source-for-iidm-id", "rdfID");
+        network = Network.read(
+            Paths.get(new File(CgmesBranchResolverTest.class.getResource("/networks/MicroGrid_missingImax.zip").getFile()).toString()),
+            LocalComputationManager.getDefault(),
+            Suppliers.memoize(ImportConfig::load).get(),
+            importParams
+        );
+    }
+
+    private static void assertSameResolution(CgmesBranchHelper expected, CgmesBranchHelper actual) {
+        assertEquals(expected.isValid(), actual.isValid());
+        assertEquals(expected.getInvalidReason(), actual.getInvalidReason());
+        assertEquals(expected.isHalfLine(), actual.isHalfLine());
+        assertEquals(expected.getTieLineSide(), actual.getTieLineSide());
+        if (expected.isValid()) {
+            assertEquals(expected.getIdInNetwork(), actual.getIdInNetwork());
+        }
+    }
+
+    @Test
+    void testConcurrentResolutionIsIdenticalToSequentialResolution() {
+        CgmesBranchResolver branchResolver = new CgmesBranchResolver(network, 4);
+        branchResolver.resolveConcurrently(MR_IDS);
+        MR_IDS.forEach(mrId -> assertSameResolution(new CgmesBranchHelper(mrId, network), branchResolver.getBranchHelper(mrId)));
+
+        // the series of the test CRAC reference a valid branch, a half-line and a missing element
+        assertTrue(branchResolver.getBranchHelper("_ffbabc27-1ccd-4fdc-b037-e341706c8d29").isValid());
+        assertTrue(branchResolver.getBranchHelper("_e8acf6b6-99cb-45ad-b8dc-16c7866a4ddc").isHalfLine());
+        assertFalse(branchResolver.getBranchHelper("DOES_NOT_EXIST").isValid());
+    }
+
+    @Test
+    void testBranchesAreResolvedOnce() {
+        CgmesBranchResolver branchResolver = new CgmesBranchResolver(network, 4);
+        CgmesBranchHelper sequentiallyResolvedBranch = branchResolver.getBranchHelper("_df16b3dd-c905-4a6f-84ee-f067be86f5da");
+        branchResolver.resolveConcurrently(MR_IDS);
+        assertSame(sequentiallyResolvedBranch, branchResolver.getBranchHelper("_df16b3dd-c905-4a6f-84ee-f067be86f5da"));
+
+        CgmesBranchHelper concurrentlyResolvedBranch = branchResolver.getBranchHelper("_b58bf21a-096a-4dae-9a01-3f03b60c24c7");
+        branchResolver.resolveConcurrently(MR_IDS);
+        assertSame(concurrentlyResolvedBranch, branchResolver.getBranchHelper("_b58bf21a-096a-4dae-9a01-3f03b60c24c7"));
+    }
+}
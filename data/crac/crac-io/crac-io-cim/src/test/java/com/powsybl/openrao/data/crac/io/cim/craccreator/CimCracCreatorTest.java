@@ -422,6 +422,37 @@ class CimCracCreatorTest {
         assertEquals(14, cracCreationContext.getNetworkBranches().size());
     }
 
+    @Test
+    void testConcurrentCreationIsIdenticalToSequentialCreation() throws IOException {
+        CracCreationParameters sequentialParameters = new CracCreationParameters();
+        sequentialParameters.addExtension(CimCracCreationParameters.class, new CimCracCreationParameters());
+        sequentialParameters.getExtension(CimCracCreationParameters.class).setTimestamp(OffsetDateTime.parse("2021-04-01T23:00Z"));
+        setUp("/cracs/CIM_21_1_1.xml", baseNetwork, sequentialParameters);
+        CimCracCreationContext sequentialContext = cracCreationContext;
+
+        CracCreationParameters concurrentParameters = new CracCreationParameters();
+        concurrentParameters.addExtension(CimCracCreationParameters.class, new CimCracCreationParameters());
+        concurrentParameters.getExtension(CimCracCreationParameters.class).setTimestamp(OffsetDateTime.parse("2021-04-01T23:00Z"));
+        concurrentParameters.getExtension(CimCracCreationParameters.class).setNumberOfThreads(4);
+        setUp("/cracs/CIM_21_1_1.xml", baseNetwork, concurrentParameters);
+
+        Crac sequentialCrac = sequentialContext.getCrac();
+        assertEquals(sequentialContext.getCreationReport().getReport(), cracCreationContext.getCreationReport().getReport());
+        assertEquals(
+            sequentialCrac.getContingencies().stream().map(contingency -> contingency.getId() + contingency.getElements().stream().map(ContingencyElement::getId).sorted().toList()).collect(Collectors.toSet()),
+            importedCrac.getContingencies().stream().map(contingency -> contingency.getId() + contingency.getElements().stream().map(ContingencyElement::getId).sorted().toList()).collect(Collectors.toSet())
+        );
+        assertEquals(
+            sequentialCrac.getFlowCnecs().stream().map(flowCnec -> flowCnec.getId() + flowCnec.getNetworkElement().getId() + flowCnec.getMonitoredSides()).collect(Collectors.toSet()),
+            importedCrac.getFlowCnecs().stream().map(flowCnec -> flowCnec.getId() + flowCnec.getNetworkElement().getId() + flowCnec.getMonitoredSides()).collect(Collectors.toSet())
+        );
+        assertEquals(
+            sequentialCrac.getRemedialActions().stream().map(RemedialAction::getId).collect(Collectors.toSet()),
+            importedCrac.getRemedialActions().stream().map(RemedialAction::getId).collect(Collectors.toSet())
+        );
+        assertEquals(sequentialContext.getNetworkBranches().keySet(), cracCreationContext.getNetworkBranches().keySet());
+    }
+
     @Test
     void testImportContingencies() throws IOException {
         setUpWithTimestamp("/cracs/CIM_21_1_1.xml", baseNetwork, OffsetDateTime.parse("2021-04-01T23:00Z"));
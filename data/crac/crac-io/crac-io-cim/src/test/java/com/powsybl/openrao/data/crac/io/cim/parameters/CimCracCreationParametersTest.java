@@ -31,6 +31,14 @@ class CimCracCreationParametersTest {
 
         assertEquals(0, parameters.getRangeActionGroupsAsString().size());
         assertEquals(0, parameters.getRangeActionGroups().size());
+        assertEquals(1, parameters.getNumberOfThreads());
+    }
+
+    @Test
+    void testInvalidNumberOfThreads() {
+        CimCracCreationParameters parameters = new CimCracCreationParameters();
+        OpenRaoException exception = assertThrows(OpenRaoException.class, () -> parameters.setNumberOfThreads(0));
+        assertEquals("The number of threads must be strictly positive (got 0).", exception.getMessage());
     }
 
     @Test
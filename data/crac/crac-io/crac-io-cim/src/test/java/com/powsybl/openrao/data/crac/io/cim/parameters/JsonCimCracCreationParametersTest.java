@@ -39,6 +39,7 @@ class JsonCimCracCreationParametersTest {
         exportedCimParameters.setRangeActionGroupsAsString(List.of("rangeAction3 + rangeAction4", "hvdc1 + hvdc2"));
         exportedCimParameters.setRemedialActionSpeed(Set.of(new RangeActionSpeed("rangeAction1", 1)));
         exportedCimParameters.setTimestamp(OffsetDateTime.parse("2025-01-10T05:00:00Z"));
+        exportedCimParameters.setNumberOfThreads(4);
         exportedParameters.addExtension(CimCracCreationParameters.class, exportedCimParameters);
 
         // roundTrip
@@ -56,6 +57,7 @@ class JsonCimCracCreationParametersTest {
         assertEquals(1, cimCracCreationParameters.getRangeActionSpeed("rangeAction1").getSpeed().intValue());
         assertEquals(OffsetDateTime.parse("2025-01-10T05:00:00Z"), cimCracCreationParameters.getTimestamp());
         assertTrue(cimCracCreationParameters.getTimeseriesMrids().isEmpty());
+        assertEquals(4, cimCracCreationParameters.getNumberOfThreads());
     }
 
     @Test
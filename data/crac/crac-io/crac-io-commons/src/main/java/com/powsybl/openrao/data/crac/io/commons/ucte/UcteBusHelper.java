@@ -8,12 +8,11 @@
 package com.powsybl.openrao.data.crac.io.commons.ucte;
 
 import com.powsybl.iidm.network.Bus;
-import com.powsybl.iidm.network.Network;
+import com.powsybl.openrao.commons.NetworkBusIndex;
 import com.powsybl.openrao.data.crac.io.commons.ElementHelper;
 
 import java.util.HashSet;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * UcteBusHelper is a utility class which manages buses defined with the UCTE convention
@@ -31,10 +30,11 @@ public class UcteBusHelper implements ElementHelper {
     public UcteBusHelper(String nodeName, UcteNetworkAnalyzer ucteNetworkAnalyzer) {
 
         String modNodeName = nodeName;
+        NetworkBusIndex networkBusIndex = NetworkBusIndex.of(ucteNetworkAnalyzer.getNetwork());
 
         // full id without wildcard
         if (nodeName.length() == UcteUtils.UCTE_NODE_LENGTH && !nodeName.endsWith(UcteUtils.WILDCARD_CHARACTER)) {
-            lookForBusWithIdInNetwork(nodeName, ucteNetworkAnalyzer.getNetwork());
+            lookForBusWithIdInNetwork(nodeName, networkBusIndex);
 
             if (!isValid && ucteNetworkAnalyzer.getProperties().getBusIdMatchPolicy().equals(UcteNetworkAnalyzerProperties.BusIdMatchPolicy.REPLACE_8TH_CHARACTER_WITH_WILDCARD)) {
                 // if no bus is found and policy is REPLACE_8TH_CHARACTER_WITH_WILDCARD, replace 8 character by *
@@ -47,7 +47,7 @@ public class UcteBusHelper implements ElementHelper {
         // incomplete id, automatically complete id with...
         if (nodeName.length() < UcteUtils.UCTE_NODE_LENGTH) { // blank spaces,
             if (ucteNetworkAnalyzer.getProperties().getBusIdMatchPolicy().equals(UcteNetworkAnalyzerProperties.BusIdMatchPolicy.COMPLETE_WITH_WHITESPACES)) {
-                lookForBusWithIdInNetwork(String.format("%1$-8s", nodeName), ucteNetworkAnalyzer.getNetwork());
+                lookForBusWithIdInNetwork(String.format("%1$-8s", nodeName), networkBusIndex);
                 return;
             } else {  // or, with wildcards
                 modNodeName = String.format("%1$-7s", nodeName.substring(0, Math.min(nodeName.length(), 7))) + UcteUtils.WILDCARD_CHARACTER;
@@ -55,13 +55,11 @@ public class UcteBusHelper implements ElementHelper {
         }
 
         // complex search with wildcard (either *, or incomplete ids)
-        lookForBusIdMatches(modNodeName, ucteNetworkAnalyzer);
+        lookForBusIdMatches(modNodeName, networkBusIndex);
     }
 
-    private void lookForBusIdMatches(String nodeName, UcteNetworkAnalyzer ucteNetworkAnalyzer) {
-        busMatchesInNetwork = ucteNetworkAnalyzer.getNetwork().getBusBreakerView().getBusStream()
-            .filter(bus -> UcteUtils.matchNodeNames(nodeName, bus.getId()))
-            .collect(Collectors.toSet());
+    private void lookForBusIdMatches(String nodeName, NetworkBusIndex networkBusIndex) {
+        busMatchesInNetwork = new HashSet<>(networkBusIndex.getBusesMatchingUcteNodeCode(nodeName));
         if (busMatchesInNetwork.isEmpty()) {
             isValid = false;
             invalidReason = String.format("No bus in the network matches bus name %s", nodeName);
@@ -74,15 +72,11 @@ public class UcteBusHelper implements ElementHelper {
     /**
      * Look for a bus in the network, knowing its full id (without wildcard)
      */
-    private void lookForBusWithIdInNetwork(String busId, Network network) {
-        Bus bus = network.getBusBreakerView().getBus(busId);
-
-        if (bus != null) {
+    private void lookForBusWithIdInNetwork(String busId, NetworkBusIndex networkBusIndex) {
+        networkBusIndex.getBus(busId).ifPresentOrElse(bus -> {
             busMatchesInNetwork.add(bus);
             isValid = true;
-        } else {
-            invalidReason = String.format("No bus in the network matches bus id %s", busId);
-        }
+        }, () -> invalidReason = String.format("No bus in the network matches bus id %s", busId));
     }
 
     @Override
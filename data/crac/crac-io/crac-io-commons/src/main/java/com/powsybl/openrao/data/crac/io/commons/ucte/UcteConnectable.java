@@ -36,6 +36,7 @@ public class UcteConnectable implements Comparable<UcteConnectable> {
     private final Side iidmSide;
     private final boolean isIidmConventionInverted; //transformer conventions between iidm and UCTE formats are inverted
     private final ConnectableType type;
+    private final int hashCode;
 
     public enum Side {
         ONE,
@@ -59,6 +60,8 @@ public class UcteConnectable implements Comparable<UcteConnectable> {
         this.isIidmConventionInverted = isIidmConventionInverted;
         this.iidmSide = side;
         this.type = ConnectableType.getType(iidmConnectable);
+        // all the fields are final: the hash code is computed once, as it is used for each comparison of connectables
+        this.hashCode = toString().hashCode();
     }
 
     boolean doesMatchWithOrderCode(String from, String to, String suffix, ConnectableType... connectableTypes) {
@@ -80,7 +83,7 @@ public class UcteConnectable implements Comparable<UcteConnectable> {
 
     @Override
     public int hashCode() {
-        return toString().hashCode();
+        return hashCode;
     }
 
     @Override
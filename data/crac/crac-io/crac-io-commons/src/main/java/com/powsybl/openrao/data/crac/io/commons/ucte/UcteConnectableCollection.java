@@ -7,9 +7,11 @@
 
 package com.powsybl.openrao.data.crac.io.commons.ucte;
 
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Ordering;
 import com.google.common.collect.TreeMultimap;
 import com.powsybl.iidm.network.Branch;
+import com.powsybl.iidm.network.DefaultNetworkListener;
 import com.powsybl.iidm.network.Identifiable;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.TieLine;
@@ -18,36 +20,150 @@ import com.powsybl.iidm.network.TwoWindingsTransformer;
 import com.powsybl.openrao.commons.OpenRaoException;
 import com.powsybl.openrao.data.crac.io.commons.ConnectableType;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
  * A utility class that reads the network and stores UCTE information in order
  * to easily map UCTE connectables (from/to/suffix) to elements in the network
+ * <p>
+ * The collection is immutable once built, and can thus be queried concurrently. The collection of each variant of a
+ * network is cached (see {@link #of(Network)}) so that the CRACs successively imported on a same network, for instance
+ * the hourly CRACs of a daily process, do not index the network again.
  *
  * @author Baptiste Seguinot {@literal <baptiste.seguinot at rte-france.com>}
  * @author Peter Mitri {@literal <peter.mitri at rte-france.com>}
  */
 class UcteConnectableCollection {
 
+    private static final Map<Network, CachedCollections> CACHE = CacheBuilder.newBuilder().weakKeys().weakValues().<Network, CachedCollections>build().asMap();
+    private static final String ELEMENT_NAME_PROPERTY_PREFIX = "elementName";
+
     /*
         The key of the map is the fromNodeId of the Connectable
-        The TreeMultiMap is stored by alphabetical order of the fromNodeId
         One key can be associated to several values, as several Connectables
         can have the same fromNodeId.
      */
-    private TreeMultimap<String, UcteConnectable> connectables;
+    private final Map<String, List<UcteConnectable>> connectables;
+
+    /*
+        Same connectables, with the 7 first characters of their fromNodeId as key, to look for
+        the connectables whose fromNodeId contains a wildcard.
+     */
+    private final Map<String, List<UcteConnectable>> connectablesPerFromNodePrefix;
 
     UcteConnectableCollection(Network network) {
-        connectables = TreeMultimap.create(Ordering.<String>natural().nullsFirst(), Ordering.<UcteConnectable>natural().nullsFirst());
-        addBranches(network);
-        addBoundaryLines(network);
-        addSwitches(network);
-        addHvdcs(network);
+        // the TreeMultimap removes the duplicated connectables
+        TreeMultimap<String, UcteConnectable> connectablesMultimap = TreeMultimap.create(Ordering.<String>natural().nullsFirst(), Ordering.<UcteConnectable>natural().nullsFirst());
+        addBranches(network, connectablesMultimap);
+        addBoundaryLines(network, connectablesMultimap);
+        addSwitches(network, connectablesMultimap);
+        addHvdcs(network, connectablesMultimap);
+
+        Map<String, List<UcteConnectable>> connectablesPerFromNode = new HashMap<>();
+        Map<String, List<UcteConnectable>> connectablesPerPrefix = new HashMap<>();
+        connectablesMultimap.asMap().forEach((fromNodeId, ucteConnectables) -> {
+            connectablesPerFromNode.put(fromNodeId, List.copyOf(ucteConnectables));
+            if (fromNodeId.length() >= UcteUtils.UCTE_NODE_LENGTH) {
+                connectablesPerPrefix.computeIfAbsent(fromNodeId.substring(0, UcteUtils.UCTE_NODE_LENGTH - 1), prefix -> new ArrayList<>()).addAll(ucteConnectables);
+            }
+        });
+        this.connectables = Map.copyOf(connectablesPerFromNode);
+        this.connectablesPerFromNodePrefix = connectablesPerPrefix.entrySet().stream().collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, entry -> List.copyOf(entry.getValue())));
+    }
+
+    /**
+     * Returns the collection of the working variant of the network, which is only built once as long as the network
+     * elements, their connections and their element names do not change.
+     */
+    static UcteConnectableCollection of(Network network) {
+        if (network.getNetwork() != network) {
+            // subnetworks and network proxies are not cached
+            return new UcteConnectableCollection(network);
+        }
+        return CACHE.computeIfAbsent(network, n -> {
+            CachedCollections cachedCollections = new CachedCollections();
+            n.addListener(cachedCollections);
+            return cachedCollections;
+        }).get(network);
+    }
+
+    /**
+     * Holds the collections of the variants of a network. The collections of all the variants are dropped when an
+     * element is added to or removed from the network, or when the element names of an element change. The collection
+     * of a variant is dropped when the connection of an element changes in this variant.
+     * It is referenced by the network as a listener, and thus lives as long as the network.
+     */
+    private static final class CachedCollections extends DefaultNetworkListener {
+        private final Map<String, UcteConnectableCollection> collectionPerVariant = new ConcurrentHashMap<>();
+
+        UcteConnectableCollection get(Network network) {
+            return collectionPerVariant.computeIfAbsent(network.getVariantManager().getWorkingVariantId(), variantId -> new UcteConnectableCollection(network));
+        }
+
+        private void invalidate(String variantId) {
+            if (variantId == null) {
+                collectionPerVariant.clear();
+            } else {
+                collectionPerVariant.remove(variantId);
+            }
+        }
+
+        @Override
+        public void onCreation(Identifiable<?> identifiable) {
+            collectionPerVariant.clear();
+        }
+
+        @Override
+        public void afterRemoval(String id) {
+            collectionPerVariant.clear();
+        }
+
+        @Override
+        public void onUpdate(Identifiable<?> identifiable, String attribute, String variantId, Object oldValue, Object newValue) {
+            // connection of a terminal, connectable bus of a terminal...
+            if (attribute.startsWith("connect")) {
+                invalidate(variantId);
+            }
+        }
+
+        @Override
+        public void onPropertyAdded(Identifiable<?> identifiable, String key, Object newValue) {
+            onPropertyUpdate(key);
+        }
+
+        @Override
+        public void onPropertyReplaced(Identifiable<?> identifiable, String key, Object oldValue, Object newValue) {
+            onPropertyUpdate(key);
+        }
+
+        @Override
+        public void onPropertyRemoved(Identifiable<?> identifiable, String key, Object oldValue) {
+            onPropertyUpdate(key);
+        }
+
+        private void onPropertyUpdate(String key) {
+            if (key.startsWith(ELEMENT_NAME_PROPERTY_PREFIX)) {
+                collectionPerVariant.clear();
+            }
+        }
+
+        @Override
+        public void onVariantOverwritten(String sourceVariantId, String targetVariantId) {
+            invalidate(targetVariantId);
+        }
+
+        @Override
+        public void onVariantRemoved(String variantId) {
+            invalidate(variantId);
+        }
     }
 
     UcteMatchingResult lookForConnectable(String fromNodeId, String toNodeId, String suffix, UcteNetworkAnalyzerProperties ucteNetworkAnalyzerProperties, ConnectableType... connectableTypes) {
@@ -102,22 +218,15 @@ class UcteConnectableCollection {
 
         if (!fromNodeId.endsWith(UcteUtils.WILDCARD_CHARACTER)) {
 
-            // if the from node contains no wildcard, directly look for the entry of the TreeMultimap with the fromNode id
-            Collection<UcteConnectable> ucteElements = connectables.asMap().getOrDefault(fromNodeId, Collections.emptyList());
+            // if the from node contains no wildcard, directly look for the entry of the map with the fromNode id
+            Collection<UcteConnectable> ucteElements = connectables.getOrDefault(fromNodeId, List.of());
             return lookForMatchWithinCollection(fromNodeId, toNodeId, suffix, ucteElements, ucteNetworkAnalyzerProperties, types);
 
         } else {
 
-            // if the from node contains a wildcard, broad all entries of the map whose 7th first characters match the given id
-            // as the map is ordered in alphabetical order, the corresponding entries can be searched efficiently
-
-            String beforeFrom = fromNodeId.substring(0, UcteUtils.UCTE_NODE_LENGTH - 1) + Character.MIN_VALUE;
-            String afterFrom = fromNodeId.substring(0, UcteUtils.UCTE_NODE_LENGTH - 1) + Character.MAX_VALUE;
-
-            List<UcteConnectable> ucteElements = connectables.asMap().subMap(beforeFrom, afterFrom).values().stream()
-                .flatMap(Collection::stream)
-                .toList();
-
+            // if the from node contains a wildcard, look for all the connectables whose fromNode 7 first characters
+            // match the given id, which have been indexed together
+            List<UcteConnectable> ucteElements = connectablesPerFromNodePrefix.getOrDefault(fromNodeId.substring(0, UcteUtils.UCTE_NODE_LENGTH - 1), List.of());
             return lookForMatchWithinCollection(fromNodeId, toNodeId, suffix, ucteElements, ucteNetworkAnalyzerProperties, types);
         }
     }
@@ -185,11 +294,11 @@ class UcteConnectableCollection {
         return matchedConnectables;
     }
 
-    private void addBranches(Network network) {
-        network.getBranchStream().forEach(this::addSingleBranch);
+    private static void addBranches(Network network, TreeMultimap<String, UcteConnectable> connectables) {
+        network.getBranchStream().forEach(branch -> addSingleBranch(branch, connectables));
     }
 
-    private void addSingleBranch(Branch<?> branch) {
+    private static void addSingleBranch(Branch<?> branch, TreeMultimap<String, UcteConnectable> connectables) {
         String from = getNodeName(branch.getTerminal1().getBusBreakerView().getConnectableBus().getId());
         String to = getNodeName(branch.getTerminal2().getBusBreakerView().getConnectableBus().getId());
         if (branch instanceof TieLine tieLine) {
@@ -221,7 +330,7 @@ class UcteConnectableCollection {
         }
     }
 
-    private void addBoundaryLines(Network network) {
+    private static void addBoundaryLines(Network network, TreeMultimap<String, UcteConnectable> connectables) {
         network.getBoundaryLineStream().filter(boundaryLine -> !boundaryLine.isPaired()).forEach(boundaryLine -> {
             // A boundary line is an Injection with a generator convention.
             // After an UCTE import, the flow on the boundary line is therefore always from the X_NODE to the other node.
@@ -238,7 +347,7 @@ class UcteConnectableCollection {
         });
     }
 
-    private void addSwitches(Network network) {
+    private static void addSwitches(Network network, TreeMultimap<String, UcteConnectable> connectables) {
         network.getSwitchStream().forEach(switchElement -> {
             String from = getNodeName(switchElement.getVoltageLevel().getBusBreakerView().getBus1(switchElement.getId()).getId());
             String to = getNodeName(switchElement.getVoltageLevel().getBusBreakerView().getBus2(switchElement.getId()).getId());
@@ -246,7 +355,7 @@ class UcteConnectableCollection {
         });
     }
 
-    private void addHvdcs(Network network) {
+    private static void addHvdcs(Network network, TreeMultimap<String, UcteConnectable> connectables) {
         network.getHvdcLines().forEach(hvdcLine -> {
             String from = getNodeName(hvdcLine.getConverterStation1().getTerminal().getBusBreakerView().getBus().getId());
             String to = getNodeName(hvdcLine.getConverterStation2().getTerminal().getBusBreakerView().getBus().getId());
@@ -279,7 +388,7 @@ class UcteConnectableCollection {
      */
     private static Set<String> getElementNames(Identifiable<?> identifiable) {
         return identifiable.getPropertyNames().stream()
-            .filter(propertyName -> propertyName.startsWith("elementName"))
+            .filter(propertyName -> propertyName.startsWith(ELEMENT_NAME_PROPERTY_PREFIX))
             .map(identifiable::getProperty)
             .collect(Collectors.toSet());
     }
@@ -29,7 +29,7 @@ public class UcteNetworkAnalyzer {
         }
         this.network = network;
         this.properties = properties;
-        this.connectablesInNetwork = new UcteConnectableCollection(network);
+        this.connectablesInNetwork = UcteConnectableCollection.of(network);
     }
 
     public Network getNetwork() {
@@ -13,6 +13,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -30,6 +31,64 @@ class UcteConnectableCollectionTest {
         ucteConnectableCollection = new UcteConnectableCollection(network);
     }
 
+    @Test
+    void testCollectionIsCachedUntilNetworkStructureChanges() {
+        init("TestCase_severalVoltageLevels_Xnodes.uct");
+        UcteNetworkAnalyzerProperties ucteNetworkAnalyzerProperties = new UcteNetworkAnalyzerProperties(UcteNetworkAnalyzerProperties.BusIdMatchPolicy.COMPLETE_WITH_WHITESPACES);
+
+        UcteConnectableCollection cachedCollection = UcteConnectableCollection.of(network);
+        assertSame(cachedCollection, UcteConnectableCollection.of(network));
+        assertTrue(cachedCollection.lookForConnectable("BBE1AA1 ", "BBE2AA1 ", "1", ucteNetworkAnalyzerProperties, ConnectableType.INTERNAL_LINE).hasMatched());
+
+        // removing an element from the network drops the cached collection
+        network.getLine("BBE1AA1  BBE2AA1  1").remove();
+        UcteConnectableCollection newCollection = UcteConnectableCollection.of(network);
+        assertNotSame(cachedCollection, newCollection);
+        assertFalse(newCollection.lookForConnectable("BBE1AA1 ", "BBE2AA1 ", "1", ucteNetworkAnalyzerProperties, ConnectableType.INTERNAL_LINE).hasMatched());
+    }
+
+    @Test
+    void testCollectionIsCachedPerVariant() {
+        init("TestCase_severalVoltageLevels_Xnodes.uct");
+        String initialVariant = network.getVariantManager().getWorkingVariantId();
+        UcteConnectableCollection initialVariantCollection = UcteConnectableCollection.of(network);
+
+        network.getVariantManager().cloneVariant(initialVariant, "otherVariant");
+        network.getVariantManager().setWorkingVariant("otherVariant");
+        UcteConnectableCollection otherVariantCollection = UcteConnectableCollection.of(network);
+        assertNotSame(initialVariantCollection, otherVariantCollection);
+        assertSame(otherVariantCollection, UcteConnectableCollection.of(network));
+
+        network.getVariantManager().setWorkingVariant(initialVariant);
+        assertSame(initialVariantCollection, UcteConnectableCollection.of(network));
+    }
+
+    @Test
+    void testCollectionIsDroppedWhenConnectionChanges() {
+        init("TestCase_severalVoltageLevels_Xnodes.uct");
+        UcteConnectableCollection cachedCollection = UcteConnectableCollection.of(network);
+
+        network.getLine("BBE1AA1  BBE2AA1  1").getTerminal1().disconnect();
+        assertNotSame(cachedCollection, UcteConnectableCollection.of(network));
+    }
+
+    @Test
+    void testCollectionIsDroppedWhenElementNamesChange() {
+        init("TestCase_severalVoltageLevels_Xnodes.uct");
+        UcteNetworkAnalyzerProperties ucteNetworkAnalyzerProperties = new UcteNetworkAnalyzerProperties(UcteNetworkAnalyzerProperties.BusIdMatchPolicy.COMPLETE_WITH_WHITESPACES);
+        UcteConnectableCollection cachedCollection = UcteConnectableCollection.of(network);
+        assertFalse(cachedCollection.lookForConnectable("BBE1AA1 ", "BBE2AA1 ", "newName", ucteNetworkAnalyzerProperties, ConnectableType.INTERNAL_LINE).hasMatched());
+
+        // properties which are not element names are not used by the collection
+        network.getLine("BBE1AA1  BBE2AA1  1").setProperty("otherProperty", "value");
+        assertSame(cachedCollection, UcteConnectableCollection.of(network));
+
+        network.getLine("BBE1AA1  BBE2AA1  1").setProperty("elementName_2", "newName");
+        UcteConnectableCollection newCollection = UcteConnectableCollection.of(network);
+        assertNotSame(cachedCollection, newCollection);
+        assertTrue(newCollection.lookForConnectable("BBE1AA1 ", "BBE2AA1 ", "newName", ucteNetworkAnalyzerProperties, ConnectableType.INTERNAL_LINE).hasMatched());
+    }
+
     @Test
     void testInternalBranch() {
         init("TestCase_severalVoltageLevels_Xnodes.uct");
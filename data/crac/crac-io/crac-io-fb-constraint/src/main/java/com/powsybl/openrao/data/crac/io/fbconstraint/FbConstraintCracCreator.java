@@ -11,6 +11,7 @@ import com.powsybl.contingency.Contingency;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.TwoSides;
 import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.crac.api.CracFactory;
 import com.powsybl.openrao.data.crac.api.Identifiable;
 import com.powsybl.openrao.data.crac.api.InstantKind;
 import com.powsybl.openrao.data.crac.api.RemedialAction;
@@ -62,14 +63,22 @@ class FbConstraintCracCreator {
 
     FbConstraintCreationContext createCrac(FlowBasedConstraintDocument fbConstraintDocument, Network network, CracCreationParameters cracCreatorParameters) {
         FbConstraintCracCreationParameters fbConstraintCracCreationParameters = cracCreatorParameters.getExtension(FbConstraintCracCreationParameters.class);
-        OffsetDateTime offsetDateTime = null;
+        OffsetDateTime offsetDateTime = fbConstraintCracCreationParameters != null ? fbConstraintCracCreationParameters.getTimestamp() : null;
+        return createCrac(fbConstraintDocument, network, cracCreatorParameters, cracCreatorParameters.getCracFactory(), offsetDateTime);
+    }
+
+    /**
+     * Creates the CRAC of the given timestamp with the given factory, whatever the timestamp and the factory defined in
+     * the parameters.
+     */
+    FbConstraintCreationContext createCrac(FlowBasedConstraintDocument fbConstraintDocument, Network network, CracCreationParameters cracCreatorParameters, CracFactory cracFactory, OffsetDateTime offsetDateTime) {
+        FbConstraintCracCreationParameters fbConstraintCracCreationParameters = cracCreatorParameters.getExtension(FbConstraintCracCreationParameters.class);
         List<InternalHvdc> internalHvdcs = new ArrayList<>();
         if (fbConstraintCracCreationParameters != null) {
-            offsetDateTime = fbConstraintCracCreationParameters.getTimestamp();
             internalHvdcs = fbConstraintCracCreationParameters.getInternalHvdcs();
         }
         FbConstraintCreationContext creationContext = new FbConstraintCreationContext(offsetDateTime, network.getNameOrId());
-        Crac crac = cracCreatorParameters.getCracFactory().create(fbConstraintDocument.getDocumentIdentification().getV(), fbConstraintDocument.getDocumentIdentification().getV(), offsetDateTime);
+        Crac crac = cracFactory.create(fbConstraintDocument.getDocumentIdentification().getV(), fbConstraintDocument.getDocumentIdentification().getV(), offsetDateTime);
         addFbContraintInstants(crac);
         RaUsageLimitsAdder.addRaUsageLimits(crac, cracCreatorParameters);
 
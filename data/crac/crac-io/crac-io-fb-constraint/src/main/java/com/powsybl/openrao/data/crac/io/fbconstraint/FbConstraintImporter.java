@@ -10,7 +10,10 @@ package com.powsybl.openrao.data.crac.io.fbconstraint;
 import com.google.auto.service.AutoService;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.openrao.commons.OpenRaoException;
+import com.powsybl.openrao.commons.TemporalData;
+import com.powsybl.openrao.commons.TemporalDataImpl;
 import com.powsybl.openrao.data.crac.api.CracCreationContext;
+import com.powsybl.openrao.data.crac.api.CracFactory;
 import com.powsybl.openrao.data.crac.api.io.Importer;
 import com.powsybl.openrao.data.crac.api.parameters.CracCreationParameters;
 import com.powsybl.openrao.data.crac.io.fbconstraint.xsd.FlowBasedConstraintDocument;
@@ -113,6 +116,22 @@ public class FbConstraintImporter implements Importer {
         return new FbConstraintCracCreator().createCrac(importNativeCrac(inputStream), network, cracCreationParameters);
     }
 
+    /**
+     * Creates the CRACs of all the timestamps of the given networks from the same flow-based constraint document, which
+     * is only read once. The timestamp defined in the parameters is ignored. The CRACs share their immutable
+     * definitions (see {@link CracFactory#withSharedDefinitions()}) so that the memory footprint of the CRACs does not
+     * grow as fast as the number of timestamps.
+     */
+    public TemporalData<FbConstraintCreationContext> importData(InputStream inputStream, CracCreationParameters cracCreationParameters, TemporalData<? extends Network> networks) {
+        FlowBasedConstraintDocument fbConstraintDocument = importNativeCrac(inputStream);
+        CracFactory cracFactory = cracCreationParameters.getCracFactory().withSharedDefinitions();
+        FbConstraintCracCreator cracCreator = new FbConstraintCracCreator();
+        TemporalData<FbConstraintCreationContext> creationContexts = new TemporalDataImpl<>();
+        networks.getDataPerTimestamp().forEach((timestamp, network) ->
+            creationContexts.put(timestamp, cracCreator.createCrac(fbConstraintDocument, network, cracCreationParameters, cracFactory, timestamp)));
+        return creationContexts;
+    }
+
     private int flowBasedDocumentVersion(InputStream inputStream) {
         int schemaVersion = Integer.MIN_VALUE;
 
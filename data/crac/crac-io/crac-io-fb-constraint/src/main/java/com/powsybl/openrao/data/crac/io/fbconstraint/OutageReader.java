@@ -11,6 +11,7 @@ import com.powsybl.contingency.ContingencyElementFactory;
 import com.powsybl.contingency.ContingencyElementType;
 import com.powsybl.iidm.network.BoundaryLine;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.openrao.commons.NetworkBusIndex;
 import com.powsybl.openrao.data.crac.api.ContingencyAdder;
 import com.powsybl.openrao.data.crac.api.Crac;
 import com.powsybl.openrao.data.crac.io.commons.ucte.UcteContingencyElementHelper;
@@ -104,6 +105,6 @@ class OutageReader {
     }
 
     private BoundaryLine findBoundaryLineWithXnode(String xNodeId, Network network) {
-        return network.getBoundaryLineStream().filter(boundaryLine -> boundaryLine.getPairingKey().equals(xNodeId)).findFirst().orElse(null);
+        return NetworkBusIndex.of(network).getBoundaryLine(xNodeId).orElse(null);
     }
 }
@@ -10,6 +10,8 @@ package com.powsybl.openrao.data.crac.io.fbconstraint;
 import com.powsybl.contingency.Contingency;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.TwoSides;
+import com.powsybl.openrao.commons.TemporalData;
+import com.powsybl.openrao.commons.TemporalDataImpl;
 import com.powsybl.openrao.commons.Unit;
 import com.powsybl.openrao.data.crac.api.Crac;
 import com.powsybl.openrao.data.crac.api.CracFactory;
@@ -33,12 +35,15 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.time.OffsetDateTime;
+import java.util.Map;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -112,6 +117,34 @@ class FbConstraintCracCreatorTest {
         assertFalse(creationContext.isCreationSuccessful());
     }
 
+    @Test
+    void importCracsOfSeveralTimestamps() {
+        Network network = Network.read("TestCase12Nodes_with_Xnodes.uct", getClass().getResourceAsStream("/network/TestCase12Nodes_with_Xnodes.uct"));
+        OffsetDateTime timestamp1 = OffsetDateTime.parse("2019-01-08T00:30Z");
+        OffsetDateTime timestamp2 = OffsetDateTime.parse("2019-01-08T10:30Z");
+        TemporalData<Network> networks = new TemporalDataImpl<>(Map.of(timestamp1, network, timestamp2, network));
+
+        TemporalData<FbConstraintCreationContext> creationContexts = new FbConstraintImporter().importData(getClass().getResourceAsStream("/merged_cb/without_RA.xml"), parameters, networks);
+
+        // same CRACs as when they are imported one by one
+        Crac crac1 = creationContexts.getData(timestamp1).orElseThrow().getCrac();
+        assertEquals(timestamp1, crac1.getTimestamp().orElseThrow());
+        assertEquals(2, crac1.getContingencies().size());
+        assertEquals(10, crac1.getFlowCnecs().size());
+        assertEquals(5, crac1.getStates().size());
+        Crac crac2 = creationContexts.getData(timestamp2).orElseThrow().getCrac();
+        assertEquals(timestamp2, crac2.getTimestamp().orElseThrow());
+        assertEquals(3, crac2.getContingencies().size());
+        assertEquals(12, crac2.getFlowCnecs().size());
+        assertEquals(7, crac2.getStates().size());
+
+        // the identifiers are shared between the CRACs, not the contingencies which can be modified
+        Contingency contingency1 = crac1.getContingencies().iterator().next();
+        Contingency contingency2 = crac2.getContingency(contingency1.getId());
+        assertNotSame(contingency1, contingency2);
+        assertSame(contingency1.getId(), contingency2.getId());
+    }
+
     @Test
     void importCriticalBranches() throws IOException {
         Network network = Network.read("TestCase12Nodes_with_Xnodes.uct", getClass().getResourceAsStream("/network/TestCase12Nodes_with_Xnodes.uct"));
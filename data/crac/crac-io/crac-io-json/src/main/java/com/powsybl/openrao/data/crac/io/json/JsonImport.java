@@ -7,10 +7,13 @@
 
 package com.powsybl.openrao.data.crac.io.json;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.google.auto.service.AutoService;
-import com.networknt.schema.Schema;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.openrao.commons.OpenRaoException;
 import com.powsybl.openrao.data.crac.api.Crac;
@@ -19,20 +22,18 @@ import com.powsybl.openrao.data.crac.api.io.Importer;
 import com.powsybl.openrao.data.crac.api.parameters.CracCreationParameters;
 import com.powsybl.openrao.data.crac.io.json.deserializers.CracDeserializer;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
-import java.nio.charset.StandardCharsets;
-import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import static com.powsybl.commons.json.JsonUtil.createObjectMapper;
 import static com.powsybl.openrao.commons.logs.OpenRaoLoggerProvider.TECHNICAL_LOGS;
-import static com.powsybl.openrao.data.crac.io.json.JsonSchemaProvider.getSchema;
-import static com.powsybl.openrao.data.crac.io.json.JsonSchemaProvider.getValidationErrors;
-import static com.powsybl.openrao.data.crac.io.json.JsonSchemaProvider.isCracFile;
 
 /**
  * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
@@ -40,6 +41,10 @@ import static com.powsybl.openrao.data.crac.io.json.JsonSchemaProvider.isCracFil
  */
 @AutoService(Importer.class)
 public class JsonImport implements Importer {
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder().enable(JsonReadFeature.ALLOW_NON_NUMERIC_NUMBERS).build();
+    private static final Set<String> HEADER_FIELDS = Set.of(JsonSerializationConstants.TYPE, JsonSerializationConstants.VERSION, JsonSerializationConstants.ID, JsonSerializationConstants.NAME);
+    private static final Pattern VERSION_PATTERN = Pattern.compile("([1-9]\\d*)\\.(\\d+)");
+
     @Override
     public String getFormat() {
         return "JSON";
@@ -51,37 +56,32 @@ public class JsonImport implements Importer {
             return false;
         }
         try {
-            ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(inputStream.readAllBytes());
-            if (isCracFile(byteArrayInputStream)) {
-                byteArrayInputStream.reset();
-                Version cracVersion = readVersion(byteArrayInputStream);
-                Schema jsonSchema = getSchema(cracVersion);
-                List<String> validationError = getValidationErrors(jsonSchema, byteArrayInputStream);
-                if (validationError.isEmpty()) {
-                    return true;
-                }
-                throw new OpenRaoException("JSON file is not a valid CRAC v%s.%s. Reasons: %s".formatted(cracVersion.majorVersion(), cracVersion.minorVersion(), String.join("; ", validationError)));
-            }
-            return false;
+            Optional<Version> cracVersion = readHeaderVersion(inputStream);
+            // fails if the version is not supported
+            cracVersion.ifPresent(JsonSchemaProvider::getSchema);
+            return cracVersion.isPresent();
         } catch (IOException e) {
             TECHNICAL_LOGS.debug("JSON file could not be processed as CRAC. Reason: {}", e.getMessage());
             return false;
         }
     }
 
+    /**
+     * The CRAC is read in a single streaming pass, in which it is both validated against the schema of its version and
+     * deserialized (see {@link ValidatingCracParser}). Validation errors are reported like deserialization errors.
+     */
     @Override
     public CracCreationContext importData(InputStream inputStream, CracCreationParameters cracCreationParameters, Network network) {
         if (network == null) {
             throw new OpenRaoException("Network object is null but it is needed to map contingency's elements");
         }
-        try {
-            ObjectMapper objectMapper = createObjectMapper();
-            SimpleModule module = new SimpleModule();
-            module.addDeserializer(Crac.class, new CracDeserializer(cracCreationParameters.getCracFactory(), network));
-            objectMapper.registerModule(module);
-            Crac crac = objectMapper.readValue(inputStream, Crac.class);
-            CracCreationContext cracCreationContext = new JsonCracCreationContext(true, crac, network.getNameOrId());
-            return cracCreationContext;
+        ObjectMapper objectMapper = createObjectMapper();
+        SimpleModule module = new SimpleModule();
+        module.addDeserializer(Crac.class, new CracDeserializer(cracCreationParameters.getCracFactory(), network));
+        objectMapper.registerModule(module);
+        try (JsonParser jsonParser = new ValidatingCracParser(objectMapper.createParser(inputStream))) {
+            Crac crac = objectMapper.readValue(jsonParser, Crac.class);
+            return new JsonCracCreationContext(true, crac, network.getNameOrId());
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         } catch (OpenRaoException e) {
@@ -91,12 +91,36 @@ public class JsonImport implements Importer {
         }
     }
 
-    private static Version readVersion(ByteArrayInputStream cracByteArrayInputStream) {
-        String cracContent = new String(cracByteArrayInputStream.readAllBytes(), StandardCharsets.UTF_8);
-        cracByteArrayInputStream.reset();
-        Pattern versionPattern = Pattern.compile("\"version\"\\s?:\\s?\"([1-9]\\d*)\\.(\\d+)\"");
-        Matcher versionMatcher = versionPattern.matcher(cracContent);
-        versionMatcher.find();
-        return new Version(Integer.parseInt(versionMatcher.group(1)), Integer.parseInt(versionMatcher.group(2)));
+    /**
+     * Reads the top-level fields of the document without building it in memory, and returns its version if it has the
+     * header of a CRAC (see minimum-viable-crac.json schema). The reading stops as soon as the whole header is found.
+     */
+    private static Optional<Version> readHeaderVersion(InputStream inputStream) throws IOException {
+        Map<String, String> header = new HashMap<>();
+        try (JsonParser jsonParser = JSON_FACTORY.createParser(inputStream)) {
+            if (jsonParser.nextToken() != JsonToken.START_OBJECT) {
+                return Optional.empty();
+            }
+            while (header.size() < HEADER_FIELDS.size() && jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = jsonParser.currentName();
+                if (jsonParser.nextToken() == JsonToken.VALUE_STRING && HEADER_FIELDS.contains(fieldName)) {
+                    header.put(fieldName, jsonParser.getText());
+                } else {
+                    jsonParser.skipChildren();
+                }
+            }
+        }
+        if (header.size() < HEADER_FIELDS.size() || !JsonSerializationConstants.CRAC_TYPE.equals(header.get(JsonSerializationConstants.TYPE))) {
+            return Optional.empty();
+        }
+        return parseVersion(header.get(JsonSerializationConstants.VERSION));
+    }
+
+    static Optional<Version> parseVersion(String version) {
+        Matcher versionMatcher = VERSION_PATTERN.matcher(version);
+        if (!versionMatcher.matches()) {
+            return Optional.empty();
+        }
+        return Optional.of(new Version(Integer.parseInt(versionMatcher.group(1)), Integer.parseInt(versionMatcher.group(2))));
     }
 }
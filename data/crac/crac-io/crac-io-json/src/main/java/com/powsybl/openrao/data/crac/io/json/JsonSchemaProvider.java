@@ -8,6 +8,7 @@
 package com.powsybl.openrao.data.crac.io.json;
 
 import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.networknt.schema.Schema;
 import com.networknt.schema.SchemaRegistry;
@@ -30,18 +31,17 @@ public final class JsonSchemaProvider {
 
     private static final String SCHEMAS_DIRECTORY = "/schemas/crac/";
     private static final String SCHEMAS_NAME_PATTERN = "crac-v%s.%s.json";
-    private static final String MINIMUM_VIABLE_CRAC_SCHEMA = "minimum-viable-crac.json";
     private static final SchemaRegistryConfig CONFIG = SchemaRegistryConfig.builder().locale(Locale.UK).build();
     private static final SchemaRegistry SCHEMA_REGISTRY = SchemaRegistry.withDefaultDialect(SpecificationVersion.DRAFT_2020_12,
         builder -> builder.schemaRegistryConfig(CONFIG));
     private static final ObjectMapper MAPPER = new ObjectMapper().configure(JsonReadFeature.ALLOW_NON_NUMERIC_NUMBERS.mappedFeature(), true);
 
     public static List<String> getValidationErrors(Schema schema, InputStream cracInputStream) throws IOException {
-        return schema.validate(MAPPER.readTree(cracInputStream)).stream().map(Error::toString).toList();
+        return getValidationErrors(schema, MAPPER.readTree(cracInputStream));
     }
 
-    public static boolean isCracFile(InputStream cracInputStream) throws IOException {
-        return getValidationErrors(getSchema(getSchemaAsStream(MINIMUM_VIABLE_CRAC_SCHEMA)), cracInputStream).isEmpty();
+    public static List<String> getValidationErrors(Schema schema, JsonNode cracTree) {
+        return schema.validate(cracTree).stream().map(Error::toString).toList();
     }
 
     public static Schema getSchema(Version version) {
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.crac.io.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.networknt.schema.Schema;
+import com.powsybl.openrao.commons.OpenRaoException;
+
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.powsybl.openrao.data.crac.io.json.JsonSchemaProvider.getSchema;
+import static com.powsybl.openrao.data.crac.io.json.JsonSchemaProvider.getValidationErrors;
+
+/**
+ * Parser of a JSON CRAC which validates the CRAC against the schema of its version while it is deserialized, in a
+ * single pass over the document.
+ * <p>
+ * The scalar top-level fields (the header of the CRAC) are kept. The value of each other top-level field is read,
+ * validated along with the header, and then replayed to the deserializer, so that only one of them is held in memory
+ * at a time. If a field is not valid, the rest of the document is validated and an {@link OpenRaoException} listing
+ * all the validation errors is thrown before the invalid field is deserialized.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class ValidatingCracParser extends JsonParserDelegate {
+    private final JsonParser documentParser;
+    private final ObjectNode header = JsonNodeFactory.instance.objectNode();
+    private final Set<String> validationErrors = new LinkedHashSet<>();
+    private Version version;
+    private Schema schema;
+    // true while the value of a top-level field is replayed from its tree
+    private boolean replaying = false;
+
+    ValidatingCracParser(JsonParser documentParser) {
+        super(documentParser);
+        this.documentParser = documentParser;
+    }
+
+    @Override
+    public JsonToken nextToken() throws IOException {
+        if (replaying) {
+            JsonToken token = delegate.nextToken();
+            if (token != null) {
+                return token;
+            }
+            delegate.close();
+            delegate = documentParser;
+            replaying = false;
+        }
+        JsonToken token = documentParser.nextToken();
+        if (token == null || !isTopLevelValue(token)) {
+            if (token == JsonToken.END_OBJECT && documentParser.getParsingContext().inRoot()) {
+                validate(header);
+                throwIfInvalid();
+            }
+            return token;
+        }
+        if (token.isScalarValue()) {
+            readHeaderField(documentParser.currentName(), token);
+            return token;
+        }
+        String fieldName = documentParser.currentName();
+        JsonNode value = documentParser.readValueAsTree();
+        validateField(fieldName, value);
+        if (!validationErrors.isEmpty()) {
+            validateRemainingFields();
+            throwIfInvalid();
+        }
+        delegate = value.traverse(documentParser.getCodec());
+        replaying = true;
+        return delegate.nextToken();
+    }
+
+    // The other methods reading the next token of JsonParser do not all go through nextToken in JsonParserDelegate
+
+    @Override
+    public JsonToken nextValue() throws IOException {
+        JsonToken token = nextToken();
+        return token == JsonToken.FIELD_NAME ? nextToken() : token;
+    }
+
+    @Override
+    public String nextFieldName() throws IOException {
+        return nextToken() == JsonToken.FIELD_NAME ? currentName() : null;
+    }
+
+    @Override
+    public boolean nextFieldName(SerializableString fieldName) throws IOException {
+        return nextToken() == JsonToken.FIELD_NAME && fieldName.getValue().equals(currentName());
+    }
+
+    @Override
+    public String nextTextValue() throws IOException {
+        return nextToken() == JsonToken.VALUE_STRING ? getText() : null;
+    }
+
+    @Override
+    public int nextIntValue(int defaultValue) throws IOException {
+        return nextToken() == JsonToken.VALUE_NUMBER_INT ? getIntValue() : defaultValue;
+    }
+
+    @Override
+    public long nextLongValue(long defaultValue) throws IOException {
+        return nextToken() == JsonToken.VALUE_NUMBER_INT ? getLongValue() : defaultValue;
+    }
+
+    @Override
+    public Boolean nextBooleanValue() throws IOException {
+        JsonToken token = nextToken();
+        return token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE ? token == JsonToken.VALUE_TRUE : null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (replaying) {
+            delegate.close();
+        }
+        documentParser.close();
+    }
+
+    private boolean isTopLevelValue(JsonToken token) {
+        if (!token.isScalarValue() && !token.isStructStart()) {
+            return false;
+        }
+        JsonStreamContext context = documentParser.getParsingContext();
+        if (token.isStructStart()) {
+            context = context.getParent();
+        }
+        return context.inObject() && context.getParent() != null && context.getParent().inRoot();
+    }
+
+    private void readHeaderField(String fieldName, JsonToken token) throws IOException {
+        JsonNodeFactory nodeFactory = JsonNodeFactory.instance;
+        switch (token) {
+            case VALUE_STRING -> header.set(fieldName, nodeFactory.textNode(documentParser.getText()));
+            case VALUE_NUMBER_INT -> header.set(fieldName, nodeFactory.numberNode(documentParser.getLongValue()));
+            case VALUE_NUMBER_FLOAT -> header.set(fieldName, nodeFactory.numberNode(documentParser.getDoubleValue()));
+            case VALUE_TRUE, VALUE_FALSE -> header.set(fieldName, nodeFactory.booleanNode(token == JsonToken.VALUE_TRUE));
+            default -> header.set(fieldName, nodeFactory.nullNode());
+        }
+        if (JsonSerializationConstants.VERSION.equals(fieldName) && token == JsonToken.VALUE_STRING) {
+            // documents with an invalid version are reported by the deserializer
+            Optional<Version> cracVersion = JsonImport.parseVersion(documentParser.getText());
+            if (cracVersion.isPresent()) {
+                version = cracVersion.get();
+                schema = getSchema(version);
+            }
+        }
+    }
+
+    private void validateField(String fieldName, JsonNode value) {
+        // the header is validated with each field so that the required fields of the CRAC are present
+        ObjectNode headerAndField = header.deepCopy();
+        headerAndField.set(fieldName, value);
+        validate(headerAndField);
+    }
+
+    private void validate(ObjectNode cracPart) {
+        if (schema != null) {
+            validationErrors.addAll(getValidationErrors(schema, cracPart));
+        }
+    }
+
+    private void validateRemainingFields() throws IOException {
+        while (documentParser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = documentParser.currentName();
+            JsonToken token = documentParser.nextToken();
+            if (token.isScalarValue()) {
+                readHeaderField(fieldName, token);
+            } else {
+                validateField(fieldName, documentParser.readValueAsTree());
+            }
+        }
+        validate(header);
+    }
+
+    private void throwIfInvalid() {
+        if (!validationErrors.isEmpty()) {
+            throw new OpenRaoException("JSON file is not a valid CRAC v%s.%s. Reasons: %s".formatted(version.majorVersion(), version.minorVersion(), String.join("; ", validationErrors)));
+        }
+    }
+}
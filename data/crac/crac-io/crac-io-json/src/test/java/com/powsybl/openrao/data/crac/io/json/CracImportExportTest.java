@@ -638,26 +638,32 @@ class CracImportExportTest {
 
     @Test
     void testImportCracWithErrors() {
-        OpenRaoException exception = assertThrows(OpenRaoException.class,
-            () -> new JsonImport().exists("cracWithErrors.json", CracImportExportTest.class.getResourceAsStream("/cracWithErrors.json")));
-        assertEquals("JSON file is not a valid CRAC v2.5. Reasons: " +
+        // only the header of the CRAC is checked to select the importer, the whole CRAC is validated when imported
+        assertTrue(new JsonImport().exists("cracWithErrors.json", CracImportExportTest.class.getResourceAsStream("/cracWithErrors.json")));
+        Network network = NetworkImportsUtil.createNetworkForJsonRetrocompatibilityTest(0.0);
+        // like deserialization errors, validation errors are reported in the creation context
+        CracCreationContext cracCreationContext = new JsonImport().importData(CracImportExportTest.class.getResourceAsStream("/cracWithErrors.json"), new CracCreationParameters(), network);
+        assertFalse(cracCreationContext.isCreationSuccessful());
+        assertNull(cracCreationContext.getCrac());
+        assertEquals(List.of("[ERROR] JSON file is not a valid CRAC v2.5. Reasons: " +
             "/instants/3/kind: does not have a value in the enumeration [\"PREVENTIVE\", \"OUTAGE\", \"AUTO\", \"CURATIVE\"]; " +
             "/contingencies/1/networkElementsIds/0: integer found, string expected; " +
             "/contingencies/1/networkElementsIds/1: integer found, string expected; " +
-            "/contingencies/2: required property 'networkElementsIds' not found",
-            exception.getMessage());
+            "/contingencies/2: required property 'networkElementsIds' not found"),
+            cracCreationContext.getCreationReport().getReport());
     }
 
     @Test
     void testImportCracWithInitialSetpoint() {
         // From version 2.8, the initial setpoint of a range action is read from the network
-        OpenRaoException exception = assertThrows(OpenRaoException.class,
-            () -> new JsonImport().exists("crac2.8-with-initialsetpoint.json", CracImportExportTest.class.getResourceAsStream("/crac2.8-with-initialsetpoint.json")));
-        assertEquals("JSON file is not a valid CRAC v2.8. Reasons: " +
+        Network network = NetworkImportsUtil.createNetworkForJsonRetrocompatibilityTest(0.0);
+        CracCreationContext cracCreationContext = new JsonImport().importData(CracImportExportTest.class.getResourceAsStream("/crac2.8-with-initialsetpoint.json"), new CracCreationParameters(), network);
+        assertFalse(cracCreationContext.isCreationSuccessful());
+        assertEquals(List.of("[ERROR] JSON file is not a valid CRAC v2.8. Reasons: " +
             "/hvdcRangeActions/0: property 'initialSetpoint' is not defined in the schema and the schema does not allow additional properties; " +
             "/injectionRangeActions/0: property 'initialSetpoint' is not defined in the schema and the schema does not allow additional properties; " +
-            "/counterTradeRangeActions/0: property 'initialSetpoint' is not defined in the schema and the schema does not allow additional properties",
-            exception.getMessage());
+            "/counterTradeRangeActions/0: property 'initialSetpoint' is not defined in the schema and the schema does not allow additional properties"),
+            cracCreationContext.getCreationReport().getReport());
     }
 
     @Test
@@ -22,6 +22,7 @@ import com.powsybl.iidm.network.TwoSides;
 import com.powsybl.openrao.commons.OpenRaoException;
 import com.powsybl.openrao.commons.Unit;
 import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.crac.api.CracCreationContext;
 import com.powsybl.openrao.data.crac.api.Instant;
 import com.powsybl.openrao.data.crac.api.InstantKind;
 import com.powsybl.openrao.data.crac.api.NetworkElement;
@@ -439,10 +440,11 @@ class JsonRetrocompatibilityTest {
         String cracFilePath = "/crac2.10-with_maxtso.json";
         InputStream cracFile = getClass().getResourceAsStream(cracFilePath);
 
-        OpenRaoException exception = assertThrows(OpenRaoException.class, () -> Crac.read(cracFilePath, cracFile, network));
-        assertEquals("JSON file is not a valid CRAC v2.10. Reasons: /ra-usage-limits-per-instant/0: " +
-                         "property 'max-tso' is not defined in the schema and the schema does not allow additional properties",
-                     exception.getMessage());
+        CracCreationContext cracCreationContext = Crac.readWithContext(cracFilePath, cracFile, network);
+        assertFalse(cracCreationContext.isCreationSuccessful());
+        assertEquals(List.of("[ERROR] JSON file is not a valid CRAC v2.10. Reasons: /ra-usage-limits-per-instant/0: " +
+                         "property 'max-tso' is not defined in the schema and the schema does not allow additional properties"),
+                     cracCreationContext.getCreationReport().getReport());
     }
 
     @Test
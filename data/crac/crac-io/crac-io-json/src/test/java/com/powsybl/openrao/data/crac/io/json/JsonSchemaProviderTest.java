@@ -33,23 +33,13 @@ class JsonSchemaProviderTest {
             "/contingencies/2: required property 'networkElementsIds' not found"), validationErrors);
     }
 
-    @Test
-    void testMinimumViableCracFile() throws IOException {
-        Assertions.assertTrue(JsonSchemaProvider.isCracFile(JsonSchemaProviderTest.class.getResourceAsStream("/cracHeader.json")));
-    }
-
-    @Test
-    void testNonCracFile() throws IOException {
-        Assertions.assertFalse(JsonSchemaProvider.isCracFile(JsonSchemaProviderTest.class.getResourceAsStream("/invalidCrac.json")));
-    }
-
     @ParameterizedTest
     @ValueSource(strings = {"v1.0", "v1.1", "v1.2", "v1.3", "v1.4", "v1.5", "v1.6", "v1.7", "v1.8", "v1.9", "v2.0", "v2.1", "v2.2", "v2.3", "v2.4", "v2.5"})
     void validateCrac(String version) throws IOException {
         String majorVersion = version.substring(1, 2);
         String minorVersion = version.substring(3);
         String cracFile = "/retrocompatibility/v%s/crac-v%s.%s.json".formatted(majorVersion, majorVersion, minorVersion);
-        Assertions.assertTrue(JsonSchemaProvider.isCracFile(JsonSchemaProviderTest.class.getResourceAsStream(cracFile)));
+        Assertions.assertTrue(new JsonImport().exists(cracFile, JsonSchemaProviderTest.class.getResourceAsStream(cracFile)));
         Assertions.assertTrue(
             JsonSchemaProvider.getValidationErrors(
                 JsonSchemaProvider.getSchema(new Version(Integer.parseInt(majorVersion), Integer.parseInt(minorVersion))),
@@ -43,16 +43,23 @@ class CnecCreator {
     }
 
     void addCnecs() {
+        // computed once for all branches
+        List<Contingency> contingencies = new ArrayList<>(crac.getContingencies());
+        Map<String, Set<Contingency>> contingenciesPerElementId = getContingenciesPerElementId(contingencies);
+        List<Instant> curativeInstants = specificParameters.getInstants().get(InstantKind.CURATIVE).stream().map(crac::getInstant).toList();
+
         for (Branch<?> branch : network.getBranches()) {
             if (branchShouldBeConsidered(branch)) {
                 try {
-                    CriticalElements.OptimizedMonitored optimizedMonitoredInPreventive = isOptimizedMonitored(branch, null);
+                    BranchVoltageRanges voltageRanges = getVoltageRanges(branch);
+                    CriticalElements.OptimizedMonitored optimizedMonitoredInPreventive = isOptimizedMonitored(branch, null, voltageRanges);
                     addPreventiveCnec(branch, optimizedMonitoredInPreventive.optimized(), optimizedMonitoredInPreventive.monitored());
-                    for (Contingency contingency : crac.getContingencies()) {
-                        if (contingency.getElements().stream().anyMatch(e -> e.getId().equals(branch.getId()))) {
+                    Set<Contingency> trippingContingencies = contingenciesPerElementId.getOrDefault(branch.getId(), Set.of());
+                    for (Contingency contingency : contingencies) {
+                        if (trippingContingencies.contains(contingency)) {
                             continue;
                         }
-                        CriticalElements.OptimizedMonitored optimizedMonitoredAfterContingency = isOptimizedMonitored(branch, contingency);
+                        CriticalElements.OptimizedMonitored optimizedMonitoredAfterContingency = isOptimizedMonitored(branch, contingency, voltageRanges);
                         addPostContingencyCnec(
                             branch,
                             contingency,
@@ -60,13 +67,13 @@ class CnecCreator {
                             optimizedMonitoredAfterContingency.monitored(),
                             crac.getOutageInstant()
                         );
-                        for (String curativeInstantId : specificParameters.getInstants().get(InstantKind.CURATIVE)) {
+                        for (Instant curativeInstant : curativeInstants) {
                             addPostContingencyCnec(
                                 branch,
                                 contingency,
                                 optimizedMonitoredAfterContingency.optimized(),
                                 optimizedMonitoredAfterContingency.monitored(),
-                                crac.getInstant(curativeInstantId)
+                                curativeInstant
                             );
                         }
                     }
@@ -77,24 +84,46 @@ class CnecCreator {
         }
     }
 
+    /**
+     * Indexes the contingencies by the IDs of the elements they trip, so that the contingencies tripping a branch are
+     * found without scanning the elements of all the contingencies for every branch.
+     */
+    private static Map<String, Set<Contingency>> getContingenciesPerElementId(Collection<Contingency> contingencies) {
+        Map<String, Set<Contingency>> contingenciesPerElementId = new HashMap<>();
+        contingencies.forEach(contingency -> contingency.getElements().forEach(
+            element -> contingenciesPerElementId.computeIfAbsent(element.getId(), id -> new HashSet<>()).add(contingency)
+        ));
+        return contingenciesPerElementId;
+    }
+
     private boolean branchShouldBeConsidered(Branch<?> branch) {
         return Utils.branchIsInCountries(branch, specificParameters.getCriticalElements().getCountries().orElse(null))
             && (cracCreationParameters.getDefaultMonitoredSides().contains(TwoSides.ONE) && branch.getSelectedOperationalLimitsGroup1().isPresent()
                 || cracCreationParameters.getDefaultMonitoredSides().contains(TwoSides.TWO) && branch.getSelectedOperationalLimitsGroup2().isPresent());
     }
 
-    private CriticalElements.OptimizedMonitored isOptimizedMonitored(Branch<?> branch, Contingency contingency) {
+    /**
+     * Whether the nominal voltages of the branch are in the ranges of the optimized and of the monitored branches.
+     * They do not depend on the contingency and are thus only computed once per branch.
+     */
+    private record BranchVoltageRanges(boolean inOptimizedRange, boolean inMonitoredRange) {
+    }
+
+    private BranchVoltageRanges getVoltageRanges(Branch<?> branch) {
         CriticalElements params = specificParameters.getCriticalElements();
-        CriticalElements.OptimizedMonitored base = params.isOptimizedOrMonitored(branch, contingency, creationContext);
-        boolean shouldOptimize = base.optimized() && Utils.branchIsInVRange(branch, params.getOptimizedMinV(), params.getOptimizedMaxV());
-        boolean shouldMonitor = base.monitored()
-            && params.getMonitoredMinMaxV().isPresent()
+        boolean inOptimizedRange = Utils.branchIsInVRange(branch, params.getOptimizedMinV(), params.getOptimizedMaxV());
+        boolean inMonitoredRange = params.getMonitoredMinMaxV().isPresent()
             && Utils.branchIsInVRange(
                 branch,
                 params.getMonitoredMinMaxV().orElseThrow().getMin(),
                 params.getMonitoredMinMaxV().orElseThrow().getMax()
             );
-        return new CriticalElements.OptimizedMonitored(shouldOptimize, shouldMonitor);
+        return new BranchVoltageRanges(inOptimizedRange, inMonitoredRange);
+    }
+
+    private CriticalElements.OptimizedMonitored isOptimizedMonitored(Branch<?> branch, Contingency contingency, BranchVoltageRanges voltageRanges) {
+        CriticalElements.OptimizedMonitored base = specificParameters.getCriticalElements().isOptimizedOrMonitored(branch, contingency, creationContext);
+        return new CriticalElements.OptimizedMonitored(base.optimized() && voltageRanges.inOptimizedRange(), base.monitored() && voltageRanges.inMonitoredRange());
     }
 
     private void addPreventiveCnec(Branch<?> branch, boolean optimized, boolean monitored) {
@@ -7,6 +7,7 @@
 
 package com.powsybl.openrao.data.crac.io.network;
 
+import com.powsybl.contingency.Contingency;
 import com.powsybl.glsk.commons.ZonalDataImpl;
 import com.powsybl.iidm.network.Country;
 import com.powsybl.iidm.network.IdentifiableType;
@@ -15,6 +16,7 @@ import com.powsybl.iidm.network.TwoSides;
 import com.powsybl.openrao.commons.Unit;
 import com.powsybl.openrao.data.crac.api.Crac;
 import com.powsybl.openrao.data.crac.api.CracCreationContext;
+import com.powsybl.openrao.data.crac.api.Instant;
 import com.powsybl.openrao.data.crac.api.InstantKind;
 import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
 import com.powsybl.openrao.data.crac.api.parameters.CracCreationParameters;
@@ -112,6 +114,25 @@ class NetworkCracCreatorTest {
         assertEquals(24, crac.getInjectionRangeActions().size());
     }
 
+    @Test
+    void testNoPostContingencyCnecOnTrippedBranch() {
+        importCracFrom("TestCase12Nodes.uct");
+        Set<String> branchIds = new HashSet<>();
+        crac.getFlowCnecs(crac.getPreventiveState()).forEach(cnec -> branchIds.add(cnec.getNetworkElement().getId()));
+        for (Contingency contingency : crac.getContingencies()) {
+            Set<String> trippedElementIds = new HashSet<>();
+            contingency.getElements().forEach(element -> trippedElementIds.add(element.getId()));
+            Set<String> expectedBranchIds = new HashSet<>(branchIds);
+            expectedBranchIds.removeAll(trippedElementIds);
+            for (Instant instant : List.of(crac.getOutageInstant(), crac.getInstant(InstantKind.CURATIVE))) {
+                Set<String> monitoredBranchIds = new HashSet<>();
+                crac.getFlowCnecs(crac.getState(contingency, instant)).forEach(cnec -> monitoredBranchIds.add(cnec.getNetworkElement().getId()));
+                // every branch is monitored after the contingency, except the ones it trips
+                assertEquals(expectedBranchIds, monitoredBranchIds);
+            }
+        }
+    }
+
     private void checkCnec(String id, String neId, InstantKind instantKind, Unit thresholdUnit, double thresholdValue) {
         checkCnec(id, neId, instantKind, thresholdUnit, thresholdValue, thresholdValue);
     }
@@ -15,6 +15,7 @@ import com.powsybl.iidm.network.Injection;
 import com.powsybl.iidm.network.Load;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.openrao.commons.EICode;
+import com.powsybl.openrao.commons.NetworkBusIndex;
 import com.powsybl.openrao.commons.OpenRaoException;
 import com.powsybl.openrao.commons.logs.OpenRaoLoggerProvider;
 import com.powsybl.openrao.data.refprog.referenceprogram.ReferenceProgram;
@@ -82,12 +83,13 @@ public final class GlskVirtualHubs {
 
     private static Map<String, Injection<?>> buildInjectionsMap(VirtualHubsConfiguration virtualHubsConfiguration, Network network) {
         Map<String, Injection<?>> injections = new HashMap<>();
+        NetworkBusIndex networkBusIndex = NetworkBusIndex.of(network);
         virtualHubsConfiguration.getVirtualHubs()
                 .forEach(virtualHub -> {
                     if (virtualHub.nodeName() == null) {
                         OpenRaoLoggerProvider.BUSINESS_WARNS.warn("Virtual hub {} will be ignored as it has no nodeName", virtualHub.eic());
                     } else {
-                        Injection<?> injection = getInjection(network, virtualHub);
+                        Injection<?> injection = getInjection(networkBusIndex, virtualHub);
                         if (injection != null) {
                             injections.put(virtualHub.eic(), injection);
                         }
@@ -106,9 +108,9 @@ public final class GlskVirtualHubs {
         }
     }
 
-    private static Injection<?> getInjection(Network network, VirtualHub virtualHub) {
+    private static Injection<?> getInjection(NetworkBusIndex networkBusIndex, VirtualHub virtualHub) {
 
-        Optional<Bus> bus = findBusById(network, virtualHub.nodeName());
+        Optional<Bus> bus = networkBusIndex.getBus(virtualHub.nodeName());
         if (bus.isPresent()) {
             // virtual hub is on a real network node
             Optional<Load> busLoad = bus.get().getLoadStream().findFirst();
@@ -119,7 +121,7 @@ public final class GlskVirtualHubs {
             return busLoad.get();
         }
 
-        Optional<BoundaryLine> boundaryLine = findBoundaryLineWithXNode(network, virtualHub.nodeName());
+        Optional<BoundaryLine> boundaryLine = networkBusIndex.getBoundaryLine(virtualHub.nodeName());
         if (boundaryLine.isPresent() && !boundaryLine.get().isPaired()) {
             return boundaryLine.get();
         }
@@ -127,17 +129,4 @@ public final class GlskVirtualHubs {
         OpenRaoLoggerProvider.BUSINESS_WARNS.warn("Virtual hub {} cannot be assigned on node {} as it was not found in the network", virtualHub.eic(), virtualHub.nodeName());
         return null;
     }
-
-    private static Optional<Bus> findBusById(Network network, String id) {
-        return network.getVoltageLevelStream()
-            .flatMap(vl -> vl.getBusBreakerView().getBusStream())
-            .filter(bus -> bus.getId().equals(id))
-            .findFirst();
-    }
-
-    private static Optional<BoundaryLine> findBoundaryLineWithXNode(Network network, String xNodeId) {
-        return network.getBoundaryLineStream()
-            .filter(boundaryLine -> boundaryLine.getPairingKey().equals(xNodeId))
-            .findFirst();
-    }
 }
@@ -10,6 +10,7 @@ package com.powsybl.openrao.data.icsimporter;
 import com.powsybl.iidm.network.Bus;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.openrao.commons.OpenRaoException;
+import com.powsybl.openrao.commons.SharedExecutor;
 import com.powsybl.openrao.commons.TemporalData;
 import com.powsybl.openrao.commons.TemporalDataImpl;
 import com.powsybl.openrao.data.crac.api.Crac;
@@ -19,7 +20,6 @@ import com.powsybl.openrao.data.timecoupledconstraints.GeneratorConstraints;
 import com.powsybl.openrao.raoapi.LazyNetwork;
 import com.powsybl.openrao.raoapi.RaoInput;
 import com.powsybl.openrao.raoapi.TimeCoupledRaoInput;
-import org.apache.commons.csv.CSVRecord;
 
 import java.nio.file.Path;
 import java.time.OffsetDateTime;
@@ -34,30 +34,32 @@ import static com.powsybl.openrao.data.icsimporter.IcsUtil.*;
  */
 public final class IcsData {
 
-    private static Map<String, Map<String, CSVRecord>> timeseriesPerIdAndType;
+    private static final Path TEMP_DIR = Path.of(System.getProperty("java.io.tmpdir"));
+
+    private static Map<String, RedispatchingSeries> seriesPerId;
     private static Map<String, Map<String, Double>> weightPerNodePerGsk;
-    private static Map<String, CSVRecord> staticConstraintPerId;
+    private static Map<String, RedispatchingStaticData> staticConstraintPerId;
     private static Set<String> redispatchingActions;
 
     // TODO : either parametrize this or set it to true. May have to change the way it works to import for all curative instants instead of only the last one
     public static boolean importCurative = false;
 
     public IcsData(Set<String> consistentRedispatchingActions,
-                   Map<String, Map<String, CSVRecord>> timeseriesPerIdAndType,
+                   Map<String, RedispatchingSeries> seriesPerId,
                    Map<String, Map<String, Double>> weightPerNodePerGsk,
-                   Map<String, CSVRecord> staticConstraintPerId) {
+                   Map<String, RedispatchingStaticData> staticConstraintPerId) {
         this.redispatchingActions = consistentRedispatchingActions;
         this.staticConstraintPerId = staticConstraintPerId;
-        this.timeseriesPerIdAndType = timeseriesPerIdAndType;
+        this.seriesPerId = seriesPerId;
         this.weightPerNodePerGsk = weightPerNodePerGsk;
     }
 
-    public Map<String, CSVRecord> getStaticConstraintPerId() {
+    public Map<String, RedispatchingStaticData> getStaticConstraintPerId() {
         return staticConstraintPerId;
     }
 
-    public static Map<String, Map<String, CSVRecord>> getTimeseriesPerIdAndType() {
-        return timeseriesPerIdAndType;
+    public static Map<String, RedispatchingSeries> getSeriesPerId() {
+        return seriesPerId;
     }
 
     public Map<String, Map<String, Double>> getWeightPerNodePerGsk() {
@@ -73,11 +75,11 @@ public final class IcsData {
     }
 
     public static boolean isRaDefinedOnANode(String raId) {
-        return staticConstraintPerId.get(raId).get(RD_DESCRIPTION_MODE).equalsIgnoreCase(NODE);
+        return staticConstraintPerId.get(raId).isDefinedOnANode();
     }
 
     public static String getNodeIdOrGskIdFromRaId(String raId) {
-        return staticConstraintPerId.get(raId).get(UCT_NODE_OR_GSK_ID);
+        return staticConstraintPerId.get(raId).nodeOrGskId();
     }
 
     public static Map<String, Double> getWeightPerNode(String raId) {
@@ -111,29 +113,17 @@ public final class IcsData {
         for (Map.Entry<String, Double> entry : weightPerNode.entrySet()) {
             String nodeId = entry.getKey();
             Double shiftKey = entry.getValue();
-            CSVRecord staticRecord = staticConstraintPerId.get(raId);
+            RedispatchingStaticData staticData = staticConstraintPerId.get(raId);
             GeneratorConstraints.GeneratorConstraintsBuilder builder = GeneratorConstraints.create().withGeneratorId(networkElementIdPerNodeId.get(nodeId));
 
             // Shutdown allowed and startup allowed are mandatory fields
-            builder.withShutDownAllowed(Boolean.parseBoolean(staticRecord.get(SHUTDOWN_ALLOWED)));
-            builder.withStartUpAllowed(Boolean.parseBoolean(staticRecord.get(STARTUP_ALLOWED)));
+            builder.withShutDownAllowed(staticData.shutDownAllowed());
+            builder.withStartUpAllowed(staticData.startUpAllowed());
 
-            if (!staticRecord.get(MAXIMUM_POSITIVE_POWER_GRADIENT).isEmpty()) {
-                builder.withUpwardPowerGradient(shiftKey * parseDoubleWithPossibleCommas(staticRecord.get(MAXIMUM_POSITIVE_POWER_GRADIENT)));
-            } else {
-                builder.withUpwardPowerGradient(shiftKey * MAX_GRADIENT);
-            }
-            if (!staticRecord.get(MAXIMUM_NEGATIVE_POWER_GRADIENT).isEmpty()) {
-                builder.withDownwardPowerGradient(-shiftKey * parseDoubleWithPossibleCommas(staticRecord.get(MAXIMUM_NEGATIVE_POWER_GRADIENT)));
-            } else {
-                builder.withDownwardPowerGradient(-shiftKey * MAX_GRADIENT);
-            }
-            if (!staticRecord.get(LEAD_TIME).isEmpty()) {
-                builder.withLeadTime(parseDoubleWithPossibleCommas(staticRecord.get(LEAD_TIME)));
-            }
-            if (!staticRecord.get(LAG_TIME).isEmpty()) {
-                builder.withLagTime(parseDoubleWithPossibleCommas(staticRecord.get(LAG_TIME)));
-            }
+            builder.withUpwardPowerGradient(shiftKey * staticData.maximumPositivePowerGradient().orElse(MAX_GRADIENT));
+            builder.withDownwardPowerGradient(-shiftKey * staticData.maximumNegativePowerGradient().orElse(MAX_GRADIENT));
+            staticData.leadTime().ifPresent(builder::withLeadTime);
+            staticData.lagTime().ifPresent(builder::withLagTime);
 
             GeneratorConstraints generatorConstraints = builder.build();
             generatorConstraintsSet.add(generatorConstraints);
@@ -154,7 +144,7 @@ public final class IcsData {
                                                                               String raId) {
 
         Map<String, String> networkElementPerGskElement = new HashMap<>();
-        Map<String, CSVRecord> seriesPerType = timeseriesPerIdAndType.get(raId);
+        RedispatchingSeries series = seriesPerId.get(raId);
         Map<String, Double> weightPerNode = getWeightPerNode(raId);
 
         for (Map.Entry<String, Double> entry : weightPerNode.entrySet()) {
@@ -173,11 +163,10 @@ public final class IcsData {
                     return Map.of();
                 }
 
-                int index = dateTime.getHour() + OFFSET;
                 // p0 values checked during IcsData import
-                Double p0 = parseDoubleWithPossibleCommas(seriesPerType.get(P0).get(index)) * shiftKey;
+                Double p0 = series.getP0(dateTime) * shiftKey;
                 // pMin can be undefined
-                Optional<Double> pMinRd = IcsUtil.parseValue(seriesPerType, P_MIN_RD, dateTime, shiftKey);
+                Optional<Double> pMinRd = series.getPMinRd(dateTime, shiftKey);
                 processBus(bus, generatorId, p0, Math.max(ON_POWER_THRESHOLD, pMinRd.orElse(ON_POWER_THRESHOLD)));
             }
 
@@ -202,39 +191,46 @@ public final class IcsData {
                                                                  double costUp,
                                                                  double costDown) {
 
-        CSVRecord staticRecord = staticConstraintPerId.get(raId);
-        Map<String, CSVRecord> seriesPerType = timeseriesPerIdAndType.get(raId);
-        Map<String, Double> weightPerNode = getWeightPerNode(raId);
+        cracToModify.getDataPerTimestamp().forEach((dateTime, crac) ->
+            createInjectionRangeActionAndUpdateCrac(crac, dateTime, raId, networkElementPerNode, costUp, costDown));
+    }
 
-        cracToModify.getDataPerTimestamp().forEach((dateTime, crac) -> {
-            double p0 = parseDoubleWithPossibleCommas(seriesPerType.get(P0).get(dateTime.getHour() + OFFSET));
-            InjectionRangeActionAdder injectionRangeActionAdder = crac.newInjectionRangeAction()
-                .withId(raId + RD_SUFFIX)
-                .withName(staticRecord.get(GENERATOR_NAME))
-                .withInitialSetpoint(p0)
-                .withVariationCost(costUp, VariationDirection.UP)
-                .withVariationCost(costDown, VariationDirection.DOWN)
-                .newRange()
-                .withMin(Math.max(0.0, p0 - parseDoubleWithPossibleCommas(seriesPerType.get(RDP_DOWN).get(dateTime.getHour() + OFFSET))))
-                .withMax(p0 + parseDoubleWithPossibleCommas(seriesPerType.get(RDP_UP).get(dateTime.getHour() + OFFSET)))
-                .add();
+    private static void createInjectionRangeActionAndUpdateCrac(Crac crac,
+                                                                OffsetDateTime dateTime,
+                                                                String raId,
+                                                                Map<String, String> networkElementPerNode,
+                                                                double costUp,
+                                                                double costDown) {
+        RedispatchingStaticData staticData = staticConstraintPerId.get(raId);
+        RedispatchingSeries series = seriesPerId.get(raId);
+
+        double p0 = series.getP0(dateTime);
+        InjectionRangeActionAdder injectionRangeActionAdder = crac.newInjectionRangeAction()
+            .withId(raId + RD_SUFFIX)
+            .withName(staticData.generatorName())
+            .withInitialSetpoint(p0)
+            .withVariationCost(costUp, VariationDirection.UP)
+            .withVariationCost(costDown, VariationDirection.DOWN)
+            .newRange()
+            .withMin(Math.max(0.0, p0 - series.getRdpDown(dateTime)))
+            .withMax(p0 + series.getRdpUp(dateTime))
+            .add();
+
+        getWeightPerNode(raId).forEach((nodeId, shiftKey) -> {
+            injectionRangeActionAdder.withNetworkElementAndKey(shiftKey, networkElementPerNode.get(nodeId));
+        });
 
-            weightPerNode.forEach((nodeId, shiftKey) -> {
-                injectionRangeActionAdder.withNetworkElementAndKey(shiftKey, networkElementPerNode.get(nodeId));
-            });
+        injectionRangeActionAdder.newOnInstantUsageRule()
+            .withInstant(crac.getPreventiveInstant().getId())
+            .add();
 
+        if (importCurative && staticData.curative()) {
             injectionRangeActionAdder.newOnInstantUsageRule()
-                .withInstant(crac.getPreventiveInstant().getId())
+                .withInstant(crac.getLastInstant().getId())
                 .add();
+        }
 
-            if (importCurative && staticRecord.get(CURATIVE).equalsIgnoreCase(TRUE)) {
-                injectionRangeActionAdder.newOnInstantUsageRule()
-                    .withInstant(crac.getLastInstant().getId())
-                    .add();
-            }
-
-            injectionRangeActionAdder.add();
-        });
+        injectionRangeActionAdder.add();
     }
 
     /**
@@ -253,6 +249,23 @@ public final class IcsData {
                                                               double costUp,
                                                               double costDown,
                                                               String exportDirectory) {
+        return processAllRedispatchingActions(timeCoupledRaoInput, costUp, costDown, exportDirectory, LazyNetwork.StorageFormat.JIIDM, 1);
+    }
+
+    /**
+     * Same as {@link #processAllRedispatchingActions(TimeCoupledRaoInput, double, double, String)}, with the format in
+     * which the networks are stored while they are modified and exported, and the number of threads used to fill the
+     * CRACs of the different timestamps.
+     *
+     * @param storageFormat The format of the temporary copies of the networks and of the exported networks.
+     * @param parallelism The number of threads used to create the injection range actions in the CRACs.
+     */
+    public TimeCoupledRaoInput processAllRedispatchingActions(TimeCoupledRaoInput timeCoupledRaoInput,
+                                                              double costUp,
+                                                              double costDown,
+                                                              String exportDirectory,
+                                                              LazyNetwork.StorageFormat storageFormat,
+                                                              int parallelism) {
 
         // Update nominal voltage in network
         // TODO: More of a IDCC focused special processing ? Move elsewhere ?
@@ -260,7 +273,7 @@ public final class IcsData {
         timeCoupledRaoInput.getRaoInputs().getDataPerTimestamp().forEach((dateTime, raoInput) -> {
             Network network = raoInput.getNetwork();
             updateNominalVoltage(network);
-            modifiedInitialNetworks.put(dateTime, new LazyNetwork(network));
+            modifiedInitialNetworks.put(dateTime, new LazyNetwork(network, storageFormat, TEMP_DIR));
             IcsUtil.closeNetwork(network);
         });
 
@@ -269,20 +282,28 @@ public final class IcsData {
             cracToModify.put(dateTime, raoInput.getCrac());
         });
 
-        // For each redispatching actions defined in static csv update networks and update cracs
+        // For each redispatching actions defined in static csv update networks
+        Map<String, Map<String, String>> generatorIdPerNodePerRa = new LinkedHashMap<>();
         redispatchingActions.forEach(raId -> {
 
             // Create generator and load in networks
             Map<String, String> generatorIdPerNode = createGeneratorAndLoadAndUpdateNetworks(modifiedInitialNetworks, raId);
             // One of the node could not be find no need to create injection range actions and generator constraint.
-            if (generatorIdPerNode.isEmpty()) {
-                return;
+            if (!generatorIdPerNode.isEmpty()) {
+                generatorIdPerNodePerRa.put(raId, generatorIdPerNode);
             }
+        });
 
-            // Create Injection Range Actions in CRACs
-            createInjectionRangeActionsAndUpdateCracs(cracToModify, raId, generatorIdPerNode, costUp, costDown);
+        // Create Injection Range Actions in CRACs: each CRAC only depends on its own timestamp, so they are filled in parallel
+        List<Map.Entry<OffsetDateTime, Crac>> cracEntries = List.copyOf(cracToModify.getDataPerTimestamp().entrySet());
+        SharedExecutor.current().map(cracEntries, cracEntry -> {
+            generatorIdPerNodePerRa.forEach((raId, generatorIdPerNode) ->
+                createInjectionRangeActionAndUpdateCrac(cracEntry.getValue(), cracEntry.getKey(), raId, generatorIdPerNode, costUp, costDown));
+            return cracEntry.getKey();
+        }, parallelism, false);
 
-            // Create generator constraints and them to time coupled rao input
+        // Create generator constraints and them to time coupled rao input
+        generatorIdPerNodePerRa.forEach((raId, generatorIdPerNode) -> {
             Set<GeneratorConstraints> generatorConstraintsSet = createGeneratorConstraints(raId, generatorIdPerNode);
             generatorConstraintsSet.forEach(generatorConstraints -> timeCoupledRaoInput.getTimeCoupledConstraints().addGeneratorConstraints(generatorConstraints));
         });
@@ -290,8 +311,8 @@ public final class IcsData {
         TemporalData<RaoInput> postIcsRaoInputs = new TemporalDataImpl<>();
 
         modifiedInitialNetworks.getDataPerTimestamp().forEach((dateTime, initialNetwork) -> {
-            String exportedNetworkPath = exportDirectory + dateTime.format(DateTimeFormatter.ofPattern("%y%M%d_%H%m%s")) + ".jiidm";
-            initialNetwork.write("JIIDM", new Properties(), Path.of(exportedNetworkPath));
+            String exportedNetworkPath = exportDirectory + dateTime.format(DateTimeFormatter.ofPattern("%y%M%d_%H%m%s")) + storageFormat.getExtension();
+            initialNetwork.write(storageFormat.getFormat(), new Properties(), Path.of(exportedNetworkPath));
             LazyNetwork postIcsNetwork = new LazyNetwork(exportedNetworkPath);
             postIcsRaoInputs.put(dateTime, RaoInput.build(postIcsNetwork, timeCoupledRaoInput.getRaoInputs().getData(dateTime).orElseThrow().getCrac()).build());
             try {
@@ -7,6 +7,7 @@
 
 package com.powsybl.openrao.data.icsimporter;
 
+import com.powsybl.openrao.commons.OpenRaoException;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVRecord;
 
@@ -28,19 +29,15 @@ import static com.powsybl.openrao.commons.logs.OpenRaoLoggerProvider.BUSINESS_WA
 import static com.powsybl.openrao.data.icsimporter.IcsUtil.CURATIVE;
 import static com.powsybl.openrao.data.icsimporter.IcsUtil.FALSE;
 import static com.powsybl.openrao.data.icsimporter.IcsUtil.GENERATOR_NAME;
-import static com.powsybl.openrao.data.icsimporter.IcsUtil.GSK;
 import static com.powsybl.openrao.data.icsimporter.IcsUtil.GSK_ID;
 import static com.powsybl.openrao.data.icsimporter.IcsUtil.LAG_TIME;
 import static com.powsybl.openrao.data.icsimporter.IcsUtil.LEAD_TIME;
 import static com.powsybl.openrao.data.icsimporter.IcsUtil.MAXIMUM_NEGATIVE_POWER_GRADIENT;
 import static com.powsybl.openrao.data.icsimporter.IcsUtil.MAXIMUM_POSITIVE_POWER_GRADIENT;
 import static com.powsybl.openrao.data.icsimporter.IcsUtil.MAX_GRADIENT;
-import static com.powsybl.openrao.data.icsimporter.IcsUtil.NODE;
-import static com.powsybl.openrao.data.icsimporter.IcsUtil.OFFSET;
 import static com.powsybl.openrao.data.icsimporter.IcsUtil.ON_POWER_THRESHOLD;
 import static com.powsybl.openrao.data.icsimporter.IcsUtil.P0;
 import static com.powsybl.openrao.data.icsimporter.IcsUtil.PREVENTIVE;
-import static com.powsybl.openrao.data.icsimporter.IcsUtil.P_MIN_RD;
 import static com.powsybl.openrao.data.icsimporter.IcsUtil.RA_RD_ID;
 import static com.powsybl.openrao.data.icsimporter.IcsUtil.RDP_DOWN;
 import static com.powsybl.openrao.data.icsimporter.IcsUtil.RDP_UP;
@@ -50,7 +47,6 @@ import static com.powsybl.openrao.data.icsimporter.IcsUtil.STARTUP_ALLOWED;
 import static com.powsybl.openrao.data.icsimporter.IcsUtil.TRUE;
 import static com.powsybl.openrao.data.icsimporter.IcsUtil.UCT_NODE_OR_GSK_ID;
 import static com.powsybl.openrao.data.icsimporter.IcsUtil.parseDoubleWithPossibleCommas;
-import static com.powsybl.openrao.data.icsimporter.IcsUtil.parseValue;
 
 /**
  * @author Roxane Chen {@literal <roxane.chen at rte-france.com>}
@@ -78,72 +74,91 @@ public final class IcsDataImporter {
      * @param sortedTimestampToRun the list of timestamps to consider
      * @return an {@code IcsData} instance
      * @throws IOException if an issue occurs while reading or processing the input streams.
+     * @throws OpenRaoException if a numeric value of the static or series csv cannot be parsed.
      */
     public static IcsData read(InputStream staticInputStream,
                                InputStream seriesInputStream,
                                InputStream gskInputStream,
                                List<OffsetDateTime> sortedTimestampToRun) throws IOException {
 
-        // Parse and sort  per serie type (RDP-, RDP+, Pmin_RD or P0) and per RA_ID
-        Map<String, Map<String, CSVRecord>> timeseriesPerIdAndType = parseSeriesCsv(seriesInputStream);
+        // Parse the series (RDP-, RDP+, Pmin_RD or P0) per RA_ID
+        Map<String, RedispatchingSeries> seriesPerId = parseSeriesCsv(seriesInputStream);
         // Parse GSK and get weight Per Node Per Gsk
         Map<String, Map<String, Double>> weightPerNodePerGsk = new HashMap<>();
         if (gskInputStream != null) {
             weightPerNodePerGsk = parseGskCsv(gskInputStream);
         }
         // Parse static CSV: remedial action’s generator’s static constraints. one line per RA_ID
-        Map<String, CSVRecord> staticConstraintPerId = parseStaticCsv(staticInputStream);
+        Map<String, RedispatchingStaticData> staticDataPerId = parseStaticCsv(staticInputStream);
 
-        Set<String> consistentRAs = filterRedispatchingActions(staticConstraintPerId, timeseriesPerIdAndType, weightPerNodePerGsk, sortedTimestampToRun);
+        Set<String> consistentRAs = filterRedispatchingActions(staticDataPerId, seriesPerId, weightPerNodePerGsk, sortedTimestampToRun);
 
-        return new IcsData(consistentRAs, timeseriesPerIdAndType, weightPerNodePerGsk, staticConstraintPerId);
+        return new IcsData(consistentRAs, seriesPerId, weightPerNodePerGsk, staticDataPerId);
 
     }
 
-    static Set<String> filterRedispatchingActions(Map<String, CSVRecord> staticConstraintPerId,
-                                                  Map<String, Map<String, CSVRecord>> timeseriesPerIdAndType,
+    static Set<String> filterRedispatchingActions(Map<String, RedispatchingStaticData> staticDataPerId,
+                                                  Map<String, RedispatchingSeries> seriesPerId,
                                                   Map<String, Map<String, Double>> weightPerNodePerGsk,
                                                   List<OffsetDateTime> sortedTimestampToRun) {
         // Get a set of consistent redispatching action ID.
         Set<String> raToImport = new HashSet<>();
-        staticConstraintPerId.forEach((raId, record) -> {
-            if (shouldBeImported(record, sortedTimestampToRun, weightPerNodePerGsk, timeseriesPerIdAndType)) {
+        staticDataPerId.forEach((raId, staticData) -> {
+            if (shouldBeImported(staticData, sortedTimestampToRun, weightPerNodePerGsk, seriesPerId)) {
                 raToImport.add(raId);
             }
         });
         // Remove inconsistent RAs from the data structures
-        staticConstraintPerId.entrySet().removeIf(entry -> !raToImport.contains(entry.getKey()));
-        timeseriesPerIdAndType.entrySet().removeIf(entry -> !raToImport.contains(entry.getKey()));
+        staticDataPerId.entrySet().removeIf(entry -> !raToImport.contains(entry.getKey()));
+        seriesPerId.entrySet().removeIf(entry -> !raToImport.contains(entry.getKey()));
         return raToImport;
     }
 
-    static Map<String, CSVRecord> parseStaticCsv(InputStream staticInputStream) throws IOException {
-        Iterable<CSVRecord> staticCsvRecords = csvFormat.parse(new InputStreamReader(staticInputStream));
-        Map<String, CSVRecord> filteredStaticCsvRecords = new HashMap<>();
-        staticCsvRecords.forEach(record -> filteredStaticCsvRecords.put(record.get(RA_RD_ID), record));
-        return filteredStaticCsvRecords;
+    /**
+     * Reads the static csv line by line. Lines with missing mandatory fields or invalid boolean fields are logged
+     * and skipped, the other ones are indexed by RA_ID.
+     */
+    static Map<String, RedispatchingStaticData> parseStaticCsv(InputStream staticInputStream) throws IOException {
+        Map<String, RedispatchingStaticData> staticDataPerId = new HashMap<>();
+        for (CSVRecord staticRecord : csvFormat.parse(new InputStreamReader(staticInputStream))) {
+            String raId = staticRecord.get(RA_RD_ID);
+            if (hasValidMandatoryFields(staticRecord)) {
+                staticDataPerId.put(raId, new RedispatchingStaticData(
+                    raId,
+                    staticRecord.get(PREVENTIVE).equalsIgnoreCase(TRUE),
+                    staticRecord.get(CURATIVE).equalsIgnoreCase(TRUE),
+                    staticRecord.get(GENERATOR_NAME),
+                    staticRecord.get(RD_DESCRIPTION_MODE),
+                    staticRecord.get(UCT_NODE_OR_GSK_ID),
+                    staticRecord.get(STARTUP_ALLOWED).equalsIgnoreCase(TRUE),
+                    staticRecord.get(SHUTDOWN_ALLOWED).equalsIgnoreCase(TRUE),
+                    parseOptionalStaticValue(staticRecord, MAXIMUM_POSITIVE_POWER_GRADIENT),
+                    parseOptionalStaticValue(staticRecord, MAXIMUM_NEGATIVE_POWER_GRADIENT),
+                    parseOptionalStaticValue(staticRecord, LEAD_TIME),
+                    parseOptionalStaticValue(staticRecord, LAG_TIME)));
+            } else {
+                // the last line of a RA_ID is the one that is considered
+                staticDataPerId.remove(raId);
+            }
+        }
+        return staticDataPerId;
     }
 
-    static Map<String, Map<String, CSVRecord>> parseSeriesCsv(InputStream seriesInputStream) throws IOException {
-        Iterable<CSVRecord> seriesCsvRecords = csvFormat.parse(new InputStreamReader(seriesInputStream));
-
-        Map<String, Map<String, CSVRecord>> seriesPerIdAndType = new HashMap<>();
-        seriesCsvRecords.forEach(csvRecord -> {
-            seriesPerIdAndType.putIfAbsent(csvRecord.get(RA_RD_ID), new HashMap<>());
-            seriesPerIdAndType.get(csvRecord.get(RA_RD_ID)).put(csvRecord.get("Type of timeseries"), csvRecord);
-        });
-
-        return seriesPerIdAndType;
+    static Map<String, RedispatchingSeries> parseSeriesCsv(InputStream seriesInputStream) throws IOException {
+        Map<String, RedispatchingSeries> seriesPerId = new HashMap<>();
+        for (CSVRecord csvRecord : csvFormat.parse(new InputStreamReader(seriesInputStream))) {
+            seriesPerId.computeIfAbsent(csvRecord.get(RA_RD_ID), RedispatchingSeries::new)
+                .addSeries(csvRecord.get("Type of timeseries"), csvRecord);
+        }
+        return seriesPerId;
     }
 
     static Map<String, Map<String, Double>> parseGskCsv(InputStream gskInputStream) throws IOException {
-        Iterable<CSVRecord> gskCsvRecords = csvFormat.parse(new InputStreamReader(gskInputStream));
         Map<String, Map<String, Double>> weightPerNodePerGsk = new HashMap<>();
-        gskCsvRecords.forEach(record -> {
-            weightPerNodePerGsk.putIfAbsent(record.get(GSK_ID), new HashMap<>());
-            weightPerNodePerGsk.get(record.get(GSK_ID)).put(record.get("Node"), parseDoubleWithPossibleCommas(record.get("Weight")));
-        });
-
+        for (CSVRecord gskRecord : csvFormat.parse(new InputStreamReader(gskInputStream))) {
+            weightPerNodePerGsk.computeIfAbsent(gskRecord.get(GSK_ID), gskId -> new HashMap<>())
+                .put(gskRecord.get("Node"), parseDoubleWithPossibleCommas(gskRecord.get("Weight")));
+        }
         return weightPerNodePerGsk;
     }
 
@@ -151,8 +166,7 @@ public final class IcsDataImporter {
         return value.equalsIgnoreCase(TRUE) || value.equalsIgnoreCase(FALSE);
     }
 
-    // Consistency check functions
-    private static boolean shouldBeImported(CSVRecord staticRecord, List<OffsetDateTime> sortedTimestampToRun, Map<String, Map<String, Double>> weightPerNodePerGsk, Map<String, Map<String, CSVRecord>> timeseriesPerIdAndType) {
+    private static boolean hasValidMandatoryFields(CSVRecord staticRecord) {
         String raId = staticRecord.get(RA_RD_ID);
 
         // Check static record mandatory fields : Preventive, curative, Generator Name, RD Description mode, UCT Node or GSK ID, Startup allowed and Shutdown allowed
@@ -173,18 +187,36 @@ public final class IcsDataImporter {
                 return false;
             }
         }
+        return true;
+    }
+
+    private static Optional<Double> parseOptionalStaticValue(CSVRecord staticRecord, String field) {
+        String value = staticRecord.get(field);
+        if (value.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(parseDoubleWithPossibleCommas(value));
+        } catch (NumberFormatException e) {
+            throw new OpenRaoException(String.format("Redispatching action %s has an invalid '%s' value '%s'", staticRecord.get(RA_RD_ID), field, value), e);
+        }
+    }
+
+    // Consistency check functions
+    private static boolean shouldBeImported(RedispatchingStaticData staticData, List<OffsetDateTime> sortedTimestampToRun, Map<String, Map<String, Double>> weightPerNodePerGsk, Map<String, RedispatchingSeries> seriesPerId) {
+        String raId = staticData.raId();
 
         // Check that remedial action is defined in series csv and gsk (if defined on a gsk)
-        if (!timeseriesPerIdAndType.containsKey(raId)) {
+        if (!seriesPerId.containsKey(raId)) {
             BUSINESS_WARNS.warn("Redispatching action {} is not imported: not defined in the time series csv", raId);
             return false;
         }
 
         // Check that mandatory timeseries type (P0, RDP_DOWN, RDP_UP) are defined in the time series csv
-        Map<String, CSVRecord> seriesPerType = timeseriesPerIdAndType.get(raId);
-        boolean isDefinedInSeriesCsv = seriesPerType.containsKey(P0) &&
-            seriesPerType.containsKey(RDP_DOWN) &&
-            seriesPerType.containsKey(RDP_UP);
+        RedispatchingSeries series = seriesPerId.get(raId);
+        boolean isDefinedInSeriesCsv = series.isDefined(P0) &&
+            series.isDefined(RDP_DOWN) &&
+            series.isDefined(RDP_UP);
 
         if (!isDefinedInSeriesCsv) {
             BUSINESS_WARNS.warn("Redispatching action {} is not imported: missing one or several mandatory timeseries type (P0, RDP_DOWN, RDP_UP).", raId);
@@ -194,10 +226,8 @@ public final class IcsDataImporter {
         // Check that data exists for all timestamps to run
         List<String> mandatorySeriesTypes = List.of(P0, RDP_DOWN, RDP_UP);
         for (OffsetDateTime timestamp : sortedTimestampToRun) {
-            int columnName = timestamp.getHour() + OFFSET;
             for (String seriesType : mandatorySeriesTypes) {
-                String value = seriesPerType.get(seriesType).get(columnName);
-                if (value == null || value.isEmpty()) {
+                if (Double.isNaN(series.getValue(seriesType, timestamp))) {
                     BUSINESS_WARNS.warn("Redispatching action {} is not imported: missing {} data for timestamp {}", raId, seriesType, timestamp);
                     return false;
                 }
@@ -205,44 +235,44 @@ public final class IcsDataImporter {
         }
 
         // If remedial action is defined on a gsk
-        if (staticRecord.get(RD_DESCRIPTION_MODE).equalsIgnoreCase(GSK)) {
+        if (staticData.isDefinedOnAGsk()) {
             // Check that the gsk is defined in the gsk csv
-            if (!weightPerNodePerGsk.containsKey(staticRecord.get(UCT_NODE_OR_GSK_ID))) {
-                BUSINESS_WARNS.warn("Redispatching action {} is not imported: defined on a gsk {} but the gsk is not defined in the gsk csv", raId, staticRecord.get(UCT_NODE_OR_GSK_ID));
+            if (!weightPerNodePerGsk.containsKey(staticData.nodeOrGskId())) {
+                BUSINESS_WARNS.warn("Redispatching action {} is not imported: defined on a gsk {} but the gsk is not defined in the gsk csv", raId, staticData.nodeOrGskId());
                 return false;
             }
 
             // Check that the sum of weight if RA is defined on GSK equals to 1
-            if (!sumOfGskEqualsOne(staticRecord.get(UCT_NODE_OR_GSK_ID), weightPerNodePerGsk)) {
+            if (!sumOfGskEqualsOne(staticData.nodeOrGskId(), weightPerNodePerGsk)) {
                 BUSINESS_WARNS.warn("Redispatching action {} is not imported: defined on a GSK but sum of weights is not equal to 1", raId);
                 return false;
             }
 
             // Check GSK generators' P0
-            while (dropInconsistentNodes(raId, staticRecord.get(UCT_NODE_OR_GSK_ID), seriesPerType, weightPerNodePerGsk, sortedTimestampToRun)) {
+            while (dropInconsistentNodes(raId, staticData.nodeOrGskId(), series, weightPerNodePerGsk, sortedTimestampToRun)) {
                 // do nothing, wait for gsks to be finalized
             }
         }
 
         // Check that remedial action should at least be defined on preventive instant
-        if (!staticRecord.get(PREVENTIVE).equalsIgnoreCase(TRUE)) {
+        if (!staticData.preventive()) {
             BUSINESS_WARNS.warn("Redispatching action {} is not imported: not defined on preventive instant", raId);
             return false;
         }
 
         // Check that the remedial action is defined on a node or a gsk
-        if (!staticRecord.get(RD_DESCRIPTION_MODE).equalsIgnoreCase(NODE) && !staticRecord.get(RD_DESCRIPTION_MODE).equalsIgnoreCase(GSK)) {
-            BUSINESS_WARNS.warn("Redispatching action {} is not imported: not defined on a node or a gsk but on a {}", raId, staticRecord.get(RD_DESCRIPTION_MODE));
+        if (!staticData.isDefinedOnANode() && !staticData.isDefinedOnAGsk()) {
+            BUSINESS_WARNS.warn("Redispatching action {} is not imported: not defined on a node or a gsk but on a {}", raId, staticData.rdDescriptionMode());
             return false;
         }
 
         // Check that the range of redispatching parameters is valid
-        if (!rangeIsOkay(seriesPerType, sortedTimestampToRun)) {
+        if (!rangeIsOkay(series, sortedTimestampToRun)) {
             return false;
         }
 
         // Check that P0 respects generator constraints
-        if (!p0RespectsConstraints(staticRecord, seriesPerType, sortedTimestampToRun)) {
+        if (!p0RespectsConstraints(staticData, series, sortedTimestampToRun)) {
             return false;
         }
 
@@ -256,15 +286,14 @@ public final class IcsDataImporter {
      *
      * @param raId
      * @param gskId
-     * @param seriesPerType The series record containing time series data, mapped per RA_ID and series type
-     *                     (e.g., RDP-, RDP+, Pmin_RD, or P0).
+     * @param series The time series of the redispatching action (RDP-, RDP+, Pmin_RD and P0).
      * @param weightPerNodePerGsk
      * @param dateTimes A list of timestamps to evaluate the gradient between consecutive entries in the P0 record.
 
      * @return {@code true} if weightPerNodePerGsk has been modified : a node has been dropped.
      *         {@code false} otherwise.
      */
-    private static boolean dropInconsistentNodes(String raId, String gskId, Map<String, CSVRecord> seriesPerType, Map<String, Map<String, Double>> weightPerNodePerGsk, List<OffsetDateTime> dateTimes) {
+    private static boolean dropInconsistentNodes(String raId, String gskId, RedispatchingSeries series, Map<String, Map<String, Double>> weightPerNodePerGsk, List<OffsetDateTime> dateTimes) {
         Map<String, Double> sortedByWeight = weightPerNodePerGsk.get(gskId).entrySet().stream().sorted(Map.Entry.comparingByValue())
                 .collect(Collectors.toMap(
                         Map.Entry::getKey, Map.Entry::getValue, (e1, e2) -> e1, LinkedHashMap::new));
@@ -273,8 +302,8 @@ public final class IcsDataImporter {
 
             while (dateTimeIterator.hasNext()) {
                 OffsetDateTime currentDateTime = dateTimeIterator.next();
-                double currentP0 = parseDoubleWithPossibleCommas(seriesPerType.get(P0).get(currentDateTime.getHour() + OFFSET));
-                Optional<Double> pMinRD = parseValue(seriesPerType, P_MIN_RD, currentDateTime, 1);
+                double currentP0 = series.getP0(currentDateTime);
+                Optional<Double> pMinRD = series.getPMinRd(currentDateTime, 1);
                 double pMin = Math.max(ON_POWER_THRESHOLD, pMinRD.orElse(ON_POWER_THRESHOLD));
                 // RA defined on ON state
                 if (currentP0 >= pMin) {
@@ -323,38 +352,34 @@ public final class IcsDataImporter {
      * - Lead time is defined but not respected, i.e before start up, P0 is below Pmin for less than Lead time.
      * - Lag time is defined but not respected, i.e after shut down, P0 is below Pmin for less than Lag time + Lead time.
      *
-     * @param staticRecord The static record containing gradient constraints, including the maximum positive
+     * @param staticData The static data containing gradient constraints, including the maximum positive
      *                     and minimum negative power gradients.
-     * @param seriesRecord The series record containing time series data, mapped per RA_ID and series type
-     *                     (e.g., RDP-, RDP+, Pmin_RD, or P0).
+     * @param series The time series of the redispatching action (RDP-, RDP+, Pmin_RD and P0).
      * @param dateTimes A list of timestamps to evaluate the gradient between consecutive entries in the P0 record.
      * @return {@code true} if the P0 record respects the specified constraints for all timestamps;
      *         {@code false} otherwise.
      */
-    private static boolean p0RespectsConstraints(CSVRecord staticRecord, Map<String, CSVRecord> seriesRecord, List<OffsetDateTime> dateTimes) {
+    private static boolean p0RespectsConstraints(RedispatchingStaticData staticData, RedispatchingSeries series, List<OffsetDateTime> dateTimes) {
         // Generator constraints varaibles
         double timestampDuration = IcsUtil.computeTimestampDuration(dateTimes);
-        Boolean shutDownAllowed = Boolean.parseBoolean(staticRecord.get(SHUTDOWN_ALLOWED));
-        Boolean startUpAllowed = Boolean.parseBoolean(staticRecord.get(STARTUP_ALLOWED));
+        Boolean shutDownAllowed = staticData.shutDownAllowed();
+        Boolean startUpAllowed = staticData.startUpAllowed();
         Optional<Integer> lead = Optional.empty();
         Optional<Integer> lagAndLead = Optional.empty();
-        Optional<Double> parsedLead = Optional.empty();
-        if (!staticRecord.get(LEAD_TIME).isEmpty()) {
-            parsedLead = Optional.of(parseDoubleWithPossibleCommas(staticRecord.get(LEAD_TIME)));
+        Optional<Double> parsedLead = staticData.leadTime();
+        if (parsedLead.isPresent()) {
             lead = Optional.of((int) Math.ceil(parsedLead.get() / timestampDuration));
         }
-        if (!staticRecord.get(LAG_TIME).isEmpty()) {
-            double parsedLag = parseDoubleWithPossibleCommas(staticRecord.get(LAG_TIME));
+        if (staticData.lagTime().isPresent()) {
+            double parsedLag = staticData.lagTime().get();
             double parsedLagAndLead = parsedLead.map(aDouble -> aDouble + parsedLag).orElse(parsedLag);
             lagAndLead = Optional.of((int) Math.ceil(parsedLagAndLead / timestampDuration));
         }
-        double maxGradient = staticRecord.get(MAXIMUM_POSITIVE_POWER_GRADIENT).isEmpty() ?
-                MAX_GRADIENT : parseDoubleWithPossibleCommas(staticRecord.get(MAXIMUM_POSITIVE_POWER_GRADIENT));
-        double minGradient = staticRecord.get(MAXIMUM_NEGATIVE_POWER_GRADIENT).isEmpty() ?
-                -MAX_GRADIENT : -parseDoubleWithPossibleCommas(staticRecord.get(MAXIMUM_NEGATIVE_POWER_GRADIENT));
+        double maxGradient = staticData.maximumPositivePowerGradient().orElse(MAX_GRADIENT);
+        double minGradient = -staticData.maximumNegativePowerGradient().orElse(MAX_GRADIENT);
 
         if (maxGradient == 0.0 && minGradient == 0.0) {
-            BUSINESS_WARNS.warn("Redispatching action {} is not imported: set-point cannot vary because of null gradient constraints", staticRecord.get(0));
+            BUSINESS_WARNS.warn("Redispatching action {} is not imported: set-point cannot vary because of null gradient constraints", staticData.raId());
             return false;
         }
 
@@ -364,31 +389,31 @@ public final class IcsDataImporter {
 
         Iterator<OffsetDateTime> dateTimeIterator = dateTimes.iterator();
         OffsetDateTime currentDateTime = dateTimeIterator.next();
-        boolean allValuesAreNullSinceFirstP0 = parseDoubleWithPossibleCommas(seriesRecord.get(P0).get(currentDateTime.getHour() + OFFSET)) < ON_POWER_THRESHOLD;
+        boolean allValuesAreNullSinceFirstP0 = series.getP0(currentDateTime) < ON_POWER_THRESHOLD;
 
         while (dateTimeIterator.hasNext()) {
             OffsetDateTime nextDateTime = dateTimeIterator.next();
-            double nextP0 = parseDoubleWithPossibleCommas(seriesRecord.get(P0).get(nextDateTime.getHour() + OFFSET));
-            double currentP0 = parseDoubleWithPossibleCommas(seriesRecord.get(P0).get(currentDateTime.getHour() + OFFSET));
-            Optional<Double> pMinRD = parseValue(seriesRecord, P_MIN_RD, currentDateTime, 1);
+            double nextP0 = series.getP0(nextDateTime);
+            double currentP0 = series.getP0(currentDateTime);
+            Optional<Double> pMinRD = series.getPMinRd(currentDateTime, 1);
             double pMin = Math.max(ON_POWER_THRESHOLD, pMinRD.orElse(ON_POWER_THRESHOLD));
-            Optional<Double> nextPminPD = parseValue(seriesRecord, P_MIN_RD, nextDateTime, 1);
+            Optional<Double> nextPminPD = series.getPMinRd(nextDateTime, 1);
             double nextPmin = Math.max(ON_POWER_THRESHOLD, nextPminPD.orElse(ON_POWER_THRESHOLD));
 
             // 1. Filter out negative p0
             if (currentP0 < 0) {
                 BUSINESS_WARNS.warn("Redispatching action {} is not imported (hour {}): P0 ({}) is negative",
-                        staticRecord.get(0), currentDateTime.getHour(), currentP0);
+                        staticData.raId(), currentDateTime.getHour(), currentP0);
                 return false;
             }
 
             // 2. Check gradients
-            if (!areGradientsRespected(staticRecord, nextP0, currentP0, pMin, nextPmin, maxGradient, minGradient, currentDateTime)) {
+            if (!areGradientsRespected(staticData, nextP0, currentP0, pMin, nextPmin, maxGradient, minGradient, currentDateTime)) {
                 return false;
             }
 
             // 3. Check Pmin is respected
-            if (!isPminRespected(staticRecord, currentP0, pMin, currentDateTime)) {
+            if (!isPminRespected(staticData, currentP0, pMin, currentDateTime)) {
                 return false;
             }
 
@@ -402,14 +427,14 @@ public final class IcsDataImporter {
                 allValuesAreNullSinceFirstP0 = false;
             }
             if (currentP0 < pMin && nextP0 >= pMin) {
-                if (!isStartUpRespected(staticRecord, startUpAllowed, currentDateTime)) {
+                if (!isStartUpRespected(staticData, startUpAllowed, currentDateTime)) {
                     return false;
                 }
-                if (!isLeadTimeRespected(staticRecord, lead, allValuesAreNullSinceFirstP0, countConsecutiveNullValues, currentDateTime)) {
+                if (!isLeadTimeRespected(staticData, lead, allValuesAreNullSinceFirstP0, countConsecutiveNullValues, currentDateTime)) {
                     return false;
                 }
                 if (countLag) {
-                    if (!isLeadTimeAndLagTimeRespected(staticRecord, countConsecutiveNullValues, lagAndLead, currentDateTime)) {
+                    if (!isLeadTimeAndLagTimeRespected(staticData, countConsecutiveNullValues, lagAndLead, currentDateTime)) {
                         return false;
                     }
                     // Re-initialize
@@ -420,7 +445,7 @@ public final class IcsDataImporter {
             // a) Check shut down is allowed
             // activate lag time + lead time checking
             if (currentP0 >= pMin && nextP0 < pMin) {
-                if (!isShutDownRespected(staticRecord, shutDownAllowed, currentDateTime)) {
+                if (!isShutDownRespected(staticData, shutDownAllowed, currentDateTime)) {
                     return false;
                 }
                 if (lagAndLead.isPresent()) {
@@ -436,59 +461,59 @@ public final class IcsDataImporter {
         }
 
         // Last timestamp
-        double currentP0 = parseDoubleWithPossibleCommas(seriesRecord.get(P0).get(currentDateTime.getHour() + OFFSET));
-        Optional<Double> pMinRD = parseValue(seriesRecord, P_MIN_RD, currentDateTime, 1);
+        double currentP0 = series.getP0(currentDateTime);
+        Optional<Double> pMinRD = series.getPMinRd(currentDateTime, 1);
         double pMin = Math.max(ON_POWER_THRESHOLD, pMinRD.orElse(ON_POWER_THRESHOLD));
-        return isPminRespected(staticRecord, currentP0, pMin, currentDateTime);
+        return isPminRespected(staticData, currentP0, pMin, currentDateTime);
     }
 
-    private static boolean isShutDownRespected(CSVRecord staticRecord, Boolean shutDownAllowed, OffsetDateTime currentDateTime) {
+    private static boolean isShutDownRespected(RedispatchingStaticData staticData, Boolean shutDownAllowed, OffsetDateTime currentDateTime) {
         if (!shutDownAllowed) {
             BUSINESS_WARNS.warn("Redispatching action {} is not imported (hour {}): shut down prohibited",
-                    staticRecord.get(0), currentDateTime.getHour());
+                    staticData.raId(), currentDateTime.getHour());
             return false;
         }
         return true;
     }
 
-    private static boolean isLeadTimeAndLagTimeRespected(CSVRecord staticRecord, int countConsecutiveNullValues, Optional<Integer> lagAndLead, OffsetDateTime currentDateTime) {
+    private static boolean isLeadTimeAndLagTimeRespected(RedispatchingStaticData staticData, int countConsecutiveNullValues, Optional<Integer> lagAndLead, OffsetDateTime currentDateTime) {
         if (lagAndLead.isPresent() && countConsecutiveNullValues < lagAndLead.get()) {
             BUSINESS_WARNS.warn("Redispatching action {} is not imported (hour {}): lagTime + leadTime ({}) not respected. RA was OFF after shut down for only {} timestamps",
-                    staticRecord.get(0), currentDateTime.getHour(), lagAndLead.get(), countConsecutiveNullValues);
+                    staticData.raId(), currentDateTime.getHour(), lagAndLead.get(), countConsecutiveNullValues);
             return false;
         }
         return true;
     }
 
-    private static boolean isLeadTimeRespected(CSVRecord staticRecord, Optional<Integer> lead, boolean allValuesAreNullSinceFirstP0, int countConsecutiveNullValues, OffsetDateTime currentDateTime) {
+    private static boolean isLeadTimeRespected(RedispatchingStaticData staticData, Optional<Integer> lead, boolean allValuesAreNullSinceFirstP0, int countConsecutiveNullValues, OffsetDateTime currentDateTime) {
         // The generator is initially oFF and we don't know when it was last shut down> no lead check.
         if (allValuesAreNullSinceFirstP0) {
             return true;
         }
         if (lead.isPresent() && countConsecutiveNullValues < lead.get()) {
             BUSINESS_WARNS.warn("Redispatching action {} is not imported (hour {}): leadTime ({}) not respected. RA was OFF before start up for only {} timestamps",
-                    staticRecord.get(0), currentDateTime.getHour(), lead.get(), countConsecutiveNullValues);
+                    staticData.raId(), currentDateTime.getHour(), lead.get(), countConsecutiveNullValues);
             return false;
         }
         return true;
     }
 
-    private static boolean isStartUpRespected(CSVRecord staticRecord, Boolean startUpAllowed, OffsetDateTime currentDateTime) {
+    private static boolean isStartUpRespected(RedispatchingStaticData staticData, Boolean startUpAllowed, OffsetDateTime currentDateTime) {
         if (!startUpAllowed) {
             BUSINESS_WARNS.warn("Redispatching action {} is not imported (hour {}): start up prohibited",
-                    staticRecord.get(0), currentDateTime.getHour());
+                    staticData.raId(), currentDateTime.getHour());
             return false;
         }
         return true;
     }
 
-    private static boolean areGradientsRespected(CSVRecord staticRecord, double nextP0, double currentP0, double pMin, double nextPmin, double maxGradient, double minGradient, OffsetDateTime currentDateTime) {
+    private static boolean areGradientsRespected(RedispatchingStaticData staticData, double nextP0, double currentP0, double pMin, double nextPmin, double maxGradient, double minGradient, OffsetDateTime currentDateTime) {
         double diff = nextP0 - currentP0;
         // ON -> ON check
         if (currentP0 >= pMin && nextP0 >= nextPmin && (diff > maxGradient || diff < minGradient)) {
             BUSINESS_WARNS.warn(
                     "Redispatching action {} is not imported (hour {}): does not respect power gradients : min/max/diff = {} / {} / {}",
-                    staticRecord.get(0), currentDateTime.getHour(), minGradient, maxGradient, diff
+                    staticData.raId(), currentDateTime.getHour(), minGradient, maxGradient, diff
             );
             return false;
         }
@@ -500,7 +525,7 @@ public final class IcsDataImporter {
             if (onDiff > maxGradient || onDiff < minGradient) {
                 BUSINESS_WARNS.warn(
                     "Redispatching action {} is not imported (hour {}): does not respect power gradients : min/max/diff = {} / {} / {}",
-                    staticRecord.get(0), currentDateTime.getHour(), minGradient, maxGradient, onDiff
+                    staticData.raId(), currentDateTime.getHour(), minGradient, maxGradient, onDiff
                 );
                 return false;
             }
@@ -513,7 +538,7 @@ public final class IcsDataImporter {
             if (onDiff > maxGradient || onDiff < minGradient) {
                 BUSINESS_WARNS.warn(
                     "Redispatching action {} is not imported (hour {}): does not respect power gradients : min/max/diff = {} / {} / {}",
-                    staticRecord.get(0), currentDateTime.getHour(), minGradient, maxGradient, onDiff
+                    staticData.raId(), currentDateTime.getHour(), minGradient, maxGradient, onDiff
                 );
                 return false;
             }
@@ -522,10 +547,10 @@ public final class IcsDataImporter {
         return true;
     }
 
-    private static boolean isPminRespected(CSVRecord staticRecord, double currentP0, double pMin, OffsetDateTime currentDateTime) {
+    private static boolean isPminRespected(RedispatchingStaticData staticData, double currentP0, double pMin, OffsetDateTime currentDateTime) {
         if (currentP0 > 0.0 && currentP0 < pMin) {
             BUSINESS_WARNS.warn("Redispatching action {} is not imported (hour {}): does not respect Pmin : P0 is {} and Pmin at {} (generator must be either off or with its power greater or equal than its minimal value)",
-                    staticRecord.get(0), currentDateTime.getHour(), currentP0, pMin);
+                    staticData.raId(), currentDateTime.getHour(), currentP0, pMin);
             return false;
         }
         return true;
@@ -535,25 +560,24 @@ public final class IcsDataImporter {
      * Verifies whether the range of redispatching parameters is valid for the input time series,
      * ensuring that redispatching values are non-negative and exceed a minimum threshold.
      *
-     * @param seriesPerType A map where keys are series types (e.g., RDP+ or RDP-) and values are time-series data (CSVRecord)
-     *                      corresponding to these types.
+     * @param series The time series of the redispatching action, containing the RDP+ and RDP- series.
      * @param dateTimes A list of timestamps to evaluate the redispatching parameters at specific hours within a day.
      * @return {@code true} if the range of redispatching values is valid and meets the defined constraints;
      *         {@code false} otherwise.
      */
-    private static boolean rangeIsOkay(Map<String, CSVRecord> seriesPerType, List<OffsetDateTime> dateTimes) {
+    private static boolean rangeIsOkay(RedispatchingSeries series, List<OffsetDateTime> dateTimes) {
         double maxRange = 0.;
         for (OffsetDateTime dateTime : dateTimes) {
-            double rdpPlus = parseDoubleWithPossibleCommas(seriesPerType.get(RDP_UP).get(dateTime.getHour() + OFFSET));
-            double rdpMinus = parseDoubleWithPossibleCommas(seriesPerType.get(RDP_DOWN).get(dateTime.getHour() + OFFSET));
+            double rdpPlus = series.getRdpUp(dateTime);
+            double rdpMinus = series.getRdpDown(dateTime);
             maxRange = Math.max(maxRange, rdpPlus + rdpMinus);
             if (rdpPlus < -1e-6 || rdpMinus < -1e-6) {
-                BUSINESS_WARNS.warn("Redispatching action {} is not imported (hour {}): RDP+ {} or RDP- {} is negative for datetime {}", seriesPerType.get(P0).get(RA_RD_ID), dateTime.getHour(), rdpPlus, rdpMinus, dateTime);
+                BUSINESS_WARNS.warn("Redispatching action {} is not imported (hour {}): RDP+ {} or RDP- {} is negative for datetime {}", series.getRaId(), dateTime.getHour(), rdpPlus, rdpMinus, dateTime);
                 return false;
             }
         }
         if (maxRange < 1) {
-            BUSINESS_WARNS.warn("Redispatching action {} is not imported: max range in the day {} MW is too small", seriesPerType.get(P0).get(RA_RD_ID), maxRange);
+            BUSINESS_WARNS.warn("Redispatching action {} is not imported: max range in the day {} MW is too small", series.getRaId(), maxRange);
             return false;
         }
         return true;
@@ -10,17 +10,13 @@ package com.powsybl.openrao.data.icsimporter;
 import com.powsybl.iidm.network.Bus;
 import com.powsybl.iidm.network.LoadType;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.openrao.commons.NetworkBusIndex;
 import com.powsybl.openrao.commons.OpenRaoException;
 import com.powsybl.openrao.raoapi.LazyNetwork;
-import org.apache.commons.csv.CSVRecord;
 
 import java.time.OffsetDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
-
-import static com.powsybl.openrao.commons.logs.OpenRaoLoggerProvider.BUSINESS_WARNS;
 
 /**
  * @author Roxane Chen {@literal <roxane.chen at rte-france.com>}
@@ -63,39 +59,14 @@ public final class IcsUtil {
     public static final String GENERATOR_NAME = "Generator Name";
     public static final String RD_SUFFIX = "_RD";
 
-    static Optional<Double> parseValue(Map<String, CSVRecord> seriesPerType, String key, OffsetDateTime timestamp, double shiftKey) {
-        if (seriesPerType.containsKey(key)) {
-            CSVRecord series = seriesPerType.get(key);
-            String value = series.get(timestamp.getHour() + OFFSET);
-            if (value != null && !value.isEmpty()) {
-                return Optional.of(parseDoubleWithPossibleCommas(value) * shiftKey);
-            } else {
-                BUSINESS_WARNS.warn("Redispatching action {} is missing {} value for datetime {}", series.get(RA_RD_ID), key, timestamp);
-                return Optional.empty();
-            }
-        }
-        return Optional.empty();
-    }
-
     static double parseDoubleWithPossibleCommas(String string) {
         return Double.parseDouble(string.replace(",", "."));
     }
 
     // TODO: make this more robust (and less UCTE dependent)
     static Bus findBus(String nodeId, Network network) {
-        // First try to get the bus in bus breaker view
-        Bus bus = network.getBusBreakerView().getBus(nodeId);
-        if (bus != null) {
-            return bus;
-        }
-
-        // Then, if last char is *, remove it
-        String modifiedNodeId = nodeId;
-        if (nodeId.endsWith("*")) {
-            modifiedNodeId = nodeId.substring(0, nodeId.length() - 1);
-        }
-        // Try to find the bus using bus view
-        return network.getBusBreakerView().getBus(modifiedNodeId + " ");
+        // the bus with this id, or else with this UCTE node code (without its wildcard, completed with blank spaces)
+        return NetworkBusIndex.of(network).getBusByUcteNodeCode(nodeId).orElse(null);
     }
 
     static void processBus(Bus bus, String generatorId, Double p0, double pMinRd) {
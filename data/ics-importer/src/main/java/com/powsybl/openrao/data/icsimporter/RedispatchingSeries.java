@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.icsimporter;
+
+import com.powsybl.openrao.commons.OpenRaoException;
+import org.apache.commons.csv.CSVRecord;
+
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.powsybl.openrao.commons.logs.OpenRaoLoggerProvider.BUSINESS_WARNS;
+import static com.powsybl.openrao.data.icsimporter.IcsUtil.OFFSET;
+import static com.powsybl.openrao.data.icsimporter.IcsUtil.P0;
+import static com.powsybl.openrao.data.icsimporter.IcsUtil.P_MIN_RD;
+import static com.powsybl.openrao.data.icsimporter.IcsUtil.RDP_DOWN;
+import static com.powsybl.openrao.data.icsimporter.IcsUtil.RDP_UP;
+import static com.powsybl.openrao.data.icsimporter.IcsUtil.parseDoubleWithPossibleCommas;
+
+/**
+ * Time series of a redispatching action, parsed from the series CSV records as they are read and indexed by
+ * hour of the day. Missing values are stored as {@code NaN}, unreadable values are rejected when the series is read.
+ * The series are not modified once the ICS data is read, so they can be read concurrently for all the timestamps.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class RedispatchingSeries {
+    static final Set<String> SERIES_TYPES = Set.of(P0, RDP_UP, RDP_DOWN, P_MIN_RD);
+
+    private final String raId;
+    private final Map<String, double[]> valuesPerType = new HashMap<>();
+
+    RedispatchingSeries(String raId) {
+        this.raId = raId;
+    }
+
+    /**
+     * Parses the values of a series CSV record and stores them under its series type.
+     * Records of other series types are ignored.
+     *
+     * @throws OpenRaoException if one of the values is not a number
+     */
+    void addSeries(String seriesType, CSVRecord csvRecord) {
+        if (!SERIES_TYPES.contains(seriesType)) {
+            return;
+        }
+        double[] values = new double[Math.max(0, csvRecord.size() - OFFSET)];
+        Arrays.fill(values, Double.NaN);
+        for (int hour = 0; hour < values.length; hour++) {
+            String value = csvRecord.get(hour + OFFSET);
+            if (value != null && !value.isEmpty()) {
+                try {
+                    values[hour] = parseDoubleWithPossibleCommas(value);
+                } catch (NumberFormatException e) {
+                    throw new OpenRaoException(String.format("Redispatching action %s has an invalid %s value '%s' for hour %d", raId, seriesType, value, hour), e);
+                }
+            }
+        }
+        valuesPerType.put(seriesType, values);
+    }
+
+    public String getRaId() {
+        return raId;
+    }
+
+    public boolean isDefined(String seriesType) {
+        return valuesPerType.containsKey(seriesType);
+    }
+
+    /**
+     * Value of the given series at the given timestamp, {@code NaN} if the series or the value is missing.
+     */
+    public double getValue(String seriesType, OffsetDateTime timestamp) {
+        double[] values = valuesPerType.get(seriesType);
+        int hour = timestamp.getHour();
+        return values != null && hour < values.length ? values[hour] : Double.NaN;
+    }
+
+    public double getP0(OffsetDateTime timestamp) {
+        return getValue(P0, timestamp);
+    }
+
+    public double getRdpUp(OffsetDateTime timestamp) {
+        return getValue(RDP_UP, timestamp);
+    }
+
+    public double getRdpDown(OffsetDateTime timestamp) {
+        return getValue(RDP_DOWN, timestamp);
+    }
+
+    /**
+     * Pmin_RD of the redispatching action at the given timestamp, if defined. A warning is logged if the Pmin_RD
+     * series is defined but has no value for this timestamp.
+     */
+    public Optional<Double> getPMinRd(OffsetDateTime timestamp, double shiftKey) {
+        if (!isDefined(P_MIN_RD)) {
+            return Optional.empty();
+        }
+        double value = getValue(P_MIN_RD, timestamp);
+        if (Double.isNaN(value)) {
+            BUSINESS_WARNS.warn("Redispatching action {} is missing {} value for datetime {}", raId, P_MIN_RD, timestamp);
+            return Optional.empty();
+        }
+        return Optional.of(value * shiftKey);
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.icsimporter;
+
+import java.util.Optional;
+
+import static com.powsybl.openrao.data.icsimporter.IcsUtil.GSK;
+import static com.powsybl.openrao.data.icsimporter.IcsUtil.NODE;
+
+/**
+ * Static constraints of a redispatching action's generator, as read from one line of the static CSV.
+ * Optional numeric values are empty when they are not filled in the CSV.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public record RedispatchingStaticData(String raId,
+                                      boolean preventive,
+                                      boolean curative,
+                                      String generatorName,
+                                      String rdDescriptionMode,
+                                      String nodeOrGskId,
+                                      boolean startUpAllowed,
+                                      boolean shutDownAllowed,
+                                      Optional<Double> maximumPositivePowerGradient,
+                                      Optional<Double> maximumNegativePowerGradient,
+                                      Optional<Double> leadTime,
+                                      Optional<Double> lagTime) {
+
+    public boolean isDefinedOnANode() {
+        return rdDescriptionMode.equalsIgnoreCase(NODE);
+    }
+
+    public boolean isDefinedOnAGsk() {
+        return rdDescriptionMode.equalsIgnoreCase(GSK);
+    }
+}
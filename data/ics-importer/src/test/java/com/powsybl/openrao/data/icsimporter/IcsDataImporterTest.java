@@ -11,8 +11,8 @@ import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.read.ListAppender;
 
+import com.powsybl.openrao.commons.OpenRaoException;
 import com.powsybl.openrao.commons.logs.RaoBusinessWarns;
-import org.apache.commons.csv.CSVRecord;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -22,12 +22,14 @@ import org.slf4j.LoggerFactory;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -64,45 +66,122 @@ public class IcsDataImporterTest {
 
     @Test
     void testParseSeriesCsv() throws IOException {
-        Map<String, Map<String, CSVRecord>> result = IcsDataImporter.parseSeriesCsv(getClass().getResourceAsStream("/ics/series.csv"));
+        Map<String, RedispatchingSeries> result = IcsDataImporter.parseSeriesCsv(getClass().getResourceAsStream("/ics/series.csv"));
 
         assertEquals(1, result.size());
         assertTrue(result.containsKey("Redispatching_RA"));
 
-        Map<String, CSVRecord> redispatchingRaSeries = result.get("Redispatching_RA");
-        assertEquals(4, redispatchingRaSeries.size());
-        assertTrue(redispatchingRaSeries.containsKey("RDP-"));
-        assertTrue(redispatchingRaSeries.containsKey("RDP+"));
-        assertTrue(redispatchingRaSeries.containsKey("P0"));
-        assertTrue(redispatchingRaSeries.containsKey("Pmin_RD"));
-
-        assertEquals("35", redispatchingRaSeries.get("RDP-").get("00:30"));
-        assertEquals("43", redispatchingRaSeries.get("RDP+").get("00:30"));
-        assertEquals("116", redispatchingRaSeries.get("P0").get("00:30"));
-        assertEquals("10", redispatchingRaSeries.get("Pmin_RD").get("00:30"));
-
-        assertEquals("39", redispatchingRaSeries.get("RDP-").get("23:30"));
-        assertEquals("39", redispatchingRaSeries.get("RDP+").get("23:30"));
-        assertEquals("120", redispatchingRaSeries.get("P0").get("23:30"));
-        assertEquals("30", redispatchingRaSeries.get("Pmin_RD").get("23:30"));
+        RedispatchingSeries redispatchingRaSeries = result.get("Redispatching_RA");
+        assertEquals("Redispatching_RA", redispatchingRaSeries.getRaId());
+        assertTrue(redispatchingRaSeries.isDefined("RDP-"));
+        assertTrue(redispatchingRaSeries.isDefined("RDP+"));
+        assertTrue(redispatchingRaSeries.isDefined("P0"));
+        assertTrue(redispatchingRaSeries.isDefined("Pmin_RD"));
+
+        OffsetDateTime firstHour = OffsetDateTime.of(2025, 2, 13, 0, 30, 0, 0, ZoneOffset.UTC);
+        assertEquals(35., redispatchingRaSeries.getRdpDown(firstHour), 1e-6);
+        assertEquals(43., redispatchingRaSeries.getRdpUp(firstHour), 1e-6);
+        assertEquals(116., redispatchingRaSeries.getP0(firstHour), 1e-6);
+        assertEquals(Optional.of(10.), redispatchingRaSeries.getPMinRd(firstHour, 1));
+
+        OffsetDateTime lastHour = OffsetDateTime.of(2025, 2, 13, 23, 30, 0, 0, ZoneOffset.UTC);
+        assertEquals(39., redispatchingRaSeries.getRdpDown(lastHour), 1e-6);
+        assertEquals(39., redispatchingRaSeries.getRdpUp(lastHour), 1e-6);
+        assertEquals(120., redispatchingRaSeries.getP0(lastHour), 1e-6);
+        assertEquals(Optional.of(15.), redispatchingRaSeries.getPMinRd(lastHour, 0.5));
+    }
+
+    @Test
+    void testParseSeriesCsvWithMissingValue() throws IOException {
+        String seriesCsv = """
+            RA RD ID;Type of timeseries;00:30;01:30
+            Redispatching_RA;P0;116;
+            Redispatching_RA;Pmin_RD;;10
+            """;
+        RedispatchingSeries series = IcsDataImporter.parseSeriesCsv(new ByteArrayInputStream(seriesCsv.getBytes(StandardCharsets.UTF_8))).get("Redispatching_RA");
+
+        OffsetDateTime firstHour = OffsetDateTime.of(2025, 2, 13, 0, 30, 0, 0, ZoneOffset.UTC);
+        assertTrue(Double.isNaN(series.getP0(firstHour.plusHours(1))));
+        assertFalse(series.isDefined("RDP+"));
+        assertTrue(Double.isNaN(series.getRdpUp(firstHour)));
+        assertTrue(series.getPMinRd(firstHour, 1).isEmpty());
+        assertEquals("Redispatching action Redispatching_RA is missing Pmin_RD value for datetime 2025-02-13T00:30Z", logsList.get(0).getFormattedMessage());
+    }
+
+    private static Stream<Arguments> seriesCsvWithInvalidValueCases() {
+        String header = """
+            RA RD ID;Type of timeseries;00:30;01:30
+            """;
+
+        String invalidP0Csv = header + """
+            Redispatching_RA;RDP-;35;35
+            Redispatching_RA;RDP+;43;43
+            Redispatching_RA;P0;116;abc
+            """;
+
+        String invalidRdpUpCsv = header + """
+            Redispatching_RA;RDP-;35;35
+            Redispatching_RA;RDP+;4 3;43
+            Redispatching_RA;P0;116;120
+            """;
+
+        String invalidPMinRdCsv = header + """
+            Redispatching_RA;RDP-;35;35
+            Redispatching_RA;RDP+;43;43
+            Redispatching_RA;P0;116;120
+            Redispatching_RA;Pmin_RD;10;N/A
+            """;
+
+        return Stream.of(
+            Arguments.of(invalidP0Csv, "Redispatching action Redispatching_RA has an invalid P0 value 'abc' for hour 1"),
+            Arguments.of(invalidRdpUpCsv, "Redispatching action Redispatching_RA has an invalid RDP+ value '4 3' for hour 0"),
+            Arguments.of(invalidPMinRdCsv, "Redispatching action Redispatching_RA has an invalid Pmin_RD value 'N/A' for hour 1")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("seriesCsvWithInvalidValueCases")
+    void testSeriesCsvWithInvalidValue(String seriesCsv, String expectedMessage) {
+        InputStream staticInputStream = getClass().getResourceAsStream("/ics/static.csv");
+        InputStream seriesInputStream = new ByteArrayInputStream(seriesCsv.getBytes(StandardCharsets.UTF_8));
+        List<OffsetDateTime> timestamps = generateOffsetDateTimeList(2);
+        OpenRaoException exception = assertThrows(OpenRaoException.class, () -> IcsDataImporter.read(staticInputStream, seriesInputStream, null, timestamps));
+        assertEquals(expectedMessage, exception.getMessage());
     }
 
     @Test
     void testParseStaticCsv() throws IOException {
-        Map<String, CSVRecord> result = IcsDataImporter.parseStaticCsv(getClass().getResourceAsStream("/ics/static.csv"));
+        Map<String, RedispatchingStaticData> result = IcsDataImporter.parseStaticCsv(getClass().getResourceAsStream("/ics/static.csv"));
 
         assertEquals(1, result.size());
         assertTrue(result.containsKey("Redispatching_RA"));
 
-        CSVRecord record = result.get("Redispatching_RA");
-        assertEquals("FR", record.get("TSO"));
-        assertEquals("TRUE", record.get("Preventive"));
-        assertEquals("FALSE", record.get("Curative"));
-        assertEquals("Node", record.get("RD description mode"));
-        assertEquals("BBE1AA1", record.get("UCT Node or GSK ID"));
-        assertEquals("50", record.get("Minimum Redispatch [MW]"));
-        assertEquals("TRUE", record.get("Startup allowed"));
-        assertEquals("TRUE", record.get("Shutdown allowed"));
+        RedispatchingStaticData staticData = result.get("Redispatching_RA");
+        assertEquals("Redispatching_RA", staticData.raId());
+        assertTrue(staticData.preventive());
+        assertFalse(staticData.curative());
+        assertEquals("Generator_Name", staticData.generatorName());
+        assertEquals("Node", staticData.rdDescriptionMode());
+        assertTrue(staticData.isDefinedOnANode());
+        assertFalse(staticData.isDefinedOnAGsk());
+        assertEquals("BBE1AA1", staticData.nodeOrGskId());
+        assertTrue(staticData.startUpAllowed());
+        assertTrue(staticData.shutDownAllowed());
+        assertEquals(Optional.of(20.), staticData.maximumPositivePowerGradient());
+        assertEquals(Optional.of(20.), staticData.maximumNegativePowerGradient());
+        assertEquals(Optional.of(2.), staticData.leadTime());
+        assertEquals(Optional.of(1.), staticData.lagTime());
+    }
+
+    @Test
+    void testStaticCsvWithInvalidValue() {
+        String staticCsv = """
+            RA RD ID;TSO;Preventive;Curative;Time From;Time To;Generator Name;RD description mode;UCT Node or GSK ID;Minimum Redispatch [MW];Fuel type;Minimum up-time [h];Minimum down-time [h];Maximum positive power gradient [MW/h];Maximum negative power gradient [MW/h];Lead time [h];Lag time [h];Startup allowed;Shutdown allowed
+            Redispatching_RA;FR;TRUE;FALSE;00:00;24:00:00;Generator_Name;Node;BBE1AA1;50;Coal;2;2;20;20;one;1;TRUE;TRUE
+            """;
+        InputStream staticInputStream = new ByteArrayInputStream(staticCsv.getBytes(StandardCharsets.UTF_8));
+        OpenRaoException exception = assertThrows(OpenRaoException.class, () -> IcsDataImporter.parseStaticCsv(staticInputStream));
+        assertEquals("Redispatching action Redispatching_RA has an invalid 'Lead time [h]' value 'one'", exception.getMessage());
     }
 
     @Test
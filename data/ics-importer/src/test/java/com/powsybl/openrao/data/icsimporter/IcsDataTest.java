@@ -367,7 +367,7 @@ public class IcsDataTest {
             generateOffsetDateTimeList(24));
 
         assertEquals(1, icsData.getStaticConstraintPerId().size());
-        assertEquals(4, icsData.getTimeseriesPerIdAndType().get("Redispatching_RA").size());
+        assertTrue(RedispatchingSeries.SERIES_TYPES.stream().allMatch(icsData.getSeriesPerId().get("Redispatching_RA")::isDefined));
         assertEquals(0, icsData.getWeightPerNodePerGsk().size());
         assertEquals(Set.of("Redispatching_RA"), icsData.getRedispatchingActions());
     }
@@ -385,7 +385,7 @@ public class IcsDataTest {
             generateOffsetDateTimeList(24));
 
         assertEquals(1, icsData.getStaticConstraintPerId().size());
-        assertEquals(4, icsData.getTimeseriesPerIdAndType().get("Redispatching_RA").size());
+        assertTrue(RedispatchingSeries.SERIES_TYPES.stream().allMatch(icsData.getSeriesPerId().get("Redispatching_RA")::isDefined));
         assertEquals(1, icsData.getWeightPerNodePerGsk().size());
         assertEquals(2, icsData.getWeightPerNodePerGsk().get("GSK_NAME").size());
         assertEquals(Map.of("BBE1AA1", 0.6, "FFR1AA1", 0.4), icsData.getWeightPerNodePerGsk().get("GSK_NAME"));
@@ -461,6 +461,57 @@ public class IcsDataTest {
 
     }
 
+    @Test
+    void testCracsFilledInParallelMatchSequentialFilling() throws IOException {
+        String tmpDir = System.getProperty("java.io.tmpdir") + File.separator;
+        TimeCoupledRaoInput sequentialRaoInputs = processAllRedispatchingActionsWithTwoRas(tmpDir + "sequential_", 1);
+        TimeCoupledRaoInput parallelRaoInputs = processAllRedispatchingActionsWithTwoRas(tmpDir + "parallel_", 2);
+
+        for (OffsetDateTime timestamp : List.of(timestamp1, timestamp2)) {
+            Map<String, String> sequentialRangeActions = describeInjectionRangeActions(sequentialRaoInputs.getRaoInputs().getData(timestamp).orElseThrow().getCrac());
+            Map<String, String> parallelRangeActions = describeInjectionRangeActions(parallelRaoInputs.getRaoInputs().getData(timestamp).orElseThrow().getCrac());
+            assertEquals(Set.of("Redispatching_RA_1_RD", "Redispatching_RA_2_RD"), sequentialRangeActions.keySet());
+            assertEquals(sequentialRangeActions, parallelRangeActions);
+        }
+        assertEquals(sequentialRaoInputs.getTimeCoupledConstraints().getGeneratorConstraints().size(), parallelRaoInputs.getTimeCoupledConstraints().getGeneratorConstraints().size());
+    }
+
+    private TimeCoupledRaoInput processAllRedispatchingActionsWithTwoRas(String exportDirectory, int parallelism) throws IOException {
+        Network network0030 = LazyNetwork.of(getResourcePath("/network/2Nodes2ParallelLinesPST_0030.uct"));
+        Network network0130 = LazyNetwork.of(getResourcePath("/network/2Nodes2ParallelLinesPST_0130.uct"));
+        Crac crac0030 = Crac.read("/crac/crac-0030.json", getClass().getResourceAsStream("/crac/crac-0030.json"), network0030);
+        Crac crac0130 = Crac.read("/crac/crac-0130.json", getClass().getResourceAsStream("/crac/crac-0130.json"), network0130);
+        TemporalData<RaoInput> raoInputs = new TemporalDataImpl<>(
+            Map.of(
+                timestamp1, RaoInput.build(network0030, crac0030).build(),
+                timestamp2, RaoInput.build(network0130, crac0130).build()
+            ));
+
+        IcsData icsData = IcsDataImporter.read(
+            getClass().getResourceAsStream("/ics/static_with_two_ra.csv"),
+            getClass().getResourceAsStream("/ics/series_with_two_ra.csv"),
+            getClass().getResourceAsStream("/glsk/gsk.csv"),
+            generateOffsetDateTimeList(2));
+
+        return icsData.processAllRedispatchingActions(new TimeCoupledRaoInput(raoInputs, new TimeCoupledConstraints()), 5., 4., exportDirectory, LazyNetwork.StorageFormat.JIIDM, parallelism);
+    }
+
+    private static Map<String, String> describeInjectionRangeActions(Crac crac) {
+        return crac.getInjectionRangeActions().stream().collect(Collectors.toMap(
+            InjectionRangeAction::getId,
+            injectionRangeAction -> String.join(";",
+                injectionRangeAction.getName(),
+                String.valueOf(injectionRangeAction.getInitialSetpoint()),
+                String.valueOf(injectionRangeAction.getRanges().getFirst().getMin()),
+                String.valueOf(injectionRangeAction.getRanges().getFirst().getMax()),
+                String.valueOf(injectionRangeAction.getVariationCost(VariationDirection.UP).orElseThrow()),
+                String.valueOf(injectionRangeAction.getVariationCost(VariationDirection.DOWN).orElseThrow()),
+                injectionRangeAction.getInjectionDistributionKeys().entrySet().stream()
+                    .map(entry -> entry.getKey().getId() + "=" + entry.getValue())
+                    .sorted()
+                    .collect(Collectors.joining(",")))));
+    }
+
     @Test
     void testProcessAllRedispatchingActionsMissingBusForOneRa() throws IOException {
 
@@ -0,0 +1,544 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.raoresult.io.binary;
+
+import com.powsybl.commons.extensions.AbstractExtendable;
+import com.powsybl.iidm.network.TwoSides;
+import com.powsybl.openrao.commons.OpenRaoException;
+import com.powsybl.openrao.commons.Unit;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.crac.api.Instant;
+import com.powsybl.openrao.data.crac.api.State;
+import com.powsybl.openrao.data.crac.api.cnec.AngleCnec;
+import com.powsybl.openrao.data.crac.api.cnec.Cnec;
+import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
+import com.powsybl.openrao.data.crac.api.cnec.VoltageCnec;
+import com.powsybl.openrao.data.crac.api.networkaction.NetworkAction;
+import com.powsybl.openrao.data.crac.api.rangeaction.PstRangeAction;
+import com.powsybl.openrao.data.crac.api.rangeaction.RangeAction;
+import com.powsybl.openrao.data.raoresult.api.ComputationStatus;
+import com.powsybl.openrao.data.raoresult.api.RaoResult;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.powsybl.openrao.data.raoresult.io.binary.RaoResultBinaryFormat.ANGLE;
+import static com.powsybl.openrao.data.raoresult.io.binary.RaoResultBinaryFormat.ANGLE_COLUMNS;
+import static com.powsybl.openrao.data.raoresult.io.binary.RaoResultBinaryFormat.ANGLE_MARGIN;
+import static com.powsybl.openrao.data.raoresult.io.binary.RaoResultBinaryFormat.COMMERCIAL_FLOW;
+import static com.powsybl.openrao.data.raoresult.io.binary.RaoResultBinaryFormat.FLOW;
+import static com.powsybl.openrao.data.raoresult.io.binary.RaoResultBinaryFormat.FLOW_COLUMNS_PER_UNIT;
+import static com.powsybl.openrao.data.raoresult.io.binary.RaoResultBinaryFormat.LOOP_FLOW;
+import static com.powsybl.openrao.data.raoresult.io.binary.RaoResultBinaryFormat.MARGIN;
+import static com.powsybl.openrao.data.raoresult.io.binary.RaoResultBinaryFormat.MAX_VOLTAGE;
+import static com.powsybl.openrao.data.raoresult.io.binary.RaoResultBinaryFormat.MIN_VOLTAGE;
+import static com.powsybl.openrao.data.raoresult.io.binary.RaoResultBinaryFormat.PTDF_ZONAL_SUM;
+import static com.powsybl.openrao.data.raoresult.io.binary.RaoResultBinaryFormat.PTDF_ZONAL_SUM_COLUMNS;
+import static com.powsybl.openrao.data.raoresult.io.binary.RaoResultBinaryFormat.RELATIVE_MARGIN;
+import static com.powsybl.openrao.data.raoresult.io.binary.RaoResultBinaryFormat.VOLTAGE_COLUMNS;
+import static com.powsybl.openrao.data.raoresult.io.binary.RaoResultBinaryFormat.VOLTAGE_MARGIN;
+
+/**
+ * RAO result backed by the content of a binary RAO result. Only its index is decoded when it is opened: the values of
+ * the CNECs are read directly in their columns on each call, and the record of a remedial action is only decoded the
+ * first time it is needed.
+ * <p>
+ * The results are the same as the ones of the {@code RaoResultImpl} reloaded from the JSON RAO results.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class BinaryRaoResult extends AbstractExtendable<RaoResult> implements RaoResult {
+    private static final int DOUBLE_BYTES = Double.BYTES;
+
+    private final Crac crac;
+
+    private final ComputationStatus computationStatus;
+    private String executionDetails;
+    private final Map<String, Integer> optimizedInstantColumns = new HashMap<>();
+    private final Map<String, CostResult> costResults = new HashMap<>();
+    private final Set<String> virtualCostNames = new HashSet<>();
+    private final List<State> states = new ArrayList<>();
+    private final Map<State, ComputationStatus> computationStatusPerState = new HashMap<>();
+    private final Map<Unit, Integer> flowUnitColumns = new EnumMap<>(Unit.class);
+    private final CnecColumns flowCnecColumns;
+    private final CnecColumns angleCnecColumns;
+    private final CnecColumns voltageCnecColumns;
+    private final Map<NetworkAction, Integer> networkActionOffsets = new LinkedHashMap<>();
+    private final Map<RangeAction<?>, Integer> rangeActionOffsets = new LinkedHashMap<>();
+
+    private final ByteBuffer data;
+    private final Map<NetworkAction, Set<State>> networkActionResults = new ConcurrentHashMap<>();
+    private final Map<RangeAction<?>, RangeActionResult> rangeActionResults = new ConcurrentHashMap<>();
+
+    private record CostResult(double cost, double functionalCost, double virtualCost, Map<String, Double> virtualCosts) {
+    }
+
+    /**
+     * Columns of one kind of CNEC: the rows of the CNECs, and the offset of the columns in the data section
+     */
+    private record CnecColumns(Map<String, Integer> rows, int offset) {
+    }
+
+    /**
+     * Decoded record of a range action, with the setpoints of the states in which it was activated
+     */
+    private record RangeActionResult(double initialSetpoint, Map<State, Double> setpointPerState) {
+    }
+
+    /**
+     * @param content content of the binary RAO result, after its header
+     */
+    BinaryRaoResult(byte[] content, Crac crac) {
+        this.crac = crac;
+        try {
+            ByteBuffer index = ByteBuffer.wrap(content);
+            int indexLength = index.getInt();
+            if (indexLength < 0 || indexLength > index.remaining()) {
+                throw new BufferUnderflowException();
+            }
+            index.limit(index.position() + indexLength);
+
+            computationStatus = ComputationStatus.valueOf(readString(index));
+            executionDetails = readString(index);
+            int optimizedInstantCount = index.getInt();
+            for (int column = 0; column < optimizedInstantCount; column++) {
+                optimizedInstantColumns.put(readString(index), column);
+            }
+            readCosts(index);
+            readComputationStatuses(index);
+            int flowUnitCount = index.getInt();
+            for (int column = 0; column < flowUnitCount; column++) {
+                flowUnitColumns.put(Unit.valueOf(readString(index)), column);
+            }
+            flowCnecColumns = readCnecColumns(index, crac::getFlowCnec, "flowCnec");
+            angleCnecColumns = readCnecColumns(index, crac::getAngleCnec, "angleCnec");
+            voltageCnecColumns = readCnecColumns(index, crac::getVoltageCnec, "voltageCnec");
+            readRecordOffsets(index, crac::getNetworkAction, "networkAction", networkActionOffsets);
+            readRecordOffsets(index, crac::getRangeAction, "rangeAction", rangeActionOffsets);
+            int extensionsLength = index.getInt();
+            if (extensionsLength < 0 || extensionsLength > index.remaining()) {
+                throw new BufferUnderflowException();
+            }
+            byte[] extensions = new byte[extensionsLength];
+            index.get(extensions);
+            int dataLength = index.getInt();
+
+            int dataStart = Integer.BYTES + indexLength;
+            if (dataLength < 0 || dataLength > content.length - dataStart) {
+                throw new BufferUnderflowException();
+            }
+            data = ByteBuffer.wrap(content).slice(dataStart, dataLength);
+            RaoResultExtensions.read(extensions, this);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new OpenRaoException("Binary RAO result is truncated", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String readString(ByteBuffer index) {
+        int length = index.getInt();
+        if (length == -1) {
+            return null;
+        }
+        if (length < 0 || length > index.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        String value = new String(index.array(), index.arrayOffset() + index.position(), length, StandardCharsets.UTF_8);
+        index.position(index.position() + length);
+        return value;
+    }
+
+    private void readCosts(ByteBuffer index) {
+        List<String> names = new ArrayList<>();
+        int virtualCostNameCount = index.getInt();
+        for (int i = 0; i < virtualCostNameCount; i++) {
+            names.add(readString(index));
+        }
+        virtualCostNames.addAll(names);
+        int costInstantCount = index.getInt();
+        for (int i = 0; i < costInstantCount; i++) {
+            String instantId = readString(index);
+            double cost = index.getDouble();
+            double functionalCost = index.getDouble();
+            double virtualCost = index.getDouble();
+            Map<String, Double> virtualCosts = new HashMap<>();
+            for (String name : names) {
+                virtualCosts.put(name, index.getDouble());
+            }
+            costResults.put(instantId, new CostResult(cost, functionalCost, virtualCost, virtualCosts));
+        }
+    }
+
+    private void readComputationStatuses(ByteBuffer index) {
+        Map<String, State> statesById = crac.getStates().stream().collect(Collectors.toMap(State::getId, Function.identity()));
+        int stateCount = index.getInt();
+        for (int row = 0; row < stateCount; row++) {
+            String stateId = readString(index);
+            State state = statesById.get(stateId);
+            if (state == null) {
+                throw new OpenRaoException(String.format("Cannot read binary RAO result: state with id %s does not exist in the Crac", stateId));
+            }
+            states.add(state);
+            computationStatusPerState.put(state, ComputationStatus.valueOf(readString(index)));
+        }
+    }
+
+    private static CnecColumns readCnecColumns(ByteBuffer index, Function<String, ? extends Cnec<?>> cnecGetter, String cnecType) {
+        Map<String, Integer> rows = new HashMap<>();
+        int cnecCount = index.getInt();
+        for (int row = 0; row < cnecCount; row++) {
+            String cnecId = readString(index);
+            if (cnecGetter.apply(cnecId) == null) {
+                throw new OpenRaoException(String.format("Cannot read binary RAO result: %s with id %s does not exist in the Crac", cnecType, cnecId));
+            }
+            rows.put(cnecId, row);
+        }
+        return new CnecColumns(rows, index.getInt());
+    }
+
+    private static <T> void readRecordOffsets(ByteBuffer index, Function<String, T> remedialActionGetter, String remedialActionType, Map<T, Integer> offsets) {
+        int remedialActionCount = index.getInt();
+        for (int i = 0; i < remedialActionCount; i++) {
+            String remedialActionId = readString(index);
+            T remedialAction = remedialActionGetter.apply(remedialActionId);
+            if (remedialAction == null) {
+                throw new OpenRaoException(String.format("Cannot read binary RAO result: %s with id %s does not exist in the Crac", remedialActionType, remedialActionId));
+            }
+            offsets.put(remedialAction, index.getInt());
+        }
+    }
+
+    @Override
+    public ComputationStatus getComputationStatus() {
+        return computationStatus;
+    }
+
+    @Override
+    public ComputationStatus getComputationStatus(State state) {
+        return computationStatusPerState.getOrDefault(state, ComputationStatus.DEFAULT);
+    }
+
+    private Instant checkOptimizedInstant(Instant optimizedInstant, Cnec<?> cnec) {
+        if (optimizedInstant == null) {
+            return null;
+        }
+        Instant instant = optimizedInstant;
+        if (cnec.getState().getInstant().comesBefore(instant)) {
+            instant = cnec.getState().getInstant();
+        }
+        if (instant.isOutage()) {
+            instant = crac.getPreventiveInstant();
+        }
+        return instant;
+    }
+
+    /**
+     * Reads the value of a CNEC in one of the columns of its optimized instant, or NaN if the CNEC or the optimized
+     * instant has no result
+     */
+    private double readCnecValue(CnecColumns cnecColumns, int columnsPerInstant, Instant optimizedInstant, Cnec<?> cnec, int column) {
+        Integer row = cnecColumns.rows().get(cnec.getId());
+        Instant checkedInstant = checkOptimizedInstant(optimizedInstant, cnec);
+        Integer instantColumn = optimizedInstantColumns.get(checkedInstant == null ? INITIAL_INSTANT_ID : checkedInstant.getId());
+        if (row == null || instantColumn == null) {
+            return Double.NaN;
+        }
+        int rowCount = cnecColumns.rows().size();
+        return data.getDouble(cnecColumns.offset() + ((instantColumn * columnsPerInstant + column) * rowCount + row) * DOUBLE_BYTES);
+    }
+
+    private double readFlowCnecValue(Instant optimizedInstant, FlowCnec flowCnec, Unit unit, int column) {
+        Integer unitColumn = flowUnitColumns.get(unit);
+        if (unitColumn == null) {
+            return Double.NaN;
+        }
+        return readCnecValue(flowCnecColumns, PTDF_ZONAL_SUM_COLUMNS + flowUnitColumns.size() * FLOW_COLUMNS_PER_UNIT,
+            optimizedInstant, flowCnec, PTDF_ZONAL_SUM_COLUMNS + unitColumn * FLOW_COLUMNS_PER_UNIT + column);
+    }
+
+    private double readAngleCnecValue(Instant optimizedInstant, AngleCnec angleCnec, Unit unit, int column) {
+        if (!unit.equals(Unit.DEGREE)) {
+            throw new OpenRaoException("Angle results are only available in DEGREE");
+        }
+        return readCnecValue(angleCnecColumns, ANGLE_COLUMNS, optimizedInstant, angleCnec, column);
+    }
+
+    private double readVoltageCnecValue(Instant optimizedInstant, VoltageCnec voltageCnec, Unit unit, int column) {
+        if (!unit.equals(Unit.KILOVOLT)) {
+            throw new OpenRaoException("Voltage results are only available in KILOVOLT");
+        }
+        return readCnecValue(voltageCnecColumns, VOLTAGE_COLUMNS, optimizedInstant, voltageCnec, column);
+    }
+
+    @Override
+    public double getFlow(Instant optimizedInstant, FlowCnec flowCnec, TwoSides side, Unit unit) {
+        return readFlowCnecValue(optimizedInstant, flowCnec, unit, FLOW + side.ordinal());
+    }
+
+    @Override
+    public double getAngle(Instant optimizedInstant, AngleCnec angleCnec, Unit unit) {
+        return readAngleCnecValue(optimizedInstant, angleCnec, unit, ANGLE);
+    }
+
+    @Override
+    public double getMinVoltage(Instant optimizedInstant, VoltageCnec voltageCnec, Unit unit) {
+        return readVoltageCnecValue(optimizedInstant, voltageCnec, unit, MIN_VOLTAGE);
+    }
+
+    @Override
+    public double getMaxVoltage(Instant optimizedInstant, VoltageCnec voltageCnec, Unit unit) {
+        return readVoltageCnecValue(optimizedInstant, voltageCnec, unit, MAX_VOLTAGE);
+    }
+
+    @Override
+    public double getMargin(Instant optimizedInstant, FlowCnec flowCnec, Unit unit) {
+        return readFlowCnecValue(optimizedInstant, flowCnec, unit, MARGIN);
+    }
+
+    @Override
+    public double getMargin(Instant optimizedInstant, AngleCnec angleCnec, Unit unit) {
+        return readAngleCnecValue(optimizedInstant, angleCnec, unit, ANGLE_MARGIN);
+    }
+
+    @Override
+    public double getMargin(Instant optimizedInstant, VoltageCnec voltageCnec, Unit unit) {
+        return readVoltageCnecValue(optimizedInstant, voltageCnec, unit, VOLTAGE_MARGIN);
+    }
+
+    @Override
+    public double getRelativeMargin(Instant optimizedInstant, FlowCnec flowCnec, Unit unit) {
+        return readFlowCnecValue(optimizedInstant, flowCnec, unit, RELATIVE_MARGIN);
+    }
+
+    @Override
+    public double getCommercialFlow(Instant optimizedInstant, FlowCnec flowCnec, TwoSides side, Unit unit) {
+        return readFlowCnecValue(optimizedInstant, flowCnec, unit, COMMERCIAL_FLOW + side.ordinal());
+    }
+
+    @Override
+    public double getLoopFlow(Instant optimizedInstant, FlowCnec flowCnec, TwoSides side, Unit unit) {
+        return readFlowCnecValue(optimizedInstant, flowCnec, unit, LOOP_FLOW + side.ordinal());
+    }
+
+    @Override
+    public double getPtdfZonalSum(Instant optimizedInstant, FlowCnec flowCnec, TwoSides side) {
+        return readCnecValue(flowCnecColumns, PTDF_ZONAL_SUM_COLUMNS + flowUnitColumns.size() * FLOW_COLUMNS_PER_UNIT,
+            optimizedInstant, flowCnec, PTDF_ZONAL_SUM + side.ordinal());
+    }
+
+    private CostResult getCostResult(Instant optimizedInstant) {
+        return costResults.get(optimizedInstant == null ? INITIAL_INSTANT_ID : optimizedInstant.getId());
+    }
+
+    @Override
+    public double getCost(Instant optimizedInstant) {
+        CostResult costResult = getCostResult(optimizedInstant);
+        return costResult == null ? Double.NaN : costResult.cost();
+    }
+
+    @Override
+    public double getFunctionalCost(Instant optimizedInstant) {
+        CostResult costResult = getCostResult(optimizedInstant);
+        return costResult == null ? Double.NaN : costResult.functionalCost();
+    }
+
+    @Override
+    public double getVirtualCost(Instant optimizedInstant) {
+        CostResult costResult = getCostResult(optimizedInstant);
+        return costResult == null ? Double.NaN : costResult.virtualCost();
+    }
+
+    @Override
+    public Set<String> getVirtualCostNames() {
+        return virtualCostNames;
+    }
+
+    @Override
+    public double getVirtualCost(Instant optimizedInstant, String virtualCostName) {
+        CostResult costResult = getCostResult(optimizedInstant);
+        return costResult == null ? Double.NaN : costResult.virtualCosts().getOrDefault(virtualCostName, Double.NaN);
+    }
+
+    private Set<State> getStatesWithActivation(NetworkAction networkAction) {
+        Integer offset = networkActionOffsets.get(networkAction);
+        if (offset == null) {
+            return Set.of();
+        }
+        return networkActionResults.computeIfAbsent(networkAction, na -> {
+            int stateCount = data.getInt(offset);
+            Set<State> statesWithActivation = new HashSet<>();
+            for (int i = 0; i < stateCount; i++) {
+                statesWithActivation.add(states.get(data.getInt(offset + (i + 1) * Integer.BYTES)));
+            }
+            return statesWithActivation;
+        });
+    }
+
+    private RangeActionResult getRangeActionResult(RangeAction<?> rangeAction) {
+        Integer offset = rangeActionOffsets.get(rangeAction);
+        if (offset == null) {
+            return new RangeActionResult(Double.NaN, Map.of());
+        }
+        return rangeActionResults.computeIfAbsent(rangeAction, ra -> {
+            int position = offset;
+            double initialSetpoint = data.getDouble(position);
+            position += DOUBLE_BYTES;
+            int stateCount = data.getInt(position);
+            position += Integer.BYTES;
+            Map<State, Double> setpointPerState = new HashMap<>();
+            for (int i = 0; i < stateCount; i++) {
+                setpointPerState.put(states.get(data.getInt(position)), data.getDouble(position + Integer.BYTES));
+                position += Integer.BYTES + DOUBLE_BYTES;
+            }
+            return new RangeActionResult(initialSetpoint, setpointPerState);
+        });
+    }
+
+    @Override
+    public boolean wasActivatedBeforeState(State state, NetworkAction networkAction) {
+        if (state.isPreventive() || state.getContingency().isEmpty()) {
+            return false;
+        }
+        Set<State> statesWithActivation = getStatesWithActivation(networkAction);
+        // if it is activated in the preventive state, return true
+        if (statesWithActivation.stream().anyMatch(State::isPreventive)) {
+            return true;
+        }
+        return statesWithActivation.stream()
+            .filter(st -> st.getContingency().isPresent())
+            .filter(st -> st.getInstant().getOrder() < state.getInstant().getOrder())
+            .anyMatch(st -> st.getContingency().get().getId().equals(state.getContingency().get().getId()));
+    }
+
+    @Override
+    public boolean isActivatedDuringState(State state, NetworkAction networkAction) {
+        return getStatesWithActivation(networkAction).contains(state);
+    }
+
+    @Override
+    public Set<NetworkAction> getActivatedNetworkActionsDuringState(State state) {
+        return networkActionOffsets.keySet().stream()
+            .filter(networkAction -> getStatesWithActivation(networkAction).contains(state))
+            .collect(Collectors.toSet());
+    }
+
+    @Override
+    public boolean isActivatedDuringState(State state, RangeAction<?> rangeAction) {
+        return getRangeActionResult(rangeAction).setpointPerState().containsKey(state);
+    }
+
+    @Override
+    public int getPreOptimizationTapOnState(State state, PstRangeAction pstRangeAction) {
+        return pstRangeAction.convertAngleToTap(getPreOptimizationSetPointOnState(state, pstRangeAction));
+    }
+
+    @Override
+    public int getOptimizedTapOnState(State state, PstRangeAction pstRangeAction) {
+        return pstRangeAction.convertAngleToTap(getOptimizedSetPointOnState(state, pstRangeAction));
+    }
+
+    @Override
+    public double getPreOptimizationSetPointOnState(State state, RangeAction<?> rangeAction) {
+        if (state.isPreventive()) {
+            return getRangeActionResult(rangeAction).initialSetpoint();
+        } else {
+            return getOptimizedSetPointOnState(stateBefore(state), rangeAction);
+        }
+    }
+
+    @Override
+    public double getOptimizedSetPointOnState(State state, RangeAction<?> rangeAction) {
+        // only the records of the range actions on the same network elements are decoded
+        List<RangeAction<?>> rangeActionsOnSameElements = rangeActionOffsets.keySet().stream()
+            .filter(otherRangeAction -> otherRangeAction.getNetworkElements().equals(rangeAction.getNetworkElements()))
+            .toList();
+        State stateBefore = state;
+        // Search for any RA with same network element that has been activated before given state
+        while (Objects.nonNull(stateBefore)) {
+            for (RangeAction<?> otherRangeAction : rangeActionsOnSameElements) {
+                Double setpoint = getRangeActionResult(otherRangeAction).setpointPerState().get(stateBefore);
+                if (setpoint != null) {
+                    return setpoint;
+                }
+            }
+            stateBefore = stateBefore(stateBefore);
+        }
+        // If no activated RA was found, return initial setpoint
+        return getPreOptimizationSetPointOnState(crac.getPreventiveState(), rangeAction);
+    }
+
+    @Override
+    public Set<RangeAction<?>> getActivatedRangeActionsDuringState(State state) {
+        return rangeActionOffsets.keySet().stream()
+            .filter(rangeAction -> isActivatedDuringState(state, rangeAction))
+            .collect(Collectors.toSet());
+    }
+
+    @Override
+    public Map<PstRangeAction, Integer> getOptimizedTapsOnState(State state) {
+        return crac.getPstRangeActions().stream().collect(Collectors.toMap(Function.identity(), pst -> getOptimizedTapOnState(state, pst)));
+    }
+
+    @Override
+    public Map<RangeAction<?>, Double> getOptimizedSetPointsOnState(State state) {
+        return crac.getRangeActions().stream().collect(Collectors.toMap(Function.identity(), ra -> getOptimizedSetPointOnState(state, ra)));
+    }
+
+    private State stateBefore(State state) {
+        if (state.getContingency().isPresent()) {
+            return stateBefore(state.getContingency().orElseThrow().getId(), state.getInstant());
+        } else {
+            return null;
+        }
+    }
+
+    private State stateBefore(String contingencyId, Instant instant) {
+        if (instant.isOutage()) {
+            return crac.getPreventiveState();
+        }
+        State stateBefore = lookupState(contingencyId, crac.getInstantBefore(instant));
+        if (Objects.nonNull(stateBefore)) {
+            return stateBefore;
+        } else {
+            return stateBefore(contingencyId, crac.getInstantBefore(instant));
+        }
+    }
+
+    private State lookupState(String contingencyId, Instant instant) {
+        return crac.getStates(instant).stream()
+            .filter(state -> state.getContingency().isPresent() && state.getContingency().get().getId().equals(contingencyId))
+            .findAny()
+            .orElse(null);
+    }
+
+    @Override
+    public void setExecutionDetails(String executionDetails) {
+        this.executionDetails = executionDetails;
+    }
+
+    @Override
+    public String getExecutionDetails() {
+        return executionDetails;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.raoresult.io.binary;
+
+import com.google.auto.service.AutoService;
+import com.powsybl.openrao.commons.OpenRaoException;
+import com.powsybl.openrao.commons.Unit;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.crac.api.CracCreationContext;
+import com.powsybl.openrao.data.crac.io.json.JsonCracCreationContext;
+import com.powsybl.openrao.data.raoresult.api.RaoResult;
+import com.powsybl.openrao.data.raoresult.api.io.Exporter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.HashSet;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * Rao Result exporter in a compact binary format, meant to be reloaded quickly by the {@link RaoResultBinaryImporter}.
+ * <p/>
+ * Optional properties:
+ * <ul>
+ *     <li>
+ *         <i>flows-in-amperes</i>: boolean (default is "false").
+ *     </li>
+ *     <li>
+ *         <i>flows-in-megawatts</i>: boolean (default is "false").
+ *     </li>
+ * </ul>
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@AutoService(Exporter.class)
+public class RaoResultBinaryExporter implements Exporter {
+    private static final String BINARY_EXPORT_PROPERTIES_PREFIX = "rao-result.export.binary.";
+    private static final String FLOWS_IN_AMPERES = "flows-in-amperes";
+    private static final String FLOWS_IN_MEGAWATTS = "flows-in-megawatts";
+
+    @Override
+    public String getFormat() {
+        return RaoResultBinaryFormat.FORMAT;
+    }
+
+    @Override
+    public Set<String> getRequiredProperties() {
+        return Set.of();
+    }
+
+    @Override
+    public Class<? extends CracCreationContext> getCracCreationContextClass() {
+        return JsonCracCreationContext.class;
+    }
+
+    @Override
+    public void exportData(RaoResult raoResult, CracCreationContext cracCreationContext, Properties properties, OutputStream outputStream) {
+        validateDataToExport(cracCreationContext, properties);
+        exportData(raoResult, cracCreationContext.getCrac(), properties, outputStream);
+    }
+
+    @Override
+    public void exportData(RaoResult raoResult, Crac crac, Properties properties, OutputStream outputStream) {
+        boolean flowsInAmperes = Boolean.parseBoolean(properties.getProperty(BINARY_EXPORT_PROPERTIES_PREFIX + FLOWS_IN_AMPERES, "false"));
+        boolean flowsInMegawatts = Boolean.parseBoolean(properties.getProperty(BINARY_EXPORT_PROPERTIES_PREFIX + FLOWS_IN_MEGAWATTS, "false"));
+        if (!flowsInAmperes && !flowsInMegawatts) {
+            throw new OpenRaoException(
+                "At least one flow unit should be used. Please provide %s and/or %s in the properties."
+                    .formatted(BINARY_EXPORT_PROPERTIES_PREFIX + FLOWS_IN_AMPERES, BINARY_EXPORT_PROPERTIES_PREFIX + FLOWS_IN_MEGAWATTS)
+            );
+        }
+        Set<Unit> flowUnits = new HashSet<>();
+        if (flowsInAmperes) {
+            flowUnits.add(Unit.AMPERE);
+        }
+        if (flowsInMegawatts) {
+            flowUnits.add(Unit.MEGAWATT);
+        }
+        try {
+            RaoResultBinaryWriter.write(raoResult, crac, flowUnits, outputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.raoresult.io.binary;
+
+import com.powsybl.openrao.commons.BinaryFileHeader;
+
+/**
+ * Layout of the binary RAO results. After the header come two sections:
+ * <ul>
+ *     <li>
+ *         the index, decoded when the file is opened: computation statuses, costs, the optimized instants and flow
+ *         units of the columns, the ids of the CNECs in the order of the rows of their columns, and the ids of the
+ *         remedial actions with the offsets of their records in the data section;
+ *     </li>
+ *     <li>
+ *         the data, only decoded on demand: one column of values per optimized instant and quantity for each kind of
+ *         CNEC, with one row per CNEC, and then one record per remedial action listing the states in which it was
+ *         activated.
+ *     </li>
+ * </ul>
+ * The value of a given CNEC, optimized instant and quantity is thus read directly at an offset computed from the
+ * index, without decoding the rest of the file. All the numbers are big-endian, and the offsets are relative to the
+ * start of the data section.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class RaoResultBinaryFormat {
+    static final String FORMAT = "BINARY";
+    static final BinaryFileHeader HEADER = new BinaryFileHeader("ORRB", 2);
+
+    // columns of the FlowCNEC results for each optimized instant: the zonal PTDF sums on both sides, and then the
+    // following columns for each flow unit, the flows being given on both sides
+    static final int PTDF_ZONAL_SUM = 0;
+    static final int MARGIN = 0;
+    static final int RELATIVE_MARGIN = 1;
+    static final int FLOW = 2;
+    static final int LOOP_FLOW = 4;
+    static final int COMMERCIAL_FLOW = 6;
+    static final int FLOW_COLUMNS_PER_UNIT = 8;
+    static final int PTDF_ZONAL_SUM_COLUMNS = 2;
+
+    // columns of the AngleCNEC results for each optimized instant, in DEGREE
+    static final int ANGLE = 0;
+    static final int ANGLE_MARGIN = 1;
+    static final int ANGLE_COLUMNS = 2;
+
+    // columns of the VoltageCNEC results for each optimized instant, in KILOVOLT
+    static final int MIN_VOLTAGE = 0;
+    static final int MAX_VOLTAGE = 1;
+    static final int VOLTAGE_MARGIN = 2;
+    static final int VOLTAGE_COLUMNS = 3;
+
+    private RaoResultBinaryFormat() {
+    }
+}
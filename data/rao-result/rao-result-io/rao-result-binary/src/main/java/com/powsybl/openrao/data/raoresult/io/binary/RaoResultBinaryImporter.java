@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.raoresult.io.binary;
+
+import com.google.auto.service.AutoService;
+import com.powsybl.openrao.commons.OpenRaoException;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.raoresult.api.RaoResult;
+import com.powsybl.openrao.data.raoresult.api.io.Importer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Reloads the binary RAO results written by the {@link RaoResultBinaryExporter}. Only the index of the file is decoded
+ * when it is imported, the results being read on demand in its data section.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@AutoService(Importer.class)
+public class RaoResultBinaryImporter implements Importer {
+    @Override
+    public String getFormat() {
+        return RaoResultBinaryFormat.FORMAT;
+    }
+
+    @Override
+    public boolean exists(InputStream inputStream) {
+        try {
+            return RaoResultBinaryFormat.HEADER.read(inputStream) != -1;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public RaoResult importData(InputStream inputStream, Crac crac) {
+        try {
+            int formatVersion = RaoResultBinaryFormat.HEADER.read(inputStream);
+            if (formatVersion != RaoResultBinaryFormat.HEADER.getFormatVersion()) {
+                throw new OpenRaoException(formatVersion == -1 ? "Input is not a binary RAO result" : "Binary RAO result format version %d is not supported".formatted(formatVersion));
+            }
+            return new BinaryRaoResult(inputStream.readAllBytes(), crac);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
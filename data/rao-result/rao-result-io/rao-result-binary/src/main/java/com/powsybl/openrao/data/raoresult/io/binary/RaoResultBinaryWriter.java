@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.raoresult.io.binary;
+
+import com.powsybl.iidm.network.TwoSides;
+import com.powsybl.openrao.commons.OpenRaoException;
+import com.powsybl.openrao.commons.Unit;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.crac.api.Identifiable;
+import com.powsybl.openrao.data.crac.api.Instant;
+import com.powsybl.openrao.data.crac.api.State;
+import com.powsybl.openrao.data.crac.api.cnec.AngleCnec;
+import com.powsybl.openrao.data.crac.api.cnec.Cnec;
+import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
+import com.powsybl.openrao.data.crac.api.cnec.VoltageCnec;
+import com.powsybl.openrao.data.crac.api.networkaction.NetworkAction;
+import com.powsybl.openrao.data.crac.api.rangeaction.RangeAction;
+import com.powsybl.openrao.data.raoresult.api.ComputationStatus;
+import com.powsybl.openrao.data.raoresult.api.RaoResult;
+import com.powsybl.openrao.data.raoresult.io.json.RaoResultJsonConstants;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.DoubleSupplier;
+
+import static com.powsybl.openrao.data.raoresult.io.binary.RaoResultBinaryFormat.ANGLE;
+import static com.powsybl.openrao.data.raoresult.io.binary.RaoResultBinaryFormat.ANGLE_COLUMNS;
+import static com.powsybl.openrao.data.raoresult.io.binary.RaoResultBinaryFormat.ANGLE_MARGIN;
+import static com.powsybl.openrao.data.raoresult.io.binary.RaoResultBinaryFormat.COMMERCIAL_FLOW;
+import static com.powsybl.openrao.data.raoresult.io.binary.RaoResultBinaryFormat.FLOW;
+import static com.powsybl.openrao.data.raoresult.io.binary.RaoResultBinaryFormat.FLOW_COLUMNS_PER_UNIT;
+import static com.powsybl.openrao.data.raoresult.io.binary.RaoResultBinaryFormat.LOOP_FLOW;
+import static com.powsybl.openrao.data.raoresult.io.binary.RaoResultBinaryFormat.MARGIN;
+import static com.powsybl.openrao.data.raoresult.io.binary.RaoResultBinaryFormat.MAX_VOLTAGE;
+import static com.powsybl.openrao.data.raoresult.io.binary.RaoResultBinaryFormat.MIN_VOLTAGE;
+import static com.powsybl.openrao.data.raoresult.io.binary.RaoResultBinaryFormat.PTDF_ZONAL_SUM_COLUMNS;
+import static com.powsybl.openrao.data.raoresult.io.binary.RaoResultBinaryFormat.RELATIVE_MARGIN;
+import static com.powsybl.openrao.data.raoresult.io.binary.RaoResultBinaryFormat.VOLTAGE_COLUMNS;
+import static com.powsybl.openrao.data.raoresult.io.binary.RaoResultBinaryFormat.VOLTAGE_MARGIN;
+
+/**
+ * Writes a RAO result in the layout described in {@link RaoResultBinaryFormat}. The index and the data sections are
+ * buffered separately, since the index holds the offsets of the records of the data section.
+ * <p>
+ * The values which the RAO result cannot provide (the getters throwing an {@link OpenRaoException}, for instance when
+ * the RAO was only run on some states) are written as NaN, as they are omitted from the JSON RAO results.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class RaoResultBinaryWriter {
+    private final RaoResult raoResult;
+    private final Crac crac;
+    private final List<Unit> flowUnits;
+    private final List<Instant> optimizedInstants = new ArrayList<>();
+    private final List<State> states;
+
+    private final ByteArrayOutputStream indexBytes = new ByteArrayOutputStream();
+    private final DataOutputStream index = new DataOutputStream(indexBytes);
+    private final ByteArrayOutputStream dataBytes = new ByteArrayOutputStream();
+    private final DataOutputStream data = new DataOutputStream(dataBytes);
+
+    private RaoResultBinaryWriter(RaoResult raoResult, Crac crac, Set<Unit> flowUnits) {
+        this.raoResult = raoResult;
+        this.crac = crac;
+        this.flowUnits = flowUnits.stream().sorted().toList();
+        // the results of the outage instant are the ones of the preventive instant
+        optimizedInstants.add(null);
+        crac.getSortedInstants().stream().filter(instant -> !instant.isOutage()).forEach(optimizedInstants::add);
+        this.states = crac.getStates().stream().sorted(RaoResultJsonConstants.STATE_COMPARATOR).toList();
+    }
+
+    static void write(RaoResult raoResult, Crac crac, Set<Unit> flowUnits, OutputStream outputStream) throws IOException {
+        RaoResultBinaryWriter writer = new RaoResultBinaryWriter(raoResult, crac, flowUnits);
+        writer.writeRaoResult();
+        DataOutputStream output = new DataOutputStream(outputStream);
+        RaoResultBinaryFormat.HEADER.write(output);
+        output.writeInt(writer.indexBytes.size());
+        writer.indexBytes.writeTo(output);
+        writer.dataBytes.writeTo(output);
+        output.flush();
+    }
+
+    private void writeString(String value) throws IOException {
+        if (value == null) {
+            index.writeInt(-1);
+        } else {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            index.writeInt(bytes.length);
+            index.write(bytes);
+        }
+    }
+
+    private static String getIdFromNullableInstant(Instant optimizedInstant) {
+        return optimizedInstant == null ? RaoResult.INITIAL_INSTANT_ID : optimizedInstant.getId();
+    }
+
+    private static double safeGet(DoubleSupplier getter) {
+        // the getters of some RAO results throw an exception for the states on which the RAO was not run
+        try {
+            return getter.getAsDouble();
+        } catch (OpenRaoException e) {
+            return Double.NaN;
+        }
+    }
+
+    private void writeRaoResult() throws IOException {
+        ComputationStatus computationStatus = raoResult.getComputationStatus();
+        writeString(computationStatus.name());
+        writeString(raoResult.getExecutionDetails());
+        // as in the JSON RAO results, only the computation status of failed RAO results is written
+        boolean failed = ComputationStatus.FAILURE.equals(computationStatus);
+
+        index.writeInt(optimizedInstants.size());
+        for (Instant optimizedInstant : optimizedInstants) {
+            writeString(getIdFromNullableInstant(optimizedInstant));
+        }
+        writeCosts(failed);
+        writeComputationStatuses(failed);
+        index.writeInt(flowUnits.size());
+        for (Unit flowUnit : flowUnits) {
+            writeString(flowUnit.name());
+        }
+        writeFlowCnecs(failed ? List.of() : sortById(crac.getFlowCnecs()));
+        writeAngleCnecs(failed ? List.of() : sortById(crac.getAngleCnecs()));
+        writeVoltageCnecs(failed ? List.of() : sortById(crac.getVoltageCnecs()));
+        writeNetworkActions(failed ? List.of() : sortById(crac.getNetworkActions()));
+        writeRangeActions(failed ? List.of() : sortById(crac.getRangeActions()));
+        byte[] extensions = failed ? new byte[0] : RaoResultExtensions.write(raoResult);
+        index.writeInt(extensions.length);
+        index.write(extensions);
+        index.writeInt(dataBytes.size());
+    }
+
+    private static <T extends Identifiable<?>> List<T> sortById(Collection<T> identifiables) {
+        return identifiables.stream().sorted(Comparator.comparing(Identifiable::getId)).toList();
+    }
+
+    private void writeCosts(boolean failed) throws IOException {
+        List<String> virtualCostNames = failed ? List.of() : raoResult.getVirtualCostNames().stream().sorted().toList();
+        index.writeInt(virtualCostNames.size());
+        for (String virtualCostName : virtualCostNames) {
+            writeString(virtualCostName);
+        }
+        List<Instant> costInstants = new ArrayList<>();
+        if (!failed) {
+            costInstants.add(null);
+            costInstants.addAll(crac.getSortedInstants());
+        }
+        index.writeInt(costInstants.size());
+        for (Instant costInstant : costInstants) {
+            writeString(getIdFromNullableInstant(costInstant));
+            index.writeDouble(safeGet(() -> raoResult.getCost(costInstant)));
+            index.writeDouble(safeGet(() -> raoResult.getFunctionalCost(costInstant)));
+            index.writeDouble(safeGet(() -> raoResult.getVirtualCost(costInstant)));
+            for (String virtualCostName : virtualCostNames) {
+                index.writeDouble(safeGet(() -> raoResult.getVirtualCost(costInstant, virtualCostName)));
+            }
+        }
+    }
+
+    private void writeComputationStatuses(boolean failed) throws IOException {
+        List<State> writtenStates = failed ? List.of() : states;
+        index.writeInt(writtenStates.size());
+        for (State state : writtenStates) {
+            writeString(state.getId());
+            writeString(raoResult.getComputationStatus(state).name());
+        }
+    }
+
+    @FunctionalInterface
+    private interface CnecValueGetter<C> {
+        double get(Instant optimizedInstant, C cnec);
+    }
+
+    /**
+     * Writes the ids of the CNECs in the index, and their values in the data section with one column per optimized
+     * instant and getter
+     */
+    private <C extends Cnec<?>> void writeCnecs(List<C> cnecs, List<CnecValueGetter<C>> columnGetters) throws IOException {
+        index.writeInt(cnecs.size());
+        for (C cnec : cnecs) {
+            writeString(cnec.getId());
+        }
+        index.writeInt(dataBytes.size());
+        for (Instant optimizedInstant : optimizedInstants) {
+            for (CnecValueGetter<C> columnGetter : columnGetters) {
+                for (C cnec : cnecs) {
+                    // the results optimized after the instant of the CNEC are the ones of its instant, so they are
+                    // never read
+                    boolean readable = optimizedInstant == null || !cnec.getState().getInstant().comesBefore(optimizedInstant);
+                    data.writeDouble(readable ? safeGet(() -> columnGetter.get(optimizedInstant, cnec)) : Double.NaN);
+                }
+            }
+        }
+    }
+
+    private void writeFlowCnecs(List<FlowCnec> flowCnecs) throws IOException {
+        List<CnecValueGetter<FlowCnec>> columnGetters = new ArrayList<>(PTDF_ZONAL_SUM_COLUMNS + flowUnits.size() * FLOW_COLUMNS_PER_UNIT);
+        for (TwoSides side : TwoSides.values()) {
+            columnGetters.add((optimizedInstant, flowCnec) -> raoResult.getPtdfZonalSum(optimizedInstant, flowCnec, side));
+        }
+        for (Unit unit : flowUnits) {
+            CnecValueGetter<FlowCnec>[] unitColumnGetters = newColumnGetters(FLOW_COLUMNS_PER_UNIT);
+            unitColumnGetters[MARGIN] = (optimizedInstant, flowCnec) -> raoResult.getMargin(optimizedInstant, flowCnec, unit);
+            unitColumnGetters[RELATIVE_MARGIN] = (optimizedInstant, flowCnec) -> raoResult.getRelativeMargin(optimizedInstant, flowCnec, unit);
+            for (TwoSides side : TwoSides.values()) {
+                unitColumnGetters[FLOW + side.ordinal()] = (optimizedInstant, flowCnec) -> raoResult.getFlow(optimizedInstant, flowCnec, side, unit);
+                unitColumnGetters[LOOP_FLOW + side.ordinal()] = (optimizedInstant, flowCnec) -> raoResult.getLoopFlow(optimizedInstant, flowCnec, side, unit);
+                unitColumnGetters[COMMERCIAL_FLOW + side.ordinal()] = (optimizedInstant, flowCnec) -> raoResult.getCommercialFlow(optimizedInstant, flowCnec, side, unit);
+            }
+            columnGetters.addAll(List.of(unitColumnGetters));
+        }
+        writeCnecs(flowCnecs, columnGetters);
+    }
+
+    private void writeAngleCnecs(List<AngleCnec> angleCnecs) throws IOException {
+        CnecValueGetter<AngleCnec>[] columnGetters = newColumnGetters(ANGLE_COLUMNS);
+        columnGetters[ANGLE] = (optimizedInstant, angleCnec) -> raoResult.getAngle(optimizedInstant, angleCnec, Unit.DEGREE);
+        columnGetters[ANGLE_MARGIN] = (optimizedInstant, angleCnec) -> raoResult.getMargin(optimizedInstant, angleCnec, Unit.DEGREE);
+        writeCnecs(angleCnecs, List.of(columnGetters));
+    }
+
+    private void writeVoltageCnecs(List<VoltageCnec> voltageCnecs) throws IOException {
+        CnecValueGetter<VoltageCnec>[] columnGetters = newColumnGetters(VOLTAGE_COLUMNS);
+        columnGetters[MIN_VOLTAGE] = (optimizedInstant, voltageCnec) -> raoResult.getMinVoltage(optimizedInstant, voltageCnec, Unit.KILOVOLT);
+        columnGetters[MAX_VOLTAGE] = (optimizedInstant, voltageCnec) -> raoResult.getMaxVoltage(optimizedInstant, voltageCnec, Unit.KILOVOLT);
+        columnGetters[VOLTAGE_MARGIN] = (optimizedInstant, voltageCnec) -> raoResult.getMargin(optimizedInstant, voltageCnec, Unit.KILOVOLT);
+        writeCnecs(voltageCnecs, List.of(columnGetters));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <C> CnecValueGetter<C>[] newColumnGetters(int columnCount) {
+        return new CnecValueGetter[columnCount];
+    }
+
+    private void writeNetworkActions(List<NetworkAction> networkActions) throws IOException {
+        index.writeInt(networkActions.size());
+        for (NetworkAction networkAction : networkActions) {
+            writeString(networkAction.getId());
+            index.writeInt(dataBytes.size());
+            List<Integer> activatedStates = new ArrayList<>();
+            for (int stateRow = 0; stateRow < states.size(); stateRow++) {
+                if (safeIsActivatedDuringState(states.get(stateRow), networkAction)) {
+                    activatedStates.add(stateRow);
+                }
+            }
+            data.writeInt(activatedStates.size());
+            for (int stateRow : activatedStates) {
+                data.writeInt(stateRow);
+            }
+        }
+    }
+
+    private void writeRangeActions(List<RangeAction<?>> rangeActions) throws IOException {
+        index.writeInt(rangeActions.size());
+        for (RangeAction<?> rangeAction : rangeActions) {
+            writeString(rangeAction.getId());
+            index.writeInt(dataBytes.size());
+            data.writeDouble(safeGet(() -> raoResult.getPreOptimizationSetPointOnState(crac.getPreventiveState(), rangeAction)));
+            List<Integer> activatedStates = new ArrayList<>();
+            for (int stateRow = 0; stateRow < states.size(); stateRow++) {
+                if (safeIsActivatedDuringState(states.get(stateRow), rangeAction)) {
+                    activatedStates.add(stateRow);
+                }
+            }
+            data.writeInt(activatedStates.size());
+            for (int stateRow : activatedStates) {
+                data.writeInt(stateRow);
+                data.writeDouble(safeGet(() -> raoResult.getOptimizedSetPointOnState(states.get(stateRow), rangeAction)));
+            }
+        }
+    }
+
+    private boolean safeIsActivatedDuringState(State state, NetworkAction networkAction) {
+        try {
+            return raoResult.isActivatedDuringState(state, networkAction);
+        } catch (OpenRaoException e) {
+            return false;
+        }
+    }
+
+    private boolean safeIsActivatedDuringState(State state, RangeAction<?> rangeAction) {
+        try {
+            return raoResult.isActivatedDuringState(state, rangeAction);
+        } catch (OpenRaoException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.raoresult.io.binary;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.powsybl.commons.extensions.Extension;
+import com.powsybl.commons.json.JsonUtil;
+import com.powsybl.openrao.data.raoresult.api.RaoResult;
+import com.powsybl.openrao.data.raoresult.io.json.RaoResultJsonUtils;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Encoding of the extensions of the RAO results. The extensions are provided by other modules, so they are written
+ * with their JSON serializers and embedded in the binary RAO result as a JSON document, empty when the RAO result
+ * has no extension.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class RaoResultExtensions {
+    private static final String RAO_RESULT_ATTRIBUTE = "raoResult";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new SimpleModule()
+        .addSerializer(ExtensionsOf.class, new ExtensionsSerializer())
+        .addDeserializer(ExtensionsOf.class, new ExtensionsDeserializer()));
+
+    private RaoResultExtensions() {
+    }
+
+    static byte[] write(RaoResult raoResult) throws IOException {
+        return raoResult.getExtensions().isEmpty() ? new byte[0] : OBJECT_MAPPER.writeValueAsBytes(new ExtensionsOf(raoResult));
+    }
+
+    static void read(byte[] extensions, RaoResult raoResult) throws IOException {
+        if (extensions.length > 0) {
+            OBJECT_MAPPER.readerFor(ExtensionsOf.class).withAttribute(RAO_RESULT_ATTRIBUTE, raoResult).readValue(extensions);
+        }
+    }
+
+    private record ExtensionsOf(RaoResult raoResult) {
+    }
+
+    private static final class ExtensionsSerializer extends JsonSerializer<ExtensionsOf> {
+        @Override
+        public void serialize(ExtensionsOf extensionsOf, JsonGenerator jsonGenerator, SerializerProvider serializerProvider) throws IOException {
+            jsonGenerator.writeStartObject();
+            JsonUtil.writeExtensions(extensionsOf.raoResult(), jsonGenerator, serializerProvider, RaoResultJsonUtils.getExtensionSerializers());
+            jsonGenerator.writeEndObject();
+        }
+    }
+
+    private static final class ExtensionsDeserializer extends JsonDeserializer<ExtensionsOf> {
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public ExtensionsOf deserialize(JsonParser jsonParser, DeserializationContext deserializationContext) throws IOException {
+            RaoResult raoResult = (RaoResult) deserializationContext.getAttribute(RAO_RESULT_ATTRIBUTE);
+            // the document only holds the "extensions" field written by JsonUtil
+            if (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+                jsonParser.nextToken();
+                List<Extension<RaoResult>> extensions = JsonUtil.updateExtensions(jsonParser, deserializationContext, RaoResultJsonUtils.getExtensionSerializers(), raoResult);
+                extensions.forEach(extension -> raoResult.addExtension((Class) extension.getClass(), extension));
+                jsonParser.nextToken();
+            }
+            return new ExtensionsOf(raoResult);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.raoresult.io.binary;
+
+import com.powsybl.iidm.network.TwoSides;
+import com.powsybl.openrao.commons.OpenRaoException;
+import com.powsybl.openrao.commons.Unit;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.crac.api.Instant;
+import com.powsybl.openrao.data.crac.api.State;
+import com.powsybl.openrao.data.crac.api.cnec.AngleCnec;
+import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
+import com.powsybl.openrao.data.crac.impl.utils.ExhaustiveCracCreation;
+import com.powsybl.openrao.data.raoresult.api.ComputationStatus;
+import com.powsybl.openrao.data.raoresult.api.RaoResult;
+import com.powsybl.openrao.data.raoresult.impl.RaoResultImpl;
+import com.powsybl.openrao.data.raoresult.impl.utils.ExhaustiveRaoResultCreation;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class RaoResultBinaryRoundTripTest {
+
+    private static byte[] write(RaoResult raoResult, Crac crac, String format) {
+        Properties properties = new Properties();
+        String prefix = "rao-result.export.%s.".formatted(format.toLowerCase());
+        properties.setProperty(prefix + "flows-in-amperes", "true");
+        properties.setProperty(prefix + "flows-in-megawatts", "true");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        raoResult.write(format, crac, properties, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    @Test
+    void testRoundTripMatchesJson() throws IOException {
+        Crac crac = ExhaustiveCracCreation.create();
+        RaoResult raoResult = ExhaustiveRaoResultCreation.create(crac);
+
+        RaoResult raoResultFromBinary = RaoResult.read(new ByteArrayInputStream(write(raoResult, crac, "BINARY")), crac);
+
+        // the RAO result reloaded from the binary file must be exported to the exact same JSON as the original one
+        assertEquals(new String(write(raoResult, crac, "JSON"), StandardCharsets.UTF_8), new String(write(raoResultFromBinary, crac, "JSON"), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testRandomAccessReads() throws IOException {
+        Crac crac = ExhaustiveCracCreation.create();
+        RaoResult raoResult = ExhaustiveRaoResultCreation.create(crac);
+        RaoResult raoResultFromBinary = RaoResult.read(new ByteArrayInputStream(write(raoResult, crac, "BINARY")), crac);
+
+        List<Instant> optimizedInstants = new ArrayList<>();
+        optimizedInstants.add(null);
+        optimizedInstants.addAll(crac.getSortedInstants());
+        for (Instant optimizedInstant : optimizedInstants) {
+            for (FlowCnec flowCnec : crac.getFlowCnecs()) {
+                for (Unit unit : Set.of(Unit.AMPERE, Unit.MEGAWATT)) {
+                    assertEquals(raoResult.getMargin(optimizedInstant, flowCnec, unit), raoResultFromBinary.getMargin(optimizedInstant, flowCnec, unit));
+                    assertEquals(raoResult.getFlow(optimizedInstant, flowCnec, TwoSides.TWO, unit), raoResultFromBinary.getFlow(optimizedInstant, flowCnec, TwoSides.TWO, unit));
+                }
+                assertEquals(raoResult.getPtdfZonalSum(optimizedInstant, flowCnec, TwoSides.ONE), raoResultFromBinary.getPtdfZonalSum(optimizedInstant, flowCnec, TwoSides.ONE));
+            }
+            assertEquals(raoResult.getCost(optimizedInstant), raoResultFromBinary.getCost(optimizedInstant));
+        }
+        for (State state : crac.getStates()) {
+            assertEquals(raoResult.getComputationStatus(state), raoResultFromBinary.getComputationStatus(state));
+            assertEquals(raoResult.getActivatedNetworkActionsDuringState(state), raoResultFromBinary.getActivatedNetworkActionsDuringState(state));
+            assertEquals(raoResult.getOptimizedSetPointsOnState(state), raoResultFromBinary.getOptimizedSetPointsOnState(state));
+        }
+        AngleCnec angleCnec = crac.getAngleCnecs().iterator().next();
+        assertThrows(OpenRaoException.class, () -> raoResultFromBinary.getAngle(null, angleCnec, Unit.MEGAWATT));
+    }
+
+    @Test
+    void testFailedRaoResult() throws IOException {
+        Crac crac = ExhaustiveCracCreation.create();
+        RaoResultImpl raoResult = new RaoResultImpl(crac);
+        raoResult.setComputationStatus(ComputationStatus.FAILURE);
+
+        RaoResult raoResultFromBinary = RaoResult.read(new ByteArrayInputStream(write(raoResult, crac, "BINARY")), crac);
+        assertEquals(ComputationStatus.FAILURE, raoResultFromBinary.getComputationStatus());
+        assertTrue(Double.isNaN(raoResultFromBinary.getCost(null)));
+        assertTrue(Double.isNaN(raoResultFromBinary.getMargin(null, crac.getFlowCnecs().iterator().next(), Unit.MEGAWATT)));
+    }
+
+    @Test
+    void testTruncatedRaoResult() {
+        Crac crac = ExhaustiveCracCreation.create();
+        byte[] binaryRaoResult = write(ExhaustiveRaoResultCreation.create(crac), crac, "BINARY");
+        RaoResultBinaryImporter importer = new RaoResultBinaryImporter();
+        ByteArrayInputStream inputStream = new ByteArrayInputStream(Arrays.copyOf(binaryRaoResult, binaryRaoResult.length - 1));
+        OpenRaoException exception = assertThrows(OpenRaoException.class, () -> importer.importData(inputStream, crac));
+        assertEquals("Binary RAO result is truncated", exception.getMessage());
+    }
+
+    @Test
+    void testExists() {
+        Crac crac = ExhaustiveCracCreation.create();
+        RaoResult raoResult = ExhaustiveRaoResultCreation.create(crac);
+        assertTrue(new RaoResultBinaryImporter().exists(new ByteArrayInputStream(write(raoResult, crac, "BINARY"))));
+        assertFalse(new RaoResultBinaryImporter().exists(new ByteArrayInputStream(write(raoResult, crac, "JSON"))));
+        assertFalse(new RaoResultBinaryImporter().exists(new ByteArrayInputStream(new byte[0])));
+    }
+
+    @Test
+    void testUnsupportedFormatVersion() {
+        Crac crac = ExhaustiveCracCreation.create();
+        byte[] binaryRaoResult = write(ExhaustiveRaoResultCreation.create(crac), crac, "BINARY");
+        binaryRaoResult[4] = (byte) (RaoResultBinaryFormat.HEADER.getFormatVersion() + 1);
+        RaoResultBinaryImporter importer = new RaoResultBinaryImporter();
+        ByteArrayInputStream inputStream = new ByteArrayInputStream(binaryRaoResult);
+        OpenRaoException exception = assertThrows(OpenRaoException.class, () -> importer.importData(inputStream, crac));
+        assertEquals("Binary RAO result format version 3 is not supported", exception.getMessage());
+    }
+
+    @Test
+    void testFailWithoutFlowUnits() {
+        Crac crac = ExhaustiveCracCreation.create();
+        RaoResult raoResult = ExhaustiveRaoResultCreation.create(crac);
+        RaoResultBinaryExporter exporter = new RaoResultBinaryExporter();
+        Properties properties = new Properties();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        OpenRaoException exception = assertThrows(OpenRaoException.class, () -> exporter.exportData(raoResult, crac, properties, outputStream));
+        assertEquals("At least one flow unit should be used. Please provide rao-result.export.binary.flows-in-amperes and/or rao-result.export.binary.flows-in-megawatts in the properties.", exception.getMessage());
+    }
+}
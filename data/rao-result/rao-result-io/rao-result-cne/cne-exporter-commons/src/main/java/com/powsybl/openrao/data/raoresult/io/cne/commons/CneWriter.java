@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.raoresult.io.cne.commons;
+
+import com.powsybl.openrao.commons.OpenRaoException;
+import com.powsybl.openrao.commons.logs.OpenRaoLoggerProvider;
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBElement;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Marshaller;
+import jakarta.xml.bind.annotation.XmlSchema;
+import org.xml.sax.SAXException;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.QName;
+import javax.xml.transform.Source;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.powsybl.openrao.data.raoresult.io.cne.commons.CneConstants.CNE_TAG;
+
+/**
+ * Writes CNE market documents directly to an output stream, and validates them against the CNE schema while they are
+ * written, so that the document is never copied in memory.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class CneWriter {
+    private CneWriter() {
+    }
+
+    /**
+     * Compiles the CNE schema from the XSD files stored in the /xsd directory of the resources of the given class. The
+     * compiled schema is thread-safe and can be reused for all the exports.
+     */
+    public static Schema createSchema(Class<?> resourceClass, String... schemaNames) {
+        try {
+            SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+            factory.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+            Source[] sources = Arrays.stream(schemaNames)
+                .map(schemaName -> new StreamSource(Objects.requireNonNull(resourceClass.getResource("/xsd/" + schemaName)).toExternalForm()))
+                .toArray(Source[]::new);
+            return factory.newSchema(sources);
+        } catch (SAXException e) {
+            throw new OpenRaoException("Could not read CNE schema.", e);
+        }
+    }
+
+    /**
+     * Marshals the market document to the output stream and validates it against the schema in the same pass.
+     * Validation errors do not stop the export.
+     *
+     * @return true if the document fits the schema
+     */
+    public static <T> boolean write(JAXBContext jaxbContext, Class<T> marketDocumentClass, T marketDocument, String schemaLocation, Schema schema, OutputStream outputStream) throws JAXBException {
+        Marshaller jaxbMarshaller = jaxbContext.createMarshaller();
+
+        // format the XML output
+        jaxbMarshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        jaxbMarshaller.setProperty(Marshaller.JAXB_SCHEMA_LOCATION, schemaLocation);
+
+        AtomicBoolean isValid = new AtomicBoolean(true);
+        jaxbMarshaller.setSchema(schema);
+        jaxbMarshaller.setEventHandler(event -> {
+            if (isValid.getAndSet(false)) {
+                OpenRaoLoggerProvider.TECHNICAL_LOGS.warn("Exception: {}", event.getMessage());
+            }
+            return true;
+        });
+
+        QName qName = new QName(getNamespace(marketDocumentClass), CNE_TAG);
+        jaxbMarshaller.marshal(new JAXBElement<>(qName, marketDocumentClass, marketDocument), outputStream);
+        return isValid.get();
+    }
+
+    private static String getNamespace(Class<?> marketDocumentClass) {
+        XmlSchema xmlSchema = marketDocumentClass.getPackage().getAnnotation(XmlSchema.class);
+        return xmlSchema == null ? XMLConstants.NULL_NS_URI : xmlSchema.namespace();
+    }
+}
@@ -15,32 +15,23 @@ import com.powsybl.openrao.data.crac.api.CracCreationContext;
 import com.powsybl.openrao.data.crac.io.commons.api.stdcreationcontext.UcteCracCreationContext;
 import com.powsybl.openrao.data.raoresult.api.RaoResult;
 import com.powsybl.openrao.data.raoresult.api.io.Exporter;
+import com.powsybl.openrao.data.raoresult.io.cne.commons.CneWriter;
 import com.powsybl.openrao.data.raoresult.io.cne.core.xsd.CriticalNetworkElementMarketDocument;
 import jakarta.xml.bind.JAXBContext;
-import jakarta.xml.bind.JAXBElement;
 import jakarta.xml.bind.JAXBException;
-import jakarta.xml.bind.Marshaller;
 import org.apache.commons.lang3.NotImplementedException;
 import org.xml.sax.SAXException;
 
-import javax.xml.XMLConstants;
-import javax.xml.namespace.QName;
-import javax.xml.transform.Source;
 import javax.xml.transform.stream.StreamSource;
 import javax.xml.validation.Schema;
-import javax.xml.validation.SchemaFactory;
-import javax.xml.validation.Validator;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.StringReader;
-import java.io.StringWriter;
-import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import static com.powsybl.openrao.data.raoresult.io.cne.commons.CneConstants.CNE_REQUIRED_PROPERTIES;
-import static com.powsybl.openrao.data.raoresult.io.cne.commons.CneConstants.CNE_TAG;
 import static com.powsybl.openrao.data.raoresult.io.cne.commons.CneConstants.CNE_XSD_2_4;
 import static com.powsybl.openrao.data.raoresult.io.cne.commons.CneConstants.CODELISTS_XSD;
 import static com.powsybl.openrao.data.raoresult.io.cne.commons.CneConstants.LOCALTYPES_XSD;
@@ -97,6 +88,10 @@ import static com.powsybl.openrao.data.raoresult.io.cne.core.CoreCneUtil.CORE_CN
  */
 @AutoService(Exporter.class)
 public class CoreCneExporter implements Exporter {
+    // compiled once and reused by all the exports
+    private static JAXBContext jaxbContext;
+    private static Schema schema;
+
     @Override
     public String getFormat() {
         return "CORE-CNE";
@@ -118,30 +113,12 @@ public class CoreCneExporter implements Exporter {
         CoreCne cne = new CoreCne((UcteCracCreationContext) cracCreationContext, raoResult, properties);
         cne.generate();
         CriticalNetworkElementMarketDocument marketDocument = cne.getMarketDocument();
-        StringWriter stringWriter = new StringWriter();
 
         try {
-            JAXBContext jaxbContext = JAXBContext.newInstance(CriticalNetworkElementMarketDocument.class);
-            Marshaller jaxbMarshaller = jaxbContext.createMarshaller();
-
-            // format the XML output
-            jaxbMarshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-            jaxbMarshaller.setProperty(Marshaller.JAXB_SCHEMA_LOCATION, CNE_XSD_2_4);
-
-            QName qName = new QName(XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI, CNE_TAG);
-            JAXBElement<CriticalNetworkElementMarketDocument> root = new JAXBElement<>(qName, CriticalNetworkElementMarketDocument.class, marketDocument);
-
-            jaxbMarshaller.marshal(root, stringWriter);
-
-            String result = stringWriter.toString().replace("xsi:" + CNE_TAG, CNE_TAG);
-
-            if (!validateCNESchema(result)) {
+            if (!CneWriter.write(getJaxbContext(), CriticalNetworkElementMarketDocument.class, marketDocument, CNE_XSD_2_4, getSchema(), outputStream)) {
                 OpenRaoLoggerProvider.TECHNICAL_LOGS.warn("CNE output doesn't fit the xsd.");
             }
-
-            outputStream.write(result.getBytes());
-
-        } catch (JAXBException | IOException e) {
+        } catch (JAXBException e) {
             throw new OpenRaoException("Could not write CORE CNE file.");
         }
     }
@@ -151,26 +128,25 @@ public class CoreCneExporter implements Exporter {
         throw new NotImplementedException("CracCreationContext is required for CNE export.");
     }
 
-    private static String getSchemaFile(String schemaName) {
-        return Objects.requireNonNull(CoreCneExporter.class.getResource("/xsd/" + schemaName)).toExternalForm();
+    private static synchronized JAXBContext getJaxbContext() throws JAXBException {
+        if (jaxbContext == null) {
+            jaxbContext = JAXBContext.newInstance(CriticalNetworkElementMarketDocument.class);
+        }
+        return jaxbContext;
     }
 
-    public static boolean validateCNESchema(String xmlContent) {
+    private static synchronized Schema getSchema() {
+        if (schema == null) {
+            schema = CneWriter.createSchema(CoreCneExporter.class, CNE_XSD_2_4, CODELISTS_XSD, LOCALTYPES_XSD);
+        }
+        return schema;
+    }
 
+    public static boolean validateCNESchema(String xmlContent) {
         try {
-            SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-            factory.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
-
-            Source[] source = {new StreamSource(getSchemaFile(CNE_XSD_2_4)),
-                new StreamSource(getSchemaFile(CODELISTS_XSD)),
-                new StreamSource(getSchemaFile(LOCALTYPES_XSD))};
-            Schema schema = factory.newSchema(source);
-            factory.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
-
-            Validator validator = schema.newValidator();
-            validator.validate(new StreamSource(new StringReader(xmlContent)));
+            getSchema().newValidator().validate(new StreamSource(new StringReader(xmlContent)));
         } catch (IOException | SAXException e) {
-            OpenRaoLoggerProvider.TECHNICAL_LOGS.warn("Exception: %s", e.getMessage());
+            OpenRaoLoggerProvider.TECHNICAL_LOGS.warn("Exception: {}", e.getMessage());
             return false;
         }
         return true;
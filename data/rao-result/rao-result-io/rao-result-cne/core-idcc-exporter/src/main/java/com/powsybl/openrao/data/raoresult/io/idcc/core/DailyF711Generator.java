@@ -7,13 +7,12 @@
 
 package com.powsybl.openrao.data.raoresult.io.idcc.core;
 
+import com.powsybl.openrao.commons.SharedExecutor;
 import com.powsybl.openrao.data.crac.io.fbconstraint.xsd.FlowBasedConstraintDocument;
 import org.threeten.extra.Interval;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 /**
  * @author Pengbo Wang {@literal <pengbo.wang at rte-international.com>}
@@ -29,22 +28,37 @@ public final class DailyF711Generator {
         throw new AssertionError("Static class. Should not be constructed");
     }
 
+    private record ReportedInterval(Interval interval, HourlyF711InfoGenerator.Inputs inputs) {
+    }
+
     public static FlowBasedConstraintDocument generate(DailyF711GeneratorInputsProvider inputsProvider) {
+        return generate(inputsProvider, 1);
+    }
+
+    /**
+     * The inputs of the reported intervals are retrieved sequentially from the provider, then the hourly information
+     * of the different intervals, which are independent, is computed concurrently with the given parallelism. The
+     * hourly information is gathered in the order of the intervals, so that the generated document does not depend on
+     * the parallelism.
+     */
+    public static FlowBasedConstraintDocument generate(DailyF711GeneratorInputsProvider inputsProvider, int parallelism) {
         FlowBasedConstraintDocument flowBasedConstraintDocument = inputsProvider.referenceConstraintDocument();
+        FlowBasedConstraintDocumentIndex documentIndex = new FlowBasedConstraintDocumentIndex(flowBasedConstraintDocument);
         Map<Integer, Interval> positionMap = IntervalUtil.getPositionsMap(flowBasedConstraintDocument.getConstraintTimeInterval().getV());
-        List<HourlyF711Info> hourlyF711Infos = new ArrayList<>();
-        positionMap.values().forEach(interval -> {
-            if (inputsProvider.shouldBeReported(interval)) {
-                Optional<HourlyF711InfoGenerator.Inputs> optionalInputs = inputsProvider.hourlyF303InputsForInterval(interval);
-                if (optionalInputs.isPresent()) {
-                    hourlyF711Infos.add(HourlyF711InfoGenerator.getInfoForSuccessfulInterval(flowBasedConstraintDocument, interval, optionalInputs.get()));
-                } else {
-                    hourlyF711Infos.add(HourlyF711InfoGenerator.getInfoForNonRequestedOrFailedInterval(flowBasedConstraintDocument, interval));
-                }
-            }
-        });
+        List<ReportedInterval> reportedIntervals = positionMap.values().stream()
+            .filter(inputsProvider::shouldBeReported)
+            .map(interval -> new ReportedInterval(interval, inputsProvider.hourlyF303InputsForInterval(interval).orElse(null)))
+            .toList();
+        List<HourlyF711Info> hourlyF711Infos = SharedExecutor.current().map(reportedIntervals, reportedInterval -> getHourlyF711Info(documentIndex, reportedInterval), parallelism, false);
 
         // gather hourly info in one common document, cluster the elements that can be clusterized
         return new DailyF711Clusterizer(hourlyF711Infos, flowBasedConstraintDocument).generateClusterizedDocument();
     }
+
+    private static HourlyF711Info getHourlyF711Info(FlowBasedConstraintDocumentIndex documentIndex, ReportedInterval reportedInterval) {
+        if (reportedInterval.inputs() != null) {
+            return HourlyF711InfoGenerator.getInfoForSuccessfulInterval(documentIndex, reportedInterval.interval(), reportedInterval.inputs());
+        }
+        return HourlyF711InfoGenerator.getInfoForNonRequestedOrFailedInterval(documentIndex, reportedInterval.interval());
+    }
 }
@@ -22,8 +22,12 @@ public final class F711Utils {
     }
 
     public static void write(TemporalData<RaoResult> raoResults, TemporalData<FbConstraintCreationContext> cracCreationContexts, String cracPath, String outputPath) {
+        write(raoResults, cracCreationContexts, cracPath, outputPath, 1);
+    }
+
+    public static void write(TemporalData<RaoResult> raoResults, TemporalData<FbConstraintCreationContext> cracCreationContexts, String cracPath, String outputPath, int parallelism) {
         DailyF711GeneratorInputs provider = new DailyF711GeneratorInputs(raoResults, cracCreationContexts, cracPath);
-        FlowBasedConstraintDocument fbc = DailyF711Generator.generate(provider);
+        FlowBasedConstraintDocument fbc = DailyF711Generator.generate(provider, parallelism);
         // yyyyMMdd-FID2-711-v1-10V1001C--00264T-to-10V1001C--00085T.xml
         JaxbUtil.writeInFile(FlowBasedConstraintDocument.class, fbc, String.format(outputPath));
     }
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.raoresult.io.idcc.core;
+
+import com.powsybl.openrao.data.crac.io.fbconstraint.xsd.CriticalBranchType;
+import com.powsybl.openrao.data.crac.io.fbconstraint.xsd.FlowBasedConstraintDocument;
+import com.powsybl.openrao.data.crac.io.fbconstraint.xsd.IndependantComplexVariant;
+
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Critical branches and complex variants of a FlowBasedConstraintDocument, with their time intervals parsed once for
+ * all the hours of the day. The index is immutable and can be shared by the hourly computations running concurrently.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class FlowBasedConstraintDocumentIndex {
+    private final List<TimedElement<CriticalBranchType>> criticalBranches;
+    private final List<TimedElement<IndependantComplexVariant>> complexVariants;
+
+    private record TimedElement<T>(String id, T element, OffsetDateTime start, OffsetDateTime end) {
+        private static <T> TimedElement<T> of(String id, T element, String timeInterval) {
+            String[] timeIntervals = timeInterval.split("/");
+            return new TimedElement<>(id, element, OffsetDateTime.parse(timeIntervals[0]), OffsetDateTime.parse(timeIntervals[1]));
+        }
+
+        private boolean isValidAt(OffsetDateTime timestamp) {
+            return !timestamp.isBefore(start) && timestamp.isBefore(end);
+        }
+    }
+
+    FlowBasedConstraintDocumentIndex(FlowBasedConstraintDocument flowBasedConstraintDocument) {
+        criticalBranches = flowBasedConstraintDocument.getCriticalBranches().getCriticalBranch().stream()
+            .map(cb -> TimedElement.of(cb.getId(), cb, cb.getTimeInterval().getV()))
+            .toList();
+        complexVariants = flowBasedConstraintDocument.getComplexVariants() == null ? List.of() : flowBasedConstraintDocument.getComplexVariants().getComplexVariant().stream()
+            .map(cv -> TimedElement.of(cv.getId(), cv, cv.getTimeInterval().getV()))
+            .toList();
+    }
+
+    /**
+     * Critical branches valid at the given timestamp, in the order of the document.
+     */
+    List<CriticalBranchType> getCriticalBranchesValidAt(OffsetDateTime timestamp) {
+        return criticalBranches.stream().filter(cb -> cb.isValidAt(timestamp)).map(TimedElement::element).toList();
+    }
+
+    /**
+     * Critical branches per id: the one valid at the given timestamp if any, the first one of the document otherwise.
+     */
+    Map<String, CriticalBranchType> getCriticalBranchesForInstant(OffsetDateTime timestamp) {
+        return getElementsForInstant(criticalBranches, timestamp);
+    }
+
+    /**
+     * Complex variants per id: the one valid at the given timestamp if any, the first one of the document otherwise.
+     */
+    Map<String, IndependantComplexVariant> getComplexVariantsForInstant(OffsetDateTime timestamp) {
+        return getElementsForInstant(complexVariants, timestamp);
+    }
+
+    private static <T> Map<String, T> getElementsForInstant(List<TimedElement<T>> timedElements, OffsetDateTime timestamp) {
+        Map<String, T> elements = new HashMap<>();
+        for (TimedElement<T> timedElement : timedElements) {
+            if (!elements.containsKey(timedElement.id()) || timedElement.isValidAt(timestamp)) {
+                elements.put(timedElement.id(), timedElement.element());
+            }
+        }
+        return elements;
+    }
+}
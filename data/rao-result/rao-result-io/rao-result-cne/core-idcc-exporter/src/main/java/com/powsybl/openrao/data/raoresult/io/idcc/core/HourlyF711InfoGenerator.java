@@ -20,7 +20,6 @@ import com.powsybl.openrao.data.crac.io.commons.api.stdcreationcontext.BranchCne
 import com.powsybl.openrao.data.crac.io.fbconstraint.FbConstraintCreationContext;
 import com.powsybl.openrao.data.crac.io.fbconstraint.xsd.ActionType;
 import com.powsybl.openrao.data.crac.io.fbconstraint.xsd.CriticalBranchType;
-import com.powsybl.openrao.data.crac.io.fbconstraint.xsd.FlowBasedConstraintDocument;
 import com.powsybl.openrao.data.crac.io.fbconstraint.xsd.IndependantComplexVariant;
 import com.powsybl.openrao.data.crac.io.fbconstraint.xsd.ObjectFactory;
 import com.powsybl.openrao.data.crac.io.fbconstraint.xsd.etso.TimeIntervalType;
@@ -57,14 +56,13 @@ public final class HourlyF711InfoGenerator {
 
     public record Inputs(FbConstraintCreationContext crac, RaoResult raoResult, OffsetDateTime timestamp) { }
 
-    static HourlyF711Info getInfoForNonRequestedOrFailedInterval(FlowBasedConstraintDocument flowBasedConstraintDocument, Interval interval) {
+    static HourlyF711Info getInfoForNonRequestedOrFailedInterval(FlowBasedConstraintDocumentIndex documentIndex, Interval interval) {
         OffsetDateTime startTime = OffsetDateTime.ofInstant(interval.getStart(), ZoneOffset.UTC);
         List<CriticalBranchType> criticalBranches = new ArrayList<>();
         TimeIntervalType ti = new TimeIntervalType();
         ti.setV(IntervalUtil.getCurrentTimeInterval(startTime));
 
-        flowBasedConstraintDocument.getCriticalBranches().getCriticalBranch().stream()
-                .filter(cb -> IntervalUtil.isInTimeInterval(startTime, cb.getTimeInterval().getV()))
+        documentIndex.getCriticalBranchesValidAt(startTime)
                 .forEach(refCb -> {
                     CriticalBranchType clonedCb = (CriticalBranchType) refCb.clone();
                     clonedCb.setTimeInterval(ti);
@@ -75,23 +73,23 @@ public final class HourlyF711InfoGenerator {
         return new HourlyF711Info(criticalBranches);
     }
 
-    static HourlyF711Info getInfoForSuccessfulInterval(FlowBasedConstraintDocument flowBasedConstraintDocument, Interval interval, Inputs inputs) {
+    static HourlyF711Info getInfoForSuccessfulInterval(FlowBasedConstraintDocumentIndex documentIndex, Interval interval, Inputs inputs) {
         Map<State, String> statesWithCra = getUIDOfStatesWithCra(inputs.crac(), inputs.raoResult(), inputs.timestamp().toString());
 
-        List<CriticalBranchType> criticalBranches = getCriticalBranchesOfSuccessfulInterval(flowBasedConstraintDocument, inputs.crac(), statesWithCra, interval);
-        List<IndependantComplexVariant> complexVariants = getComplexVariantsOfSuccesfulInterval(flowBasedConstraintDocument, inputs.crac(), inputs.raoResult(), statesWithCra, interval);
+        List<CriticalBranchType> criticalBranches = getCriticalBranchesOfSuccessfulInterval(documentIndex, inputs.crac(), statesWithCra, interval);
+        List<IndependantComplexVariant> complexVariants = getComplexVariantsOfSuccesfulInterval(documentIndex, inputs.crac(), inputs.raoResult(), statesWithCra, interval);
 
         return new HourlyF711Info(criticalBranches, complexVariants);
     }
 
-    private static List<CriticalBranchType> getCriticalBranchesOfSuccessfulInterval(FlowBasedConstraintDocument flowBasedConstraintDocument,
+    private static List<CriticalBranchType> getCriticalBranchesOfSuccessfulInterval(FlowBasedConstraintDocumentIndex documentIndex,
                                                                                     FbConstraintCreationContext cracCreationContext,
                                                                                     Map<State, String> statesWithCrac,
                                                                                     Interval interval) {
         TimeIntervalType ti = new TimeIntervalType();
         ti.setV(IntervalUtil.getCurrentTimeInterval(OffsetDateTime.ofInstant(interval.getStart(), ZoneOffset.UTC)));
         List<String> contingencyWithCra = statesWithCrac.keySet().stream().map(s -> s.getContingency().orElseThrow().getId()).toList();
-        Map<String, CriticalBranchType> refCbs = getCriticalBranchesForInstant(cracCreationContext.getTimeStamp(), flowBasedConstraintDocument);
+        Map<String, CriticalBranchType> refCbs = documentIndex.getCriticalBranchesForInstant(cracCreationContext.getTimeStamp());
         List<CriticalBranchType> criticalBranches = new ArrayList<>();
 
         for (BranchCnecCreationContext bccc : cracCreationContext.getBranchCnecCreationContexts()) {
@@ -130,7 +128,7 @@ public final class HourlyF711InfoGenerator {
         return criticalBranches;
     }
 
-    private static List<IndependantComplexVariant> getComplexVariantsOfSuccesfulInterval(FlowBasedConstraintDocument flowBasedConstraintDocument,
+    private static List<IndependantComplexVariant> getComplexVariantsOfSuccesfulInterval(FlowBasedConstraintDocumentIndex documentIndex,
                                                                                          FbConstraintCreationContext cracCreationContext,
                                                                                          RaoResult raoResult,
                                                                                          Map<State, String> statesWithCra,
@@ -141,7 +139,7 @@ public final class HourlyF711InfoGenerator {
         TimeIntervalType ti = new TimeIntervalType();
         ti.setV(IntervalUtil.getCurrentTimeInterval(OffsetDateTime.ofInstant(interval.getStart(), ZoneOffset.UTC)));
 
-        Map<String, IndependantComplexVariant> nativeVariants = getComplexVariantsForInstant(cracCreationContext.getTimeStamp(), flowBasedConstraintDocument);
+        Map<String, IndependantComplexVariant> nativeVariants = documentIndex.getComplexVariantsForInstant(cracCreationContext.getTimeStamp());
         for (State state : statesWithCra.keySet()) {
             Set<NetworkAction> activatedNa = raoResult.getActivatedNetworkActionsDuringState(state);
             Set<RangeAction<?>> activatedRa = raoResult.getActivatedRangeActionsDuringState(state);
@@ -292,28 +290,4 @@ public final class HourlyF711InfoGenerator {
         }
         return stateMap;
     }
-
-    private static Map<String, CriticalBranchType> getCriticalBranchesForInstant(OffsetDateTime offsetDateTime, FlowBasedConstraintDocument flowBasedConstraintDocument) {
-
-        Map<String, CriticalBranchType> nativeCbs = new HashMap<>();
-
-        for (CriticalBranchType cb : flowBasedConstraintDocument.getCriticalBranches().getCriticalBranch()) {
-            if (!nativeCbs.containsKey(cb.getId()) || IntervalUtil.isInTimeInterval(offsetDateTime, cb.getTimeInterval().getV())) {
-                nativeCbs.put(cb.getId(), cb);
-            }
-        }
-        return nativeCbs;
-    }
-
-    private static Map<String, IndependantComplexVariant> getComplexVariantsForInstant(OffsetDateTime offsetDateTime, FlowBasedConstraintDocument flowBasedConstraintDocument) {
-
-        Map<String, IndependantComplexVariant> nativeVariants = new HashMap<>();
-
-        for (IndependantComplexVariant cv : flowBasedConstraintDocument.getComplexVariants().getComplexVariant()) {
-            if (!nativeVariants.containsKey(cv.getId()) || IntervalUtil.isInTimeInterval(offsetDateTime, cv.getTimeInterval().getV())) {
-                nativeVariants.put(cv.getId(), cv);
-            }
-        }
-        return nativeVariants;
-    }
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.raoresult.io.idcc.core;
+
+import com.powsybl.openrao.data.crac.io.fbconstraint.xsd.FlowBasedConstraintDocument;
+import org.junit.jupiter.api.Test;
+import org.threeten.extra.Interval;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static com.powsybl.openrao.data.raoresult.io.idcc.core.FlowBasedConstraintDocumentTestUtils.DAY_INTERVAL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class DailyF711GeneratorTest {
+
+    private static DailyF711GeneratorInputsProvider nonRequestedInputsProvider(FlowBasedConstraintDocument document) {
+        return new DailyF711GeneratorInputsProvider() {
+            @Override
+            public FlowBasedConstraintDocument referenceConstraintDocument() {
+                return document;
+            }
+
+            @Override
+            public Optional<HourlyF711InfoGenerator.Inputs> hourlyF303InputsForInterval(Interval interval) {
+                return Optional.empty();
+            }
+
+            @Override
+            public boolean shouldBeReported(Interval interval) {
+                // the last hour of the day is not reported
+                return interval.getStart().isBefore(Instant.parse("2026-01-02T22:00:00Z"));
+            }
+        };
+    }
+
+    @Test
+    void testConcurrentGenerationMatchesSequentialOne() {
+        FlowBasedConstraintDocument generatedDocument = DailyF711Generator.generate(nonRequestedInputsProvider(FlowBasedConstraintDocumentTestUtils.createDocument()));
+
+        // hourly information computed sequentially, as before the hours were computed concurrently
+        FlowBasedConstraintDocument referenceDocument = FlowBasedConstraintDocumentTestUtils.createDocument();
+        List<HourlyF711Info> referenceInfos = IntervalUtil.getPositionsMap(DAY_INTERVAL).values().stream()
+            .filter(interval -> interval.getStart().isBefore(Instant.parse("2026-01-02T22:00:00Z")))
+            .map(interval -> HourlyF711InfoGeneratorTest.getReferenceInfoForNonRequestedInterval(referenceDocument, interval))
+            .toList();
+        FlowBasedConstraintDocument expectedDocument = new DailyF711Clusterizer(referenceInfos, referenceDocument).generateClusterizedDocument();
+
+        assertEquals(HourlyF711InfoGeneratorTest.describe(expectedDocument.getCriticalBranches().getCriticalBranch()),
+            HourlyF711InfoGeneratorTest.describe(generatedDocument.getCriticalBranches().getCriticalBranch()));
+        assertEquals(expectedDocument.getDocumentIdentification().getV(), generatedDocument.getDocumentIdentification().getV());
+    }
+}
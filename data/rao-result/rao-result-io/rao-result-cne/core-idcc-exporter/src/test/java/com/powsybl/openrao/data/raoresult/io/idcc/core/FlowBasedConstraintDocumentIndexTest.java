@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.raoresult.io.idcc.core;
+
+import com.powsybl.openrao.commons.SharedExecutor;
+import com.powsybl.openrao.data.crac.io.fbconstraint.xsd.CriticalBranchType;
+import com.powsybl.openrao.data.crac.io.fbconstraint.xsd.FlowBasedConstraintDocument;
+import org.junit.jupiter.api.Test;
+import org.threeten.extra.Interval;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static com.powsybl.openrao.data.raoresult.io.idcc.core.FlowBasedConstraintDocumentTestUtils.DAY_INTERVAL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class FlowBasedConstraintDocumentIndexTest {
+
+    private static List<OffsetDateTime> getHoursOfDay() {
+        return IntervalUtil.getPositionsMap(DAY_INTERVAL).values().stream()
+            .map(Interval::getStart)
+            .map(instant -> OffsetDateTime.ofInstant(instant, ZoneOffset.UTC))
+            .toList();
+    }
+
+    @Test
+    void testCriticalBranchesValidAtMatchDocument() {
+        FlowBasedConstraintDocument document = FlowBasedConstraintDocumentTestUtils.createDocument();
+        FlowBasedConstraintDocumentIndex documentIndex = new FlowBasedConstraintDocumentIndex(document);
+        for (OffsetDateTime hour : getHoursOfDay()) {
+            List<CriticalBranchType> expectedCriticalBranches = document.getCriticalBranches().getCriticalBranch().stream()
+                .filter(cb -> IntervalUtil.isInTimeInterval(hour, cb.getTimeInterval().getV()))
+                .toList();
+            assertEquals(expectedCriticalBranches, documentIndex.getCriticalBranchesValidAt(hour));
+        }
+        // the end of the time interval is excluded
+        assertEquals(List.of("cb1", "cb2", "cb3"), documentIndex.getCriticalBranchesValidAt(OffsetDateTime.parse("2026-01-02T11:00Z")).stream().map(CriticalBranchType::getId).toList());
+        assertEquals(List.of("cb1", "cb2"), documentIndex.getCriticalBranchesValidAt(OffsetDateTime.parse("2026-01-02T12:00Z")).stream().map(CriticalBranchType::getId).toList());
+    }
+
+    @Test
+    void testElementsForInstantMatchDocument() {
+        FlowBasedConstraintDocument document = FlowBasedConstraintDocumentTestUtils.createDocument();
+        FlowBasedConstraintDocumentIndex documentIndex = new FlowBasedConstraintDocumentIndex(document);
+        for (OffsetDateTime hour : getHoursOfDay()) {
+            assertEquals(FlowBasedConstraintDocumentTestUtils.getCriticalBranchesForInstant(hour, document), documentIndex.getCriticalBranchesForInstant(hour));
+            assertEquals(FlowBasedConstraintDocumentTestUtils.getComplexVariantsForInstant(hour, document), documentIndex.getComplexVariantsForInstant(hour));
+        }
+        // the first element of the document is used when none is valid at the timestamp
+        OffsetDateTime afterTheDay = OffsetDateTime.parse("2026-01-03T12:00Z");
+        assertSame(document.getCriticalBranches().getCriticalBranch().get(1), documentIndex.getCriticalBranchesForInstant(afterTheDay).get("cb2"));
+        assertSame(document.getComplexVariants().getComplexVariant().get(0), documentIndex.getComplexVariantsForInstant(afterTheDay).get("cv1"));
+    }
+
+    @Test
+    void testDocumentWithoutComplexVariants() {
+        FlowBasedConstraintDocument document = FlowBasedConstraintDocumentTestUtils.createDocument();
+        document.setComplexVariants(null);
+        FlowBasedConstraintDocumentIndex documentIndex = new FlowBasedConstraintDocumentIndex(document);
+        assertTrue(documentIndex.getComplexVariantsForInstant(OffsetDateTime.parse("2026-01-02T12:00Z")).isEmpty());
+        assertEquals(3, documentIndex.getCriticalBranchesForInstant(OffsetDateTime.parse("2026-01-02T12:00Z")).size());
+    }
+
+    @Test
+    void testConcurrentLookupsMatchSequentialOnes() {
+        FlowBasedConstraintDocument document = FlowBasedConstraintDocumentTestUtils.createDocument();
+        FlowBasedConstraintDocumentIndex documentIndex = new FlowBasedConstraintDocumentIndex(document);
+        List<OffsetDateTime> hours = getHoursOfDay();
+
+        List<Map<String, CriticalBranchType>> sequentialLookups = hours.stream().map(documentIndex::getCriticalBranchesForInstant).toList();
+        List<Map<String, CriticalBranchType>> concurrentLookups = SharedExecutor.current().map(hours, documentIndex::getCriticalBranchesForInstant, hours.size(), false);
+        assertEquals(sequentialLookups, concurrentLookups);
+
+        List<List<CriticalBranchType>> sequentialValidBranches = hours.stream().map(documentIndex::getCriticalBranchesValidAt).toList();
+        List<List<CriticalBranchType>> concurrentValidBranches = SharedExecutor.current().map(hours, documentIndex::getCriticalBranchesValidAt, hours.size(), false);
+        assertEquals(sequentialValidBranches, concurrentValidBranches);
+    }
+}
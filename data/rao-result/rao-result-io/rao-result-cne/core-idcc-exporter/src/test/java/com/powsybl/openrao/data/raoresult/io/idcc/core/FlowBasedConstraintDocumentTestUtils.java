@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.raoresult.io.idcc.core;
+
+import com.powsybl.openrao.data.crac.io.fbconstraint.xsd.ComplexVariantsType;
+import com.powsybl.openrao.data.crac.io.fbconstraint.xsd.CriticalBranchType;
+import com.powsybl.openrao.data.crac.io.fbconstraint.xsd.CriticalBranchesType;
+import com.powsybl.openrao.data.crac.io.fbconstraint.xsd.FlowBasedConstraintDocument;
+import com.powsybl.openrao.data.crac.io.fbconstraint.xsd.IndependantComplexVariant;
+import com.powsybl.openrao.data.crac.io.fbconstraint.xsd.etso.IdentificationType;
+import com.powsybl.openrao.data.crac.io.fbconstraint.xsd.etso.MessageType;
+import com.powsybl.openrao.data.crac.io.fbconstraint.xsd.etso.PartyType;
+import com.powsybl.openrao.data.crac.io.fbconstraint.xsd.etso.ProcessType;
+import com.powsybl.openrao.data.crac.io.fbconstraint.xsd.etso.RoleType;
+import com.powsybl.openrao.data.crac.io.fbconstraint.xsd.etso.TimeIntervalType;
+import com.powsybl.openrao.data.crac.io.fbconstraint.xsd.etso.VersionType;
+
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * FlowBasedConstraintDocument of a whole day, with critical branches and complex variants defined on several time
+ * intervals, and reference implementations of the lookups made by the F711 generation before the document was indexed.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class FlowBasedConstraintDocumentTestUtils {
+    static final String DAY_INTERVAL = "2026-01-01T23:00Z/2026-01-02T23:00Z";
+
+    private FlowBasedConstraintDocumentTestUtils() {
+    }
+
+    static FlowBasedConstraintDocument createDocument() {
+        FlowBasedConstraintDocument document = new FlowBasedConstraintDocument();
+        document.setDocumentIdentification(new IdentificationType());
+        document.setDocumentVersion(new VersionType());
+        document.setDocumentType(new MessageType());
+        document.setProcessType(new ProcessType());
+        document.setSenderIdentification(party("SENDER"));
+        document.setSenderRole(new RoleType());
+        document.setReceiverIdentification(party("RECEIVER"));
+        document.setReceiverRole(new RoleType());
+        document.setConstraintTimeInterval(timeInterval(DAY_INTERVAL));
+
+        CriticalBranchesType criticalBranches = new CriticalBranchesType();
+        criticalBranches.getCriticalBranch().add(criticalBranch("cb1", DAY_INTERVAL, 50));
+        // same critical branch with different values in the morning and the rest of the day
+        criticalBranches.getCriticalBranch().add(criticalBranch("cb2", "2026-01-01T23:00Z/2026-01-02T06:00Z", 10));
+        criticalBranches.getCriticalBranch().add(criticalBranch("cb2", "2026-01-02T06:00Z/2026-01-02T23:00Z", 20));
+        criticalBranches.getCriticalBranch().add(criticalBranch("cb3", "2026-01-02T10:00Z/2026-01-02T12:00Z", 30));
+        document.setCriticalBranches(criticalBranches);
+
+        ComplexVariantsType complexVariants = new ComplexVariantsType();
+        complexVariants.getComplexVariant().add(complexVariant("cv1", "2026-01-01T23:00Z/2026-01-02T12:00Z"));
+        complexVariants.getComplexVariant().add(complexVariant("cv1", "2026-01-02T12:00Z/2026-01-02T23:00Z"));
+        complexVariants.getComplexVariant().add(complexVariant("cv2", "2026-01-02T15:00Z/2026-01-02T16:00Z"));
+        document.setComplexVariants(complexVariants);
+        return document;
+    }
+
+    private static PartyType party(String id) {
+        PartyType party = new PartyType();
+        party.setV(id);
+        return party;
+    }
+
+    private static TimeIntervalType timeInterval(String interval) {
+        TimeIntervalType timeInterval = new TimeIntervalType();
+        timeInterval.setV(interval);
+        return timeInterval;
+    }
+
+    private static CriticalBranchType criticalBranch(String id, String interval, float frmMw) {
+        CriticalBranchType criticalBranch = new CriticalBranchType();
+        criticalBranch.setId(id);
+        criticalBranch.setTimeInterval(timeInterval(interval));
+        criticalBranch.setBranch(new CriticalBranchType.Branch());
+        criticalBranch.setFrmMw(frmMw);
+        criticalBranch.setPermanentImaxA(10 * frmMw);
+        return criticalBranch;
+    }
+
+    private static IndependantComplexVariant complexVariant(String id, String interval) {
+        IndependantComplexVariant complexVariant = new IndependantComplexVariant();
+        complexVariant.setId(id);
+        complexVariant.setTimeInterval(timeInterval(interval));
+        return complexVariant;
+    }
+
+    /**
+     * Critical branches per id, as looked up in the document before it was indexed
+     */
+    static Map<String, CriticalBranchType> getCriticalBranchesForInstant(OffsetDateTime offsetDateTime, FlowBasedConstraintDocument flowBasedConstraintDocument) {
+        Map<String, CriticalBranchType> nativeCbs = new HashMap<>();
+        for (CriticalBranchType cb : flowBasedConstraintDocument.getCriticalBranches().getCriticalBranch()) {
+            if (!nativeCbs.containsKey(cb.getId()) || IntervalUtil.isInTimeInterval(offsetDateTime, cb.getTimeInterval().getV())) {
+                nativeCbs.put(cb.getId(), cb);
+            }
+        }
+        return nativeCbs;
+    }
+
+    /**
+     * Complex variants per id, as looked up in the document before it was indexed
+     */
+    static Map<String, IndependantComplexVariant> getComplexVariantsForInstant(OffsetDateTime offsetDateTime, FlowBasedConstraintDocument flowBasedConstraintDocument) {
+        Map<String, IndependantComplexVariant> nativeVariants = new HashMap<>();
+        for (IndependantComplexVariant cv : flowBasedConstraintDocument.getComplexVariants().getComplexVariant()) {
+            if (!nativeVariants.containsKey(cv.getId()) || IntervalUtil.isInTimeInterval(offsetDateTime, cv.getTimeInterval().getV())) {
+                nativeVariants.put(cv.getId(), cv);
+            }
+        }
+        return nativeVariants;
+    }
+}
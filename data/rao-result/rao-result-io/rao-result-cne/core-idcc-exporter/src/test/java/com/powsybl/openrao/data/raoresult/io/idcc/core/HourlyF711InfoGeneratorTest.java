@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.raoresult.io.idcc.core;
+
+import com.powsybl.openrao.commons.SharedExecutor;
+import com.powsybl.openrao.data.crac.io.fbconstraint.xsd.CriticalBranchType;
+import com.powsybl.openrao.data.crac.io.fbconstraint.xsd.FlowBasedConstraintDocument;
+import com.powsybl.openrao.data.crac.io.fbconstraint.xsd.etso.TimeIntervalType;
+import org.junit.jupiter.api.Test;
+import org.threeten.extra.Interval;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.powsybl.openrao.data.raoresult.io.idcc.core.FlowBasedConstraintDocumentTestUtils.DAY_INTERVAL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class HourlyF711InfoGeneratorTest {
+
+    /**
+     * Hourly information of a non-requested interval, as computed on the document before it was indexed
+     */
+    static HourlyF711Info getReferenceInfoForNonRequestedInterval(FlowBasedConstraintDocument document, Interval interval) {
+        OffsetDateTime startTime = OffsetDateTime.ofInstant(interval.getStart(), ZoneOffset.UTC);
+        TimeIntervalType ti = new TimeIntervalType();
+        ti.setV(IntervalUtil.getCurrentTimeInterval(startTime));
+        List<CriticalBranchType> criticalBranches = new ArrayList<>();
+        document.getCriticalBranches().getCriticalBranch().stream()
+            .filter(cb -> IntervalUtil.isInTimeInterval(startTime, cb.getTimeInterval().getV()))
+            .forEach(refCb -> {
+                CriticalBranchType clonedCb = (CriticalBranchType) refCb.clone();
+                clonedCb.setTimeInterval(ti);
+                clonedCb.setImaxA(clonedCb.getPermanentImaxA());
+                clonedCb.setImaxFactor(null);
+                clonedCb.setPermanentImaxA(null);
+                criticalBranches.add(clonedCb);
+            });
+        return new HourlyF711Info(criticalBranches);
+    }
+
+    /**
+     * Description of the critical branches compared between the computations
+     */
+    static List<String> describe(List<CriticalBranchType> criticalBranches) {
+        return criticalBranches.stream()
+            .map(cb -> String.join(";", cb.getId(), cb.getTimeInterval().getV(), String.valueOf(cb.getImaxA()), String.valueOf(cb.getPermanentImaxA()), String.valueOf(cb.getFrmMw())))
+            .toList();
+    }
+
+    @Test
+    void testNonRequestedIntervalsComputedConcurrentlyMatchPreviousBehaviour() {
+        FlowBasedConstraintDocument document = FlowBasedConstraintDocumentTestUtils.createDocument();
+        FlowBasedConstraintDocumentIndex documentIndex = new FlowBasedConstraintDocumentIndex(document);
+        List<Interval> intervals = new ArrayList<>(IntervalUtil.getPositionsMap(DAY_INTERVAL).values());
+
+        // all the hours share the same index, as in the daily F711 generation
+        List<HourlyF711Info> concurrentInfos = SharedExecutor.current().map(intervals, interval -> HourlyF711InfoGenerator.getInfoForNonRequestedOrFailedInterval(documentIndex, interval), intervals.size(), false);
+
+        assertEquals(intervals.size(), concurrentInfos.size());
+        for (int i = 0; i < intervals.size(); i++) {
+            HourlyF711Info expectedInfo = getReferenceInfoForNonRequestedInterval(document, intervals.get(i));
+            assertEquals(describe(expectedInfo.getCriticalBranches()), describe(concurrentInfos.get(i).getCriticalBranches()));
+            assertEquals(List.of(), concurrentInfos.get(i).getComplexVariants());
+        }
+        // the reference critical branches are cloned, not modified
+        assertEquals("2026-01-02T10:00Z/2026-01-02T12:00Z", document.getCriticalBranches().getCriticalBranch().get(3).getTimeInterval().getV());
+    }
+}
@@ -16,12 +16,19 @@ import com.powsybl.openrao.data.crac.api.InstantKind;
 import com.powsybl.openrao.data.crac.api.cnec.Cnec;
 import com.powsybl.openrao.data.crac.api.parameters.CracCreationParameters;
 import com.powsybl.openrao.data.crac.impl.AngleCnecValue;
+import com.powsybl.openrao.data.crac.io.cim.craccreator.CimCracCreationContext;
 import com.powsybl.openrao.data.crac.io.cim.parameters.CimCracCreationParameters;
 import com.powsybl.openrao.data.crac.io.cim.parameters.RangeActionSpeed;
 import com.powsybl.openrao.data.raoresult.api.RaoResult;
+import com.powsybl.openrao.data.raoresult.io.cne.commons.CneWriter;
+import com.powsybl.openrao.data.raoresult.io.cne.swe.xsd.CriticalNetworkElementMarketDocument;
 import com.powsybl.openrao.monitoring.results.CnecResult;
 import com.powsybl.openrao.monitoring.results.MonitoringResult;
 import com.powsybl.openrao.monitoring.results.RaoResultWithAngleMonitoring;
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBElement;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Marshaller;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -32,6 +39,9 @@ import org.xmlunit.diff.DefaultComparisonFormatter;
 import org.xmlunit.diff.Diff;
 import org.xmlunit.diff.Difference;
 
+import javax.xml.XMLConstants;
+import javax.xml.namespace.QName;
+import javax.xml.validation.Schema;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
@@ -39,12 +49,17 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringWriter;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 
+import static com.powsybl.openrao.data.raoresult.io.cne.commons.CneConstants.CNE_TAG;
+import static com.powsybl.openrao.data.raoresult.io.cne.commons.CneConstants.CNE_XSD_2_3;
+import static com.powsybl.openrao.data.raoresult.io.cne.commons.CneConstants.CODELISTS_XSD;
+import static com.powsybl.openrao.data.raoresult.io.cne.commons.CneConstants.LOCALTYPES_XSD;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -133,6 +148,35 @@ class SweCneTest {
         }
     }
 
+    @Test
+    void testCneWriterOutputIsIdenticalToStringMarshalling() throws JAXBException {
+        SweCne cne = new SweCne((CimCracCreationContext) cracCreationContext, raoResultWithAngle, properties);
+        cne.generate();
+        CriticalNetworkElementMarketDocument marketDocument = cne.getMarketDocument();
+
+        // document written by CneWriter
+        JAXBContext jaxbContext = JAXBContext.newInstance(CriticalNetworkElementMarketDocument.class);
+        Schema schema = CneWriter.createSchema(SweCneExporter.class, CNE_XSD_2_3, CODELISTS_XSD, LOCALTYPES_XSD);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        assertTrue(CneWriter.write(jaxbContext, CriticalNetworkElementMarketDocument.class, marketDocument, CNE_XSD_2_3, schema, outputStream));
+
+        // same document marshalled to a string with its root element renamed, as done before CneWriter
+        Marshaller jaxbMarshaller = jaxbContext.createMarshaller();
+        jaxbMarshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        jaxbMarshaller.setProperty(Marshaller.JAXB_SCHEMA_LOCATION, CNE_XSD_2_3);
+        StringWriter stringWriter = new StringWriter();
+        jaxbMarshaller.marshal(new JAXBElement<>(new QName(XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI, CNE_TAG), CriticalNetworkElementMarketDocument.class, marketDocument), stringWriter);
+        String expectedCne = stringWriter.toString().replace("xsi:" + CNE_TAG, CNE_TAG);
+        assertTrue(SweCneExporter.validateCNESchema(expectedCne));
+
+        Diff diff = DiffBuilder
+            .compare(Input.fromString(expectedCne))
+            .withTest(Input.fromByteArray(outputStream.toByteArray()))
+            .checkForIdentical()
+            .build();
+        assertFalse(diff.hasDifferences(), diff.toString());
+    }
+
     @Test
     void testValidateSchemaOk() {
         try {
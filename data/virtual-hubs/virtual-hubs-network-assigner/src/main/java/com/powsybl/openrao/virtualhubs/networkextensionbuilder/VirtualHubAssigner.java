@@ -12,6 +12,7 @@ import com.powsybl.iidm.network.BoundaryLine;
 import com.powsybl.iidm.network.Load;
 import com.powsybl.iidm.network.LoadType;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.openrao.commons.NetworkBusIndex;
 import com.powsybl.openrao.virtualhubs.VirtualHub;
 import com.powsybl.openrao.virtualhubs.networkextension.AssignedVirtualHubAdder;
 import org.slf4j.Logger;
@@ -34,25 +35,27 @@ public class VirtualHubAssigner {
     }
 
     public void addVirtualLoads(Network network) {
+        // the fictitious loads added to the network do not change its buses, so the index can be built once for all the virtual hubs
+        NetworkBusIndex networkBusIndex = NetworkBusIndex.of(network);
         virtualHubs.forEach(vh -> {
             if (vh.nodeName() == null) {
                 LOGGER.warn("Virtual hub {} will be ignored as it has no nodeName", vh.eic());
             } else {
-                addVirtualLoad(network, vh);
+                addVirtualLoad(networkBusIndex, vh);
             }
         });
     }
 
-    private void addVirtualLoad(Network network, VirtualHub virtualHub) {
+    private void addVirtualLoad(NetworkBusIndex networkBusIndex, VirtualHub virtualHub) {
 
-        Optional<Bus> bus = findBusById(network, virtualHub.nodeName());
+        Optional<Bus> bus = networkBusIndex.getBus(virtualHub.nodeName());
         if (bus.isPresent()) {
             // virtual hub is on a real network node
             addVirtualHubOnNewFictitiousLoad(bus.get(), virtualHub);
             return;
         }
 
-        Optional<BoundaryLine> boundaryLine = findBoundaryLineWithXNode(network, virtualHub.nodeName());
+        Optional<BoundaryLine> boundaryLine = networkBusIndex.getBoundaryLine(virtualHub.nodeName());
         if (boundaryLine.isPresent()) {
             // virtual hub is on a Xnode which has been merged in a boundary line during network import
             if (boundaryLine.get().getTerminal().isConnected()) {
@@ -87,17 +90,4 @@ public class VirtualHubAssigner {
 
         LOGGER.info("A fictitious load {} has been added to {} in order to assign the virtual hub {}", load.getId(), bus.getId(), virtualHub.eic());
     }
-
-    private Optional<Bus> findBusById(Network network, String id) {
-        return network.getVoltageLevelStream()
-            .flatMap(vl -> vl.getBusBreakerView().getBusStream())
-            .filter(bus -> bus.getId().equals(id))
-            .findFirst();
-    }
-
-    private Optional<BoundaryLine> findBoundaryLineWithXNode(Network network, String xNodeId) {
-        return network.getBoundaryLineStream()
-            .filter(boundaryLine -> boundaryLine.getPairingKey().equals(xNodeId))
-            .findFirst();
-    }
 }
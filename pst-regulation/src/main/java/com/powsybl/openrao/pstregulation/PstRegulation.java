@@ -115,17 +115,26 @@ public final class PstRegulation {
         // apply optimal preventive remedial actions
         applyOptimalRemedialActionsForState(network, raoResult, crac.getPreventiveState());
 
-        // regulate PSTs for each curative scenario in parallel
-        try (AbstractNetworkPool networkPool = AbstractNetworkPool.create(network, network.getVariantManager().getWorkingVariantId(), getNumberOfThreads(crac, raoParameters), true)) {
-            List<ForkJoinTask<PstRegulationResult>> tasks = statesToRegulate.stream()
-                .map(pstRegulationInput -> networkPool.submit(
-                    () -> regulatePstsForContingencyScenario(pstRegulationInput, crac, rangeActionsToRegulate, raoResult, loadFlowParameters, networkPool, pstRegulationReportNode)
+        // the default regulation settings are reported once for all the curative scenarios, whatever their batches
+        PstRegulator.reportDefaultRegulationSettings(
+            statesToRegulate.stream().flatMap(pstRegulationInput -> pstRegulationInput.elementaryPstRegulationInputs().stream()).toList(),
+            network,
+            pstRegulationReportNode
+        );
+
+        // regulate PSTs for each batch of curative scenarios sharing the same setup in parallel
+        int numberOfThreads = getNumberOfThreads(crac, raoParameters);
+        List<PstRegulationBatch> pstRegulationBatches = PstRegulationBatch.createBatches(statesToRegulate, crac, raoResult, numberOfThreads);
+        try (AbstractNetworkPool networkPool = AbstractNetworkPool.create(network, network.getVariantManager().getWorkingVariantId(), numberOfThreads, true)) {
+            List<ForkJoinTask<List<PstRegulationResult>>> tasks = pstRegulationBatches.stream()
+                .map(pstRegulationBatch -> networkPool.submit(
+                    () -> regulatePstsForBatch(pstRegulationBatch, crac, rangeActionsToRegulate, raoResult, loadFlowParameters, networkPool, pstRegulationReportNode)
                 ))
                 .toList();
             Set<PstRegulationResult> pstRegulationResults = new HashSet<>();
-            for (ForkJoinTask<PstRegulationResult> task : tasks) {
+            for (ForkJoinTask<List<PstRegulationResult>> task : tasks) {
                 try {
-                    pstRegulationResults.add(task.get());
+                    pstRegulationResults.addAll(task.get());
                 } catch (ExecutionException e) {
                     throw new OpenRaoException(e);
                 }
@@ -292,6 +301,50 @@ public final class PstRegulation {
         return Math.min(getAvailableCPUs(raoParameters), crac.getContingencies().size());
     }
 
+    /**
+     * Performs PST regulation for all the curative states of a batch on a single network. The remedial actions are
+     * applied and the regulation is configured once on the working variant, then each contingency is simulated on a
+     * dedicated variant cloned from it.
+     */
+    private static List<PstRegulationResult> regulatePstsForBatch(final PstRegulationBatch pstRegulationBatch,
+                                                                  final Crac crac,
+                                                                  final Set<PstRangeAction> rangeActionsToRegulate,
+                                                                  final RaoResult raoResult,
+                                                                  final LoadFlowParameters loadFlowParameters,
+                                                                  final AbstractNetworkPool networkPool,
+                                                                  final ReportNode reportNode) throws InterruptedException {
+        if (!pstRegulationBatch.hasSharedSetup()) {
+            return List.of(regulatePstsForContingencyScenario(pstRegulationBatch.pstRegulationInputs().getFirst(), crac, rangeActionsToRegulate, raoResult, loadFlowParameters, networkPool, reportNode));
+        }
+
+        Network networkClone = networkPool.getAvailableNetwork();
+        String setupVariantId = networkClone.getVariantManager().getWorkingVariantId();
+
+        // all inputs of the batch share the same remedial actions and regulation configuration
+        PstRegulationInput referenceInput = pstRegulationBatch.pstRegulationInputs().getFirst();
+        applyOptimalPostOutageActions(referenceInput.curativeState().getContingency().orElseThrow(), networkClone, crac, raoResult);
+        PstRegulator.configureRegulation(referenceInput.elementaryPstRegulationInputs(), networkClone);
+
+        List<PstRegulationResult> pstRegulationResults = new ArrayList<>();
+        for (PstRegulationInput pstRegulationInput : pstRegulationBatch.pstRegulationInputs()) {
+            Contingency contingency = pstRegulationInput.curativeState().getContingency().orElseThrow();
+            String contingencyVariantId = PST_REGULATION_VARIANT + " " + contingency.getId();
+            networkClone.getVariantManager().cloneVariant(setupVariantId, contingencyVariantId, true);
+            networkClone.getVariantManager().setWorkingVariant(contingencyVariantId);
+
+            contingency.toModification().apply(networkClone);
+            Map<PstRangeAction, Integer> initialTapPerPst = getInitialTapPerPst(rangeActionsToRegulate, networkClone);
+            Map<PstRangeAction, Integer> regulatedTapPerPst = PstRegulator.runRegulationLoadFlow(pstRegulationInput.elementaryPstRegulationInputs(), networkClone, loadFlowParameters);
+            logPstRegulationResultsForContingencyScenario(contingency, initialTapPerPst, regulatedTapPerPst, pstRegulationInput.limitingElement(), reportNode);
+            pstRegulationResults.add(new PstRegulationResult(contingency, regulatedTapPerPst));
+
+            networkClone.getVariantManager().setWorkingVariant(setupVariantId);
+            networkClone.getVariantManager().removeVariant(contingencyVariantId);
+        }
+        networkPool.releaseUsedNetwork(networkClone);
+        return pstRegulationResults;
+    }
+
     /**
      * Performs PST regulation for a curative state. The taps are changed during the loadflow iterations.
      */
@@ -306,7 +359,8 @@ public final class PstRegulation {
         Contingency contingency = pstRegulationInput.curativeState().getContingency().orElseThrow();
         simulateContingencyAndApplyCurativeActions(contingency, networkClone, crac, raoResult);
         Map<PstRangeAction, Integer> initialTapPerPst = getInitialTapPerPst(rangeActionsToRegulate, networkClone);
-        Map<PstRangeAction, Integer> regulatedTapPerPst = PstRegulator.regulatePsts(pstRegulationInput.elementaryPstRegulationInputs(), networkClone, loadFlowParameters, reportNode);
+        PstRegulator.configureRegulation(pstRegulationInput.elementaryPstRegulationInputs(), networkClone);
+        Map<PstRangeAction, Integer> regulatedTapPerPst = PstRegulator.runRegulationLoadFlow(pstRegulationInput.elementaryPstRegulationInputs(), networkClone, loadFlowParameters);
         logPstRegulationResultsForContingencyScenario(contingency, initialTapPerPst, regulatedTapPerPst, pstRegulationInput.limitingElement(), reportNode);
         networkPool.releaseUsedNetwork(networkClone);
         return new PstRegulationResult(contingency, regulatedTapPerPst);
@@ -320,6 +374,13 @@ public final class PstRegulation {
         contingency.toModification().apply(networkClone);
 
         // apply optimal automatons and curative remedial actions
+        applyOptimalPostOutageActions(contingency, networkClone, crac, raoResult);
+    }
+
+    private static void applyOptimalPostOutageActions(Contingency contingency,
+                                                    Network networkClone,
+                                                    Crac crac,
+                                                    RaoResult raoResult) {
         crac.getStates(contingency).stream()
             .filter(state -> !state.getInstant().isOutage())
             .forEach(state -> applyOptimalRemedialActionsForState(networkClone, raoResult, state));
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.pstregulation;
+
+import com.powsybl.contingency.Contingency;
+import com.powsybl.contingency.ContingencyElement;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.crac.api.NetworkElement;
+import com.powsybl.openrao.data.crac.api.RemedialAction;
+import com.powsybl.openrao.data.crac.api.State;
+import com.powsybl.openrao.data.crac.api.networkaction.NetworkAction;
+import com.powsybl.openrao.data.crac.api.rangeaction.RangeAction;
+import com.powsybl.openrao.data.raoresult.api.RaoResult;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Group of contingency scenarios that can be regulated on the same network setup: all the scenarios of a batch share
+ * the same post-outage remedial actions (with the same set-points) and the same PST regulation configuration. The
+ * remedial actions are thus applied and the PSTs regulation is configured only once per batch, and each scenario then
+ * only adds its own contingency on top of this common setup before running the loadflow.
+ * <p>
+ * Applying the remedial actions before simulating the contingency is only equivalent to the per-scenario process if
+ * the contingency does not trip any element acted upon. Scenarios for which this is not guaranteed are therefore
+ * always isolated in a batch of their own and regulated the usual way.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public record PstRegulationBatch(List<PstRegulationInput> pstRegulationInputs) {
+
+    public boolean hasSharedSetup() {
+        return pstRegulationInputs.size() > 1;
+    }
+
+    /**
+     * Groups the PST regulation inputs in batches sharing the same setup. Large batches are split so that at least
+     * {@code minNumberOfBatches} batches are created (when possible) to keep all the threads of the network pool busy.
+     * The batches and their content are sorted by contingency id for the computation to be deterministic.
+     */
+    public static List<PstRegulationBatch> createBatches(Set<PstRegulationInput> pstRegulationInputs,
+                                                         Crac crac,
+                                                         RaoResult raoResult,
+                                                         int minNumberOfBatches) {
+        Map<RegulationSetup, List<PstRegulationInput>> inputsPerSetup = new LinkedHashMap<>();
+        List<List<PstRegulationInput>> isolatedInputs = new ArrayList<>();
+        pstRegulationInputs.stream()
+            .sorted(Comparator.comparing(PstRegulationBatch::getContingencyId))
+            .forEach(pstRegulationInput -> {
+                RegulationSetup regulationSetup = RegulationSetup.of(pstRegulationInput, crac, raoResult);
+                if (contingencyTripsElementsOfSetup(pstRegulationInput.curativeState().getContingency().orElseThrow(), regulationSetup)) {
+                    isolatedInputs.add(List.of(pstRegulationInput));
+                } else {
+                    inputsPerSetup.computeIfAbsent(regulationSetup, k -> new ArrayList<>()).add(pstRegulationInput);
+                }
+            });
+
+        int numberOfGroups = inputsPerSetup.size() + isolatedInputs.size();
+        int maxBatchSize = Math.max(1, (int) Math.ceil((double) pstRegulationInputs.size() / Math.max(1, minNumberOfBatches)));
+
+        List<PstRegulationBatch> batches = new ArrayList<>(numberOfGroups);
+        isolatedInputs.forEach(inputs -> batches.add(new PstRegulationBatch(inputs)));
+        inputsPerSetup.values().forEach(inputs -> {
+            for (int i = 0; i < inputs.size(); i += maxBatchSize) {
+                batches.add(new PstRegulationBatch(List.copyOf(inputs.subList(i, Math.min(i + maxBatchSize, inputs.size())))));
+            }
+        });
+        batches.sort(Comparator.comparing(batch -> getContingencyId(batch.pstRegulationInputs().getFirst())));
+        return batches;
+    }
+
+    private static String getContingencyId(PstRegulationInput pstRegulationInput) {
+        return pstRegulationInput.curativeState().getContingency().orElseThrow().getId();
+    }
+
+    private static boolean contingencyTripsElementsOfSetup(Contingency contingency, RegulationSetup regulationSetup) {
+        Set<String> contingencyElements = contingency.getElements().stream()
+            .map(ContingencyElement::getId)
+            .collect(Collectors.toSet());
+        return regulationSetup.getNetworkElementIds().anyMatch(contingencyElements::contains);
+    }
+
+    /**
+     * Everything that is applied on the network after the preventive instant, except the contingency itself.
+     * Remedial actions are indexed by instant id so that scenarios of different contingencies can be compared.
+     */
+    private record RegulationSetup(Map<String, Set<NetworkAction>> networkActionsPerInstant,
+                                   Map<String, Map<RangeAction<?>, Double>> rangeActionSetPointsPerInstant,
+                                   Set<ElementaryPstRegulationInput> elementaryPstRegulationInputs) {
+
+        private static RegulationSetup of(PstRegulationInput pstRegulationInput, Crac crac, RaoResult raoResult) {
+            Map<String, Set<NetworkAction>> networkActionsPerInstant = new HashMap<>();
+            Map<String, Map<RangeAction<?>, Double>> rangeActionSetPointsPerInstant = new HashMap<>();
+            crac.getStates(pstRegulationInput.curativeState().getContingency().orElseThrow()).stream()
+                .filter(state -> !state.getInstant().isOutage())
+                .forEach(state -> {
+                    networkActionsPerInstant.put(state.getInstant().getId(), raoResult.getActivatedNetworkActionsDuringState(state));
+                    rangeActionSetPointsPerInstant.put(state.getInstant().getId(), getRangeActionSetPoints(state, raoResult));
+                });
+            return new RegulationSetup(networkActionsPerInstant, rangeActionSetPointsPerInstant, pstRegulationInput.elementaryPstRegulationInputs());
+        }
+
+        private static Map<RangeAction<?>, Double> getRangeActionSetPoints(State state, RaoResult raoResult) {
+            Map<RangeAction<?>, Double> setPoints = new HashMap<>();
+            raoResult.getActivatedRangeActionsDuringState(state)
+                .forEach(rangeAction -> setPoints.put(rangeAction, raoResult.getOptimizedSetPointOnState(state, rangeAction)));
+            return setPoints;
+        }
+
+        private Stream<String> getNetworkElementIds() {
+            Stream<RemedialAction<?>> remedialActions = Stream.concat(
+                networkActionsPerInstant.values().stream().<RemedialAction<?>>flatMap(Set::stream),
+                rangeActionSetPointsPerInstant.values().stream().<RemedialAction<?>>flatMap(setPoints -> setPoints.keySet().stream())
+            );
+            Stream<String> regulatedPsts = elementaryPstRegulationInputs.stream()
+                .map(elementaryPstRegulationInput -> elementaryPstRegulationInput.pstRangeAction().getNetworkElement().getId());
+            return Stream.concat(
+                remedialActions.flatMap(remedialAction -> remedialAction.getNetworkElements().stream()).map(NetworkElement::getId),
+                regulatedPsts
+            );
+        }
+    }
+}
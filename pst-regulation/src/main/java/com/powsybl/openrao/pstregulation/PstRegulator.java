@@ -17,8 +17,12 @@ import com.powsybl.openrao.commons.OpenRaoException;
 import com.powsybl.openrao.data.crac.api.rangeaction.PstRangeAction;
 import com.powsybl.openrao.searchtreerao.reports.CastorReports;
 
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 /**
@@ -32,9 +36,53 @@ public final class PstRegulator {
                                                             final Network network,
                                                             final LoadFlowParameters loadFlowParameters,
                                                             final ReportNode reportNode) {
+        reportDefaultRegulationSettings(elementaryPstRegulationInputs, network, reportNode);
+        configureRegulation(elementaryPstRegulationInputs, network);
+        return runRegulationLoadFlow(elementaryPstRegulationInputs, network, loadFlowParameters);
+    }
+
+    /**
+     * Reports the PSTs whose phase tap changer has no regulation terminal or no target deadband defined, for which
+     * default values are used when the regulation is configured. When several contingency scenarios are regulated,
+     * this is reported once for all of them, with all the limiting sides used, rather than once per scenario.
+     */
+    static void reportDefaultRegulationSettings(final Collection<ElementaryPstRegulationInput> elementaryPstRegulationInputs,
+                                                final Network network,
+                                                final ReportNode reportNode) {
+        elementaryPstRegulationInputs.stream()
+            .collect(Collectors.groupingBy(
+                elementaryPstRegulationInput -> getTwoWindingsTransformer(network, elementaryPstRegulationInput.pstRangeAction()),
+                () -> new TreeMap<>(Comparator.comparing(TwoWindingsTransformer::getId)),
+                Collectors.mapping(ElementaryPstRegulationInput::limitingSide, Collectors.toCollection(TreeSet::new))
+            ))
+            .forEach((twt, limitingSides) -> {
+                PhaseTapChanger phaseTapChanger = twt.getPhaseTapChanger();
+                if (phaseTapChanger.getRegulationTerminal() == null) {
+                    limitingSides.forEach(limitingSide -> CastorReports.reportNoDefaultRegulationTerminalDefined(reportNode, twt.getId(), limitingSide));
+                }
+                if (Double.isNaN(phaseTapChanger.getTargetDeadband())) {
+                    CastorReports.reportNoDefaultTargetDeadbandDefined(reportNode, twt.getId());
+                }
+            });
+    }
+
+    /**
+     * Sets the PSTs in CURRENT_LIMITER regulation mode on the working variant of the network. When several contingency
+     * scenarios share the same regulation setup, this only needs to be done once on a variant they are all cloned from.
+     */
+    static void configureRegulation(final Set<ElementaryPstRegulationInput> elementaryPstRegulationInputs,
+                                    final Network network) {
         elementaryPstRegulationInputs.forEach(
-            elementaryPstRegulationInput -> setRegulationForPst(network, elementaryPstRegulationInput, reportNode)
+            elementaryPstRegulationInput -> setRegulationForPst(network, elementaryPstRegulationInput)
         );
+    }
+
+    /**
+     * Runs the loadflow on a network whose PSTs regulation has already been configured and returns the regulated taps.
+     */
+    static Map<PstRangeAction, Integer> runRegulationLoadFlow(final Set<ElementaryPstRegulationInput> elementaryPstRegulationInputs,
+                                                              final Network network,
+                                                              final LoadFlowParameters loadFlowParameters) {
         LoadFlow.find("OpenLoadFlow").run(network, loadFlowParameters);
         return elementaryPstRegulationInputs.stream()
             .collect(Collectors.toMap(
@@ -43,13 +91,13 @@ public final class PstRegulator {
             ));
     }
 
-    private static void setRegulationForPst(Network network, ElementaryPstRegulationInput elementaryPstRegulationInput, ReportNode reportNode) {
+    private static void setRegulationForPst(Network network, ElementaryPstRegulationInput elementaryPstRegulationInput) {
         TwoWindingsTransformer twt = getTwoWindingsTransformer(network, elementaryPstRegulationInput.pstRangeAction());
         PhaseTapChanger phaseTapChanger = twt.getPhaseTapChanger();
         phaseTapChanger.setRegulationValue(elementaryPstRegulationInput.limitingThreshold());
-        setRegulationTerminal(twt, elementaryPstRegulationInput, reportNode);
+        setRegulationTerminal(twt, elementaryPstRegulationInput);
         phaseTapChanger.setRegulationMode(PhaseTapChanger.RegulationMode.CURRENT_LIMITER);
-        setTargetDeadband(twt, reportNode);
+        setTargetDeadband(twt);
         phaseTapChanger.setRegulating(true);
     }
 
@@ -63,19 +111,16 @@ public final class PstRegulator {
     }
 
     private static void setRegulationTerminal(final TwoWindingsTransformer twt,
-                                              final ElementaryPstRegulationInput elementaryPstRegulationInput,
-                                              final ReportNode reportNode) {
+                                              final ElementaryPstRegulationInput elementaryPstRegulationInput) {
         PhaseTapChanger phaseTapChanger = twt.getPhaseTapChanger();
         if (phaseTapChanger.getRegulationTerminal() == null) {
-            CastorReports.reportNoDefaultRegulationTerminalDefined(reportNode, twt.getId(), elementaryPstRegulationInput.limitingSide());
             phaseTapChanger.setRegulationTerminal(twt.getTerminal(elementaryPstRegulationInput.limitingSide()));
         }
     }
 
-    private static void setTargetDeadband(final TwoWindingsTransformer twt, final ReportNode reportNode) {
+    private static void setTargetDeadband(final TwoWindingsTransformer twt) {
         PhaseTapChanger phaseTapChanger = twt.getPhaseTapChanger();
         if (Double.isNaN(phaseTapChanger.getTargetDeadband())) {
-            CastorReports.reportNoDefaultTargetDeadbandDefined(reportNode, twt.getId());
             phaseTapChanger.setTargetDeadband(0.0); // value is not used by OpenLoadFlow in CURRENT_LIMITER mode
         }
     }
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.pstregulation;
+
+import com.powsybl.contingency.BranchContingency;
+import com.powsybl.contingency.Contingency;
+import com.powsybl.iidm.network.TwoSides;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.crac.api.Instant;
+import com.powsybl.openrao.data.crac.api.NetworkElement;
+import com.powsybl.openrao.data.crac.api.State;
+import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
+import com.powsybl.openrao.data.crac.api.networkaction.NetworkAction;
+import com.powsybl.openrao.data.crac.api.rangeaction.PstRangeAction;
+import com.powsybl.openrao.data.raoresult.api.RaoResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class PstRegulationBatchTest {
+    private Crac crac;
+    private RaoResult raoResult;
+    private Instant curativeInstant;
+    private ElementaryPstRegulationInput elementaryPstRegulationInput;
+
+    @BeforeEach
+    void setUp() {
+        crac = Mockito.mock(Crac.class);
+        raoResult = Mockito.mock(RaoResult.class);
+        curativeInstant = Mockito.mock(Instant.class);
+        Mockito.when(curativeInstant.getId()).thenReturn("curative");
+        Mockito.when(curativeInstant.isOutage()).thenReturn(false);
+
+        NetworkElement pst = mockNetworkElement("pst");
+        PstRangeAction pstRangeAction = Mockito.mock(PstRangeAction.class);
+        Mockito.when(pstRangeAction.getNetworkElement()).thenReturn(pst);
+        elementaryPstRegulationInput = new ElementaryPstRegulationInput(pstRangeAction, TwoSides.ONE, 500.0);
+    }
+
+    private static NetworkElement mockNetworkElement(String id) {
+        NetworkElement networkElement = Mockito.mock(NetworkElement.class);
+        Mockito.when(networkElement.getId()).thenReturn(id);
+        return networkElement;
+    }
+
+    private PstRegulationInput createInput(String contingencyId, String trippedLine, NetworkAction... activatedNetworkActions) {
+        Contingency contingency = new Contingency(contingencyId, new BranchContingency(trippedLine));
+        State curativeState = Mockito.mock(State.class);
+        Mockito.when(curativeState.getContingency()).thenReturn(Optional.of(contingency));
+        Mockito.when(curativeState.getInstant()).thenReturn(curativeInstant);
+        Mockito.when(crac.getStates(contingency)).thenReturn(new TreeSet<>(Set.of(curativeState)));
+        Mockito.when(raoResult.getActivatedNetworkActionsDuringState(curativeState)).thenReturn(Set.of(activatedNetworkActions));
+        return new PstRegulationInput(curativeState, Mockito.mock(FlowCnec.class), Set.of(elementaryPstRegulationInput));
+    }
+
+    private static NetworkAction mockNetworkAction(String networkElementId) {
+        NetworkAction networkAction = Mockito.mock(NetworkAction.class);
+        Mockito.when(networkAction.getNetworkElements()).thenReturn(Set.of(mockNetworkElement(networkElementId)));
+        return networkAction;
+    }
+
+    @Test
+    void testScenariosWithSameSetupAreBatched() {
+        PstRegulationInput input1 = createInput("co1", "line1");
+        PstRegulationInput input2 = createInput("co2", "line2");
+        // curative topological action on the tripped line: must be isolated
+        PstRegulationInput input3 = createInput("co3", "line3", mockNetworkAction("line3"));
+        // different curative action: cannot share the setup of co1 and co2
+        PstRegulationInput input4 = createInput("co4", "line4", mockNetworkAction("otherLine"));
+
+        List<PstRegulationBatch> batches = PstRegulationBatch.createBatches(Set.of(input1, input2, input3, input4), crac, raoResult, 1);
+        assertEquals(3, batches.size());
+        assertEquals(List.of(input1, input2), batches.get(0).pstRegulationInputs());
+        assertTrue(batches.get(0).hasSharedSetup());
+        assertEquals(List.of(input3), batches.get(1).pstRegulationInputs());
+        assertFalse(batches.get(1).hasSharedSetup());
+        assertEquals(List.of(input4), batches.get(2).pstRegulationInputs());
+    }
+
+    @Test
+    void testBatchesAreSplitToUseAllThreads() {
+        PstRegulationInput input1 = createInput("co1", "line1");
+        PstRegulationInput input2 = createInput("co2", "line2");
+        PstRegulationInput input3 = createInput("co3", "line3");
+        PstRegulationInput input4 = createInput("co4", "line4");
+
+        List<PstRegulationBatch> batches = PstRegulationBatch.createBatches(Set.of(input1, input2, input3, input4), crac, raoResult, 2);
+        assertEquals(2, batches.size());
+        assertEquals(List.of(input1, input2), batches.get(0).pstRegulationInputs());
+        assertEquals(List.of(input3, input4), batches.get(1).pstRegulationInputs());
+    }
+}
@@ -24,6 +24,7 @@ import com.powsybl.openrao.data.raoresult.api.RaoResult;
 import com.powsybl.openrao.raoapi.RaoInput;
 import com.powsybl.openrao.raoapi.json.JsonRaoParameters;
 import com.powsybl.openrao.raoapi.parameters.RaoParameters;
+import com.powsybl.openrao.raoapi.parameters.extensions.MultithreadingParameters;
 import com.powsybl.openrao.raoapi.parameters.extensions.OpenRaoSearchTreeParameters;
 import com.powsybl.openrao.raoapi.parameters.extensions.SearchTreeRaoPstRegulationParameters;
 import com.powsybl.openrao.searchtreerao.castor.algorithm.Castor;
@@ -35,6 +36,7 @@ import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 
 /**
  * @author Thomas Bouquet {@literal <thomas.bouquet at rte-france.com>}
@@ -93,6 +95,42 @@ class PstRegulationTest {
         );
     }
 
+    @Test
+    void testBatchedPstRegulationGivesTheSameTapsAsPerScenarioRegulation() throws IOException {
+        // the curative topological action opening line FR2-FR3 3 is activated for all the contingency scenarios, so
+        // they all share the same setup except 'Contingency FR 23' which trips this line and must be regulated alone
+        Network network = Network.read("4NodesSeries.uct", getClass().getResourceAsStream("/network/4NodesSeries.uct"));
+        Crac crac = Crac.read("crac-for-batched-regulation.json", getClass().getResourceAsStream("/crac/crac-for-batched-regulation.json"), network);
+        RaoResult raoResult = RaoResult.read(getClass().getResourceAsStream("/raoResult/raoResultPreBatchedRegulation.json"), crac);
+
+        // with a single thread, the five scenarios sharing the same setup are regulated in a single batch
+        RaoResult batchedRegulationResult = PstRegulation.regulatePsts(network, crac, raoResult, getRaoParametersWithAvailableCpus(1), ReportNode.NO_OP);
+        // with as many threads as contingencies, each scenario is regulated on its own network
+        RaoResult perScenarioRegulationResult = PstRegulation.regulatePsts(network, crac, raoResult, getRaoParametersWithAvailableCpus(crac.getContingencies().size()), ReportNode.NO_OP);
+
+        // the pre-regulation result is returned as is if the regulation fails
+        assertNotSame(raoResult, batchedRegulationResult);
+        assertNotSame(raoResult, perScenarioRegulationResult);
+        assertEquals(6, crac.getStates(crac.getLastInstant()).size());
+        for (State curativeState : crac.getStates(crac.getLastInstant())) {
+            for (PstRangeAction pstRangeAction : List.of(crac.getPstRangeAction("pstFr12"), crac.getPstRangeAction("pstFr34"))) {
+                assertEquals(
+                    perScenarioRegulationResult.getOptimizedTapOnState(curativeState, pstRangeAction),
+                    batchedRegulationResult.getOptimizedTapOnState(curativeState, pstRangeAction),
+                    "Regulated tap of %s for %s".formatted(pstRangeAction.getId(), curativeState.getId())
+                );
+            }
+        }
+    }
+
+    private RaoParameters getRaoParametersWithAvailableCpus(int availableCpus) {
+        RaoParameters raoParameters = JsonRaoParameters.read(getClass().getResourceAsStream("/parameters/RaoParameters_ac_3pstsRegulation.json"), ReportNode.NO_OP);
+        MultithreadingParameters multithreadingParameters = new MultithreadingParameters();
+        multithreadingParameters.setAvailableCPUs(availableCpus);
+        raoParameters.getExtension(OpenRaoSearchTreeParameters.class).setMultithreadingParameters(multithreadingParameters);
+        return raoParameters;
+    }
+
     private static ListAppender<ILoggingEvent> getBusinessLogs() {
         Logger logger = (Logger) LoggerFactory.getLogger(RaoBusinessLogs.class);
         ListAppender<ILoggingEvent> listAppender = new ListAppender<>();
@@ -7,17 +7,24 @@
 
 package com.powsybl.openrao.pstregulation;
 
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
 import com.powsybl.commons.report.ReportNode;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.PhaseTapChanger;
 import com.powsybl.iidm.network.TwoSides;
 import com.powsybl.loadflow.LoadFlowParameters;
 import com.powsybl.openloadflow.OpenLoadFlowParameters;
+import com.powsybl.openrao.commons.logs.TechnicalLogs;
 import com.powsybl.openrao.data.crac.api.NetworkElement;
 import com.powsybl.openrao.data.crac.api.rangeaction.PstRangeAction;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.slf4j.LoggerFactory;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -62,4 +69,42 @@ class PstRegulatorTest {
         // PATL of PST is 500 A; tap must be in range [3; 15]
         assertEquals(Map.of(pstRangeAction, 8), regulatedTapPerPst);
     }
+
+    @Test
+    void testDefaultRegulationSettingsAreReportedOnceForAllScenarios() {
+        PhaseTapChanger phaseTapChanger = network.getTwoWindingsTransformer("BBE1AA1  FFR1AA1  2").getPhaseTapChanger();
+        phaseTapChanger.setRegulating(false);
+        phaseTapChanger.setRegulationTerminal(null);
+        phaseTapChanger.setTargetDeadband(Double.NaN);
+        NetworkElement networkElement = Mockito.mock(NetworkElement.class);
+        Mockito.when(networkElement.getId()).thenReturn("BBE1AA1  FFR1AA1  2");
+        PstRangeAction pstRangeAction = Mockito.mock(PstRangeAction.class);
+        Mockito.when(pstRangeAction.getNetworkElement()).thenReturn(networkElement);
+
+        Logger logger = (Logger) LoggerFactory.getLogger(TechnicalLogs.class);
+        ListAppender<ILoggingEvent> listAppender = new ListAppender<>();
+        listAppender.start();
+        logger.addAppender(listAppender);
+
+        // three scenarios regulating the same PST, two of them with the same limiting side
+        PstRegulator.reportDefaultRegulationSettings(
+            List.of(
+                new ElementaryPstRegulationInput(pstRangeAction, TwoSides.ONE, 500.0),
+                new ElementaryPstRegulationInput(pstRangeAction, TwoSides.TWO, 600.0),
+                new ElementaryPstRegulationInput(pstRangeAction, TwoSides.ONE, 700.0)
+            ),
+            network,
+            ReportNode.NO_OP
+        );
+        logger.detachAppender(listAppender);
+
+        assertEquals(
+            List.of(
+                "No default regulation terminal defined for phase tap changer of two-windings transformer BBE1AA1  FFR1AA1  2, terminal on side ONE will be used.",
+                "No default regulation terminal defined for phase tap changer of two-windings transformer BBE1AA1  FFR1AA1  2, terminal on side TWO will be used.",
+                "No default target deadband defined for phase tap changer of two-windings transformer BBE1AA1  FFR1AA1  2, a value of 0.0 will be used."
+            ),
+            listAppender.list.stream().map(ILoggingEvent::getFormattedMessage).toList()
+        );
+    }
 }
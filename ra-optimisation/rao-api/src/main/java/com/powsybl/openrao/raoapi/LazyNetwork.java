@@ -51,6 +51,7 @@ import com.powsybl.iidm.network.LineAdder;
 import com.powsybl.iidm.network.LineCommutatedConverter;
 import com.powsybl.iidm.network.Load;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.NetworkEventRecorder;
 import com.powsybl.iidm.network.NetworkListener;
 import com.powsybl.iidm.network.OverloadManagementSystem;
 import com.powsybl.iidm.network.ReportNodeContext;
@@ -71,10 +72,12 @@ import com.powsybl.iidm.network.VoltageLevel;
 import com.powsybl.iidm.network.VoltageLevelAdder;
 import com.powsybl.iidm.network.VoltageSourceConverter;
 import com.powsybl.iidm.network.VscConverterStation;
+import com.powsybl.iidm.network.events.VariantNetworkEvent;
 
 import java.io.File;
 import java.nio.file.Path;
 import java.time.ZonedDateTime;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Optional;
 import java.util.Properties;
@@ -86,52 +89,148 @@ import static com.powsybl.openrao.commons.logs.OpenRaoLoggerProvider.BUSINESS_WA
 /**
  * A LazyNetwork is a specific {@link Network} implementation that is defined using a file path.
  * The actual network data is only loaded in memory the first time a method is called on the lazy network.
+ * Modifications of the loaded network are tracked so that a network that was only read is never written again when it
+ * is released.
  *
  * @author Thomas Bouquet {@literal <thomas.bouquet at rte-france.com>}
  */
 @Beta
 public class LazyNetwork implements Network, AutoCloseable {
-    private static final String TEMP_DIR = System.getProperty("java.io.tmpdir") + File.separator;
-    private static final String EXPORT_FORMAT = "JIIDM"; // TODO: change to BIIDM, not stabilized for the moment (04/2026)
-    private static final String EXPORT_EXTENSION = ".jiidm"; // TODO: change to .biidm, not stabilized for the moment (04/2026)
+    private static final Path TEMP_DIR = Path.of(System.getProperty("java.io.tmpdir"));
+
+    /**
+     * Format used to store the network on disk while it is not loaded in memory.
+     */
+    public enum StorageFormat {
+        JIIDM("JIIDM", ".jiidm"),
+        BIIDM("BIIDM", ".biidm"); // binary format: faster to read and write and more compact, but not stabilized yet (04/2026)
+
+        private final String format;
+        private final String extension;
+
+        StorageFormat(String format, String extension) {
+            this.format = format;
+            this.extension = extension;
+        }
+
+        public String getFormat() {
+            return format;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        /**
+         * Storage format of the given network file, if it is stored in one of the storage formats.
+         */
+        public static Optional<StorageFormat> of(String networkPath) {
+            return Arrays.stream(values()).filter(storageFormat -> networkPath.endsWith(storageFormat.extension)).findFirst();
+        }
+    }
 
     private final String networkPath;
+    private final StorageFormat storageFormat;
+    private final Path directory;
+    private final boolean deleteOnClose;
+    // copy of a network file that is not stored in the storage format, in which its modifications are saved
+    private String copyPath;
     private boolean isLoaded;
-    private boolean isInTempDir;
+    private boolean isModified;
+    private String loadedWorkingVariantId;
+    private NetworkEventRecorder modificationRecorder;
     private Network network;
 
-    // TODO: create private attributes exportAtClosing and deleteAtClosing (both default to false) -> to configure properly at different points of the code
-
     public LazyNetwork(String networkPath) {
+        this(networkPath, false);
+    }
+
+    /**
+     * Lazy network defined by an existing network file. If deleteOnClose is true, the file is deleted when the lazy
+     * network is closed.
+     */
+    public LazyNetwork(String networkPath, boolean deleteOnClose) {
+        this(networkPath, deleteOnClose, StorageFormat.JIIDM, TEMP_DIR);
+    }
+
+    /**
+     * Lazy network defined by an existing network file. If deleteOnClose is true, the file is deleted when the lazy
+     * network is closed. A file stored in one of the storage formats is overwritten with the modifications of the
+     * network. Any other file (UCTE, XIIDM...) is left untouched: the modifications are saved in a copy written in the
+     * given directory with the given format, which is deleted when the lazy network is closed.
+     */
+    public LazyNetwork(String networkPath, boolean deleteOnClose, StorageFormat storageFormat, Path directory) {
         this.networkPath = networkPath;
+        this.storageFormat = StorageFormat.of(networkPath).orElse(storageFormat);
+        this.directory = directory;
+        this.deleteOnClose = deleteOnClose;
         this.isLoaded = false;
-        this.isInTempDir = false;
     }
 
     public LazyNetwork(Network network) {
-        String networkName = TEMP_DIR + UUID.randomUUID() + EXPORT_EXTENSION;
-        network.write(EXPORT_FORMAT, new Properties(), Path.of(networkName));
+        this(network, StorageFormat.JIIDM, TEMP_DIR);
+    }
+
+    /**
+     * Lazy network defined by a copy of the network, written in the given directory with the given format. The copy
+     * is deleted when the lazy network is closed.
+     */
+    public LazyNetwork(Network network, StorageFormat storageFormat, Path directory) {
+        String networkName = directory.resolve(UUID.randomUUID() + storageFormat.getExtension()).toString();
+        network.write(storageFormat.getFormat(), new Properties(), Path.of(networkName));
         this.networkPath = networkName;
+        this.storageFormat = storageFormat;
+        this.directory = directory;
+        this.deleteOnClose = true;
         this.isLoaded = false;
-        this.isInTempDir = true;
     }
 
     private void load() {
         if (!isLoaded) {
-            network = Network.read(networkPath);
+            network = Network.read(copyPath != null ? copyPath : networkPath);
+            modificationRecorder = new NetworkEventRecorder();
+            network.addListener(modificationRecorder);
+            loadedWorkingVariantId = network.getVariantManager().getWorkingVariantId();
+            isModified = false;
             isLoaded = true;
         }
     }
 
+    /**
+     * Loads the network before an operation that may modify it without notifying the network listeners.
+     */
+    private void loadForUpdate() {
+        load();
+        isModified = true;
+    }
+
+    /**
+     * Returns true if the network is loaded and was modified since it was loaded. Only the working variant is saved, so
+     * switching to another variant is a modification whereas creating or removing other variants is not.
+     */
+    public boolean isModified() {
+        return isLoaded && (isModified
+            || modificationRecorder.getEvents().stream().anyMatch(event -> !(event instanceof VariantNetworkEvent))
+            || !loadedWorkingVariantId.equals(network.getVariantManager().getWorkingVariantId()));
+    }
+
     @Override
     public void close() throws Exception {
         network = null;
+        modificationRecorder = null;
         isLoaded = false;
-        if (isInTempDir) {
-            boolean fileIsDeleted = new File(networkPath).delete();
-            if (!fileIsDeleted) {
-                BUSINESS_WARNS.debug("File created from {} could not be deleted.", networkPath);
-            }
+        if (copyPath != null) {
+            deleteFile(copyPath);
+        }
+        if (deleteOnClose) {
+            deleteFile(networkPath);
+        }
+    }
+
+    private static void deleteFile(String path) {
+        boolean fileIsDeleted = new File(path).delete();
+        if (!fileIsDeleted) {
+            BUSINESS_WARNS.debug("File created from {} could not be deleted.", path);
         }
     }
 
@@ -139,14 +238,21 @@ public class LazyNetwork implements Network, AutoCloseable {
         releaseWithOverwrite(true);
     }
 
+    /**
+     * Unloads the network from memory. If overwrite is true, the modifications made on the network are saved before
+     * releasing it. A network that was not modified is never written again.
+     */
     public void releaseWithOverwrite(boolean overwrite) {
         if (isLoaded) {
-            // TODO do we want to write systematically ? augmentation temps de calcul?
-            if (overwrite) {
-                // Save modifications on network before releasing
-                network.write(EXPORT_FORMAT, new Properties(), Path.of(networkPath)); // FIXME: why not work with non-jiidm files
+            if (overwrite && isModified()) {
+                // Save modifications on network before releasing, in a copy if the network file is in another format
+                if (copyPath == null && StorageFormat.of(networkPath).isEmpty()) {
+                    copyPath = directory.resolve(UUID.randomUUID() + storageFormat.getExtension()).toString();
+                }
+                network.write(storageFormat.getFormat(), new Properties(), Path.of(copyPath != null ? copyPath : networkPath));
             }
             network = null;
+            modificationRecorder = null;
             isLoaded = false;
         }
     }
@@ -201,7 +307,7 @@ public class LazyNetwork implements Network, AutoCloseable {
 
     @Override
     public Network setCaseDate(ZonedDateTime zonedDateTime) {
-        load();
+        loadForUpdate();
         return network.setCaseDate(zonedDateTime);
     }
 
@@ -213,7 +319,7 @@ public class LazyNetwork implements Network, AutoCloseable {
 
     @Override
     public Network setForecastDistance(int i) {
-        load();
+        loadForUpdate();
         return network.setForecastDistance(i);
     }
 
@@ -1197,13 +1303,13 @@ public class LazyNetwork implements Network, AutoCloseable {
 
     @Override
     public Network createSubnetwork(String s, String s1, String s2) {
-        load();
+        loadForUpdate();
         return network.createSubnetwork(s, s1, s2);
     }
 
     @Override
     public Network detach() {
-        load();
+        loadForUpdate();
         return network.detach();
     }
 
@@ -1227,7 +1333,7 @@ public class LazyNetwork implements Network, AutoCloseable {
 
     @Override
     public void flatten() {
-        load();
+        loadForUpdate();
         network.flatten();
     }
 
@@ -1275,7 +1381,7 @@ public class LazyNetwork implements Network, AutoCloseable {
 
     @Override
     public Network setMinimumAcceptableValidationLevel(ValidationLevel validationLevel) {
-        load();
+        loadForUpdate();
         return network.setMinimumAcceptableValidationLevel(validationLevel);
     }
 
@@ -1431,7 +1537,7 @@ public class LazyNetwork implements Network, AutoCloseable {
 
     @Override
     public Network setName(String name) {
-        load();
+        loadForUpdate();
         return network.setName(name);
     }
 
@@ -1443,7 +1549,7 @@ public class LazyNetwork implements Network, AutoCloseable {
 
     @Override
     public void setFictitious(boolean fictitious) {
-        load();
+        loadForUpdate();
         network.setFictitious(fictitious);
     }
 
@@ -60,6 +60,7 @@ public final class RaoParametersCommons {
     public static final String RELATIVE_MIP_GAP = "relative-mip-gap";
     public static final String SOLVER_SPECIFIC_PARAMETERS = "solver-specific-parameters";
     public static final String RA_RANGE_SHRINKING = "ra-range-shrinking";
+    public static final String RANGE_AUTOMATONS_SIMULATION = "range-automatons-simulation";
 
     // topological actions optimization parameters
     public static final String TOPOLOGICAL_ACTIONS_OPTIMIZATION = "topological-actions-optimization";
@@ -78,6 +79,7 @@ public final class RaoParametersCommons {
     public static final String MULTI_THREADING = "multi-threading";
     public static final String MULTI_THREADING_SECTION = "search-tree-multi-threading";
     public static final String AVAILABLE_CPUS = "available-cpus";
+    public static final String NETWORK_POOL_MEMORY_BUDGET = "network-pool-memory-budget";
 
     // Second Preventive RAO parameters
     public static final String SECOND_PREVENTIVE_RAO = "second-preventive-rao";
@@ -146,6 +148,10 @@ public final class RaoParametersCommons {
     public static final String MIN_RELATIVE_IMPROVEMENT_ON_MARGIN = "min-relative-improvement-on-margin";
     public static final String MARGIN_WINDOW_TO_CONSIDER = "margin-window-to-consider";
     public static final String NUMBER_OF_THREADS = "number-of-threads";
+    public static final String ROLLING_HORIZON_WINDOW_SIZE = "rolling-horizon-window-size";
+    public static final String ROLLING_HORIZON_OVERLAP = "rolling-horizon-overlap";
+    public static final String NETWORK_STORAGE_FORMAT = "network-storage-format";
+    public static final String NETWORK_STORAGE_DIRECTORY = "network-storage-directory";
 
     // -- Min Margins parameters
     public static final String COSTLY_MIN_MARGIN_PARAMETERS = "costly-min-margin-parameters";
@@ -13,6 +13,7 @@ import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.google.auto.service.AutoService;
 import com.powsybl.openrao.commons.OpenRaoException;
+import com.powsybl.openrao.raoapi.LazyNetwork;
 import com.powsybl.openrao.raoapi.json.JsonRaoParameters;
 import com.powsybl.openrao.raoapi.parameters.extensions.MarmotParameters;
 
@@ -22,8 +23,12 @@ import static com.powsybl.openrao.raoapi.RaoParametersCommons.MARGIN_WINDOW_TO_C
 import static com.powsybl.openrao.raoapi.RaoParametersCommons.MARMOT_PARAMETERS;
 import static com.powsybl.openrao.raoapi.RaoParametersCommons.MAX_MIP_ITERATIONS;
 import static com.powsybl.openrao.raoapi.RaoParametersCommons.MIN_RELATIVE_IMPROVEMENT_ON_MARGIN;
+import static com.powsybl.openrao.raoapi.RaoParametersCommons.NETWORK_STORAGE_DIRECTORY;
+import static com.powsybl.openrao.raoapi.RaoParametersCommons.NETWORK_STORAGE_FORMAT;
 import static com.powsybl.openrao.raoapi.RaoParametersCommons.NUMBER_OF_CNECS_TO_ADD_PER_VIRTUAL_COST_NAME;
 import static com.powsybl.openrao.raoapi.RaoParametersCommons.NUMBER_OF_THREADS;
+import static com.powsybl.openrao.raoapi.RaoParametersCommons.ROLLING_HORIZON_OVERLAP;
+import static com.powsybl.openrao.raoapi.RaoParametersCommons.ROLLING_HORIZON_WINDOW_SIZE;
 
 /**
  * @author Vincent Bochet {@literal <vincent.bochet at rte-france.com>}
@@ -39,12 +44,21 @@ public class JsonMarmotParameters implements JsonRaoParameters.ExtensionSerializ
         jsonGenerator.writeNumberField(MARGIN_WINDOW_TO_CONSIDER, marmotParameters.getMarginWindowToConsider());
         jsonGenerator.writeNumberField(MAX_MIP_ITERATIONS, marmotParameters.getMaxMipIterations());
         jsonGenerator.writeNumberField(NUMBER_OF_THREADS, marmotParameters.getNumberOfThreads());
+        jsonGenerator.writeNumberField(ROLLING_HORIZON_WINDOW_SIZE, marmotParameters.getRollingHorizonWindowSize());
+        jsonGenerator.writeNumberField(ROLLING_HORIZON_OVERLAP, marmotParameters.getRollingHorizonOverlap());
+        jsonGenerator.writeObjectField(NETWORK_STORAGE_FORMAT, marmotParameters.getNetworkStorageFormat());
+        if (marmotParameters.getNetworkStorageDirectory() != null) {
+            jsonGenerator.writeStringField(NETWORK_STORAGE_DIRECTORY, marmotParameters.getNetworkStorageDirectory());
+        }
         jsonGenerator.writeEndObject();
     }
 
     @Override
     public MarmotParameters deserialize(JsonParser jsonParser, DeserializationContext deserializationContext) throws IOException {
         MarmotParameters marmotParameters = new MarmotParameters();
+        // the rolling-horizon window size and overlap are checked together, whatever their order in the file
+        int rollingHorizonWindowSize = marmotParameters.getRollingHorizonWindowSize();
+        int rollingHorizonOverlap = marmotParameters.getRollingHorizonOverlap();
         while (!jsonParser.nextToken().isStructEnd()) {
             switch (jsonParser.currentName()) {
                 case NUMBER_OF_CNECS_TO_ADD_PER_VIRTUAL_COST_NAME -> {
@@ -67,12 +81,34 @@ public class JsonMarmotParameters implements JsonRaoParameters.ExtensionSerializ
                     jsonParser.nextToken();
                     marmotParameters.setNumberOfThreads(jsonParser.getIntValue());
                 }
+                case ROLLING_HORIZON_WINDOW_SIZE -> {
+                    jsonParser.nextToken();
+                    rollingHorizonWindowSize = jsonParser.getIntValue();
+                }
+                case ROLLING_HORIZON_OVERLAP -> {
+                    jsonParser.nextToken();
+                    rollingHorizonOverlap = jsonParser.getIntValue();
+                }
+                case NETWORK_STORAGE_FORMAT -> marmotParameters.setNetworkStorageFormat(stringToStorageFormat(jsonParser.nextTextValue()));
+                case NETWORK_STORAGE_DIRECTORY -> {
+                    jsonParser.nextToken();
+                    marmotParameters.setNetworkStorageDirectory(jsonParser.getValueAsString());
+                }
                 default -> throw new OpenRaoException(String.format("Cannot deserialize marmot parameters: unexpected field in %s (%s)", MARMOT_PARAMETERS, jsonParser.currentName()));
             }
         }
+        marmotParameters.setRollingHorizon(rollingHorizonWindowSize, rollingHorizonOverlap);
         return marmotParameters;
     }
 
+    private static LazyNetwork.StorageFormat stringToStorageFormat(String string) {
+        try {
+            return LazyNetwork.StorageFormat.valueOf(string);
+        } catch (IllegalArgumentException e) {
+            throw new OpenRaoException(String.format("Unknown network storage format: %s", string));
+        }
+    }
+
     @Override
     public String getExtensionName() {
         return "marmot-parameters";
@@ -16,6 +16,7 @@ import java.io.IOException;
 
 import static com.powsybl.openrao.raoapi.RaoParametersCommons.AVAILABLE_CPUS;
 import static com.powsybl.openrao.raoapi.RaoParametersCommons.MULTI_THREADING;
+import static com.powsybl.openrao.raoapi.RaoParametersCommons.NETWORK_POOL_MEMORY_BUDGET;
 
 /**
  * @author Godelaine de Montmorillon {@literal <godelaine.demontmorillon at rte-france.com>}
@@ -29,6 +30,9 @@ final class JsonMultiThreadingParameters {
     static void serialize(OpenRaoSearchTreeParameters parameters, JsonGenerator jsonGenerator) throws IOException {
         jsonGenerator.writeObjectFieldStart(MULTI_THREADING);
         jsonGenerator.writeNumberField(AVAILABLE_CPUS, parameters.getMultithreadingParameters().getAvailableCPUs());
+        if (parameters.getMultithreadingParameters().getNetworkPoolMemoryBudget() > 0) {
+            jsonGenerator.writeNumberField(NETWORK_POOL_MEMORY_BUDGET, parameters.getMultithreadingParameters().getNetworkPoolMemoryBudget());
+        }
         jsonGenerator.writeEndObject();
     }
 
@@ -38,6 +42,9 @@ final class JsonMultiThreadingParameters {
                 jsonParser.nextToken();
                 int availableCpus = jsonParser.getIntValue();
                 searchTreeParameters.getMultithreadingParameters().setAvailableCPUs(availableCpus);
+            } else if (jsonParser.currentName().equals(NETWORK_POOL_MEMORY_BUDGET)) {
+                jsonParser.nextToken();
+                searchTreeParameters.getMultithreadingParameters().setNetworkPoolMemoryBudget(jsonParser.getIntValue());
             } else {
                 throw new OpenRaoException(String.format("Cannot deserialize multi-threading parameters: unexpected field in %s (%s)", MULTI_THREADING, jsonParser.currentName()));
             }
@@ -22,6 +22,7 @@ import static com.powsybl.openrao.raoapi.RaoParametersCommons.MAX_MIP_ITERATIONS
 import static com.powsybl.openrao.raoapi.RaoParametersCommons.PST_MODEL;
 import static com.powsybl.openrao.raoapi.RaoParametersCommons.PST_SENSITIVITY_THRESHOLD;
 import static com.powsybl.openrao.raoapi.RaoParametersCommons.RANGE_ACTIONS_OPTIMIZATION;
+import static com.powsybl.openrao.raoapi.RaoParametersCommons.RANGE_AUTOMATONS_SIMULATION;
 import static com.powsybl.openrao.raoapi.RaoParametersCommons.RA_RANGE_SHRINKING;
 import static com.powsybl.openrao.raoapi.RaoParametersCommons.RELATIVE_MIP_GAP;
 import static com.powsybl.openrao.raoapi.RaoParametersCommons.SOLVER;
@@ -44,6 +45,7 @@ final class JsonRangeActionsOptimizationParameters {
         jsonGenerator.writeNumberField(HVDC_SENSITIVITY_THRESHOLD, parameters.getRangeActionsOptimizationParameters().getHvdcSensitivityThreshold());
         jsonGenerator.writeNumberField(INJECTION_RA_SENSITIVITY_THRESHOLD, parameters.getRangeActionsOptimizationParameters().getInjectionRaSensitivityThreshold());
         jsonGenerator.writeObjectField(RA_RANGE_SHRINKING, parameters.getRangeActionsOptimizationParameters().getRaRangeShrinking());
+        jsonGenerator.writeObjectField(RANGE_AUTOMATONS_SIMULATION, parameters.getRangeActionsOptimizationParameters().getRangeAutomatonsSimulation());
         jsonGenerator.writeObjectFieldStart(LINEAR_OPTIMIZATION_SOLVER);
         jsonGenerator.writeObjectField(SOLVER, parameters.getRangeActionsOptimizationParameters().getLinearOptimizationSolver().getSolver());
         jsonGenerator.writeNumberField(RELATIVE_MIP_GAP, parameters.getRangeActionsOptimizationParameters().getLinearOptimizationSolver().getRelativeMipGap());
@@ -79,6 +81,8 @@ final class JsonRangeActionsOptimizationParameters {
                 }
                 case RA_RANGE_SHRINKING ->
                     searchTreeParameters.getRangeActionsOptimizationParameters().setRaRangeShrinking(stringToRaRangeShrinking(jsonParser.nextTextValue()));
+                case RANGE_AUTOMATONS_SIMULATION ->
+                    searchTreeParameters.getRangeActionsOptimizationParameters().setRangeAutomatonsSimulation(stringToRangeAutomatonsSimulation(jsonParser.nextTextValue()));
                 default -> throw new OpenRaoException(String.format(
                     "Cannot deserialize range action optimization parameters: unexpected field in %s (%s)",
                     RANGE_ACTIONS_OPTIMIZATION,
@@ -126,6 +130,14 @@ final class JsonRangeActionsOptimizationParameters {
         }
     }
 
+    private static SearchTreeRaoRangeActionsOptimizationParameters.RangeAutomatonsSimulation stringToRangeAutomatonsSimulation(String string) {
+        try {
+            return SearchTreeRaoRangeActionsOptimizationParameters.RangeAutomatonsSimulation.valueOf(string);
+        } catch (IllegalArgumentException e) {
+            throw new OpenRaoException(String.format("Unknown range automatons simulation: %s", string));
+        }
+    }
+
     private static SearchTreeRaoRangeActionsOptimizationParameters.Solver stringToSolver(String string) {
         try {
             return SearchTreeRaoRangeActionsOptimizationParameters.Solver.valueOf(string);
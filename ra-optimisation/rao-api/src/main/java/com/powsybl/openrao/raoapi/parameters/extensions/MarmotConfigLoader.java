@@ -9,6 +9,7 @@ package com.powsybl.openrao.raoapi.parameters.extensions;
 
 import com.google.auto.service.AutoService;
 import com.powsybl.commons.config.PlatformConfig;
+import com.powsybl.openrao.raoapi.LazyNetwork;
 import com.powsybl.openrao.raoapi.parameters.RaoParameters;
 
 import java.util.Objects;
@@ -18,12 +19,20 @@ import static com.powsybl.openrao.raoapi.RaoParametersCommons.MARMOT_PARAMETERS;
 import static com.powsybl.openrao.raoapi.RaoParametersCommons.MAX_MIP_ITERATIONS;
 import static com.powsybl.openrao.raoapi.RaoParametersCommons.MIN_RELATIVE_IMPROVEMENT_ON_MARGIN;
 import static com.powsybl.openrao.raoapi.RaoParametersCommons.NUMBER_OF_CNECS_TO_ADD_PER_VIRTUAL_COST_NAME;
+import static com.powsybl.openrao.raoapi.RaoParametersCommons.NETWORK_STORAGE_DIRECTORY;
+import static com.powsybl.openrao.raoapi.RaoParametersCommons.NETWORK_STORAGE_FORMAT;
 import static com.powsybl.openrao.raoapi.RaoParametersCommons.NUMBER_OF_THREADS;
+import static com.powsybl.openrao.raoapi.RaoParametersCommons.ROLLING_HORIZON_OVERLAP;
+import static com.powsybl.openrao.raoapi.RaoParametersCommons.ROLLING_HORIZON_WINDOW_SIZE;
 import static com.powsybl.openrao.raoapi.parameters.extensions.MarmotParameters.DEFAULT_MARGIN_WINDOW_TO_CONSIDER;
 import static com.powsybl.openrao.raoapi.parameters.extensions.MarmotParameters.DEFAULT_MAX_MIP_ITERATIONS;
 import static com.powsybl.openrao.raoapi.parameters.extensions.MarmotParameters.DEFAULT_MIN_RELATIVE_IMPROVEMENT_ON_MARGIN;
 import static com.powsybl.openrao.raoapi.parameters.extensions.MarmotParameters.DEFAULT_NUMBER_OF_CNECS_TO_ADD_PER_VIRTUAL_COST_NAME;
+import static com.powsybl.openrao.raoapi.parameters.extensions.MarmotParameters.DEFAULT_NETWORK_STORAGE_DIRECTORY;
+import static com.powsybl.openrao.raoapi.parameters.extensions.MarmotParameters.DEFAULT_NETWORK_STORAGE_FORMAT;
 import static com.powsybl.openrao.raoapi.parameters.extensions.MarmotParameters.DEFAULT_NUMBER_OF_THREADS;
+import static com.powsybl.openrao.raoapi.parameters.extensions.MarmotParameters.DEFAULT_ROLLING_HORIZON_OVERLAP;
+import static com.powsybl.openrao.raoapi.parameters.extensions.MarmotParameters.DEFAULT_ROLLING_HORIZON_WINDOW_SIZE;
 
 /**
  * @author Vincent Bochet {@literal <vincent.bochet at rte-france.com>}
@@ -40,6 +49,12 @@ public class MarmotConfigLoader implements RaoParameters.ConfigLoader<MarmotPara
                 parameters.setMarginWindowToConsider(config.getDoubleProperty(MARGIN_WINDOW_TO_CONSIDER, DEFAULT_MARGIN_WINDOW_TO_CONSIDER));
                 parameters.setMaxMipIterations(config.getIntProperty(MAX_MIP_ITERATIONS, DEFAULT_MAX_MIP_ITERATIONS));
                 parameters.setNumberOfThreads(config.getIntProperty(NUMBER_OF_THREADS, DEFAULT_NUMBER_OF_THREADS));
+                parameters.setRollingHorizon(
+                    config.getIntProperty(ROLLING_HORIZON_WINDOW_SIZE, DEFAULT_ROLLING_HORIZON_WINDOW_SIZE),
+                    config.getIntProperty(ROLLING_HORIZON_OVERLAP, DEFAULT_ROLLING_HORIZON_OVERLAP)
+                );
+                parameters.setNetworkStorageFormat(config.getEnumProperty(NETWORK_STORAGE_FORMAT, LazyNetwork.StorageFormat.class, DEFAULT_NETWORK_STORAGE_FORMAT));
+                parameters.setNetworkStorageDirectory(config.getStringProperty(NETWORK_STORAGE_DIRECTORY, DEFAULT_NETWORK_STORAGE_DIRECTORY));
                 return parameters;
             })
             .orElse(null);
@@ -8,8 +8,12 @@
 package com.powsybl.openrao.raoapi.parameters.extensions;
 
 import com.powsybl.commons.extensions.AbstractExtension;
+import com.powsybl.openrao.commons.OpenRaoException;
+import com.powsybl.openrao.raoapi.LazyNetwork;
 import com.powsybl.openrao.raoapi.parameters.RaoParameters;
 
+import java.nio.file.Path;
+
 import static com.powsybl.openrao.raoapi.RaoParametersCommons.MARMOT_PARAMETERS;
 
 /**
@@ -27,12 +31,20 @@ public class MarmotParameters extends AbstractExtension<RaoParameters> {
     static final double DEFAULT_MARGIN_WINDOW_TO_CONSIDER = 5.0;
     static final int DEFAULT_MAX_MIP_ITERATIONS = 10;
     static final int DEFAULT_NUMBER_OF_THREADS = 1;
+    static final int DEFAULT_ROLLING_HORIZON_WINDOW_SIZE = 0;
+    static final int DEFAULT_ROLLING_HORIZON_OVERLAP = 0;
+    static final LazyNetwork.StorageFormat DEFAULT_NETWORK_STORAGE_FORMAT = LazyNetwork.StorageFormat.JIIDM;
+    static final String DEFAULT_NETWORK_STORAGE_DIRECTORY = null;
 
     private int numberOfCnecsToAddPerVirtualCostName = DEFAULT_NUMBER_OF_CNECS_TO_ADD_PER_VIRTUAL_COST_NAME;
     private double minRelativeImprovementOnMargin = DEFAULT_MIN_RELATIVE_IMPROVEMENT_ON_MARGIN;
     private double marginWindowToConsider = DEFAULT_MARGIN_WINDOW_TO_CONSIDER;
     private int maxMipIterations = DEFAULT_MAX_MIP_ITERATIONS;
     private int numberOfThreads = DEFAULT_NUMBER_OF_THREADS;
+    private int rollingHorizonWindowSize = DEFAULT_ROLLING_HORIZON_WINDOW_SIZE;
+    private int rollingHorizonOverlap = DEFAULT_ROLLING_HORIZON_OVERLAP;
+    private LazyNetwork.StorageFormat networkStorageFormat = DEFAULT_NETWORK_STORAGE_FORMAT;
+    private String networkStorageDirectory = DEFAULT_NETWORK_STORAGE_DIRECTORY;
 
     public int getNumberOfCnecsToAddPerVirtualCostName() {
         return numberOfCnecsToAddPerVirtualCostName;
@@ -73,4 +85,72 @@ public class MarmotParameters extends AbstractExtension<RaoParameters> {
     public void setNumberOfThreads(final int numberOfThreads) {
         this.numberOfThreads = numberOfThreads;
     }
+
+    public int getRollingHorizonWindowSize() {
+        return rollingHorizonWindowSize;
+    }
+
+    public void setRollingHorizonWindowSize(final int rollingHorizonWindowSize) {
+        checkRollingHorizon(rollingHorizonWindowSize, rollingHorizonOverlap);
+        this.rollingHorizonWindowSize = rollingHorizonWindowSize;
+    }
+
+    public int getRollingHorizonOverlap() {
+        return rollingHorizonOverlap;
+    }
+
+    public void setRollingHorizonOverlap(final int rollingHorizonOverlap) {
+        checkRollingHorizon(rollingHorizonWindowSize, rollingHorizonOverlap);
+        this.rollingHorizonOverlap = rollingHorizonOverlap;
+    }
+
+    /**
+     * Sets both the rolling-horizon window size and overlap, which are only checked together. To be used when the
+     * overlap of the new windows would not be compatible with the current window size, or conversely.
+     */
+    public void setRollingHorizon(final int rollingHorizonWindowSize, final int rollingHorizonOverlap) {
+        checkRollingHorizon(rollingHorizonWindowSize, rollingHorizonOverlap);
+        this.rollingHorizonWindowSize = rollingHorizonWindowSize;
+        this.rollingHorizonOverlap = rollingHorizonOverlap;
+    }
+
+    private static void checkRollingHorizon(final int rollingHorizonWindowSize, final int rollingHorizonOverlap) {
+        if (rollingHorizonWindowSize < 0 || rollingHorizonWindowSize == 1) {
+            throw new OpenRaoException("rollingHorizonWindowSize should be 0 (rolling horizon disabled) or at least 2.");
+        }
+        if (rollingHorizonOverlap < 0) {
+            throw new OpenRaoException("rollingHorizonOverlap should not be negative.");
+        }
+        if (rollingHorizonWindowSize > 0 && rollingHorizonOverlap >= rollingHorizonWindowSize) {
+            throw new OpenRaoException("rollingHorizonOverlap (%s) should be lower than rollingHorizonWindowSize (%s).".formatted(rollingHorizonOverlap, rollingHorizonWindowSize));
+        }
+    }
+
+    public boolean isRollingHorizonEnabled() {
+        return rollingHorizonWindowSize > 0;
+    }
+
+    public LazyNetwork.StorageFormat getNetworkStorageFormat() {
+        return networkStorageFormat;
+    }
+
+    public void setNetworkStorageFormat(final LazyNetwork.StorageFormat networkStorageFormat) {
+        this.networkStorageFormat = networkStorageFormat;
+    }
+
+    /**
+     * Directory in which the copies of the networks are stored while they are not loaded in memory, null to use the
+     * default temporary directory
+     */
+    public String getNetworkStorageDirectory() {
+        return networkStorageDirectory;
+    }
+
+    public void setNetworkStorageDirectory(final String networkStorageDirectory) {
+        this.networkStorageDirectory = networkStorageDirectory;
+    }
+
+    public Path getNetworkStoragePath() {
+        return Path.of(networkStorageDirectory != null ? networkStorageDirectory : System.getProperty("java.io.tmpdir"));
+    }
 }
@@ -14,6 +14,7 @@ import java.util.Objects;
 
 import static com.powsybl.openrao.raoapi.RaoParametersCommons.AVAILABLE_CPUS;
 import static com.powsybl.openrao.raoapi.RaoParametersCommons.MULTI_THREADING_SECTION;
+import static com.powsybl.openrao.raoapi.RaoParametersCommons.NETWORK_POOL_MEMORY_BUDGET;
 
 /**
  * Multi-threading optimization parameters for RAO
@@ -23,7 +24,11 @@ import static com.powsybl.openrao.raoapi.RaoParametersCommons.MULTI_THREADING_SE
  */
 public class MultithreadingParameters {
     private static final int DEFAULT_AVAILABLE_CPUS = 1;
+    // 0 means that the copies of the network are not limited by a memory budget
+    private static final int DEFAULT_NETWORK_POOL_MEMORY_BUDGET = 0;
+    private static final long BYTES_PER_MEGABYTE = 1024L * 1024L;
     private int availableCPUs = DEFAULT_AVAILABLE_CPUS;
+    private int networkPoolMemoryBudget = DEFAULT_NETWORK_POOL_MEMORY_BUDGET;
 
     public int getAvailableCPUs() {
         return availableCPUs;
@@ -33,6 +38,17 @@ public class MultithreadingParameters {
         this.availableCPUs = availableCPUs;
     }
 
+    /**
+     * Heap, in megabytes, that the copies of the network used by the parallel computations can use (0 if not limited)
+     */
+    public int getNetworkPoolMemoryBudget() {
+        return networkPoolMemoryBudget;
+    }
+
+    public void setNetworkPoolMemoryBudget(int networkPoolMemoryBudget) {
+        this.networkPoolMemoryBudget = networkPoolMemoryBudget;
+    }
+
     public static MultithreadingParameters load(PlatformConfig platformConfig) {
         Objects.requireNonNull(platformConfig);
         MultithreadingParameters parameters = new MultithreadingParameters();
@@ -40,6 +56,7 @@ public class MultithreadingParameters {
                 .ifPresent(config -> {
                     int availableCpus = config.getIntProperty(AVAILABLE_CPUS, 1);
                     parameters.setAvailableCPUs(availableCpus);
+                    parameters.setNetworkPoolMemoryBudget(config.getIntProperty(NETWORK_POOL_MEMORY_BUDGET, DEFAULT_NETWORK_POOL_MEMORY_BUDGET));
                 });
         return parameters;
     }
@@ -50,4 +67,18 @@ public class MultithreadingParameters {
         }
         return DEFAULT_AVAILABLE_CPUS;
     }
+
+    /**
+     * Heap, in bytes, that the copies of the network of a network pool can use, or {@link Long#MAX_VALUE} if it is not
+     * limited
+     */
+    public static long getNetworkPoolMemoryBudgetInBytes(RaoParameters parameters) {
+        if (parameters.hasExtension(OpenRaoSearchTreeParameters.class)) {
+            int networkPoolMemoryBudget = parameters.getExtension(OpenRaoSearchTreeParameters.class).getMultithreadingParameters().getNetworkPoolMemoryBudget();
+            if (networkPoolMemoryBudget > 0) {
+                return networkPoolMemoryBudget * BYTES_PER_MEGABYTE;
+            }
+        }
+        return Long.MAX_VALUE;
+    }
 }
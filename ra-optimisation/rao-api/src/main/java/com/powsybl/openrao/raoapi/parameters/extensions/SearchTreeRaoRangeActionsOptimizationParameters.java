@@ -19,6 +19,7 @@ import static com.powsybl.openrao.raoapi.RaoParametersCommons.LINEAR_OPTIMIZATIO
 import static com.powsybl.openrao.raoapi.RaoParametersCommons.MAX_MIP_ITERATIONS;
 import static com.powsybl.openrao.raoapi.RaoParametersCommons.PST_MODEL;
 import static com.powsybl.openrao.raoapi.RaoParametersCommons.PST_SENSITIVITY_THRESHOLD;
+import static com.powsybl.openrao.raoapi.RaoParametersCommons.RANGE_AUTOMATONS_SIMULATION;
 import static com.powsybl.openrao.raoapi.RaoParametersCommons.RA_RANGE_SHRINKING;
 import static com.powsybl.openrao.raoapi.RaoParametersCommons.RELATIVE_MIP_GAP;
 import static com.powsybl.openrao.raoapi.RaoParametersCommons.SOLVER;
@@ -40,6 +41,7 @@ public class SearchTreeRaoRangeActionsOptimizationParameters {
     private static final double DEFAULT_HVDC_SENSITIVITY_THRESHOLD = 1e-6;
     private static final double DEFAULT_INJECTION_RA_SENSITIVITY_THRESHOLD = 1e-6;
     private static final RaRangeShrinking DEFAULT_RA_RANGE_SHRINKING = RaRangeShrinking.DISABLED;
+    private static final RangeAutomatonsSimulation DEFAULT_RANGE_AUTOMATONS_SIMULATION = RangeAutomatonsSimulation.ITERATIVE_SHIFT;
     // Attributes
     private int maxMipIterations = DEFAULT_MAX_MIP_ITERATIONS;
     private double pstSensitivityThreshold = DEFAULT_PST_SENSITIVITY_THRESHOLD;
@@ -48,6 +50,7 @@ public class SearchTreeRaoRangeActionsOptimizationParameters {
     private double injectionRaSensitivityThreshold = DEFAULT_INJECTION_RA_SENSITIVITY_THRESHOLD;
     private LinearOptimizationSolver linearOptimizationSolver = new LinearOptimizationSolver();
     private RaRangeShrinking raRangeShrinking = DEFAULT_RA_RANGE_SHRINKING;
+    private RangeAutomatonsSimulation rangeAutomatonsSimulation = DEFAULT_RANGE_AUTOMATONS_SIMULATION;
 
     public enum PstModel {
         CONTINUOUS,
@@ -60,6 +63,11 @@ public class SearchTreeRaoRangeActionsOptimizationParameters {
         ENABLED_IN_FIRST_PRAO_AND_CRAO
     }
 
+    public enum RangeAutomatonsSimulation {
+        ITERATIVE_SHIFT,
+        LINEARIZED_SHIFT
+    }
+
     public static class LinearOptimizationSolver {
         private static final Solver DEFAULT_SOLVER = Solver.CBC;
         public static final double DEFAULT_RELATIVE_MIP_GAP = 0.0001;
@@ -177,6 +185,14 @@ public class SearchTreeRaoRangeActionsOptimizationParameters {
         return raRangeShrinking;
     }
 
+    public void setRangeAutomatonsSimulation(RangeAutomatonsSimulation rangeAutomatonsSimulation) {
+        this.rangeAutomatonsSimulation = rangeAutomatonsSimulation;
+    }
+
+    public RangeAutomatonsSimulation getRangeAutomatonsSimulation() {
+        return rangeAutomatonsSimulation;
+    }
+
     public static SearchTreeRaoRangeActionsOptimizationParameters load(PlatformConfig platformConfig) {
         Objects.requireNonNull(platformConfig);
         SearchTreeRaoRangeActionsOptimizationParameters parameters = new SearchTreeRaoRangeActionsOptimizationParameters();
@@ -188,6 +204,7 @@ public class SearchTreeRaoRangeActionsOptimizationParameters {
                 parameters.setHvdcSensitivityThreshold(config.getDoubleProperty(HVDC_SENSITIVITY_THRESHOLD, DEFAULT_HVDC_SENSITIVITY_THRESHOLD));
                 parameters.setInjectionRaSensitivityThreshold(config.getDoubleProperty(INJECTION_RA_SENSITIVITY_THRESHOLD, DEFAULT_INJECTION_RA_SENSITIVITY_THRESHOLD));
                 parameters.setRaRangeShrinking(config.getEnumProperty(RA_RANGE_SHRINKING, RaRangeShrinking.class, DEFAULT_RA_RANGE_SHRINKING));
+                parameters.setRangeAutomatonsSimulation(config.getEnumProperty(RANGE_AUTOMATONS_SIMULATION, RangeAutomatonsSimulation.class, DEFAULT_RANGE_AUTOMATONS_SIMULATION));
             });
         parameters.setLinearOptimizationSolver(LinearOptimizationSolver.load(platformConfig));
         return parameters;
@@ -207,6 +224,13 @@ public class SearchTreeRaoRangeActionsOptimizationParameters {
         return DEFAULT_RA_RANGE_SHRINKING;
     }
 
+    public static RangeAutomatonsSimulation getRangeAutomatonsSimulation(RaoParameters parameters) {
+        if (parameters.hasExtension(OpenRaoSearchTreeParameters.class)) {
+            return parameters.getExtension(OpenRaoSearchTreeParameters.class).getRangeActionsOptimizationParameters().getRangeAutomatonsSimulation();
+        }
+        return DEFAULT_RANGE_AUTOMATONS_SIMULATION;
+    }
+
     // The return value should not be written since it will re-write the parameters if the value si the real one,
     // but it will not if the value is the default one since it is an independent object
     public static LinearOptimizationSolver getLinearOptimizationSolver(RaoParameters parameters) {
@@ -19,7 +19,12 @@ import com.powsybl.iidm.network.NetworkListener;
 import com.powsybl.iidm.network.TopologyKind;
 import com.powsybl.iidm.network.ValidationLevel;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -27,7 +32,9 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -305,6 +312,92 @@ public class LazyNetworkTest {
         assertFalse(network.hasAliases());
     }
 
+    @Test
+    void testUnmodifiedNetworkIsNotRewritten(@TempDir Path tempDir) throws Exception {
+        LazyNetwork network = new LazyNetwork(Network.read("src/test/resources/12Nodes.uct"), LazyNetwork.StorageFormat.BIIDM, tempDir);
+        Path networkPath = getSingleFile(tempDir);
+        assertTrue(networkPath.toString().endsWith(".biidm"));
+        Files.setLastModifiedTime(networkPath, FileTime.fromMillis(0));
+
+        assertEquals(1500., network.getGenerator("BBE1AA1 _generator").getTargetP(), 1e-6);
+        assertFalse(network.isModified());
+        network.release();
+        assertEquals(FileTime.fromMillis(0), Files.getLastModifiedTime(networkPath));
+
+        network.getGenerator("BBE1AA1 _generator").setTargetP(500.);
+        assertTrue(network.isModified());
+        network.release();
+        assertFalse(network.isModified());
+        assertEquals(500., network.getGenerator("BBE1AA1 _generator").getTargetP(), 1e-6);
+
+        network.close();
+        assertFalse(Files.exists(networkPath));
+    }
+
+    @Test
+    void testNetworkFileIsKeptOnClose(@TempDir Path tempDir) throws Exception {
+        Path networkPath = tempDir.resolve("12Nodes.uct");
+        Files.copy(Path.of("src/test/resources/12Nodes.uct"), networkPath);
+        LazyNetwork network = new LazyNetwork(networkPath.toString());
+        assertEquals("12Nodes", network.getId());
+        network.close();
+        assertTrue(Files.exists(networkPath));
+
+        LazyNetwork deletedNetwork = new LazyNetwork(networkPath.toString(), true);
+        deletedNetwork.close();
+        assertFalse(Files.exists(networkPath));
+    }
+
+    @Test
+    void testVariantReadsDoNotModifyNetwork(@TempDir Path tempDir) throws Exception {
+        LazyNetwork network = new LazyNetwork(Network.read("src/test/resources/12Nodes.uct"), LazyNetwork.StorageFormat.JIIDM, tempDir);
+
+        String initialVariantId = network.getVariantManager().getWorkingVariantId();
+        assertEquals(Set.of(initialVariantId), Set.copyOf(network.getVariantManager().getVariantIds()));
+        assertFalse(network.isModified());
+
+        network.getVariantManager().cloneVariant(initialVariantId, "clone");
+        network.getVariantManager().removeVariant("clone");
+        assertFalse(network.isModified());
+
+        network.getVariantManager().cloneVariant(initialVariantId, "clone");
+        network.getVariantManager().setWorkingVariant("clone");
+        assertTrue(network.isModified());
+
+        network.close();
+    }
+
+    @Test
+    void testModificationsOfNonStorageFormatFileAreSavedInCopy(@TempDir Path tempDir) throws Exception {
+        Path networkPath = tempDir.resolve("12Nodes.uct");
+        Files.copy(Path.of("src/test/resources/12Nodes.uct"), networkPath);
+        byte[] initialContent = Files.readAllBytes(networkPath);
+        LazyNetwork network = new LazyNetwork(networkPath.toString(), false, LazyNetwork.StorageFormat.BIIDM, tempDir);
+
+        network.getGenerator("BBE1AA1 _generator").setTargetP(500.);
+        network.release();
+
+        // the UCTE file is left untouched and the modifications are saved in a binary copy
+        assertArrayEquals(initialContent, Files.readAllBytes(networkPath));
+        Path copyPath;
+        try (Stream<Path> files = Files.list(tempDir)) {
+            copyPath = files.filter(path -> path.toString().endsWith(".biidm")).findFirst().orElseThrow();
+        }
+        assertEquals(500., network.getGenerator("BBE1AA1 _generator").getTargetP(), 1e-6);
+
+        network.close();
+        assertFalse(Files.exists(copyPath));
+        assertTrue(Files.exists(networkPath));
+    }
+
+    private static Path getSingleFile(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> paths = files.toList();
+            assertEquals(1, paths.size());
+            return paths.getFirst();
+        }
+    }
+
     private static <T> List<T> getIterableAsList(Iterable<T> iterable) {
         List<T> list = new ArrayList<>();
         iterable.forEach(list::add);
@@ -9,6 +9,7 @@ package com.powsybl.openrao.raoapi.json;
 
 import com.powsybl.commons.report.ReportNode;
 import com.powsybl.openrao.commons.OpenRaoException;
+import com.powsybl.openrao.raoapi.LazyNetwork;
 import com.powsybl.openrao.raoapi.parameters.ObjectiveFunctionParameters;
 import com.powsybl.openrao.raoapi.parameters.RaoParameters;
 import com.powsybl.openrao.raoapi.parameters.extensions.SearchTreeRaoRangeActionsOptimizationParameters.PstModel;
@@ -87,6 +88,7 @@ class JsonRaoParametersTest extends AbstractSerDeTest {
         searchTreeParameters.getRangeActionsOptimizationParameters().getLinearOptimizationSolver().setRelativeMipGap(1e-5);
         searchTreeParameters.getRangeActionsOptimizationParameters().setPstModel(PstModel.APPROXIMATED_INTEGERS);
         searchTreeParameters.getRangeActionsOptimizationParameters().setRaRangeShrinking(RaRangeShrinking.ENABLED);
+        searchTreeParameters.getRangeActionsOptimizationParameters().setRangeAutomatonsSimulation(SearchTreeRaoRangeActionsOptimizationParameters.RangeAutomatonsSimulation.LINEARIZED_SHIFT);
         // TopologicalActions optimization parameters
         searchTreeParameters.getTopoOptimizationParameters().setMaxPreventiveSearchTreeDepth(10);
         searchTreeParameters.getTopoOptimizationParameters().setMaxCurativeSearchTreeDepth(10);
@@ -95,6 +97,7 @@ class JsonRaoParametersTest extends AbstractSerDeTest {
         searchTreeParameters.getTopoOptimizationParameters().setPredefinedCombinations(List.of(List.of("na-id-1", "na-id-2"), List.of("na-id-1", "na-id-3", "na-id-4")));
         // Multi-threading parameters
         searchTreeParameters.getMultithreadingParameters().setAvailableCPUs(21);
+        searchTreeParameters.getMultithreadingParameters().setNetworkPoolMemoryBudget(2048);
         // Second preventive RAO parameters
         searchTreeParameters.getSecondPreventiveRaoParameters().setExecutionCondition(SecondPreventiveRaoParameters.ExecutionCondition.POSSIBLE_CURATIVE_IMPROVEMENT);
         searchTreeParameters.getSecondPreventiveRaoParameters().setHintFromFirstPreventiveRao(true);
@@ -152,6 +155,10 @@ class JsonRaoParametersTest extends AbstractSerDeTest {
         marmotParameters.setNumberOfCnecsToAddPerVirtualCostName(25);
         marmotParameters.setMaxMipIterations(13);
         marmotParameters.setNumberOfThreads(1515);
+        marmotParameters.setRollingHorizonWindowSize(6);
+        marmotParameters.setRollingHorizonOverlap(2);
+        marmotParameters.setNetworkStorageFormat(LazyNetwork.StorageFormat.BIIDM);
+        marmotParameters.setNetworkStorageDirectory("networks");
 
         // -- PST regulation parameters
         SearchTreeRaoPstRegulationParameters pstRegulationParameters = new SearchTreeRaoPstRegulationParameters();
@@ -226,7 +233,7 @@ class JsonRaoParametersTest extends AbstractSerDeTest {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = {"LoopFlowError", "ObjFuncTypeError", "WrongField"})
+    @ValueSource(strings = {"LoopFlowError", "ObjFuncTypeError", "WrongField", "RollingHorizonOverlapError"})
     void importNokTest(String source) {
         InputStream inputStream = getClass().getResourceAsStream("/RaoParametersWith" + source + "_v2.json");
         assertThrows(OpenRaoException.class, () -> JsonRaoParameters.read(inputStream, ReportNode.NO_OP));
@@ -16,6 +16,7 @@ import com.powsybl.commons.config.MapModuleConfig;
 import com.powsybl.commons.config.ModuleConfig;
 import com.powsybl.commons.config.PlatformConfig;
 import com.powsybl.iidm.network.Country;
+import com.powsybl.openrao.raoapi.LazyNetwork;
 import com.powsybl.openrao.raoapi.parameters.extensions.FastRaoConfigLoader;
 import com.powsybl.openrao.raoapi.parameters.extensions.FastRaoParameters;
 import com.powsybl.openrao.raoapi.parameters.extensions.LoadFlowAndSensitivityParameters;
@@ -38,6 +39,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import java.nio.file.FileSystem;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -109,6 +111,7 @@ class RaoParametersConfigTest {
         assertEquals(7, paramsExt.getPstSensitivityThreshold(), DOUBLE_TOLERANCE);
         assertEquals(SearchTreeRaoRangeActionsOptimizationParameters.PstModel.APPROXIMATED_INTEGERS, paramsExt.getPstModel());
         assertEquals(SearchTreeRaoRangeActionsOptimizationParameters.RaRangeShrinking.DISABLED, paramsExt.getRaRangeShrinking());
+        assertEquals(SearchTreeRaoRangeActionsOptimizationParameters.RangeAutomatonsSimulation.ITERATIVE_SHIFT, paramsExt.getRangeAutomatonsSimulation());
         assertEquals(33, params.getHvdcRAMinImpactThreshold(), DOUBLE_TOLERANCE);
         assertEquals(8, paramsExt.getHvdcSensitivityThreshold(), DOUBLE_TOLERANCE);
         assertEquals(22, params.getInjectionRAMinImpactThreshold(), DOUBLE_TOLERANCE);
@@ -145,9 +148,12 @@ class RaoParametersConfigTest {
     void checkMultiThreadingConfig() {
         MapModuleConfig multiThreadingModuleConfig = platformCfg.createModuleConfig("search-tree-multi-threading");
         multiThreadingModuleConfig.setStringProperty("available-cpus", Objects.toString(43));
+        multiThreadingModuleConfig.setStringProperty("network-pool-memory-budget", Objects.toString(4096));
         RaoParameters parameters = RaoParameters.load(platformCfg, ReportNode.NO_OP);
         MultithreadingParameters params = parameters.getExtension(OpenRaoSearchTreeParameters.class).getMultithreadingParameters();
         assertEquals(43, params.getAvailableCPUs(), DOUBLE_TOLERANCE);
+        assertEquals(4096, params.getNetworkPoolMemoryBudget());
+        assertEquals(4096L * 1024 * 1024, MultithreadingParameters.getNetworkPoolMemoryBudgetInBytes(parameters));
     }
 
     @Test
@@ -363,6 +369,10 @@ class RaoParametersConfigTest {
         Mockito.when(marmotModuleConfig.getDoubleProperty(eq("margin-window-to-consider"), anyDouble())).thenReturn(3.2);
         Mockito.when(marmotModuleConfig.getIntProperty(eq("max-mip-iterations"), anyInt())).thenReturn(15);
         Mockito.when(marmotModuleConfig.getIntProperty(eq("number-of-threads"), anyInt())).thenReturn(42);
+        Mockito.when(marmotModuleConfig.getIntProperty(eq("rolling-horizon-window-size"), anyInt())).thenReturn(8);
+        Mockito.when(marmotModuleConfig.getIntProperty(eq("rolling-horizon-overlap"), anyInt())).thenReturn(3);
+        Mockito.when(marmotModuleConfig.getEnumProperty(eq("network-storage-format"), eq(LazyNetwork.StorageFormat.class), any())).thenReturn(LazyNetwork.StorageFormat.BIIDM);
+        Mockito.when(marmotModuleConfig.getStringProperty(eq("network-storage-directory"), any())).thenReturn("networks");
 
         Mockito.when(mockedPlatformConfig.getOptionalModuleConfig("marmot-parameters")).thenReturn(Optional.of(marmotModuleConfig));
 
@@ -374,5 +384,9 @@ class RaoParametersConfigTest {
         assertEquals(3.2, parameters.getMarginWindowToConsider(), DOUBLE_TOLERANCE);
         assertEquals(15, parameters.getMaxMipIterations());
         assertEquals(42, parameters.getNumberOfThreads());
+        assertEquals(8, parameters.getRollingHorizonWindowSize());
+        assertEquals(3, parameters.getRollingHorizonOverlap());
+        assertEquals(LazyNetwork.StorageFormat.BIIDM, parameters.getNetworkStorageFormat());
+        assertEquals(Path.of("networks"), parameters.getNetworkStoragePath());
     }
 }
@@ -12,6 +12,7 @@ import com.powsybl.iidm.network.Country;
 import com.powsybl.openrao.commons.EICode;
 import com.powsybl.openrao.commons.OpenRaoException;
 import com.powsybl.openrao.raoapi.ZoneToZonePtdfDefinition;
+import com.powsybl.openrao.raoapi.parameters.extensions.MarmotParameters;
 import com.powsybl.openrao.raoapi.parameters.extensions.OpenRaoSearchTreeParameters;
 import com.powsybl.openrao.raoapi.parameters.extensions.SearchTreeRaoRangeActionsOptimizationParameters;
 import org.junit.jupiter.api.BeforeEach;
@@ -133,4 +134,28 @@ class RaoParametersConsistencyTest {
         e = assertThrows(OpenRaoException.class, () -> rangeActionsOptimizationParameters.setInjectionRaSensitivityThreshold(0.));
         assertEquals("injectionRaSensitivityThreshold should be greater than 1e-6, to avoid numerical issues.", e.getMessage());
     }
+
+    @Test
+    void testRollingHorizonOverlapLowerThanWindowSize() {
+        MarmotParameters marmotParameters = new MarmotParameters();
+        marmotParameters.setRollingHorizonWindowSize(4);
+        marmotParameters.setRollingHorizonOverlap(3);
+
+        Exception e = assertThrows(OpenRaoException.class, () -> marmotParameters.setRollingHorizonOverlap(4));
+        assertEquals("rollingHorizonOverlap (4) should be lower than rollingHorizonWindowSize (4).", e.getMessage());
+        e = assertThrows(OpenRaoException.class, () -> marmotParameters.setRollingHorizonWindowSize(3));
+        assertEquals("rollingHorizonOverlap (3) should be lower than rollingHorizonWindowSize (3).", e.getMessage());
+        assertThrows(OpenRaoException.class, () -> marmotParameters.setRollingHorizon(2, 5));
+        assertEquals(4, marmotParameters.getRollingHorizonWindowSize());
+        assertEquals(3, marmotParameters.getRollingHorizonOverlap());
+
+        // both values can be changed at once when each one is incompatible with the other current value
+        marmotParameters.setRollingHorizon(12, 6);
+        assertEquals(12, marmotParameters.getRollingHorizonWindowSize());
+        assertEquals(6, marmotParameters.getRollingHorizonOverlap());
+
+        // the overlap is not used when the rolling horizon is disabled
+        marmotParameters.setRollingHorizon(0, 6);
+        assertFalse(marmotParameters.isRollingHorizonEnabled());
+    }
 }
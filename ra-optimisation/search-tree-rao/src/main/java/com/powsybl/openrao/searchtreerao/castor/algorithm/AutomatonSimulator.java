@@ -26,6 +26,8 @@ import com.powsybl.openrao.data.crac.api.usagerule.OnContingencyState;
 import com.powsybl.openrao.data.crac.api.usagerule.OnInstant;
 import com.powsybl.openrao.data.raoresult.api.ComputationStatus;
 import com.powsybl.openrao.raoapi.parameters.RaoParameters;
+import com.powsybl.openrao.raoapi.parameters.extensions.SearchTreeRaoRangeActionsOptimizationParameters;
+import com.powsybl.openrao.raoapi.parameters.extensions.SearchTreeRaoRangeActionsOptimizationParameters.RangeAutomatonsSimulation;
 import com.powsybl.openrao.searchtreerao.commons.RaoUtil;
 import com.powsybl.openrao.searchtreerao.commons.ToolProvider;
 import com.powsybl.openrao.searchtreerao.commons.objectivefunction.ObjectiveFunction;
@@ -91,6 +93,7 @@ public final class AutomatonSimulator {
     private final Set<String> operatorsNotSharingCras;
     private final int numberLoggedElementsDuringRao;
     private final ReportNode reportNode;
+    private final RangeAutomatonsSimulation rangeAutomatonsSimulation;
 
     public AutomatonSimulator(final Crac crac,
                               final RaoParameters raoParameters,
@@ -109,6 +112,7 @@ public final class AutomatonSimulator {
         this.operatorsNotSharingCras = operatorsNotSharingCras;
         this.numberLoggedElementsDuringRao = numberLoggedElementsDuringRao;
         this.reportNode = reportNode;
+        this.rangeAutomatonsSimulation = SearchTreeRaoRangeActionsOptimizationParameters.getRangeAutomatonsSimulation(raoParameters);
     }
 
     /**
@@ -719,6 +723,37 @@ public final class AutomatonSimulator {
         double minSetpoint = alignedRangeActions.stream().map(ra -> ra.getMinAdmissibleSetpoint(initialSetpoint)).max(Double::compareTo).orElseThrow();
         double maxSetpoint = alignedRangeActions.stream().map(ra -> ra.getMaxAdmissibleSetpoint(initialSetpoint)).min(Double::compareTo).orElseThrow();
 
+        // In linearized mode, the set-point is first shifted in one shot, the iterative shift then only corrects non-linearities
+        if (rangeAutomatonsSimulation == RangeAutomatonsSimulation.LINEARIZED_SHIFT && !flowCnecsWithNegativeMargin.isEmpty()) {
+            double linearizedSetpoint = computeLinearizedSetpoint(alignedRangeActions, flowCnecs, flowCnecsToBeExcluded, automatonRangeActionOptimizationSensitivityAnalysisOutput, initialSetpoint, minSetpoint, maxSetpoint);
+            if (safeDiffSignum(linearizedSetpoint, initialSetpoint) != 0) {
+                TECHNICAL_LOGS.debug("Shifting set-point from {} to {} on range action(s) {} to secure all CNECs at once.",
+                    String.format(Locale.ENGLISH, "%.2f", initialSetpoint),
+                    String.format(Locale.ENGLISH, "%.2f", linearizedSetpoint),
+                    String.join(", ", alignedRangeActions.stream().map(Identifiable::getId).toList()));
+                applyAllRangeActions(alignedRangeActions, network, linearizedSetpoint, activatedRangeActionsWithSetpoint);
+                automatonRangeActionOptimizationSensitivityAnalysisOutput = preAutoPerimeterSensitivityAnalysis.runBasedOnInitialResults(network, initialFlowResult, operatorsNotSharingCras, null, simulationReportNode);
+                if (automatonRangeActionOptimizationSensitivityAnalysisOutput.getSensitivityStatus(automatonState) == ComputationStatus.FAILURE) {
+                    return new RangeAutomatonSimulationResult(
+                        automatonRangeActionOptimizationSensitivityAnalysisOutput,
+                        activatedRangeActionsWithSetpoint.keySet(),
+                        activatedRangeActionsWithInitialSetpoint,
+                        activatedRangeActionsWithSetpoint
+                    );
+                }
+                MostLimitingElementsReports.reportTechnicalMostLimitingElements(
+                    simulationReportNode,
+                    automatonRangeActionOptimizationSensitivityAnalysisOutput,
+                    automatonRangeActionOptimizationSensitivityAnalysisOutput,
+                    Set.of(automatonState),
+                    raoParameters.getObjectiveFunctionParameters().getType(),
+                    this.flowUnit,
+                    numberLoggedElementsDuringRao
+                );
+                flowCnecsWithNegativeMargin = getCnecsWithNegativeMarginWithoutExcludedCnecs(flowCnecs, flowCnecsToBeExcluded, automatonRangeActionOptimizationSensitivityAnalysisOutput);
+            }
+        }
+
         int iteration = 0; // security measure
         double direction = 0;
         FlowCnec previouslyShiftedCnec = null;
@@ -801,6 +836,36 @@ public final class AutomatonSimulator {
         );
     }
 
+    /**
+     * This function computes, based on the sensitivity values of the aligned range actions, the set-point securing all
+     * the FlowCNECs at once (or maximizing their minimum margin if they cannot all be secured), except the sides of
+     * FlowCNECs in cnecsToBeExcluded.
+     * PST set-points are rounded to the next tap in the direction of the shift.
+     */
+    double computeLinearizedSetpoint(List<RangeAction<?>> alignedRangeActions,
+                                     Set<FlowCnec> flowCnecs,
+                                     Set<Pair<FlowCnec, TwoSides>> cnecsToBeExcluded,
+                                     PrePerimeterResult sensitivityResult,
+                                     double currentSetpoint,
+                                     double minSetpointInAlignedRa,
+                                     double maxSetpointInAlignedRa) {
+        List<RangeAutomatonSetpointSolver.LinearizedFlow> linearizedFlows = new ArrayList<>();
+        flowCnecs.forEach(flowCnec -> flowCnec.getMonitoredSides().stream()
+            .filter(side -> !cnecsToBeExcluded.contains(Pair.of(flowCnec, side)))
+            .forEach(side -> linearizedFlows.add(new RangeAutomatonSetpointSolver.LinearizedFlow(
+                sensitivityResult.getFlow(flowCnec, side, flowUnit),
+                computeTotalSensitivityValue(alignedRangeActions, 1, sensitivityResult, flowCnec, side),
+                flowCnec.getLowerBound(side, flowUnit).orElse(Double.NEGATIVE_INFINITY),
+                flowCnec.getUpperBound(side, flowUnit).orElse(Double.POSITIVE_INFINITY)
+            ))));
+        double shift = RangeAutomatonSetpointSolver.computeSetpointShift(linearizedFlows, minSetpointInAlignedRa - currentSetpoint, maxSetpointInAlignedRa - currentSetpoint);
+        double optimalSetpoint = Math.clamp(currentSetpoint + shift, minSetpointInAlignedRa, maxSetpointInAlignedRa);
+        if (alignedRangeActions.getFirst() instanceof PstRangeAction pstRangeAction) {
+            optimalSetpoint = roundUpAngleToTapWrtInitialSetpoint(pstRangeAction, optimalSetpoint, currentSetpoint);
+        }
+        return optimalSetpoint;
+    }
+
     private static void applyAllRangeActions(List<RangeAction<?>> alignedRangeActions, Network network, double optimalSetpoint, Map<RangeAction<?>, Double> activatedRangeActionsWithSetpoint) {
         for (RangeAction<?> rangeAction : alignedRangeActions) {
             rangeAction.apply(network, optimalSetpoint);
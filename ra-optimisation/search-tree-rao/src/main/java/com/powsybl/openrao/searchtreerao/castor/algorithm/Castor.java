@@ -66,6 +66,6 @@ public class Castor implements RaoProvider {
             return CompletableFuture.completedFuture(new FailedRaoResultImpl(failure));
         }
 
-        return new CastorFullOptimization(raoInput, parameters, targetEndInstant, reportNode).run();
+        return RaoUtil.getSharedExecutor(parameters).call(() -> new CastorFullOptimization(raoInput, parameters, targetEndInstant, reportNode).run());
     }
 }
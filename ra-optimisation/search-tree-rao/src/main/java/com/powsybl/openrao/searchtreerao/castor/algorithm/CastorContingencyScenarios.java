@@ -49,6 +49,7 @@ import com.powsybl.openrao.searchtreerao.searchtree.parameters.SearchTreeParamet
 import com.powsybl.openrao.sensitivityanalysis.AppliedRemedialActions;
 import com.powsybl.openrao.util.AbstractNetworkPool;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -56,6 +57,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.TimeUnit;
@@ -66,6 +68,7 @@ import static com.powsybl.openrao.commons.logs.OpenRaoLoggerProvider.TECHNICAL_L
 import static com.powsybl.openrao.data.raoresult.api.ComputationStatus.DEFAULT;
 import static com.powsybl.openrao.raoapi.parameters.extensions.LoadFlowAndSensitivityParameters.getSensitivityFailureOvercost;
 import static com.powsybl.openrao.raoapi.parameters.extensions.MultithreadingParameters.getAvailableCPUs;
+import static com.powsybl.openrao.raoapi.parameters.extensions.MultithreadingParameters.getNetworkPoolMemoryBudgetInBytes;
 import static com.powsybl.openrao.searchtreerao.commons.HvdcUtils.getHvdcRangeActionsOnHvdcLineInAcEmulation;
 import static com.powsybl.openrao.searchtreerao.commons.RaoUtil.applyRemedialActions;
 
@@ -123,21 +126,31 @@ public class CastorContingencyScenarios {
             NUMBER_LOGGED_ELEMENTS_DURING_RAO,
             reportNode
         );
-        // Go through all contingency scenarios
-        try (AbstractNetworkPool networkPool = AbstractNetworkPool.create(network, newVariant, getAvailableCPUs(raoParameters), true)) {
+        // Go through all contingency scenarios: automaton states are simulated first in a dedicated phase, and the
+        // curative perimeters of each scenario are optimized as soon as the simulation of its automaton state is over
+        // Only create as many network copies as there are scenarios to optimize, and as fit in the memory budget. The
+        // copies are dropped as the scenarios are over, once fewer scenarios remain than copies
+        long scenariosToOptimize = stateTree.getContingencyScenarios().stream()
+            .filter(scenario -> scenario.getAutomatonState().isPresent() || !automatonsOnly)
+            .count();
+        try (AbstractNetworkPool networkPool = AbstractNetworkPool.create(network, newVariant, getAvailableCPUs(raoParameters), false, getNetworkPoolMemoryBudgetInBytes(raoParameters))) {
+            networkPool.initClones((int) scenariosToOptimize);
             AtomicInteger remainingScenarios = new AtomicInteger(stateTree.getContingencyScenarios().size());
-            List<ForkJoinTask<Object>> tasks = stateTree.getContingencyScenarios().stream().map(optimizedScenario -> {
-                    final ReportNode scenarioOptimizationReportNode = CastorReports.reportOptimizingScenarioForContingency(reportNode, optimizedScenario.getContingency().getId());
-                    return networkPool.submit(() -> runScenario(prePerimeterSensitivityOutput, automatonsOnly, optimizedScenario, networkPool, automatonSimulator, contingencyScenarioResults, remainingScenarios, scenarioOptimizationReportNode));
-                }
-            ).toList();
-            for (ForkJoinTask<Object> task : tasks) {
-                try {
-                    task.get();
-                } catch (ExecutionException e) {
-                    throw new OpenRaoException(e);
+            List<ForkJoinTask<Object>> curativeTasks = new CopyOnWriteArrayList<>();
+            List<ForkJoinTask<Object>> automatonTasks = new ArrayList<>();
+            stateTree.getContingencyScenarios().forEach(optimizedScenario -> {
+                final ReportNode scenarioOptimizationReportNode = CastorReports.reportOptimizingScenarioForContingency(reportNode, optimizedScenario.getContingency().getId());
+                if (optimizedScenario.getAutomatonState().isPresent()) {
+                    automatonTasks.add(networkPool.submit(() -> simulateAutomatonState(prePerimeterSensitivityOutput, automatonsOnly, optimizedScenario, networkPool, automatonSimulator, contingencyScenarioResults, curativeTasks, remainingScenarios, scenarioOptimizationReportNode)));
+                } else if (!automatonsOnly) {
+                    curativeTasks.add(networkPool.submit(() -> optimizeCurativePerimeters(prePerimeterSensitivityOutput, optimizedScenario, null, networkPool, contingencyScenarioResults, remainingScenarios, scenarioOptimizationReportNode)));
+                } else {
+                    remainingScenarios.decrementAndGet();
                 }
-            }
+            });
+            // All the automaton tasks must be over before waiting for the curative tasks since they submit some of them
+            waitForTasks(automatonTasks);
+            waitForTasks(curativeTasks);
             networkPool.shutdownAndAwaitTermination(24, TimeUnit.HOURS);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -145,17 +158,61 @@ public class CastorContingencyScenarios {
         return contingencyScenarioResults;
     }
 
-    private Object runScenario(final PrePerimeterResult prePerimeterSensitivityOutput,
-                               final boolean automatonsOnly,
-                               final ContingencyScenario optimizedScenario,
-                               final AbstractNetworkPool networkPool,
-                               final AutomatonSimulator automatonSimulator,
-                               final Map<State, PostPerimeterResult> contingencyScenarioResults,
-                               final AtomicInteger remainingScenarios,
-                               final ReportNode reportNode) throws InterruptedException {
+    private static void waitForTasks(List<ForkJoinTask<Object>> tasks) throws InterruptedException {
+        for (ForkJoinTask<Object> task : tasks) {
+            try {
+                task.get();
+            } catch (ExecutionException e) {
+                throw new OpenRaoException(e);
+            }
+        }
+    }
+
+    private Object simulateAutomatonState(final PrePerimeterResult prePerimeterSensitivityOutput,
+                                          final boolean automatonsOnly,
+                                          final ContingencyScenario optimizedScenario,
+                                          final AbstractNetworkPool networkPool,
+                                          final AutomatonSimulator automatonSimulator,
+                                          final Map<State, PostPerimeterResult> contingencyScenarioResults,
+                                          final List<ForkJoinTask<Object>> curativeTasks,
+                                          final AtomicInteger remainingScenarios,
+                                          final ReportNode reportNode) throws InterruptedException {
         Network networkClone = networkPool.getAvailableNetwork(); //This is where the threads actually wait for available networks
         CastorReports.reportOptimizingScenarioPostContingency(reportNode, optimizedScenario.getContingency().getId());
 
+        State automatonState = optimizedScenario.getAutomatonState().orElseThrow();
+        Set<State> curativeStates = new HashSet<>();
+        optimizedScenario.getCurativePerimeters().forEach(perimeter -> curativeStates.addAll(perimeter.getAllStates()));
+
+        AutomatonPerimeterResultImpl automatonResult = automatonSimulator.simulateAutomatonState(automatonState, curativeStates, networkClone);
+        //recompute sensi and objective function considering auto + all instants following auto
+        PostPerimeterResult postAutoResult = getResultPostState(automatonState, networkClone, prePerimeterSensitivityOutput, automatonResult, reportNode);
+        contingencyScenarioResults.put(automatonState, postAutoResult);
+        networkPool.releaseUsedNetwork(networkClone, isAnyActionApplied(Map.entry(automatonState, postAutoResult)));
+
+        if (automatonsOnly) {
+            int scenariosLeft = remainingScenarios.decrementAndGet();
+            TECHNICAL_LOGS.debug("Remaining post-contingency scenarios to optimize: {}", scenariosLeft);
+            networkPool.shrinkClones(scenariosLeft);
+        } else {
+            curativeTasks.add(networkPool.submit(() -> optimizeCurativePerimeters(prePerimeterSensitivityOutput, optimizedScenario, automatonResult, networkPool, contingencyScenarioResults, remainingScenarios, reportNode)));
+        }
+        return null;
+    }
+
+    /**
+     * Optimizes the curative perimeters of a contingency scenario. If the scenario has an automaton state, the
+     * automatons activated during its simulation are applied back on the network before the optimization.
+     */
+    private Object optimizeCurativePerimeters(final PrePerimeterResult prePerimeterSensitivityOutput,
+                                              final ContingencyScenario optimizedScenario,
+                                              final AutomatonPerimeterResultImpl automatonResult,
+                                              final AbstractNetworkPool networkPool,
+                                              final Map<State, PostPerimeterResult> contingencyScenarioResults,
+                                              final AtomicInteger remainingScenarios,
+                                              final ReportNode reportNode) throws InterruptedException {
+        Network networkClone = networkPool.getAvailableNetwork(); //This is where the threads actually wait for available networks
+
         // Init variables
         Optional<State> automatonState = optimizedScenario.getAutomatonState();
         Set<State> curativeStates = new HashSet<>();
@@ -163,31 +220,29 @@ public class CastorContingencyScenarios {
         PrePerimeterResult preCurativeResult = prePerimeterSensitivityOutput;
         double sensitivityFailureOvercost = getSensitivityFailureOvercost(raoParameters);
 
-        // Simulate automaton instant
+        // Retrieve the outcome of the automaton instant
         boolean autoStateSensiFailed = false;
         if (automatonState.isPresent()) {
-            AutomatonPerimeterResultImpl automatonResult = automatonSimulator.simulateAutomatonState(automatonState.get(), curativeStates, networkClone);
-            //recompute sensi and objective function considering auto + all instants following auto
-            PostPerimeterResult postAutoResult = getResultPostState(automatonState.get(), networkClone, prePerimeterSensitivityOutput, automatonResult, reportNode);
-            contingencyScenarioResults.put(automatonState.get(), postAutoResult);
             if (automatonResult.getComputationStatus() == ComputationStatus.FAILURE) {
                 autoStateSensiFailed = true;
             } else {
+                applyRemedialActions(networkClone, automatonResult, automatonState.get());
                 preCurativeResult = automatonResult.getPostAutomatonSensitivityAnalysisOutput();
             }
+        } else {
+            CastorReports.reportOptimizingScenarioPostContingency(reportNode, optimizedScenario.getContingency().getId());
         }
         // Do not simulate curative instant if last sensitivity analysis failed
         // -- if there was no automaton state, check prePerimeterSensitivityOutput sensi status
         // -- or if there was an automaton state that failed
-        if (!automatonsOnly
-            && automatonState.isEmpty()
+        if (automatonState.isEmpty()
             && !optimizedScenario.getCurativePerimeters().isEmpty()
             && prePerimeterSensitivityOutput.getSensitivityStatus(optimizedScenario.getCurativePerimeters().getFirst().getRaOptimisationState()) == ComputationStatus.FAILURE
             || automatonState.isPresent()
             && autoStateSensiFailed
         ) {
             curativeStates.forEach(curativeState -> contingencyScenarioResults.put(curativeState, generateSkippedPostPerimeterResult(curativeState, sensitivityFailureOvercost)));
-        } else if (!automatonsOnly) {
+        } else {
             boolean allPreviousPerimetersSucceded = true;
             PrePerimeterResult previousPerimeterResult = preCurativeResult;
             // Optimize curative perimeters
@@ -215,11 +270,13 @@ public class CastorContingencyScenarios {
                 }
             }
         }
-        TECHNICAL_LOGS.debug("Remaining post-contingency scenarios to optimize: {}", remainingScenarios.decrementAndGet());
+        int scenariosLeft = remainingScenarios.decrementAndGet();
+        TECHNICAL_LOGS.debug("Remaining post-contingency scenarios to optimize: {}", scenariosLeft);
         boolean actionWasApplied = contingencyScenarioResults.entrySet().stream()
             .filter(stateAndResult -> stateAndResult.getKey().getContingency().orElseThrow().equals(optimizedScenario.getContingency()))
             .anyMatch(this::isAnyActionApplied);
         networkPool.releaseUsedNetwork(networkClone, actionWasApplied);
+        networkPool.shrinkClones(scenariosLeft);
         return null;
     }
 
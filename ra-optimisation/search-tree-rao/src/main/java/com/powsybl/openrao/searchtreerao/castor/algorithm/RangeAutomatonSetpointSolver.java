@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.searchtreerao.castor.algorithm;
+
+import java.util.List;
+
+/**
+ * Computes in one shot the set-point shift of a group of aligned range automatons, based on a linearization of the
+ * flows of all the FlowCNECs around the current set-point (f' = f + s * shift).
+ * <p>
+ * If some shifts secure all the CNECs that can be acted upon (i.e. with a non-null sensitivity), the smallest of these
+ * shifts is returned. Otherwise, the returned shift maximizes the minimum margin among these CNECs. Since the minimum
+ * margin is a concave piecewise linear function of the shift, it is maximized with a ternary search.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class RangeAutomatonSetpointSolver {
+    private static final double DOUBLE_NON_NULL = 1e-12;
+    private static final int NUMBER_OF_TERNARY_SEARCH_ITERATIONS = 100;
+
+    private RangeAutomatonSetpointSolver() {
+    }
+
+    /**
+     * Linearized flow on one side of a FlowCNEC. Missing thresholds must be set to infinite values.
+     */
+    record LinearizedFlow(double flow, double sensitivity, double lowerBound, double upperBound) {
+        private boolean canBeActedUpon() {
+            return Math.abs(sensitivity) >= DOUBLE_NON_NULL;
+        }
+
+        private double computeMargin(double shift) {
+            double shiftedFlow = flow + sensitivity * shift;
+            return Math.min(upperBound - shiftedFlow, shiftedFlow - lowerBound);
+        }
+    }
+
+    /**
+     * Returns the set-point shift to apply, between minShift (non-positive) and maxShift (non-negative).
+     */
+    static double computeSetpointShift(List<LinearizedFlow> linearizedFlows, double minShift, double maxShift) {
+        List<LinearizedFlow> flowsToSecure = linearizedFlows.stream().filter(LinearizedFlow::canBeActedUpon).toList();
+        if (flowsToSecure.isEmpty()) {
+            return 0;
+        }
+
+        double lowestSecureShift = minShift;
+        double highestSecureShift = maxShift;
+        for (LinearizedFlow linearizedFlow : flowsToSecure) {
+            double shiftToUpperBound = (linearizedFlow.upperBound() - linearizedFlow.flow()) / linearizedFlow.sensitivity();
+            double shiftToLowerBound = (linearizedFlow.lowerBound() - linearizedFlow.flow()) / linearizedFlow.sensitivity();
+            lowestSecureShift = Math.max(lowestSecureShift, Math.min(shiftToUpperBound, shiftToLowerBound));
+            highestSecureShift = Math.min(highestSecureShift, Math.max(shiftToUpperBound, shiftToLowerBound));
+        }
+        if (lowestSecureShift <= highestSecureShift) {
+            return Math.clamp(0, lowestSecureShift, highestSecureShift);
+        }
+        return maximizeMinMargin(flowsToSecure, minShift, maxShift);
+    }
+
+    private static double maximizeMinMargin(List<LinearizedFlow> linearizedFlows, double minShift, double maxShift) {
+        double lowerShift = minShift;
+        double upperShift = maxShift;
+        for (int iteration = 0; iteration < NUMBER_OF_TERNARY_SEARCH_ITERATIONS; iteration++) {
+            double firstThird = lowerShift + (upperShift - lowerShift) / 3;
+            double secondThird = upperShift - (upperShift - lowerShift) / 3;
+            if (computeMinMargin(linearizedFlows, firstThird) < computeMinMargin(linearizedFlows, secondThird)) {
+                lowerShift = firstThird;
+            } else {
+                upperShift = secondThird;
+            }
+        }
+        return (lowerShift + upperShift) / 2;
+    }
+
+    private static double computeMinMargin(List<LinearizedFlow> linearizedFlows, double shift) {
+        return linearizedFlows.stream().mapToDouble(linearizedFlow -> linearizedFlow.computeMargin(shift)).min().orElse(Double.MAX_VALUE);
+    }
+}
@@ -12,6 +12,7 @@ import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.TwoSides;
 import com.powsybl.iidm.network.extensions.HvdcAngleDroopActivePowerControl;
 import com.powsybl.openrao.commons.OpenRaoException;
+import com.powsybl.openrao.commons.SharedExecutor;
 import com.powsybl.openrao.commons.Unit;
 import com.powsybl.openrao.data.crac.api.Crac;
 import com.powsybl.openrao.data.crac.api.RemedialAction;
@@ -27,6 +28,7 @@ import com.powsybl.openrao.data.crac.api.usagerule.UsageRule;
 import com.powsybl.openrao.data.refprog.referenceprogram.ReferenceProgramBuilder;
 import com.powsybl.openrao.raoapi.RaoInput;
 import com.powsybl.openrao.raoapi.parameters.RaoParameters;
+import com.powsybl.openrao.raoapi.parameters.extensions.MultithreadingParameters;
 import com.powsybl.openrao.raoapi.parameters.extensions.OpenRaoSearchTreeParameters;
 import com.powsybl.openrao.raoapi.parameters.extensions.SearchTreeRaoRangeActionsOptimizationParameters.PstModel;
 import com.powsybl.openrao.searchtreerao.commons.optimizationperimeters.OptimizationPerimeter;
@@ -63,6 +65,14 @@ public final class RaoUtil {
         addNetworkActionAssociatedWithHvdcRangeAction(raoInput.getCrac(), raoInput.getNetwork());
     }
 
+    /**
+     * Executor of the parallel computations of the RAO: it may use as many worker threads as available CPUs, unless
+     * the RAO is run within another parallel computation whose cap it then shares.
+     */
+    public static SharedExecutor getSharedExecutor(final RaoParameters raoParameters) {
+        return SharedExecutor.forComputation(MultithreadingParameters.getAvailableCPUs(raoParameters));
+    }
+
     public static void initNetwork(Network network, String networkVariantId) {
         network.getVariantManager().setWorkingVariant(networkVariantId);
     }
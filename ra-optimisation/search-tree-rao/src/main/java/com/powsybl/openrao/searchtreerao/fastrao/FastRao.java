@@ -110,7 +110,7 @@ public class FastRao implements RaoProvider {
             return CompletableFuture.completedFuture(new FailedRaoResultImpl(failure));
         }
 
-        return CompletableFuture.completedFuture(launchFastRaoOptimization(raoInput, parameters, targetEndInstant, new HashSet<>(), reportNode));
+        return CompletableFuture.completedFuture(RaoUtil.getSharedExecutor(parameters).call(() -> launchFastRaoOptimization(raoInput, parameters, targetEndInstant, new HashSet<>(), reportNode)));
     }
 
     static RaoResult launchFastRaoOptimization(final RaoInput raoInput,
@@ -47,8 +47,11 @@ public class GeneratorConstraintsFiller implements ProblemFiller {
     private final TemporalData<State> preventiveStates;
     private final TemporalData<Set<InjectionRangeAction>> injectionRangeActionsPerTimestamp;
     private final Set<GeneratorConstraints> generatorConstraints;
+    // injection range actions acting upon each constrained generator, for the generators acted upon at every timestamp
+    private final Map<String, TemporalData<InjectionRangeAction>> injectionRangeActionsPerGenerator = new HashMap<>();
     private final List<OffsetDateTime> timestamps;
     private final double timestampDuration;
+    private final Map<String, Double> initialGeneratorPowers;
 
     private static final double DEFAULT_POWER_GRADIENT = 100000.0;
     // After MIP, result is rounded and injections greater than INJECTION_HVDC_ACTIVATION_THRESHOLD = 1 MW are considered as activated
@@ -62,12 +65,28 @@ public class GeneratorConstraintsFiller implements ProblemFiller {
                                       TemporalData<State> preventiveStates,
                                       TemporalData<Set<InjectionRangeAction>> injectionRangeActionsPerTimestamp,
                                       Set<GeneratorConstraints> generatorConstraints) {
+        this(networks, preventiveStates, injectionRangeActionsPerTimestamp, generatorConstraints, Map.of());
+    }
+
+    /**
+     * The initial generator powers are the powers of the generators at the timestamp preceding the first timestamp of
+     * the problem, e.g. the last timestamp fixed by the previous window of a rolling-horizon optimization. They are used
+     * as boundary conditions for the power variations and the state of the generators at the first timestamp.
+     */
+    public GeneratorConstraintsFiller(TemporalData<Network> networks,
+                                      TemporalData<State> preventiveStates,
+                                      TemporalData<Set<InjectionRangeAction>> injectionRangeActionsPerTimestamp,
+                                      Set<GeneratorConstraints> generatorConstraints,
+                                      Map<String, Double> initialGeneratorPowers) {
         this.generatorData = getGeneratorData(injectionRangeActionsPerTimestamp, networks);
         this.preventiveStates = preventiveStates;
         this.injectionRangeActionsPerTimestamp = injectionRangeActionsPerTimestamp;
         this.generatorConstraints = generatorConstraints;
         this.timestampDuration = computeTimestampDuration(networks.getTimestamps());
         this.timestamps = networks.getTimestamps();
+        this.initialGeneratorPowers = initialGeneratorPowers;
+        generatorConstraints.forEach(individualGeneratorConstraints -> getInjectionRangeActionOfGenerator(individualGeneratorConstraints.getGeneratorId())
+            .ifPresent(injectionRangeActions -> injectionRangeActionsPerGenerator.put(individualGeneratorConstraints.getGeneratorId(), injectionRangeActions)));
     }
 
     // TODO: move this check at a prior moment
@@ -85,84 +104,228 @@ public class GeneratorConstraintsFiller implements ProblemFiller {
         return referenceTimestampDuration;
     }
 
+    /**
+     * Returns true if the filler actually adds constraints coupling the timestamps to the linear problem, i.e. if at
+     * least one constrained generator is acted upon by an injection range action at every timestamp and does not remain
+     * OFF over the whole horizon. Otherwise, the problem of each timestamp can be filled on its own with
+     * {@link #getTimestampFiller(OffsetDateTime)}.
+     */
+    public boolean couplesTimestamps() {
+        return generatorConstraints.stream()
+            .filter(individualGeneratorConstraints -> injectionRangeActionsPerGenerator.containsKey(individualGeneratorConstraints.getGeneratorId()))
+            .anyMatch(individualGeneratorConstraints -> getFixedState(individualGeneratorConstraints).filter(LinearProblem.GeneratorState.OFF::equals).isEmpty());
+    }
+
+    /**
+     * Returns a filler of the constraints of a single timestamp: the power of the generators, their state and the link
+     * with the injection range actions at this timestamp (C1, C4 and C10, and C8 bis, C9 bis and C11 at the first
+     * timestamp). The constraints between consecutive timestamps are only added by {@link #fill}.
+     */
+    public ProblemFiller getTimestampFiller(OffsetDateTime timestamp) {
+        if (!timestamps.contains(timestamp)) {
+            throw new OpenRaoException("Timestamp %s is not handled by the generator constraints filler.".formatted(timestamp));
+        }
+        return new ProblemFiller() {
+            @Override
+            public void fill(LinearProblem linearProblem, FlowResult flowResult, SensitivityResult sensitivityResult, RangeActionActivationResult rangeActionActivationResult) {
+                fillTimestamp(linearProblem, timestamp);
+            }
+
+            @Override
+            public void updateBetweenMipIteration(LinearProblem linearProblem, RangeActionActivationResult rangeActionActivationResult) {
+                // nothing to do
+            }
+        };
+    }
+
     @Override
     public void fill(LinearProblem linearProblem, FlowResult flowResult, SensitivityResult sensitivityResult, RangeActionActivationResult rangeActionActivationResult) {
-        int numberOfTimestamps = generatorData.getTimestamps().size();
+        timestamps.forEach(timestamp -> fillTimestamp(linearProblem, timestamp));
         for (GeneratorConstraints individualGeneratorConstraints : generatorConstraints) {
-            String generatorId = individualGeneratorConstraints.getGeneratorId();
-            Optional<Double> leadTime = individualGeneratorConstraints.getLeadTime();
-            // We add leadTime to lagTime : after shutdown, we need to be OFF for at least lagTime + leadTime
-            Optional<Double> lagTimeWithLeadTime = addLeadAndLag(leadTime, individualGeneratorConstraints.getLagTime());
-            Optional<TemporalData<InjectionRangeAction>> associatedInjections = getInjectionRangeActionOfGenerator(generatorId);
-            if (associatedInjections.isPresent()) {
-                // Add variables
-                for (int timestampIndex = 0; timestampIndex < numberOfTimestamps; timestampIndex++) {
-                    OffsetDateTime timestamp = timestamps.get(timestampIndex);
-                    addPowerVariable(linearProblem, generatorId, timestamp);
-                    addStateVariables(linearProblem, generatorId, timestamp);
-                    if (timestampIndex < numberOfTimestamps - 1) {
-                        addStateTransitionVariables(linearProblem, generatorId, timestamp);
+            if (injectionRangeActionsPerGenerator.containsKey(individualGeneratorConstraints.getGeneratorId())) {
+                Optional<LinearProblem.GeneratorState> fixedState = getFixedState(individualGeneratorConstraints);
+                if (fixedState.isEmpty()) {
+                    fillStateTransitions(linearProblem, individualGeneratorConstraints);
+                } else if (fixedState.get() == LinearProblem.GeneratorState.ON) {
+                    // power variations of an OFF generator are already bounded by the power bounds
+                    for (int timestampIndex = 0; timestampIndex < timestamps.size() - 1; timestampIndex++) {
+                        addFixedStatePowerVariationConstraints(linearProblem, individualGeneratorConstraints, timestamps.get(timestampIndex), timestamps.get(timestampIndex + 1));
                     }
                 }
-                // Add constraints
-                for (int timestampIndex = 0; timestampIndex < numberOfTimestamps; timestampIndex++) {
-                    OffsetDateTime timestamp = timestamps.get(timestampIndex);
-                    // Constraints not involving state transition variables
-                    addUniqueGeneratorStateConstraint(linearProblem, generatorId, timestamp);
-                    addOnOffPowerConstraints(linearProblem, generatorId, timestamp);
-
-                    // Constraints involving state transition variables, defined on indexes [0, numberOfTimestamps - 2]
-                    if (timestampIndex < numberOfTimestamps - 1) {
-                        OffsetDateTime nextTimestamp = timestamps.get(timestampIndex + 1);
-                        // link transition to current state
-                        addStateFromTransitionConstraints(linearProblem, generatorId, timestamp);
-                        // link transition to next state
-                        addStateToTransitionConstraints(linearProblem, generatorId, timestamp, nextTimestamp);
-
-                        // For t' between ceil(t + 1 - leadTime) and t, T(OFF->ON)(t) <= OFF(t')
-                        if (leadTime.isPresent() && leadTime.get() > timestampDuration) {
-                            int firstTimestampIndex = Math.max(0, timestampIndex + 1 - (int) Math.ceil(leadTime.get() / timestampDuration));
-                            for (int earlierTimestampIndex = timestampIndex; earlierTimestampIndex >= firstTimestampIndex; earlierTimestampIndex--) {
-                                addLeadTimeConstraint(linearProblem, generatorId, timestamps.get(timestampIndex), timestamps.get(earlierTimestampIndex));
-                            }
-                        }
-
-                        // For t' between t+1 and ceil(t + lagTime) and t, T(ON->OFF)(t) <= OFF(t')
-                        if (lagTimeWithLeadTime.isPresent() && lagTimeWithLeadTime.get() > timestampDuration) {
-                            int lastTimestampIndex = Math.min(numberOfTimestamps - 1, timestampIndex + (int) Math.ceil(lagTimeWithLeadTime.get() / timestampDuration));
-                            for (int laterTimestampIndex = timestampIndex + 1; laterTimestampIndex <= lastTimestampIndex; laterTimestampIndex++) {
-                                addLagTimeConstraint(linearProblem, generatorId, timestamps.get(timestampIndex), timestamps.get(laterTimestampIndex));
-                            }
-                        }
-                        addPowerVariationConstraints(linearProblem, individualGeneratorConstraints, lagTimeWithLeadTime, timestamps.get(timestampIndex), timestamps.get(timestampIndex + 1));
-
-                        if (!individualGeneratorConstraints.isShutDownAllowed()) {
-                            addShutDownProhibitedConstraint(linearProblem, individualGeneratorConstraints.getGeneratorId(), timestamps.get(timestampIndex));
-                        }
-
-                        if (!individualGeneratorConstraints.isStartUpAllowed()) {
-                            addStartUpProhibitedConstraint(linearProblem, individualGeneratorConstraints.getGeneratorId(), timestamps.get(timestampIndex));
-                        }
+            }
+        }
+    }
 
-                    }
-                    addPowerToInjectionConstraint(
-                        linearProblem,
-                        generatorId,
-                        timestamp,
-                        associatedInjections.get().getData(timestamps.get(timestampIndex)).orElseThrow(),
-                        preventiveStates.getData(timestamp).orElseThrow()
-                    );
-                }
-                // Specific first timestamp constraints
-                OffsetDateTime firstTimestamp = timestamps.getFirst();
-                if (!individualGeneratorConstraints.isShutDownAllowed()) {
-                    addShutDownProhibitedOnFirstTimestampConstraint(linearProblem, generatorId, firstTimestamp);
+    /**
+     * Adds the variables and constraints that only involve the given timestamp.
+     * <br/>
+     * When the state of the generator is known, the state variables are not needed: the state only defines the bounds
+     * of the power variable (C4), and the gradients that apply between consecutive timestamps (C7 and C11). The
+     * problem is then purely linear for this generator.
+     */
+    private void fillTimestamp(LinearProblem linearProblem, OffsetDateTime timestamp) {
+        boolean isFirstTimestamp = timestamp.equals(timestamps.getFirst());
+        for (GeneratorConstraints individualGeneratorConstraints : generatorConstraints) {
+            String generatorId = individualGeneratorConstraints.getGeneratorId();
+            TemporalData<InjectionRangeAction> associatedInjections = injectionRangeActionsPerGenerator.get(generatorId);
+            if (associatedInjections == null) {
+                continue;
+            }
+            Optional<LinearProblem.GeneratorState> fixedState = getFixedState(individualGeneratorConstraints);
+            addPowerVariable(linearProblem, generatorId, timestamp);
+            if (fixedState.isEmpty()) {
+                addStateVariables(linearProblem, generatorId, timestamp);
+                addUniqueGeneratorStateConstraint(linearProblem, generatorId, timestamp);
+                addOnOffPowerConstraints(linearProblem, generatorId, timestamp);
+            } else if (fixedState.get() == LinearProblem.GeneratorState.ON) {
+                linearProblem.getGeneratorPowerVariable(generatorId, timestamp).setBounds(getMinP(generatorId, timestamp), getMaxP(generatorId, timestamp));
+            } else {
+                linearProblem.getGeneratorPowerVariable(generatorId, timestamp).setBounds(0, OFF_POWER_THRESHOLD);
+            }
+            addPowerToInjectionConstraint(linearProblem, generatorId, timestamp, associatedInjections.getData(timestamp).orElseThrow(), preventiveStates.getData(timestamp).orElseThrow());
+
+            if (isFirstTimestamp) {
+                fillFirstTimestampConstraints(linearProblem, individualGeneratorConstraints, fixedState, timestamp);
+            }
+        }
+    }
+
+    /**
+     * Specific first timestamp constraints, linking the state and the power of the generator to its initial state and power
+     */
+    private void fillFirstTimestampConstraints(LinearProblem linearProblem, GeneratorConstraints generatorConstraints, Optional<LinearProblem.GeneratorState> fixedState, OffsetDateTime firstTimestamp) {
+        String generatorId = generatorConstraints.getGeneratorId();
+        if (fixedState.isPresent()) {
+            if (initialGeneratorPowers.containsKey(generatorId)) {
+                addFixedStateInitialPowerVariationConstraints(linearProblem, generatorConstraints, fixedState.get(), firstTimestamp);
+            }
+            return;
+        }
+        if (initialGeneratorPowers.containsKey(generatorId)) {
+            addInitialPowerVariationConstraints(linearProblem, generatorConstraints, firstTimestamp);
+        }
+        if (!generatorConstraints.isShutDownAllowed()) {
+            addShutDownProhibitedOnFirstTimestampConstraint(linearProblem, generatorId, firstTimestamp);
+        }
+        if (!generatorConstraints.isStartUpAllowed()) {
+            addStartUpProhibitedOnFirstTimestampConstraint(linearProblem, generatorId, firstTimestamp);
+        }
+    }
+
+    /**
+     * Adds the state transition variables of a generator whose state can change, and the constraints linking them to
+     * the states and powers of consecutive timestamps.
+     */
+    private void fillStateTransitions(LinearProblem linearProblem, GeneratorConstraints individualGeneratorConstraints) {
+        String generatorId = individualGeneratorConstraints.getGeneratorId();
+        int numberOfTimestamps = timestamps.size();
+        Optional<Double> leadTime = individualGeneratorConstraints.getLeadTime();
+        // We add leadTime to lagTime : after shutdown, we need to be OFF for at least lagTime + leadTime
+        Optional<Double> lagTimeWithLeadTime = addLeadAndLag(leadTime, individualGeneratorConstraints.getLagTime());
+        // Add variables, defined on indexes [0, numberOfTimestamps - 2]
+        for (int timestampIndex = 0; timestampIndex < numberOfTimestamps - 1; timestampIndex++) {
+            addStateTransitionVariables(linearProblem, generatorId, timestamps.get(timestampIndex));
+        }
+        // Add constraints involving state transition variables
+        for (int timestampIndex = 0; timestampIndex < numberOfTimestamps - 1; timestampIndex++) {
+            OffsetDateTime timestamp = timestamps.get(timestampIndex);
+            OffsetDateTime nextTimestamp = timestamps.get(timestampIndex + 1);
+            // link transition to current state
+            addStateFromTransitionConstraints(linearProblem, generatorId, timestamp);
+            // link transition to next state
+            addStateToTransitionConstraints(linearProblem, generatorId, timestamp, nextTimestamp);
+
+            // For t' between ceil(t + 1 - leadTime) and t, T(OFF->ON)(t) <= OFF(t')
+            if (leadTime.isPresent() && leadTime.get() > timestampDuration) {
+                int firstTimestampIndex = Math.max(0, timestampIndex + 1 - (int) Math.ceil(leadTime.get() / timestampDuration));
+                for (int earlierTimestampIndex = timestampIndex; earlierTimestampIndex >= firstTimestampIndex; earlierTimestampIndex--) {
+                    addLeadTimeConstraint(linearProblem, generatorId, timestamp, timestamps.get(earlierTimestampIndex));
                 }
-                if (!individualGeneratorConstraints.isStartUpAllowed()) {
-                    addStartUpProhibitedOnFirstTimestampConstraint(linearProblem, generatorId, firstTimestamp);
+            }
+
+            // For t' between t+1 and ceil(t + lagTime) and t, T(ON->OFF)(t) <= OFF(t')
+            if (lagTimeWithLeadTime.isPresent() && lagTimeWithLeadTime.get() > timestampDuration) {
+                int lastTimestampIndex = Math.min(numberOfTimestamps - 1, timestampIndex + (int) Math.ceil(lagTimeWithLeadTime.get() / timestampDuration));
+                for (int laterTimestampIndex = timestampIndex + 1; laterTimestampIndex <= lastTimestampIndex; laterTimestampIndex++) {
+                    addLagTimeConstraint(linearProblem, generatorId, timestamp, timestamps.get(laterTimestampIndex));
                 }
             }
+            addPowerVariationConstraints(linearProblem, individualGeneratorConstraints, lagTimeWithLeadTime, timestamp, nextTimestamp);
+
+            if (!individualGeneratorConstraints.isShutDownAllowed()) {
+                addShutDownProhibitedConstraint(linearProblem, generatorId, timestamp);
+            }
+
+            if (!individualGeneratorConstraints.isStartUpAllowed()) {
+                addStartUpProhibitedConstraint(linearProblem, generatorId, timestamp);
+            }
+        }
+    }
+
+    // ---- Compact formulation for generators whose state cannot change
+
+    /**
+     * The state of the generator cannot change over the horizon if it is initially ON and cannot be shut down, or if
+     * it is initially OFF and cannot be started up.
+     */
+    private Optional<LinearProblem.GeneratorState> getFixedState(GeneratorConstraints generatorConstraints) {
+        String generatorId = generatorConstraints.getGeneratorId();
+        OffsetDateTime firstTimestamp = timestamps.getFirst();
+        boolean initiallyOn = getInitialP(generatorId, firstTimestamp) >= getMinP(generatorId, firstTimestamp);
+        if (initiallyOn && !generatorConstraints.isShutDownAllowed()) {
+            return Optional.of(LinearProblem.GeneratorState.ON);
+        } else if (!initiallyOn && !generatorConstraints.isStartUpAllowed()) {
+            return Optional.of(LinearProblem.GeneratorState.OFF);
         }
+        return Optional.empty();
+    }
+
+    /**
+     * C7 for a generator that remains ON
+     * <br/>
+     * downwardGradient * duration <= P(t+1) - P(t) <= upwardGradient * duration
+     */
+    private void addFixedStatePowerVariationConstraints(LinearProblem linearProblem, GeneratorConstraints generatorConstraints, OffsetDateTime timestamp, OffsetDateTime nextTimestamp) {
+        String generatorId = generatorConstraints.getGeneratorId();
+        double upwardPowerGradient = generatorConstraints.getUpwardPowerGradient().orElse(DEFAULT_POWER_GRADIENT);
+        double downwardPowerGradient = generatorConstraints.getDownwardPowerGradient().orElse(-DEFAULT_POWER_GRADIENT);
+
+        OpenRaoMPConstraint powerTransitionConstraintInf = linearProblem.addGeneratorPowerTransitionConstraint(
+            generatorId, downwardPowerGradient * timestampDuration, linearProblem.infinity(), timestamp, LinearProblem.AbsExtension.POSITIVE
+        );
+        powerTransitionConstraintInf.setCoefficient(linearProblem.getGeneratorPowerVariable(generatorId, nextTimestamp), 1.0);
+        powerTransitionConstraintInf.setCoefficient(linearProblem.getGeneratorPowerVariable(generatorId, timestamp), -1.0);
+
+        OpenRaoMPConstraint powerTransitionConstraintSup = linearProblem.addGeneratorPowerTransitionConstraint(
+            generatorId, -linearProblem.infinity(), upwardPowerGradient * timestampDuration, timestamp, LinearProblem.AbsExtension.NEGATIVE
+        );
+        powerTransitionConstraintSup.setCoefficient(linearProblem.getGeneratorPowerVariable(generatorId, nextTimestamp), 1.0);
+        powerTransitionConstraintSup.setCoefficient(linearProblem.getGeneratorPowerVariable(generatorId, timestamp), -1.0);
+    }
+
+    /**
+     * C11 for a generator whose state is fixed
+     * <br/>
+     * ON: P_initial + downwardGradient * duration <= P(first timestamp) <= P_initial + upwardGradient * duration
+     * <br/>
+     * OFF: P_initial - OFF_POWER_THRESHOLD <= P(first timestamp) <= P_initial + OFF_POWER_THRESHOLD
+     */
+    private void addFixedStateInitialPowerVariationConstraints(LinearProblem linearProblem, GeneratorConstraints generatorConstraints, LinearProblem.GeneratorState fixedState, OffsetDateTime firstTimestamp) {
+        String generatorId = generatorConstraints.getGeneratorId();
+        double initialPower = initialGeneratorPowers.get(generatorId);
+        double minVariation = fixedState == LinearProblem.GeneratorState.ON ? generatorConstraints.getDownwardPowerGradient().orElse(-DEFAULT_POWER_GRADIENT) * timestampDuration : -OFF_POWER_THRESHOLD;
+        double maxVariation = fixedState == LinearProblem.GeneratorState.ON ? generatorConstraints.getUpwardPowerGradient().orElse(DEFAULT_POWER_GRADIENT) * timestampDuration : OFF_POWER_THRESHOLD;
+        OffsetDateTime previousTimestamp = firstTimestamp.minusSeconds(Math.round(timestampDuration * 3600));
+
+        OpenRaoMPConstraint powerTransitionConstraintInf = linearProblem.addGeneratorPowerTransitionConstraint(
+            generatorId, initialPower + minVariation, linearProblem.infinity(), previousTimestamp, LinearProblem.AbsExtension.POSITIVE
+        );
+        powerTransitionConstraintInf.setCoefficient(linearProblem.getGeneratorPowerVariable(generatorId, firstTimestamp), 1.0);
+
+        OpenRaoMPConstraint powerTransitionConstraintSup = linearProblem.addGeneratorPowerTransitionConstraint(
+            generatorId, -linearProblem.infinity(), initialPower + maxVariation, previousTimestamp, LinearProblem.AbsExtension.NEGATIVE
+        );
+        powerTransitionConstraintSup.setCoefficient(linearProblem.getGeneratorPowerVariable(generatorId, firstTimestamp), 1.0);
     }
 
     // ---- Variables
@@ -352,13 +515,13 @@ public class GeneratorConstraintsFiller implements ProblemFiller {
     }
 
     /**
-     * C8 bis - If the generator has its power >= Pmin at first timestamp, force it to ON.
+     * C8 bis - If the generator has its initial power >= Pmin, force it to ON at first timestamp.
      * <br/>
      * ON(t) = 1 on first timestamp when  P(t) >= Pmin
      * <br/>
      */
     private void addShutDownProhibitedOnFirstTimestampConstraint(LinearProblem linearProblem, String generatorId, OffsetDateTime timestamp) {
-        if (getP(generatorId, timestamp) >= getMinP(generatorId, timestamp)) {
+        if (getInitialP(generatorId, timestamp) >= getMinP(generatorId, timestamp)) {
             OpenRaoMPConstraint shutDownOnFirstTimestampProhibitedConstraint = linearProblem.addGeneratorShutDownOnFirstTimestampProhibitedConstraint(generatorId, timestamp);
             shutDownOnFirstTimestampProhibitedConstraint.setCoefficient(linearProblem.getGeneratorStateVariable(generatorId, timestamp, LinearProblem.GeneratorState.ON), 1.0);
         }
@@ -376,13 +539,13 @@ public class GeneratorConstraintsFiller implements ProblemFiller {
     }
 
     /**
-     * C9 bis - If the generator has its power < Pmin at first timestamp, force it to OFF.
+     * C9 bis - If the generator has its initial power < Pmin, force it to OFF at first timestamp.
      * <br/>
      * OFF(t) = 1 on first timestamp when  P(t) < Pmin
      * <br/>
      */
     private void addStartUpProhibitedOnFirstTimestampConstraint(LinearProblem linearProblem, String generatorId, OffsetDateTime timestamp) {
-        if (getP(generatorId, timestamp) < getMinP(generatorId, timestamp)) {
+        if (getInitialP(generatorId, timestamp) < getMinP(generatorId, timestamp)) {
             OpenRaoMPConstraint startUpOnFirstTimestampProhibitedConstraint = linearProblem.addGeneratorStartUpOnFirstTimestampProhibitedConstraint(generatorId, timestamp);
             startUpOnFirstTimestampProhibitedConstraint.setCoefficient(linearProblem.getGeneratorStateVariable(generatorId, timestamp, LinearProblem.GeneratorState.OFF), 1.0);
         }
@@ -400,6 +563,65 @@ public class GeneratorConstraintsFiller implements ProblemFiller {
         powerToInjectionConstraint.setCoefficient(linearProblem.getRangeActionSetpointVariable(injectionRangeAction, state), -getDistributionKey(generatorId, injectionRangeAction));
     }
 
+    /**
+     * C11 - Constraints linking the power at first timestamp to the initial power of the generator
+     * <br/>
+     * Same as C7 with the power and the state of the generator at the previous timestamp being known: the state
+     * transition variables are replaced by the state variables of the first timestamp.
+     */
+    private void addInitialPowerVariationConstraints(LinearProblem linearProblem, GeneratorConstraints generatorConstraints, OffsetDateTime firstTimestamp) {
+        String generatorId = generatorConstraints.getGeneratorId();
+        double upwardPowerGradient = generatorConstraints.getUpwardPowerGradient().orElse(DEFAULT_POWER_GRADIENT);
+        double downwardPowerGradient = generatorConstraints.getDownwardPowerGradient().orElse(-DEFAULT_POWER_GRADIENT);
+        double initialPower = initialGeneratorPowers.get(generatorId);
+        double pMin = getMinP(generatorId, firstTimestamp);
+        // constraints are indexed by the transition's starting timestamp, i.e. the timestamp preceding the first one
+        OffsetDateTime previousTimestamp = firstTimestamp.minusSeconds(Math.round(timestampDuration * 3600));
+
+        OpenRaoMPConstraint powerTransitionConstraintInf = linearProblem.addGeneratorPowerTransitionConstraint(
+            generatorId, initialPower, linearProblem.infinity(), previousTimestamp, LinearProblem.AbsExtension.POSITIVE
+        );
+        powerTransitionConstraintInf.setCoefficient(linearProblem.getGeneratorPowerVariable(generatorId, firstTimestamp), 1.0);
+
+        OpenRaoMPConstraint powerTransitionConstraintSup = linearProblem.addGeneratorPowerTransitionConstraint(
+            generatorId, -linearProblem.infinity(), initialPower, previousTimestamp, LinearProblem.AbsExtension.NEGATIVE
+        );
+        powerTransitionConstraintSup.setCoefficient(linearProblem.getGeneratorPowerVariable(generatorId, firstTimestamp), 1.0);
+
+        OpenRaoMPVariable onVariable = linearProblem.getGeneratorStateVariable(generatorId, firstTimestamp, LinearProblem.GeneratorState.ON);
+        OpenRaoMPVariable offVariable = linearProblem.getGeneratorStateVariable(generatorId, firstTimestamp, LinearProblem.GeneratorState.OFF);
+        if (initialPower >= pMin) {
+            // ON -> ON
+            powerTransitionConstraintInf.setCoefficient(onVariable, -downwardPowerGradient * timestampDuration);
+            powerTransitionConstraintSup.setCoefficient(onVariable, -upwardPowerGradient * timestampDuration);
+            // ON -> OFF
+            powerTransitionConstraintInf.setCoefficient(offVariable, pMin - downwardPowerGradient * timestampDuration);
+            powerTransitionConstraintSup.setCoefficient(offVariable, pMin - OFF_POWER_THRESHOLD);
+        } else {
+            // OFF -> OFF
+            powerTransitionConstraintInf.setCoefficient(offVariable, OFF_POWER_THRESHOLD);
+            powerTransitionConstraintSup.setCoefficient(offVariable, -OFF_POWER_THRESHOLD);
+            // OFF -> ON
+            powerTransitionConstraintInf.setCoefficient(onVariable, -(pMin - OFF_POWER_THRESHOLD));
+            powerTransitionConstraintSup.setCoefficient(onVariable, -pMin - upwardPowerGradient * timestampDuration);
+        }
+    }
+
+    /**
+     * Computes the power of each constrained generator from the set-points of the injection range actions acting upon
+     * it, as in C10. Generators that are not acted upon by any of the injection range actions are ignored.
+     */
+    public static Map<String, Double> computeGeneratorPowers(Set<GeneratorConstraints> generatorConstraints,
+                                                             Set<InjectionRangeAction> injectionRangeActions,
+                                                             State preventiveState,
+                                                             RangeActionActivationResult rangeActionActivationResult) {
+        Map<String, Double> generatorPowers = new HashMap<>();
+        generatorConstraints.stream().map(GeneratorConstraints::getGeneratorId).forEach(generatorId ->
+            getInjectionRangeActionOfGenerator(generatorId, injectionRangeActions).ifPresent(injectionRangeAction ->
+                generatorPowers.put(generatorId, getDistributionKey(generatorId, injectionRangeAction) * rangeActionActivationResult.getOptimizedSetpoint(injectionRangeAction, preventiveState))));
+        return generatorPowers;
+    }
+
     // ** Utility methods
     private static double computeTimeGap(OffsetDateTime timestamp1, OffsetDateTime timestamp2) {
         if (timestamp1 == null || timestamp2 == null) {
@@ -448,6 +670,10 @@ public class GeneratorConstraintsFiller implements ProblemFiller {
         return getGeneratorData(generatorId, timestamp).targetP();
     }
 
+    private double getInitialP(String generatorId, OffsetDateTime firstTimestamp) {
+        return initialGeneratorPowers.containsKey(generatorId) ? initialGeneratorPowers.get(generatorId) : getP(generatorId, firstTimestamp);
+    }
+
     private GeneratorData getGeneratorData(String generatorId, OffsetDateTime timestamp) {
         GeneratorData generatorData = this.generatorData.getData(timestamp).orElseThrow().get(generatorId);
         if (generatorData == null) {
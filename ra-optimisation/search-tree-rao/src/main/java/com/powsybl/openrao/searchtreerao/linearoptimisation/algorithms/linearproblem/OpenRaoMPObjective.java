@@ -26,4 +26,8 @@ public class OpenRaoMPObjective {
     public void setCoefficient(OpenRaoMPVariable variable, double coeff) {
         mpObjective.setCoefficient(variable.getMPVariable(), OpenRaoMPSolver.roundDouble(coeff));
     }
+
+    public double value() {
+        return mpObjective.value();
+    }
 }
@@ -10,6 +10,8 @@ package com.powsybl.openrao.searchtreerao.marmot;
 import com.google.auto.service.AutoService;
 import com.google.common.annotations.Beta;
 import com.powsybl.commons.report.ReportNode;
+import com.powsybl.loadflow.LoadFlowParameters;
+import com.powsybl.openrao.commons.SharedExecutor;
 import com.powsybl.openrao.commons.TemporalData;
 import com.powsybl.openrao.commons.TemporalDataImpl;
 import com.powsybl.openrao.commons.Unit;
@@ -25,6 +27,7 @@ import com.powsybl.openrao.data.raoresult.api.extension.CriticalCnecsResult;
 import com.powsybl.openrao.raoapi.*;
 import com.powsybl.openrao.raoapi.parameters.RaoParameters;
 import com.powsybl.openrao.raoapi.parameters.extensions.MarmotParameters;
+import com.powsybl.openrao.raoapi.parameters.extensions.MultithreadingParameters;
 import com.powsybl.openrao.raoapi.parameters.extensions.OpenRaoSearchTreeParameters;
 import com.powsybl.openrao.raoapi.parameters.extensions.SearchTreeRaoCostlyMinMarginParameters;
 import com.powsybl.openrao.raoapi.parameters.extensions.SearchTreeRaoRelativeMarginsParameters;
@@ -34,6 +37,7 @@ import com.powsybl.openrao.searchtreerao.commons.objectivefunction.ObjectiveFunc
 import com.powsybl.openrao.searchtreerao.commons.optimizationperimeters.GlobalOptimizationPerimeter;
 import com.powsybl.openrao.searchtreerao.commons.optimizationperimeters.OptimizationPerimeter;
 import com.powsybl.openrao.searchtreerao.commons.parameters.RangeActionLimitationParameters;
+import com.powsybl.openrao.searchtreerao.linearoptimisation.algorithms.fillers.GeneratorConstraintsFiller;
 import com.powsybl.openrao.searchtreerao.linearoptimisation.inputs.IteratingLinearOptimizerInput;
 import com.powsybl.openrao.searchtreerao.linearoptimisation.parameters.IteratingLinearOptimizerParameters;
 import com.powsybl.openrao.searchtreerao.marmot.results.GlobalFlowResult;
@@ -49,6 +53,7 @@ import com.powsybl.openrao.searchtreerao.result.api.ObjectiveFunctionResult;
 import com.powsybl.openrao.searchtreerao.result.api.PrePerimeterResult;
 import com.powsybl.openrao.searchtreerao.result.api.RangeActionActivationResult;
 import com.powsybl.openrao.searchtreerao.result.api.RangeActionSetpointResult;
+import com.powsybl.openrao.searchtreerao.result.api.SensitivityResult;
 import com.powsybl.openrao.searchtreerao.result.impl.NetworkActionsResultImpl;
 import com.powsybl.openrao.searchtreerao.result.impl.PrePerimeterSensitivityResultImpl;
 import com.powsybl.openrao.searchtreerao.result.impl.RangeActionActivationResultImpl;
@@ -68,6 +73,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
+import static com.powsybl.openrao.raoapi.parameters.extensions.LoadFlowAndSensitivityParameters.getSensitivityWithLoadFlowParameters;
 import static com.powsybl.openrao.raoapi.parameters.extensions.SearchTreeRaoRangeActionsOptimizationParameters.RaRangeShrinking.ENABLED;
 import static com.powsybl.openrao.raoapi.parameters.extensions.SearchTreeRaoRangeActionsOptimizationParameters.RaRangeShrinking.ENABLED_IN_FIRST_PRAO_AND_CRAO;
 import static com.powsybl.openrao.searchtreerao.commons.RaoUtil.getFlowUnit;
@@ -99,9 +105,22 @@ public class Marmot implements TimeCoupledRaoProvider {
         }
         final MarmotParameters marmotParameters = raoParameters.getExtension(MarmotParameters.class);
 
+        // The parallel computations of all the timestamps (including their RAOs) share the same cap on worker threads
+        SharedExecutor executor = SharedExecutor.forComputation(Math.max(marmotParameters.getNumberOfThreads(), MultithreadingParameters.getAvailableCPUs(raoParameters)));
+        return executor.call(() -> runTimeCoupledRao(timeCoupledRaoInput, raoParameters, marmotParameters, reportNode));
+    }
+
+    private CompletableFuture<TimeCoupledRaoResult> runTimeCoupledRao(final TimeCoupledRaoInput timeCoupledRaoInput,
+                                                                     final RaoParameters raoParameters,
+                                                                     final MarmotParameters marmotParameters,
+                                                                     final ReportNode reportNode) {
+        // Configure parallelism for multi-threading computation
+        int parallelism = Math.min(marmotParameters.getNumberOfThreads(), timeCoupledRaoInput.getTimestampsToRun().size());
+
         // Initiate lazy networks
         TemporalData<Crac> cracs = timeCoupledRaoInput.getRaoInputs().map(RaoInput::getCrac);
-        TemporalData<LazyNetwork> initialNetworks = MarmotUtils.cloneNetworks(timeCoupledRaoInput.getRaoInputs().map(RaoInput::getNetwork));
+        TemporalData<LazyNetwork> initialNetworks = MarmotUtils.cloneNetworks(timeCoupledRaoInput.getRaoInputs().map(RaoInput::getNetwork),
+            marmotParameters.getNetworkStorageFormat(), marmotParameters.getNetworkStoragePath(), parallelism);
         MarmotUtils.closeAll(timeCoupledRaoInput.getRaoInputs().map(RaoInput::getNetwork));
 
         TemporalData<RaoInput> initialInputs = MarmotUtils.merge(initialNetworks, cracs);
@@ -110,8 +129,6 @@ public class Marmot implements TimeCoupledRaoProvider {
         TemporalData<RaoParameters> raoParametersDuplicates = new TemporalDataImpl<>();
         timeCoupledRaoInput.getTimestampsToRun().forEach(timestamp -> raoParametersDuplicates.put(timestamp, MarmotUtils.cloneParameters(raoParameters, reportNode)));
 
-        // Configure parallelism for multi-threading computation
-        int parallelism = Math.min(marmotParameters.getNumberOfThreads(), timeCoupledRaoInput.getTimestampsToRun().size());
         if (parallelism > 1) {
             MarmotReports.reportMarmotOptimizerSetToWorkOnNThreads(reportNode, parallelism);
         }
@@ -192,6 +209,8 @@ public class Marmot implements TimeCoupledRaoProvider {
         GlobalLinearOptimizationResult linearOptimizationResults;
         GlobalLinearOptimizationResult fullResults;
         FlowResult initialFlowResult = new GlobalFlowResult(initialResults);
+        // Timestamps with the same topology share their DC sensitivity factors, which are then only computed once
+        TemporalData<TopologySignature> topologySignatures = computeTopologySignatures(initialInputs, curativeTopologicalActions, raoParameters, parallelism);
         int counter = 1;
         do {
             // Run post topo sensitivity analysis on all timestamps ON CONSIDERED CNECS ONLY (which is why we do it every loop)
@@ -202,6 +221,7 @@ public class Marmot implements TimeCoupledRaoProvider {
                 initialResults,
                 raoParametersDuplicates,
                 consideredCnecs,
+                topologySignatures,
                 parallelism,
                 systematicTimeCoupledSensiAnalysisReportNode
             );
@@ -564,30 +584,114 @@ public class Marmot implements TimeCoupledRaoProvider {
         );
     }
 
-    private static TemporalData<PrePerimeterResult> runAllSensitivityAnalysesBasedOnInitialResult(final TemporalData<RaoInput> raoInputs,
-                                                                                                  final TemporalData<AppliedRemedialActions> curativeTopologicalActions,
-                                                                                                  final TemporalData<? extends FlowResult> initialFlowResults,
-                                                                                                  final TemporalData<RaoParameters> raoParameters,
-                                                                                                  final TemporalData<Set<FlowCnec>> consideredCnecs,
-                                                                                                  final int parallelism,
-                                                                                                  final ReportNode reportNode) {
+    /**
+     * Computes the topology signature of each timestamp. Sensitivity factors can only be shared between timestamps in
+     * DC, provided that the slack distribution does not depend on the injections, so no signature is computed otherwise
+     * and each timestamp runs its own sensitivity analysis.
+     */
+    static TemporalData<TopologySignature> computeTopologySignatures(final TemporalData<RaoInput> raoInputs,
+                                                                     final TemporalData<AppliedRemedialActions> curativeTopologicalActions,
+                                                                     final RaoParameters raoParameters,
+                                                                     final int parallelism) {
+        LoadFlowParameters loadFlowParameters = getSensitivityWithLoadFlowParameters(raoParameters).getLoadFlowParameters();
+        boolean distributedSlack = loadFlowParameters.isDistributedSlack();
+        if (!loadFlowParameters.isDc() || (distributedSlack && loadFlowParameters.getBalanceType() != LoadFlowParameters.BalanceType.PROPORTIONAL_TO_GENERATION_P_MAX)) {
+            return new TemporalDataImpl<>();
+        }
         return MarmotUtils.smartMap(
             raoInputs,
             raoInput -> {
-                OffsetDateTime timestamp = MarmotUtils.getTimestamp(raoInput);
-                PrePerimeterResult sensitivityAnalysisResult = runSensitivityAnalysisBasedOnInitialResult(
-                    raoInput,
-                    curativeTopologicalActions.getData(timestamp).orElseThrow(),
-                    initialFlowResults.getData(timestamp).orElseThrow(),
-                    raoParameters.getData(timestamp).orElseThrow(),
-                    consideredCnecs.getData(timestamp).orElseThrow(),
-                    reportNode
+                TopologySignature topologySignature = TopologySignature.of(
+                    raoInput.getNetwork(),
+                    raoInput.getCrac(),
+                    curativeTopologicalActions.getData(MarmotUtils.getTimestamp(raoInput)).orElseThrow(),
+                    distributedSlack
                 );
                 MarmotUtils.releaseNetworkWithoutOverwrite(raoInput.getNetwork());
+                return topologySignature;
+            },
+            parallelism
+        );
+    }
+
+    /**
+     * Runs the sensitivity analyses of all timestamps on their considered CNECs. Among the timestamps sharing the same
+     * topology signature, only the first one computes the sensitivity factors, on the considered CNECs of all of them.
+     * The other ones only compute their flows and reuse these factors.
+     */
+    static TemporalData<PrePerimeterResult> runAllSensitivityAnalysesBasedOnInitialResult(final TemporalData<RaoInput> raoInputs,
+                                                                                          final TemporalData<AppliedRemedialActions> curativeTopologicalActions,
+                                                                                          final TemporalData<? extends FlowResult> initialFlowResults,
+                                                                                          final TemporalData<RaoParameters> raoParameters,
+                                                                                          final TemporalData<Set<FlowCnec>> consideredCnecs,
+                                                                                          final TemporalData<TopologySignature> topologySignatures,
+                                                                                          final int parallelism,
+                                                                                          final ReportNode reportNode) {
+        Map<OffsetDateTime, OffsetDateTime> referenceTimestamps = getReferenceTimestamps(raoInputs.getTimestamps(), topologySignatures);
+        Map<OffsetDateTime, Set<FlowCnec>> cnecsWithSensitivities = new HashMap<>();
+        referenceTimestamps.forEach((timestamp, referenceTimestamp) -> {
+            Crac referenceCrac = raoInputs.getData(referenceTimestamp).orElseThrow().getCrac();
+            Set<FlowCnec> referenceCnecs = cnecsWithSensitivities.computeIfAbsent(referenceTimestamp, t -> new HashSet<>());
+            consideredCnecs.getData(timestamp).orElseThrow().forEach(flowCnec -> referenceCnecs.add(referenceCrac.getFlowCnec(flowCnec.getId())));
+        });
+
+        TemporalData<PrePerimeterResult> sensitivityAnalysisResults = MarmotUtils.smartMap(
+            raoInputs,
+            raoInput -> {
+                OffsetDateTime timestamp = MarmotUtils.getTimestamp(raoInput);
+                PrePerimeterResult sensitivityAnalysisResult = timestamp.equals(referenceTimestamps.get(timestamp))
+                    ? runSensitivityAnalysisBasedOnInitialResult(
+                        raoInput,
+                        curativeTopologicalActions.getData(timestamp).orElseThrow(),
+                        initialFlowResults.getData(timestamp).orElseThrow(),
+                        raoParameters.getData(timestamp).orElseThrow(),
+                        cnecsWithSensitivities.get(timestamp),
+                        reportNode
+                    )
+                    : MarmotUtils.runFlowAnalysisBasedOnInitialResult(
+                        raoInput,
+                        curativeTopologicalActions.getData(timestamp).orElseThrow(),
+                        initialFlowResults.getData(timestamp).orElseThrow(),
+                        raoParameters.getData(timestamp).orElseThrow(),
+                        consideredCnecs.getData(timestamp).orElseThrow(),
+                        reportNode
+                    );
+                MarmotUtils.releaseNetworkWithoutOverwrite(raoInput.getNetwork());
                 return sensitivityAnalysisResult;
             },
             parallelism
         );
+
+        TemporalData<PrePerimeterResult> completedResults = new TemporalDataImpl<>();
+        referenceTimestamps.forEach((timestamp, referenceTimestamp) -> {
+            PrePerimeterResult sensitivityAnalysisResult = sensitivityAnalysisResults.getData(timestamp).orElseThrow();
+            if (timestamp.equals(referenceTimestamp)) {
+                completedResults.put(timestamp, sensitivityAnalysisResult);
+            } else {
+                completedResults.put(timestamp, new PrePerimeterSensitivityResultImpl(
+                    sensitivityAnalysisResult.getFlowResult(),
+                    new ReusedSensitivityResult(sensitivityAnalysisResult.getSensitivityResult(), sensitivityAnalysisResults.getData(referenceTimestamp).orElseThrow().getSensitivityResult()),
+                    sensitivityAnalysisResult.getRangeActionSetpointResult(),
+                    sensitivityAnalysisResult.getObjectiveFunctionResult()
+                ));
+            }
+        });
+        return completedResults;
+    }
+
+    /**
+     * Maps each timestamp to the first timestamp with the same topology signature. Timestamps without signature are
+     * their own reference.
+     */
+    private static Map<OffsetDateTime, OffsetDateTime> getReferenceTimestamps(final List<OffsetDateTime> timestamps,
+                                                                              final TemporalData<TopologySignature> topologySignatures) {
+        Map<TopologySignature, OffsetDateTime> firstTimestampPerSignature = new HashMap<>();
+        Map<OffsetDateTime, OffsetDateTime> referenceTimestamps = new HashMap<>();
+        timestamps.forEach(timestamp -> referenceTimestamps.put(
+            timestamp,
+            topologySignatures.getData(timestamp).map(signature -> firstTimestampPerSignature.computeIfAbsent(signature, s -> timestamp)).orElse(timestamp)
+        ));
+        return referenceTimestamps;
     }
 
     private static TemporalData<NetworkActionsResult> getPreventiveTopologicalActions(TemporalData<Crac> cracs, TemporalData<RaoResult> raoResults, int parallelism) {
@@ -620,13 +724,14 @@ public class Marmot implements TimeCoupledRaoProvider {
         // -- Build IteratingLinearOptimizertimeCoupledInput
         TemporalData<OptimizationPerimeter> optimizationPerimeterPerTimestamp = computeOptimizationPerimetersPerTimestamp(raoInput.getRaoInputs().map(RaoInput::getCrac), consideredCnecs, parallelism);
         // no objective function defined in individual IteratingLinearOptimizerInputs as it is global
+        MarmotParameters marmotParameters = parameters.getExtension(MarmotParameters.class);
 
         TemporalData<IteratingLinearOptimizerInput> linearOptimizerInputs = MarmotUtils.smartMap(
             raoInput.getRaoInputs(),
             individualRaoInput -> {
                 OffsetDateTime timestamp = MarmotUtils.getTimestamp(individualRaoInput);
                 IteratingLinearOptimizerInput iteratingLinearOptimizerInput = IteratingLinearOptimizerInput.create()
-                    .withNetwork(new LazyNetwork(individualRaoInput.getNetwork()))
+                    .withNetwork(new LazyNetwork(individualRaoInput.getNetwork(), marmotParameters.getNetworkStorageFormat(), marmotParameters.getNetworkStoragePath()))
                     .withOptimizationPerimeter(optimizationPerimeterPerTimestamp.getData(timestamp).orElseThrow()
                         .copyWithFilteredAvailableHvdcRangeAction(individualRaoInput.getNetwork()))
                     .withInitialFlowResult(initialResults.getData(timestamp).orElseThrow())
@@ -675,9 +780,97 @@ public class Marmot implements TimeCoupledRaoProvider {
         parameters.getExtension(OpenRaoSearchTreeParameters.class).getLoopFlowParameters().ifPresent(linearOptimizerParametersBuilder::withLoopFlowParametersExtension);
         IteratingLinearOptimizerParameters linearOptimizerParameters = linearOptimizerParametersBuilder.build();
 
+        MarmotParameters marmotParameters = parameters.getExtension(MarmotParameters.class);
+        if (marmotParameters.isRollingHorizonEnabled()) {
+            return optimizeLinearRemedialActionsWithRollingHorizon(
+                timeCoupledLinearOptimizerInput,
+                raoInput.getRaoInputs().map(RaoInput::getCrac),
+                new GlobalFlowResult(initialResults),
+                consideredCnecs,
+                parameters,
+                linearOptimizerParameters,
+                preventiveTopologicalActions,
+                parallelism,
+                reportNode
+            );
+        }
         return TimeCoupledIteratingLinearOptimizer.optimize(timeCoupledLinearOptimizerInput, linearOptimizerParameters, parallelism, reportNode);
     }
 
+    /**
+     * Optimizes the range actions on successive windows of timestamps instead of all the timestamps at once. The
+     * set-points of the fixed timestamps of each window are kept, and the power of the constrained generators at the
+     * last fixed timestamp is used as an initial condition of the next window. Only the linear problems of one window
+     * are built at a time, which bounds the size of the MIP and the memory it requires.
+     */
+    private static GlobalLinearOptimizationResult optimizeLinearRemedialActionsWithRollingHorizon(final TimeCoupledIteratingLinearOptimizerInput input,
+                                                                                                  final TemporalData<Crac> cracs,
+                                                                                                  final FlowResult initialFlowResult,
+                                                                                                  final TemporalData<Set<FlowCnec>> consideredCnecs,
+                                                                                                  final RaoParameters parameters,
+                                                                                                  final IteratingLinearOptimizerParameters linearOptimizerParameters,
+                                                                                                  final TemporalData<NetworkActionsResult> preventiveTopologicalActions,
+                                                                                                  final int parallelism,
+                                                                                                  final ReportNode reportNode) {
+        MarmotParameters marmotParameters = parameters.getExtension(MarmotParameters.class);
+        List<RollingHorizonWindow> windows = RollingHorizonWindow.split(
+            input.iteratingLinearOptimizerInputs().getTimestamps(),
+            marmotParameters.getRollingHorizonWindowSize(),
+            marmotParameters.getRollingHorizonOverlap()
+        );
+
+        TemporalData<FlowResult> flowResults = new TemporalDataImpl<>();
+        TemporalData<SensitivityResult> sensitivityResults = new TemporalDataImpl<>();
+        TemporalData<RangeActionActivationResult> rangeActionActivationResults = new TemporalDataImpl<>();
+        LinearProblemStatus status = LinearProblemStatus.OPTIMAL;
+        Map<String, Double> initialGeneratorPowers = Map.of();
+        for (int windowIndex = 0; windowIndex < windows.size(); windowIndex++) {
+            RollingHorizonWindow window = windows.get(windowIndex);
+            ReportNode windowReportNode = MarmotReports.reportMarmotRollingHorizonWindow(reportNode, windowIndex + 1, windows.size(), window.timestamps().getFirst(), window.timestamps().getLast());
+            TemporalData<IteratingLinearOptimizerInput> windowInputs = MarmotUtils.filterTimestamps(input.iteratingLinearOptimizerInputs(), window.timestamps());
+            ObjectiveFunction windowObjectiveFunction = buildFilteredObjectiveFunction(
+                MarmotUtils.filterTimestamps(cracs, window.timestamps()),
+                initialFlowResult,
+                parameters,
+                MarmotUtils.filterTimestamps(consideredCnecs, window.timestamps())
+            );
+            GlobalLinearOptimizationResult windowResult = TimeCoupledIteratingLinearOptimizer.optimize(
+                new TimeCoupledIteratingLinearOptimizerInput(windowInputs, windowObjectiveFunction, input.timeCoupledConstraints(), initialGeneratorPowers),
+                linearOptimizerParameters,
+                parallelism,
+                windowReportNode
+            );
+            if (status == LinearProblemStatus.OPTIMAL) {
+                status = windowResult.getStatus();
+            }
+
+            // only the results of the fixed timestamps are kept, the other ones are optimized again in the next window
+            window.fixedTimestamps().forEach(timestamp -> {
+                flowResults.put(timestamp, windowResult.getFlowResult(timestamp));
+                sensitivityResults.put(timestamp, windowResult.getSensitivityResult(timestamp));
+                rangeActionActivationResults.put(timestamp, windowResult.getRangeActionActivationResult(timestamp));
+            });
+            OffsetDateTime lastFixedTimestamp = window.fixedTimestamps().getLast();
+            OptimizationPerimeter lastFixedOptimizationPerimeter = input.iteratingLinearOptimizerInputs().getData(lastFixedTimestamp).orElseThrow().optimizationPerimeter();
+            initialGeneratorPowers = GeneratorConstraintsFiller.computeGeneratorPowers(
+                input.timeCoupledConstraints().getGeneratorConstraints(),
+                TimeCoupledIteratingLinearOptimizer.filterPreventiveInjectionRangeAction(lastFixedOptimizationPerimeter.getRangeActions()),
+                lastFixedOptimizationPerimeter.getMainOptimizationState(),
+                windowResult.getRangeActionActivationResult(lastFixedTimestamp)
+            );
+        }
+
+        return new GlobalLinearOptimizationResult(
+            flowResults,
+            sensitivityResults,
+            rangeActionActivationResults,
+            preventiveTopologicalActions,
+            input.objectiveFunction(),
+            status,
+            reportNode
+        );
+    }
+
     private static TemporalData<OptimizationPerimeter> computeOptimizationPerimetersPerTimestamp(TemporalData<Crac> cracs, TemporalData<Set<FlowCnec>> consideredCnecs, int parallelism) {
         return MarmotUtils.smartMap(
             cracs,
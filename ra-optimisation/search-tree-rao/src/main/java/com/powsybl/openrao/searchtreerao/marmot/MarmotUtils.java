@@ -36,13 +36,16 @@ import com.powsybl.openrao.searchtreerao.result.api.NetworkActionsResult;
 import com.powsybl.openrao.searchtreerao.result.api.PrePerimeterResult;
 import com.powsybl.openrao.searchtreerao.result.api.RemedialActionActivationResult;
 import com.powsybl.openrao.searchtreerao.result.impl.NetworkActionsResultImpl;
+import com.powsybl.openrao.searchtreerao.result.impl.PrePerimeterSensitivityResultImpl;
 import com.powsybl.openrao.searchtreerao.result.impl.RangeActionActivationResultImpl;
+import com.powsybl.openrao.searchtreerao.result.impl.RangeActionSetpointResultImpl;
 import com.powsybl.openrao.searchtreerao.result.impl.RemedialActionActivationResultImpl;
 import com.powsybl.openrao.sensitivityanalysis.AppliedRemedialActions;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -127,6 +130,29 @@ public final class MarmotUtils {
             .runBasedOnInitialResults(network, initialFlowResult, Set.of(), curativeRemedialActions, reportNode);
     }
 
+    /**
+     * Computes the flows on the considered CNECs without any sensitivity factor. The set-points of the range actions
+     * are still read from the network so that the result can be completed with sensitivities computed elsewhere.
+     */
+    public static PrePerimeterResult runFlowAnalysisBasedOnInitialResult(final RaoInput raoInput,
+                                                                         final AppliedRemedialActions curativeRemedialActions,
+                                                                         final FlowResult initialFlowResult,
+                                                                         final RaoParameters raoParameters,
+                                                                         final Set<FlowCnec> consideredCnecs,
+                                                                         final ReportNode reportNode) {
+        Crac crac = raoInput.getCrac();
+        Network network = raoInput.getNetwork();
+        ToolProvider toolProvider = ToolProvider.buildFromRaoInputAndParameters(raoInput, raoParameters);
+        PrePerimeterResult flowResult = new PrePerimeterSensitivityAnalysis(crac, consideredCnecs, new HashSet<>(), raoParameters, toolProvider, false)
+            .runBasedOnInitialResults(network, initialFlowResult, Set.of(), curativeRemedialActions, reportNode);
+        return new PrePerimeterSensitivityResultImpl(
+            flowResult.getFlowResult(),
+            flowResult.getSensitivityResult(),
+            RangeActionSetpointResultImpl.buildWithSetpointsFromNetwork(network, new HashSet<>(crac.getRangeActions())),
+            flowResult.getObjectiveFunctionResult()
+        );
+    }
+
     public static TemporalData<PostOptimizationResult> getPostOptimizationResults(TemporalData<RaoInput> raoInputs,
                                                                                   TemporalData<PrePerimeterResult> initialResults,
                                                                                   GlobalLinearOptimizationResult globalLinearOptimizationResult,
@@ -219,13 +245,16 @@ public final class MarmotUtils {
     }
 
     // Use releaseNetwork : we don't want to delete networks.
-    public static TemporalData<LazyNetwork> cloneNetworks(TemporalData<Network> networks) {
-        TemporalData<LazyNetwork> lazyNetworks = new TemporalDataImpl<>();
-        networks.getDataPerTimestamp().forEach((timestamp, network) -> {
-            lazyNetworks.put(timestamp, new LazyNetwork(network));
+    /**
+     * Copies the networks to lazy networks, stored in the given directory with the given format. The copies are
+     * written on virtual threads since this step is mainly bound by disk accesses.
+     */
+    public static TemporalData<LazyNetwork> cloneNetworks(TemporalData<Network> networks, LazyNetwork.StorageFormat storageFormat, Path directory, int threads) {
+        return smartMap(networks, network -> {
+            LazyNetwork lazyNetwork = new LazyNetwork(network, storageFormat, directory);
             MarmotUtils.releaseNetworkWithoutOverwrite(network);
-        });
-        return lazyNetworks;
+            return lazyNetwork;
+        }, threads, true);
     }
 
     public static TemporalData<RaoInput> merge(TemporalData<LazyNetwork> networks, TemporalData<Crac> cracs) {
@@ -292,13 +321,29 @@ public final class MarmotUtils {
 
     /**
      * Select the best TemporalData mapping strategy based on the number of threads.
-     * Necessary not to create a pool for only one thread.
+     * Necessary not to use the shared executor for only one thread.
      */
     public static <A, B> TemporalData<B> smartMap(TemporalData<A> temporalData, Function<A, B> function, int threads) {
+        return smartMap(temporalData, function, threads, false);
+    }
+
+    /**
+     * Same as {@link #smartMap(TemporalData, Function, int)}, virtual threads should be used for I/O-bound functions.
+     */
+    public static <A, B> TemporalData<B> smartMap(TemporalData<A> temporalData, Function<A, B> function, int threads, boolean virtualThreads) {
         if (threads == 1) {
             return temporalData.map(function);
         }
-        return temporalData.mapMultiThreading(function, threads);
+        return temporalData.mapMultiThreading(function, threads, virtualThreads);
+    }
+
+    /**
+     * Restricts the TemporalData to the given timestamps. Timestamps with no data are ignored.
+     */
+    public static <T> TemporalData<T> filterTimestamps(TemporalData<T> temporalData, List<OffsetDateTime> timestamps) {
+        TemporalData<T> filteredTemporalData = new TemporalDataImpl<>();
+        timestamps.forEach(timestamp -> temporalData.getData(timestamp).ifPresent(data -> filteredTemporalData.put(timestamp, data)));
+        return filteredTemporalData;
     }
 
     public static double getInitialSetPoint(RangeAction<?> rangeAction) {
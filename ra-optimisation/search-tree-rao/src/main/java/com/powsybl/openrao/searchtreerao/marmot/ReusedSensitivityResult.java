@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.searchtreerao.marmot;
+
+import com.powsybl.iidm.network.TwoSides;
+import com.powsybl.openrao.commons.Unit;
+import com.powsybl.openrao.data.crac.api.State;
+import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
+import com.powsybl.openrao.data.crac.api.rangeaction.RangeAction;
+import com.powsybl.openrao.data.raoresult.api.ComputationStatus;
+import com.powsybl.openrao.searchtreerao.result.api.SensitivityResult;
+import com.powsybl.sensitivity.SensitivityVariableSet;
+
+import java.util.Set;
+
+/**
+ * Sensitivity result of a timestamp whose sensitivity factors were computed on another timestamp with the same
+ * {@link TopologySignature}. The computation status comes from the flow computation of the timestamp itself whereas
+ * the sensitivity values are read from the reference timestamp. The sensitivity values are looked up by network
+ * element and contingency ids, so the CNECs and range actions of both timestamps can be used indifferently.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+class ReusedSensitivityResult implements SensitivityResult {
+    private final SensitivityResult flowComputationResult;
+    private final SensitivityResult referenceSensitivityResult;
+
+    ReusedSensitivityResult(SensitivityResult flowComputationResult, SensitivityResult referenceSensitivityResult) {
+        this.flowComputationResult = flowComputationResult;
+        this.referenceSensitivityResult = referenceSensitivityResult;
+    }
+
+    @Override
+    public ComputationStatus getSensitivityStatus() {
+        return worstStatus(flowComputationResult.getSensitivityStatus(), referenceSensitivityResult.getSensitivityStatus());
+    }
+
+    @Override
+    public ComputationStatus getSensitivityStatus(State state) {
+        return worstStatus(flowComputationResult.getSensitivityStatus(state), referenceSensitivityResult.getSensitivityStatus(state));
+    }
+
+    @Override
+    public Set<String> getContingencies() {
+        return flowComputationResult.getContingencies();
+    }
+
+    @Override
+    public double getSensitivityValue(FlowCnec flowCnec, TwoSides side, RangeAction<?> rangeAction, Unit unit) {
+        return referenceSensitivityResult.getSensitivityValue(flowCnec, side, rangeAction, unit);
+    }
+
+    @Override
+    public double getSensitivityValue(FlowCnec flowCnec, TwoSides side, SensitivityVariableSet linearGlsk, Unit unit) {
+        return referenceSensitivityResult.getSensitivityValue(flowCnec, side, linearGlsk, unit);
+    }
+
+    private static ComputationStatus worstStatus(ComputationStatus status1, ComputationStatus status2) {
+        if (status1 == ComputationStatus.FAILURE || status2 == ComputationStatus.FAILURE) {
+            return ComputationStatus.FAILURE;
+        } else if (status1 == ComputationStatus.PARTIAL_FAILURE || status2 == ComputationStatus.PARTIAL_FAILURE) {
+            return ComputationStatus.PARTIAL_FAILURE;
+        }
+        return ComputationStatus.DEFAULT;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.searchtreerao.marmot;
+
+import com.powsybl.openrao.commons.OpenRaoException;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Window of consecutive timestamps optimized together in a rolling-horizon optimization. The decisions taken on the
+ * fixed timestamps of the window are final whereas the other timestamps are optimized again in the next window.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+record RollingHorizonWindow(List<OffsetDateTime> timestamps, List<OffsetDateTime> fixedTimestamps) {
+
+    /**
+     * Splits the sorted timestamps in windows of windowSize timestamps, two consecutive windows sharing overlap
+     * timestamps. The windows cover all the timestamps and each timestamp is fixed in exactly one window. A window that
+     * would have less than two timestamps is merged with the previous one.
+     */
+    static List<RollingHorizonWindow> split(List<OffsetDateTime> timestamps, int windowSize, int overlap) {
+        if (windowSize < 2 || overlap < 0 || overlap >= windowSize) {
+            throw new OpenRaoException("Rolling-horizon windows must contain at least 2 timestamps and overlap must be lower than the window size (window size: %s, overlap: %s).".formatted(windowSize, overlap));
+        }
+        List<RollingHorizonWindow> windows = new ArrayList<>();
+        int windowStart = 0;
+        while (windowStart < timestamps.size()) {
+            int windowEnd = windowStart + windowSize;
+            if (windowEnd >= timestamps.size() || timestamps.size() - windowEnd + overlap < 2) {
+                windowEnd = timestamps.size();
+            }
+            int fixedEnd = windowEnd == timestamps.size() ? windowEnd : windowEnd - overlap;
+            windows.add(new RollingHorizonWindow(timestamps.subList(windowStart, windowEnd), timestamps.subList(windowStart, fixedEnd)));
+            windowStart = fixedEnd;
+        }
+        return windows;
+    }
+}
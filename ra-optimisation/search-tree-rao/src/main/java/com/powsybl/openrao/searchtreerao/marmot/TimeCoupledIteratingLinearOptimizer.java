@@ -32,6 +32,7 @@ import com.powsybl.openrao.searchtreerao.linearoptimisation.inputs.IteratingLine
 import com.powsybl.openrao.searchtreerao.linearoptimisation.parameters.IteratingLinearOptimizerParameters;
 import com.powsybl.openrao.searchtreerao.marmot.results.GlobalLinearOptimizationResult;
 import com.powsybl.openrao.searchtreerao.reports.LinearOptimizerReports;
+import com.powsybl.openrao.searchtreerao.reports.MarmotReports;
 import com.powsybl.openrao.searchtreerao.result.api.FlowResult;
 import com.powsybl.openrao.searchtreerao.result.api.LinearOptimizationResult;
 import com.powsybl.openrao.searchtreerao.result.api.LinearProblemStatus;
@@ -45,6 +46,7 @@ import com.powsybl.openrao.sensitivityanalysis.AppliedRemedialActions;
 import org.apache.commons.lang3.tuple.Pair;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -82,11 +84,17 @@ public final class TimeCoupledIteratingLinearOptimizer {
         TemporalData<SensitivityComputer> sensitivityComputers = new TemporalDataImpl<>();
 
         // 2. Initialize linear problem using input data
+        // if the timestamps are not actually coupled, the global problem is split into one independent problem per timestamp
         TemporalData<List<ProblemFiller>> problemFillers = getProblemFillersPerTimestamp(input, parameters);
         List<ProblemFiller> timeCoupledProblemFillers = getTimeCoupledProblemFillers(input);
-        LinearProblem linearProblem = buildLinearProblem(problemFillers, timeCoupledProblemFillers, parameters);
+        if (!areTimestampsCoupled(timeCoupledProblemFillers)) {
+            problemFillers = decomposeTimeCoupledProblemFillers(problemFillers, timeCoupledProblemFillers);
+            timeCoupledProblemFillers = List.of();
+            MarmotReports.reportMarmotDecomposedGlobalMip(reportNode, problemFillers.getTimestamps().size());
+        }
+        TemporalData<LinearProblem> linearProblems = buildLinearProblems(problemFillers, timeCoupledProblemFillers, parameters);
         fillLinearProblem(
-            linearProblem,
+            linearProblems,
             problemFillers,
             timeCoupledProblemFillers,
             input.iteratingLinearOptimizerInputs().map(IteratingLinearOptimizerInput::preOptimizationFlowResult),
@@ -99,7 +107,7 @@ public final class TimeCoupledIteratingLinearOptimizer {
         // 3. Iterate
         for (int iteration = 1; iteration <= parameters.getMaxNumberOfIterations(); iteration++) {
             // a. Solve linear problem
-            LinearProblemStatus solveStatus = solveLinearProblem(linearProblem, iteration);
+            LinearProblemStatus solveStatus = solveLinearProblems(linearProblems, iteration, parallelism);
             // b. Check linear problem status and return best result if not FEASIBLE not OPTIMAL
             if (solveStatus == LinearProblemStatus.FEASIBLE) {
                 LinearOptimizerReports.reportSolverInterrupted(reportNode);
@@ -117,7 +125,7 @@ public final class TimeCoupledIteratingLinearOptimizer {
             // c. Get and round range action activation results from solver results
             // TODO: we could use a GlobalRangeActionActivationResult rather than a TemporalData<RangeActionActivationResult>
             TemporalData<RangeActionActivationResult> rangeActionActivationPerTimestamp = retrieveRangeActionActivationResults(
-                linearProblem,
+                linearProblems,
                 input.iteratingLinearOptimizerInputs().map(IteratingLinearOptimizerInput::prePerimeterSetpoints),
                 input.iteratingLinearOptimizerInputs().map(IteratingLinearOptimizerInput::optimizationPerimeter)
             );
@@ -136,7 +144,7 @@ public final class TimeCoupledIteratingLinearOptimizer {
             }
 
             rangeActionActivationPerTimestamp = new TemporalDataImpl<>(roundedResults);
-            rangeActionActivationPerTimestamp = resolveIfApproximatedPstTaps(bestResult, linearProblem, iteration, rangeActionActivationPerTimestamp, input, parameters, problemFillers, parallelism);
+            rangeActionActivationPerTimestamp = resolveIfApproximatedPstTaps(bestResult, linearProblems, iteration, rangeActionActivationPerTimestamp, input, parameters, problemFillers, parallelism);
 
             // d. Check if set-points have changed; if no, return the best result
             if (!hasAnyRangeActionChanged(
@@ -147,30 +155,23 @@ public final class TimeCoupledIteratingLinearOptimizer {
                 return bestResult;
             }
 
-            // e.  Run sensitivity analyses with new set-points -> TODO: multi-thread
-            Map<OffsetDateTime, SensitivityComputer> newSensitivityComputers = new HashMap<>();
-            for (OffsetDateTime timestamp : rangeActionActivationPerTimestamp.getTimestamps()) {
-                IteratingLinearOptimizerInput inputForTimestamp = input.iteratingLinearOptimizerInputs().getData(timestamp).orElseThrow();
-                newSensitivityComputers.put(
-                    timestamp,
-                    runSensitivityAnalysis(
-                        sensitivityComputers.getData(timestamp).orElse(null),
-                        iteration,
-                        rangeActionActivationPerTimestamp.getData(timestamp).orElseThrow(),
-                        inputForTimestamp,
-                        parameters,
-                        reportNode
-                    )
-                );
-                MarmotUtils.releaseNetwork(inputForTimestamp.network());
-            }
+            // e.  Run sensitivity analyses with new set-points, one timestamp per thread
+            TemporalData<SensitivityComputer> newSensitivityComputers = runSensitivityAnalyses(
+                sensitivityComputers,
+                iteration,
+                rangeActionActivationPerTimestamp,
+                input,
+                parameters,
+                parallelism,
+                reportNode
+            );
 
-            if (newSensitivityComputers.values().stream().anyMatch(sensitivityComputer -> sensitivityComputer.getSensitivityResult().getSensitivityStatus() == ComputationStatus.FAILURE)) {
+            if (newSensitivityComputers.getDataPerTimestamp().values().stream().anyMatch(sensitivityComputer -> sensitivityComputer.getSensitivityResult().getSensitivityStatus() == ComputationStatus.FAILURE)) {
                 bestResult.setStatus(LinearProblemStatus.SENSITIVITY_COMPUTATION_FAILED);
                 return bestResult;
             }
 
-            sensitivityComputers = new TemporalDataImpl<>(newSensitivityComputers);
+            sensitivityComputers = newSensitivityComputers;
 
             GlobalLinearOptimizationResult newResult = createResultFromData(
                 sensitivityComputers,
@@ -185,7 +186,7 @@ public final class TimeCoupledIteratingLinearOptimizer {
             // f. Update problem fillers with flows, sensitivity coefficients and set-points
             Pair<GlobalLinearOptimizationResult, Boolean> mipShouldStop = updateBestResultAndCheckStopCondition(
                 parameters.getRaRangeShrinking(),
-                linearProblem,
+                linearProblems,
                 input,
                 iteration,
                 newResult,
@@ -230,28 +231,79 @@ public final class TimeCoupledIteratingLinearOptimizer {
             input.iteratingLinearOptimizerInputs().map(IteratingLinearOptimizerInput::network),
             preventiveStates,
             preventiveInjectionRangeActions,
-            input.timeCoupledConstraints().getGeneratorConstraints()
+            input.timeCoupledConstraints().getGeneratorConstraints(),
+            input.initialGeneratorPowers()
         ));
     }
 
-    private static Set<InjectionRangeAction> filterPreventiveInjectionRangeAction(Set<RangeAction<?>> rangeActions) {
+    static Set<InjectionRangeAction> filterPreventiveInjectionRangeAction(Set<RangeAction<?>> rangeActions) {
         return rangeActions.stream().filter(InjectionRangeAction.class::isInstance).map(InjectionRangeAction.class::cast).collect(Collectors.toSet());
     }
 
-    private static LinearProblem buildLinearProblem(TemporalData<List<ProblemFiller>> problemFillers, List<ProblemFiller> timeCoupledProblemFillers, IteratingLinearOptimizerParameters parameters) {
+    /**
+     * Timestamps are only coupled in the linear problem through the generator constraints of generators that are
+     * acted upon by injection range actions and whose state can change or remains ON. Other time-coupled fillers are
+     * assumed to couple the timestamps.
+     */
+    private static boolean areTimestampsCoupled(List<ProblemFiller> timeCoupledProblemFillers) {
+        return timeCoupledProblemFillers.stream().anyMatch(problemFiller ->
+            !(problemFiller instanceof GeneratorConstraintsFiller generatorConstraintsFiller) || generatorConstraintsFiller.couplesTimestamps());
+    }
+
+    /**
+     * Adds the constraints of each timestamp defined by the time-coupled problem fillers (which do not couple the
+     * timestamps) to the problem fillers of this timestamp.
+     */
+    private static TemporalData<List<ProblemFiller>> decomposeTimeCoupledProblemFillers(TemporalData<List<ProblemFiller>> problemFillers, List<ProblemFiller> timeCoupledProblemFillers) {
+        Map<OffsetDateTime, List<ProblemFiller>> decomposedProblemFillers = new HashMap<>();
+        for (OffsetDateTime timestamp : problemFillers.getTimestamps()) {
+            List<ProblemFiller> problemFillersOfTimestamp = new ArrayList<>(problemFillers.getData(timestamp).orElseThrow());
+            timeCoupledProblemFillers.stream()
+                .map(GeneratorConstraintsFiller.class::cast)
+                .forEach(generatorConstraintsFiller -> problemFillersOfTimestamp.add(generatorConstraintsFiller.getTimestampFiller(timestamp)));
+            decomposedProblemFillers.put(timestamp, problemFillersOfTimestamp);
+        }
+        return new TemporalDataImpl<>(decomposedProblemFillers);
+    }
+
+    /**
+     * Builds the linear problem of each timestamp. If there is no time-coupled problem filler, each timestamp has its own
+     * linear problem; otherwise, all the timestamps share the same global linear problem.
+     */
+    private static TemporalData<LinearProblem> buildLinearProblems(TemporalData<List<ProblemFiller>> problemFillers, List<ProblemFiller> timeCoupledProblemFillers, IteratingLinearOptimizerParameters parameters) {
+        if (timeCoupledProblemFillers.isEmpty()) {
+            return problemFillers.map(problemFillersOfTimestamp -> buildLinearProblem(problemFillersOfTimestamp, parameters));
+        }
+        // add problem fillers for each timestamp and time-coupled timestamps
+        List<ProblemFiller> allProblemFillers = new ArrayList<>();
+        problemFillers.getDataPerTimestamp().values().forEach(allProblemFillers::addAll);
+        allProblemFillers.addAll(timeCoupledProblemFillers);
+        LinearProblem linearProblem = buildLinearProblem(allProblemFillers, parameters);
+        return problemFillers.map(problemFillersOfTimestamp -> linearProblem);
+    }
+
+    private static LinearProblem buildLinearProblem(List<ProblemFiller> problemFillers, IteratingLinearOptimizerParameters parameters) {
         LinearProblemBuilder linearProblemBuilder = LinearProblem.create()
             .withSolver(parameters.getSolverParameters().getSolver())
             .withRelativeMipGap(parameters.getSolverParameters().getRelativeMipGap())
             .withSolverSpecificParameters(parameters.getSolverParameters().getSolverSpecificParameters());
+        problemFillers.forEach(linearProblemBuilder::withProblemFiller);
+        return linearProblemBuilder.build();
+    }
 
-        // add problem fillers for each timestamp and time-coupled timestamps
-        problemFillers.getDataPerTimestamp().values().forEach(problemFillerOfTimestamp -> problemFillerOfTimestamp.forEach(linearProblemBuilder::withProblemFiller));
-        timeCoupledProblemFillers.forEach(linearProblemBuilder::withProblemFiller);
+    private static List<LinearProblem> getDistinctLinearProblems(TemporalData<LinearProblem> linearProblems) {
+        return linearProblems.getDataPerTimestamp().values().stream().distinct().toList();
+    }
 
-        return linearProblemBuilder.build();
+    private static void fillTimeCoupledProblemFillers(TemporalData<LinearProblem> linearProblems, List<ProblemFiller> timeCoupledProblemFillers) {
+        // For now, the Power Gradient Constraint filler is the only time-coupled filler and does not use any input but the linear problem
+        // A global time-coupled flow/sensitivity/set-point result does not exist anyway
+        // If there are time-coupled fillers, all timestamps share the same linear problem
+        getDistinctLinearProblems(linearProblems).forEach(linearProblem ->
+            timeCoupledProblemFillers.forEach(problemFiller -> problemFiller.fill(linearProblem, null, null, null)));
     }
 
-    private static void fillLinearProblem(LinearProblem linearProblem,
+    private static void fillLinearProblem(TemporalData<LinearProblem> linearProblems,
                                           TemporalData<List<ProblemFiller>> problemFillers,
                                           List<ProblemFiller> timeCoupledProblemFillers,
                                           TemporalData<FlowResult> flowResults,
@@ -260,6 +312,7 @@ public final class TimeCoupledIteratingLinearOptimizer {
         List<OffsetDateTime> timestamps = problemFillers.getTimestamps();
         timestamps.forEach(timestamp -> {
             List<ProblemFiller> problemFillersForTimestamp = problemFillers.getData(timestamp).orElseThrow();
+            LinearProblem linearProblem = linearProblems.getData(timestamp).orElseThrow();
             problemFillersForTimestamp.forEach(problemFiller -> problemFiller.fill(
                 linearProblem,
                 flowResults.getData(timestamp).orElseThrow(),
@@ -267,44 +320,99 @@ public final class TimeCoupledIteratingLinearOptimizer {
                 new RangeActionActivationResultImpl(setPoints.getData(timestamp).orElseThrow())
             ));
         });
-        // For now, the Power Gradient Constraint filler is the only time-coupled filler and does not use any input but the linear problem
-        // A global time-coupled flow/sensitivity/set-point result does not exist anyway
-        timeCoupledProblemFillers.forEach(problemFiller -> problemFiller.fill(linearProblem, null, null, null));
+        fillTimeCoupledProblemFillers(linearProblems, timeCoupledProblemFillers);
     }
 
-    private static void updateLinearProblemBetweenMipIterations(LinearProblem linearProblem,
+    private static void updateLinearProblemBetweenMipIterations(TemporalData<LinearProblem> linearProblems,
                                                                 TemporalData<List<ProblemFiller>> problemFillers,
                                                                 TemporalData<RangeActionActivationResult> rangeActionActivationResults) {
         List<OffsetDateTime> timestamps = problemFillers.getTimestamps();
         timestamps.forEach(timestamp -> {
             List<ProblemFiller> problemFillersForTimestamp = problemFillers.getData(timestamp).orElseThrow();
+            LinearProblem linearProblem = linearProblems.getData(timestamp).orElseThrow();
             problemFillersForTimestamp.forEach(problemFiller -> problemFiller.updateBetweenMipIteration(linearProblem, rangeActionActivationResults.getData(timestamp).orElseThrow()));
         });
     }
 
-    private static void updateLinearProblemBetweenSensiComputations(LinearProblem linearProblem,
+    private static void updateLinearProblemBetweenSensiComputations(TemporalData<LinearProblem> linearProblems,
                                                                     TemporalData<List<ProblemFiller>> problemFillers,
                                                                     List<ProblemFiller> timeCoupledProblemFillers,
                                                                     LinearOptimizationResult optimizationResult) {
-        linearProblem.reset();
+        getDistinctLinearProblems(linearProblems).forEach(LinearProblem::reset);
         List<OffsetDateTime> timestamps = problemFillers.getTimestamps();
         timestamps.forEach(timestamp -> {
             List<ProblemFiller> problemFillersForTimestamp = problemFillers.getData(timestamp).orElseThrow();
+            LinearProblem linearProblem = linearProblems.getData(timestamp).orElseThrow();
             problemFillersForTimestamp.forEach(problemFiller -> problemFiller.fill(linearProblem, optimizationResult, optimizationResult, optimizationResult));
         });
-        timeCoupledProblemFillers.forEach(problemFiller -> problemFiller.fill(linearProblem, null, null, null));
+        fillTimeCoupledProblemFillers(linearProblems, timeCoupledProblemFillers);
     }
 
-    private static LinearProblemStatus solveLinearProblem(final LinearProblem linearProblem,
-                                                          final int iteration) {
+    /**
+     * Solves the linear problems, in parallel if the timestamps have independent problems. The returned status is the
+     * first failure status if any problem could not be solved, FEASIBLE if any problem was not solved to optimality,
+     * and OPTIMAL otherwise.
+     */
+    private static LinearProblemStatus solveLinearProblems(final TemporalData<LinearProblem> linearProblems,
+                                                           final int iteration,
+                                                           final int parallelism) {
         TECHNICAL_LOGS.debug("Iteration {}: linear optimization [start]", iteration);
-        LinearProblemStatus status = linearProblem.solve();
+        List<LinearProblem> distinctLinearProblems = getDistinctLinearProblems(linearProblems);
+        Collection<LinearProblemStatus> statuses = distinctLinearProblems.size() == 1
+            ? List.of(distinctLinearProblems.getFirst().solve())
+            : MarmotUtils.smartMap(linearProblems, LinearProblem::solve, parallelism).getDataPerTimestamp().values();
         TECHNICAL_LOGS.debug("Iteration {}: linear optimization [end]", iteration);
-        return status;
+        return statuses.stream()
+            .filter(status -> status != LinearProblemStatus.OPTIMAL && status != LinearProblemStatus.FEASIBLE)
+            .findFirst()
+            .orElse(statuses.contains(LinearProblemStatus.FEASIBLE) ? LinearProblemStatus.FEASIBLE : LinearProblemStatus.OPTIMAL);
     }
 
     // Sensitivity analysis
 
+    /**
+     * Runs the sensitivity analyses of all timestamps, on at most parallelism threads. Each timestamp has its own
+     * network which is released as soon as its sensitivity analysis is over, so at most parallelism networks are
+     * loaded in memory at the same time.
+     */
+    private static TemporalData<SensitivityComputer> runSensitivityAnalyses(final TemporalData<SensitivityComputer> sensitivityComputers,
+                                                                            final int iteration,
+                                                                            final TemporalData<RangeActionActivationResult> rangeActionActivationPerTimestamp,
+                                                                            final TimeCoupledIteratingLinearOptimizerInput input,
+                                                                            final IteratingLinearOptimizerParameters parameters,
+                                                                            final int parallelism,
+                                                                            final ReportNode reportNode) {
+        // report nodes are not thread-safe: each timestamp writes to its own report tree, included afterwards
+        TemporalData<ReportNode> reportNodePerTimestamp = input.iteratingLinearOptimizerInputs().map(
+            inputForTimestamp -> MarmotReports.createMarmotSensitivityAnalysisForTimestampReportNode(getTimestamp(inputForTimestamp))
+        );
+        TemporalData<SensitivityComputer> updatedSensitivityComputers = MarmotUtils.smartMap(
+            input.iteratingLinearOptimizerInputs(),
+            inputForTimestamp -> {
+                OffsetDateTime timestamp = getTimestamp(inputForTimestamp);
+                try {
+                    return runSensitivityAnalysis(
+                        sensitivityComputers.getData(timestamp).orElse(null),
+                        iteration,
+                        rangeActionActivationPerTimestamp.getData(timestamp).orElseThrow(),
+                        inputForTimestamp,
+                        parameters,
+                        reportNodePerTimestamp.getData(timestamp).orElseThrow()
+                    );
+                } finally {
+                    MarmotUtils.releaseNetwork(inputForTimestamp.network());
+                }
+            },
+            parallelism
+        );
+        reportNodePerTimestamp.getTimestamps().forEach(timestamp -> reportNode.include(reportNodePerTimestamp.getData(timestamp).orElseThrow()));
+        return updatedSensitivityComputers;
+    }
+
+    private static OffsetDateTime getTimestamp(final IteratingLinearOptimizerInput input) {
+        return input.optimizationPerimeter().getMainOptimizationState().getTimestamp().orElseThrow();
+    }
+
     private static SensitivityComputer runSensitivityAnalysis(final SensitivityComputer sensitivityComputer,
                                                               final int iteration,
                                                               final RangeActionActivationResult currentRangeActionActivationResult,
@@ -401,7 +509,7 @@ public final class TimeCoupledIteratingLinearOptimizer {
 
     // Set-point rounding
     private static TemporalData<RangeActionActivationResult> resolveIfApproximatedPstTaps(GlobalLinearOptimizationResult bestResult,
-                                                                                          LinearProblem linearProblem,
+                                                                                          TemporalData<LinearProblem> linearProblems,
                                                                                           int iteration,
                                                                                           TemporalData<RangeActionActivationResult> currentRangeActionActivationResults,
                                                                                           TimeCoupledIteratingLinearOptimizerInput input,
@@ -422,12 +530,12 @@ public final class TimeCoupledIteratingLinearOptimizer {
             // be more accurate in the neighboring of the previous solution
 
             // (idea: if too long, we could relax the first MIP, but no so straightforward to do with or-tools)
-            updateLinearProblemBetweenMipIterations(linearProblem, problemFillers, rangeActionActivationResults);
+            updateLinearProblemBetweenMipIterations(linearProblems, problemFillers, rangeActionActivationResults);
 
-            solveStatus = solveLinearProblem(linearProblem, iteration);
+            solveStatus = solveLinearProblems(linearProblems, iteration, parallelism);
             if (solveStatus == LinearProblemStatus.OPTIMAL || solveStatus == LinearProblemStatus.FEASIBLE) {
                 TemporalData<RangeActionActivationResult> updatedLinearProblemResults = retrieveRangeActionActivationResults(
-                    linearProblem,
+                    linearProblems,
                     input.iteratingLinearOptimizerInputs().map(IteratingLinearOptimizerInput::prePerimeterSetpoints),
                     input.iteratingLinearOptimizerInputs().map(IteratingLinearOptimizerInput::optimizationPerimeter)
                 );
@@ -529,14 +637,14 @@ public final class TimeCoupledIteratingLinearOptimizer {
             .forEach(ra -> roundedResult.putResult(ra, state, Math.round(linearProblemResult.getOptimizedSetpoint(ra, state)))));
     }
 
-    private static TemporalData<RangeActionActivationResult> retrieveRangeActionActivationResults(LinearProblem linearProblem,
+    private static TemporalData<RangeActionActivationResult> retrieveRangeActionActivationResults(TemporalData<LinearProblem> linearProblems,
                                                                                                   TemporalData<RangeActionSetpointResult> prePerimeterSetPoints,
                                                                                                   TemporalData<OptimizationPerimeter> optimizationPerimeters) {
         Map<OffsetDateTime, RangeActionActivationResult> linearOptimizationResults = new HashMap<>();
         List<OffsetDateTime> timestamps = optimizationPerimeters.getTimestamps();
         timestamps.forEach(timestamp -> linearOptimizationResults.put(
             timestamp,
-            new LinearProblemResult(linearProblem, prePerimeterSetPoints.getData(timestamp).orElseThrow(), optimizationPerimeters.getData(timestamp).orElseThrow())
+            new LinearProblemResult(linearProblems.getData(timestamp).orElseThrow(), prePerimeterSetPoints.getData(timestamp).orElseThrow(), optimizationPerimeters.getData(timestamp).orElseThrow())
         ));
         return new TemporalDataImpl<>(linearOptimizationResults);
     }
@@ -562,7 +670,7 @@ public final class TimeCoupledIteratingLinearOptimizer {
     }
 
     private static Pair<GlobalLinearOptimizationResult, Boolean> updateBestResultAndCheckStopCondition(final boolean raRangeShrinking,
-                                                                                                       final LinearProblem linearProblem,
+                                                                                                       final TemporalData<LinearProblem> linearProblems,
                                                                                                        final TimeCoupledIteratingLinearOptimizerInput input,
                                                                                                        final int iteration,
                                                                                                        final GlobalLinearOptimizationResult currentResult,
@@ -572,7 +680,7 @@ public final class TimeCoupledIteratingLinearOptimizer {
                                                                                                        final ReportNode reportNode) {
         if (currentResult.getCost() < bestResult.getCost()) {
             logBetterResult(iteration, currentResult, reportNode);
-            updateLinearProblemBetweenSensiComputations(linearProblem, problemFillers, timeCoupledProblemFillers, currentResult);
+            updateLinearProblemBetweenSensiComputations(linearProblems, problemFillers, timeCoupledProblemFillers, currentResult);
             return Pair.of(currentResult, false);
         }
         logWorseResult(iteration, bestResult, currentResult, reportNode);
@@ -580,7 +688,7 @@ public final class TimeCoupledIteratingLinearOptimizer {
             IteratingLinearOptimizer.applyRangeActions(bestResult, input.iteratingLinearOptimizerInputs().getData(timestamp).orElseThrow());
         }
         if (raRangeShrinking) {
-            updateLinearProblemBetweenSensiComputations(linearProblem, problemFillers, timeCoupledProblemFillers, currentResult);
+            updateLinearProblemBetweenSensiComputations(linearProblems, problemFillers, timeCoupledProblemFillers, currentResult);
         }
         return Pair.of(bestResult, !raRangeShrinking);
     }
@@ -12,11 +12,19 @@ import com.powsybl.openrao.data.timecoupledconstraints.TimeCoupledConstraints;
 import com.powsybl.openrao.searchtreerao.commons.objectivefunction.ObjectiveFunction;
 import com.powsybl.openrao.searchtreerao.linearoptimisation.inputs.IteratingLinearOptimizerInput;
 
+import java.util.Map;
+
 /**
  * @author Thomas Bouquet {@literal <thomas.bouquet at rte-france.com>}
  * @author Godelaine de Montmorillon {@literal <godelaine.demontmorillon at rte-france.com>}
  */
 public record TimeCoupledIteratingLinearOptimizerInput(TemporalData<IteratingLinearOptimizerInput> iteratingLinearOptimizerInputs,
                                                        ObjectiveFunction objectiveFunction,
-                                                       TimeCoupledConstraints timeCoupledConstraints) {
+                                                       TimeCoupledConstraints timeCoupledConstraints,
+                                                       Map<String, Double> initialGeneratorPowers) {
+    public TimeCoupledIteratingLinearOptimizerInput(TemporalData<IteratingLinearOptimizerInput> iteratingLinearOptimizerInputs,
+                                                    ObjectiveFunction objectiveFunction,
+                                                    TimeCoupledConstraints timeCoupledConstraints) {
+        this(iteratingLinearOptimizerInputs, objectiveFunction, timeCoupledConstraints, Map.of());
+    }
 }
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.searchtreerao.marmot;
+
+import com.powsybl.iidm.network.Connectable;
+import com.powsybl.iidm.network.Generator;
+import com.powsybl.iidm.network.HvdcLine;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.Switch;
+import com.powsybl.iidm.network.Terminal;
+import com.powsybl.iidm.network.TwoWindingsTransformer;
+import com.powsybl.iidm.network.extensions.HvdcAngleDroopActivePowerControl;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.crac.api.Identifiable;
+import com.powsybl.openrao.data.crac.api.State;
+import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
+import com.powsybl.openrao.data.crac.api.rangeaction.InjectionRangeAction;
+import com.powsybl.openrao.data.crac.api.rangeaction.RangeAction;
+import com.powsybl.openrao.sensitivityanalysis.AppliedRemedialActions;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Everything a DC sensitivity computation of a timestamp depends on, apart from the injections: the topology of the
+ * network, the PST taps, the converters mode of the HVDC lines, the participation of the generators to the slack
+ * distribution, the curative network actions and the definitions of the CNECs and range actions. Two timestamps with
+ * the same signature share the same DC sensitivity factors.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+record TopologySignature(Set<String> disconnectedTerminals,
+                         Set<String> openSwitches,
+                         Map<String, Integer> tapPositions,
+                         Map<String, String> hvdcModes,
+                         Map<String, Double> slackParticipations,
+                         Map<String, String> curativeNetworkActions,
+                         Map<String, String> flowCnecs,
+                         Map<String, String> rangeActions) {
+
+    /**
+     * Computes the signature of a timestamp. If distributedSlack is true, the generators are assumed to take part in
+     * the slack distribution proportionally to their maximum active power.
+     */
+    static TopologySignature of(Network network, Crac crac, AppliedRemedialActions curativeNetworkActions, boolean distributedSlack) {
+        Set<String> disconnectedTerminals = new HashSet<>();
+        network.getConnectableStream().forEach(connectable -> addDisconnectedTerminals(connectable, disconnectedTerminals));
+
+        Set<String> openSwitches = network.getSwitchStream().filter(Switch::isOpen).map(Switch::getId).collect(Collectors.toSet());
+
+        Map<String, Integer> tapPositions = new HashMap<>();
+        network.getTwoWindingsTransformerStream().forEach(transformer -> addTapPositions(transformer, tapPositions));
+
+        Map<String, String> hvdcModes = network.getHvdcLineStream().collect(Collectors.toMap(HvdcLine::getId, TopologySignature::getHvdcMode));
+
+        Map<String, Double> slackParticipations = new HashMap<>();
+        if (distributedSlack) {
+            network.getGeneratorStream().forEach(generator -> slackParticipations.put(generator.getId(), getSlackParticipation(generator)));
+        }
+
+        Map<String, String> curativeActions = new HashMap<>();
+        crac.getStates().stream()
+            .filter(state -> state.getInstant().isCurative())
+            .forEach(state -> curativeActions.put(getStateKey(state), curativeNetworkActions.getAppliedNetworkActions(state).stream().map(Identifiable::getId).sorted().toList().toString()));
+
+        Map<String, String> flowCnecs = crac.getFlowCnecs().stream().collect(Collectors.toMap(FlowCnec::getId, TopologySignature::describe));
+        Map<String, String> rangeActions = crac.getRangeActions().stream().collect(Collectors.toMap(RangeAction::getId, TopologySignature::describe));
+
+        return new TopologySignature(disconnectedTerminals, openSwitches, tapPositions, hvdcModes, slackParticipations, curativeActions, flowCnecs, rangeActions);
+    }
+
+    private static void addDisconnectedTerminals(Connectable<?> connectable, Set<String> disconnectedTerminals) {
+        List<? extends Terminal> terminals = connectable.getTerminals();
+        for (int i = 0; i < terminals.size(); i++) {
+            if (!terminals.get(i).isConnected()) {
+                disconnectedTerminals.add(connectable.getId() + " - " + i);
+            }
+        }
+    }
+
+    private static void addTapPositions(TwoWindingsTransformer transformer, Map<String, Integer> tapPositions) {
+        if (transformer.getPhaseTapChanger() != null) {
+            tapPositions.put(transformer.getId() + " - phase", transformer.getPhaseTapChanger().getTapPosition());
+        }
+        if (transformer.getRatioTapChanger() != null) {
+            tapPositions.put(transformer.getId() + " - ratio", transformer.getRatioTapChanger().getTapPosition());
+        }
+    }
+
+    private static String getHvdcMode(HvdcLine hvdcLine) {
+        HvdcAngleDroopActivePowerControl angleDroopActivePowerControl = hvdcLine.getExtension(HvdcAngleDroopActivePowerControl.class);
+        boolean acEmulation = angleDroopActivePowerControl != null && angleDroopActivePowerControl.isEnabled();
+        return hvdcLine.getConvertersMode() + (acEmulation ? " - AC emulation" : "");
+    }
+
+    /**
+     * Generators whose target power lies outside of their bounds do not take part in the slack distribution.
+     */
+    private static double getSlackParticipation(Generator generator) {
+        double targetP = generator.getTargetP();
+        return targetP > generator.getMinP() && targetP <= generator.getMaxP() && targetP > 0 ? generator.getMaxP() : 0.;
+    }
+
+    private static String getStateKey(State state) {
+        return state.getContingency().map(contingency -> contingency.getId() + " - ").orElse("") + state.getInstant().getId();
+    }
+
+    private static String describe(FlowCnec flowCnec) {
+        return flowCnec.getNetworkElement().getId() + " - " + getStateKey(flowCnec.getState());
+    }
+
+    private static String describe(RangeAction<?> rangeAction) {
+        if (rangeAction instanceof InjectionRangeAction injectionRangeAction) {
+            Map<String, Double> distributionKeys = new TreeMap<>();
+            injectionRangeAction.getInjectionDistributionKeys().forEach((networkElement, key) -> distributionKeys.put(networkElement.getId(), key));
+            return distributionKeys.toString();
+        }
+        return rangeAction.getNetworkElements().stream().map(Identifiable::getId).sorted().toList().toString();
+    }
+}
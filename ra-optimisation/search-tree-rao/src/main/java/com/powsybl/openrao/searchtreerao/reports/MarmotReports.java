@@ -180,6 +180,16 @@ public final class MarmotReports {
         TECHNICAL_LOGS.info("[MARMOT] No time-coupled constraint provided; no need to re-optimize range actions");
     }
 
+    public static void reportMarmotDecomposedGlobalMip(final ReportNode parentNode, final int nbProblems) {
+        parentNode.newReportNode()
+            .withMessageTemplate("openrao.searchtreerao.reportMarmotDecomposedGlobalMip")
+            .withUntypedValue("nbProblems", nbProblems)
+            .withSeverity(TRACE_SEVERITY)
+            .add();
+
+        TECHNICAL_LOGS.info("[MARMOT] Timestamps are not coupled by any constraint; the global MIP is decomposed into {} independent MIPs", nbProblems);
+    }
+
     public static ReportNode reportMarmotGlobalRangeActionsOptimization(final ReportNode parentNode) {
         final ReportNode addedNode = parentNode.newReportNode()
             .withMessageTemplate("openrao.searchtreerao.reportMarmotGlobalRangeActionsOptimization")
@@ -207,6 +217,25 @@ public final class MarmotReports {
         return addedNode;
     }
 
+    public static ReportNode reportMarmotRollingHorizonWindow(final ReportNode parentNode,
+                                                              final int windowIndex,
+                                                              final int nbWindows,
+                                                              final OffsetDateTime firstTimestamp,
+                                                              final OffsetDateTime lastTimestamp) {
+        final ReportNode addedNode = parentNode.newReportNode()
+            .withMessageTemplate("openrao.searchtreerao.reportMarmotRollingHorizonWindow")
+            .withUntypedValue("windowIndex", windowIndex)
+            .withUntypedValue("nbWindows", nbWindows)
+            .withUntypedValue("firstTimestamp", firstTimestamp.toString())
+            .withUntypedValue("lastTimestamp", lastTimestamp.toString())
+            .withSeverity(INFO_SEVERITY)
+            .add();
+
+        TECHNICAL_LOGS.info("[MARMOT] Rolling-horizon window {}/{}: optimizing timestamps from {} to {}", windowIndex, nbWindows, firstTimestamp, lastTimestamp);
+
+        return addedNode;
+    }
+
     public static void reportMarmotGlobalRangeActionsOptimizationForIterationEnd(final int iterationCounter) {
         TECHNICAL_LOGS.info("[MARMOT] ----- Global range actions optimization [end] for iteration {}", iterationCounter);
     }
@@ -289,6 +318,20 @@ public final class MarmotReports {
         TECHNICAL_LOGS.info("[MARMOT] No preventive topological actions applied for timestamp {}", timestamp);
     }
 
+    /**
+     * Creates a standalone report node for the sensitivity analysis of one timestamp, so that the analyses of several
+     * timestamps can run concurrently without sharing a report tree. It must be included in the parent report node
+     * once the analysis is over.
+     */
+    public static ReportNode createMarmotSensitivityAnalysisForTimestampReportNode(final OffsetDateTime timestamp) {
+        return ReportNode.newRootReportNode()
+            .withAllResourceBundlesFromClasspath()
+            .withMessageTemplate("openrao.searchtreerao.reportMarmotSensitivityAnalysisForTimestamp")
+            .withUntypedValue(TIMESTAMP, timestamp.toString())
+            .withSeverity(TRACE_SEVERITY)
+            .build();
+    }
+
     record MarmotAddedCnecsElement(String timestamp, String vcName, String addedCnecs) {
     }
 }
@@ -20,6 +20,7 @@ import com.powsybl.openrao.searchtreerao.commons.optimizationperimeters.Optimiza
 import com.powsybl.openrao.searchtreerao.searchtree.algorithms.Leaf;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -322,6 +323,67 @@ public final class SearchTreeReports {
         getLogger(verbose).info("Skipping {} optimization because earlier combination fulfills stop criterion.", id);
     }
 
+    public static void reportPruningLeaf(final ReportNode parentNode, final boolean verbose, final String id, final double costLowerBound, final double bestCost) {
+        String formattedCostLowerBound = format(Locale.ENGLISH, "%.2f", costLowerBound);
+        String formattedBestCost = format(Locale.ENGLISH, "%.2f", bestCost);
+        parentNode.newReportNode()
+            .withMessageTemplate("openrao.searchtreerao.reportPruningLeaf")
+            .withUntypedValue("id", id)
+            .withUntypedValue("costLowerBound", formattedCostLowerBound)
+            .withUntypedValue("bestCost", formattedBestCost)
+            .withSeverity(getSeverity(verbose))
+            .add();
+
+        getLogger(verbose).info("Skipping {} optimization because its cost cannot go below {} (best cost: {}).", id, formattedCostLowerBound, formattedBestCost);
+    }
+
+    public static void reportPrunedLeaves(final ReportNode parentNode, final int depth, final int nbPrunedLeaves, final int nbLeaves) {
+        parentNode.newReportNode()
+            .withMessageTemplate("openrao.searchtreerao.reportPrunedLeaves")
+            .withUntypedValue(DEPTH, depth)
+            .withUntypedValue("nbPrunedLeaves", nbPrunedLeaves)
+            .withUntypedValue("nbLeaves", nbLeaves)
+            .withSeverity(TRACE_SEVERITY)
+            .add();
+
+        TECHNICAL_LOGS.info("Search depth {}: {} leaves out of {} pruned before range actions optimization", depth, nbPrunedLeaves, nbLeaves);
+    }
+
+    public static ReportNode reportNextDepthOptimizationInAdvance(final ReportNode parentNode, final int depth, final Leaf leaf) {
+        final ReportNode addedNode = parentNode.newReportNode()
+            .withMessageTemplate("openrao.searchtreerao.reportNextDepthOptimizationInAdvance")
+            .withUntypedValue(DEPTH, depth)
+            .withUntypedValue("leaf", Objects.toString(leaf))
+            .withSeverity(TRACE_SEVERITY)
+            .add();
+
+        TECHNICAL_LOGS.info("Search depth {}: optimizing leaves in advance from provisional best leaf {}", depth, leaf);
+
+        return addedNode;
+    }
+
+    public static void reportNextDepthLeavesDiscarded(final ReportNode parentNode, final int depth, final int nbLeaves) {
+        parentNode.newReportNode()
+            .withMessageTemplate("openrao.searchtreerao.reportNextDepthLeavesDiscarded")
+            .withUntypedValue(DEPTH, depth)
+            .withUntypedValue("nbLeaves", nbLeaves)
+            .withSeverity(TRACE_SEVERITY)
+            .add();
+
+        TECHNICAL_LOGS.info("Search depth {}: {} leaves optimized in advance discarded because the best leaf of the previous depth changed", depth, nbLeaves);
+    }
+
+    public static void reportNextDepthLeavesReused(final ReportNode parentNode, final int depth, final int nbLeaves) {
+        parentNode.newReportNode()
+            .withMessageTemplate("openrao.searchtreerao.reportNextDepthLeavesReused")
+            .withUntypedValue(DEPTH, depth)
+            .withUntypedValue("nbLeaves", nbLeaves)
+            .withSeverity(TRACE_SEVERITY)
+            .add();
+
+        TECHNICAL_LOGS.info("Search depth {}: {} leaves already optimized in advance", depth, nbLeaves);
+    }
+
     public static void reportCanNotOptimizeRemedialActionCombination(final ReportNode parentNode, final String id, final String errorMessage) {
         parentNode.newReportNode()
             .withMessageTemplate("openrao.searchtreerao.reportCanNotOptimizeRemedialActionCombination")
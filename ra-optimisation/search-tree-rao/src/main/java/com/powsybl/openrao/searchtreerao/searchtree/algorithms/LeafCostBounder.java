@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.searchtreerao.searchtree.algorithms;
+
+import com.powsybl.iidm.network.TwoSides;
+import com.powsybl.openrao.commons.Unit;
+import com.powsybl.openrao.data.crac.api.State;
+import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
+import com.powsybl.openrao.data.crac.api.rangeaction.RangeAction;
+import com.powsybl.openrao.searchtreerao.commons.optimizationperimeters.OptimizationPerimeter;
+import com.powsybl.openrao.searchtreerao.result.api.RangeActionSetpointResult;
+import com.powsybl.openrao.searchtreerao.searchtree.parameters.SearchTreeParameters;
+
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Computes a lower bound of the cost that an evaluated leaf can reach after the optimization of its range actions.
+ * <p>
+ * The bound relies on the sensitivity values computed during the evaluation of the leaf: the flow of each FlowCNEC
+ * side can at best be moved, within the admissible ranges of the range actions, by the sum of the largest
+ * contributions of all range actions. It is thus an upper bound of the margin reachable on each FlowCNEC, and the
+ * opposite of the smallest of these bounds is a lower bound of the functional cost (virtual costs being non-negative).
+ * <p>
+ * Since flows are only linear with respect to set-points in DC, the bound is only computed for DC max-min margin
+ * optimizations of a single state. In every other case, no bound is available and negative infinity is returned.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class LeafCostBounder {
+    private final OptimizationPerimeter optimizationPerimeter;
+    private final RangeActionSetpointResult prePerimeterSetpoints;
+    private final SearchTreeParameters parameters;
+
+    LeafCostBounder(OptimizationPerimeter optimizationPerimeter, RangeActionSetpointResult prePerimeterSetpoints, SearchTreeParameters parameters) {
+        this.optimizationPerimeter = optimizationPerimeter;
+        this.prePerimeterSetpoints = prePerimeterSetpoints;
+        this.parameters = parameters;
+    }
+
+    boolean canBoundLeaves() {
+        return parameters.getFlowUnit() == Unit.MEGAWATT
+            && !parameters.getObjectiveFunction().relativePositiveMargins()
+            && !parameters.getObjectiveFunction().costOptimization()
+            && optimizationPerimeter.getRangeActionsPerState().size() <= 1;
+    }
+
+    double computeCostLowerBound(Leaf leaf) {
+        if (!canBoundLeaves()) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        State state = optimizationPerimeter.getMainOptimizationState();
+        Set<RangeAction<?>> rangeActions = optimizationPerimeter.getRangeActionsPerState().getOrDefault(state, Set.of());
+        Set<String> operatorsNotToOptimize = parameters.getUnoptimizedCnecParameters() == null ? Set.of() : parameters.getUnoptimizedCnecParameters().getOperatorsNotToOptimize();
+
+        Map<Optional<OffsetDateTime>, Double> maxCostPerTimestamp = new HashMap<>();
+        for (FlowCnec flowCnec : leaf.getMostLimitingElements(Integer.MAX_VALUE)) {
+            // the margin of unoptimized CNECs is not taken into account as is in the functional cost
+            if (flowCnec.getOperator() != null && operatorsNotToOptimize.contains(flowCnec.getOperator())) {
+                continue;
+            }
+            double marginUpperBound = flowCnec.getMonitoredSides().stream()
+                .mapToDouble(side -> computeMarginUpperBound(leaf, flowCnec, side, rangeActions, state))
+                .min().orElse(Double.NaN);
+            if (!Double.isNaN(marginUpperBound)) {
+                maxCostPerTimestamp.merge(flowCnec.getState().getTimestamp(), -marginUpperBound, Math::max);
+            }
+        }
+        if (maxCostPerTimestamp.isEmpty()) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        return maxCostPerTimestamp.values().stream().mapToDouble(Double::doubleValue).sum();
+    }
+
+    private double computeMarginUpperBound(Leaf leaf, FlowCnec flowCnec, TwoSides side, Set<RangeAction<?>> rangeActions, State state) {
+        double flow = leaf.getFlow(flowCnec, side, Unit.MEGAWATT);
+        double lowestFlow = flow;
+        double highestFlow = flow;
+        for (RangeAction<?> rangeAction : rangeActions) {
+            double sensitivity = leaf.getSensitivityValue(flowCnec, side, rangeAction, Unit.MEGAWATT);
+            double currentSetpoint = leaf.getOptimizedSetpoint(rangeAction, state);
+            double prePerimeterSetpoint = prePerimeterSetpoints.getSetpoint(rangeAction);
+            double decreaseImpact = sensitivity * (rangeAction.getMinAdmissibleSetpoint(prePerimeterSetpoint) - currentSetpoint);
+            double increaseImpact = sensitivity * (rangeAction.getMaxAdmissibleSetpoint(prePerimeterSetpoint) - currentSetpoint);
+            lowestFlow += Math.min(0, Math.min(decreaseImpact, increaseImpact));
+            highestFlow += Math.max(0, Math.max(decreaseImpact, increaseImpact));
+        }
+        double upperThreshold = flowCnec.getUpperBound(side, Unit.MEGAWATT).orElse(Double.POSITIVE_INFINITY);
+        double lowerThreshold = flowCnec.getLowerBound(side, Unit.MEGAWATT).orElse(Double.NEGATIVE_INFINITY);
+        return Math.min(upperThreshold - lowestFlow, highestFlow - lowerThreshold);
+    }
+}
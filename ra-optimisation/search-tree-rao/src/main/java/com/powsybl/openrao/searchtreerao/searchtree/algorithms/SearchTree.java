@@ -36,15 +36,19 @@ import com.powsybl.openrao.util.AbstractNetworkPool;
 import java.nio.charset.StandardCharsets;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import static com.powsybl.openrao.commons.logs.OpenRaoLoggerProvider.TECHNICAL_LOGS;
@@ -59,7 +63,9 @@ import static com.powsybl.openrao.searchtreerao.commons.HvdcUtils.runLoadFlowAnd
  * routing among the leaves in order to converge as quickly as possible to a local
  * minimum of the objective function.
  * <p>
- * The leaves of a same depth can be evaluated simultaneously.
+ * The leaves of a same depth can be evaluated simultaneously. When threads become idle while the last leaves of a
+ * depth are still running, the leaves of the next depth are optimized in advance from the provisional optimal leaf,
+ * and only reused if this leaf remains the optimal one at the end of the depth.
  *
  * @author Joris Mancini {@literal <joris.mancini at rte-france.com>}
  * @author Baptiste Seguinot {@literal <baptiste.seguinot at rte-france.com>}
@@ -84,13 +90,17 @@ public class SearchTree {
 
     private final boolean purelyVirtual;
     private final SearchTreeBloomer bloomer;
+    private final LeafCostBounder leafCostBounder;
     private final ReportNode reportNode;
+    private final AtomicInteger prunedLeavesInDepth = new AtomicInteger();
 
     private Leaf rootLeaf;
-    private Leaf optimalLeaf;
-    private Leaf previousDepthOptimalLeaf;
+    private volatile Leaf optimalLeaf;
+    private volatile Leaf previousDepthOptimalLeaf;
 
-    private Optional<NetworkActionCombination> combinationFulfillingStopCriterion = Optional.empty();
+    private volatile Optional<NetworkActionCombination> combinationFulfillingStopCriterion = Optional.empty();
+    // written by the leaves of the current depth, read and cleared by the search thread once they are over
+    private final AtomicReference<LeavesOptimizedInAdvance> leavesOptimizedInAdvance = new AtomicReference<>();
 
     public SearchTree(final SearchTreeInput input,
                       final SearchTreeParameters parameters,
@@ -105,6 +115,7 @@ public class SearchTree {
         // build from inputs
         this.purelyVirtual = input.getOptimizationPerimeter().getOptimizedFlowCnecs().isEmpty();
         this.bloomer = new SearchTreeBloomer(input, parameters);
+        this.leafCostBounder = new LeafCostBounder(input.getOptimizationPerimeter(), input.getPrePerimeterResult(), parameters);
     }
 
     public CompletableFuture<OptimizationResult> run() {
@@ -143,7 +154,7 @@ public class SearchTree {
                 );
             }
 
-            rootLeaf.evaluate(input.getObjectiveFunction(), getSensitivityComputerForEvaluation(true, reportNode), reportNode);
+            rootLeaf.evaluate(input.getObjectiveFunction(), getSensitivityComputerForEvaluation(true, rootLeaf, reportNode), reportNode);
             if (rootLeaf.getStatus().equals(Leaf.Status.ERROR)) {
                 SearchTreeReports.reportCouldNotEvaluateLeaf(reportNode, verbose, rootLeaf);
                 reportOptimizationSummary(rootLeaf);
@@ -167,7 +178,7 @@ public class SearchTree {
             SearchTreeReports.reportRootLeaf(reportNode, verbose, rootLeaf);
             SearchTreeReports.reportRangeActions(reportNode, optimalLeaf, input.getOptimizationPerimeter());
             reportMostLimitingElementsWithVerbose(optimalLeaf, NUMBER_LOGGED_ELEMENTS_DURING_TREE);
-            reportVirtualCostInformation(reportNode, rootLeaf, false);
+            reportVirtualCostInformation(reportNode, rootLeaf, previousDepthOptimalLeaf, false);
 
             if (stopCriterionReached(rootLeaf)) {
                 reportOptimizationSummary(rootLeaf);
@@ -217,7 +228,8 @@ public class SearchTree {
                 final int depthForLogs = depth + 1;
                 final ReportNode searchDepthReportNode = SearchTreeReports.reportSearchDepth(reportNode, depthForLogs);
                 previousDepthOptimalLeaf = optimalLeaf;
-                updateOptimalLeafWithNextDepthBestLeaf(networkPool, searchDepthReportNode);
+                prunedLeavesInDepth.set(0);
+                updateOptimalLeafWithNextDepthBestLeaf(networkPool, depthForLogs, searchDepthReportNode);
                 hasImproved = previousDepthOptimalLeaf != optimalLeaf; // It means this depth evaluation has improved the global cost
                 if (hasImproved) {
                     SearchTreeReports.reportSearchDepthEnd(depthForLogs);
@@ -243,7 +255,9 @@ public class SearchTree {
     /**
      * Evaluate all the leaves. We use OpenRaoNetworkPool to parallelize the computation
      */
-    private void updateOptimalLeafWithNextDepthBestLeaf(final AbstractNetworkPool networkPool, final ReportNode reportNode) throws InterruptedException {
+    private void updateOptimalLeafWithNextDepthBestLeaf(final AbstractNetworkPool networkPool, final int depth, final ReportNode reportNode) throws InterruptedException {
+        // all the leaves of the previous depth are over: the leaves optimized in advance (if any) have the right parent
+        LeavesOptimizedInAdvance leavesOptimizedDuringPreviousDepth = leavesOptimizedInAdvance.getAndSet(null);
 
         TreeSet<NetworkActionCombination> naCombinationsSorted = new TreeSet<>(this::deterministicNetworkActionCombinationComparison);
         naCombinationsSorted.addAll(bloomer.bloom(optimalLeaf, input.getOptimizationPerimeter().getNetworkActions(), reportNode));
@@ -256,47 +270,37 @@ public class SearchTree {
         } else {
             SearchTreeReports.reportLeavesToEvaluate(reportNode, numberOfCombinations);
         }
-        AtomicInteger remainingLeaves = new AtomicInteger(numberOfCombinations);
-        List<ForkJoinTask<Object>> tasks = naCombinationsSorted.stream().map(naCombination -> {
+        List<NetworkActionCombination> naCombinationsToOptimize = naCombinationsSorted.stream()
+            .filter(naCombination -> leavesOptimizedDuringPreviousDepth == null || !leavesOptimizedDuringPreviousDepth.tasks.containsKey(naCombination))
+            .toList();
+        AtomicInteger remainingLeaves = new AtomicInteger(naCombinationsToOptimize.size());
+        List<ForkJoinTask<Object>> tasks = naCombinationsToOptimize.stream().map(naCombination -> {
                 final ReportNode leafOptimizationReportNode = SearchTreeReports.reportLeafOptimization(reportNode, verbose, naCombination.getConcatenatedId());
-                return networkPool.submit(() -> optimizeOneLeaf(networkPool, naCombination, remainingLeaves, leafOptimizationReportNode));
+                return networkPool.submit(() -> optimizeOneLeaf(networkPool, naCombination, remainingLeaves, depth, leafOptimizationReportNode));
             }
         ).toList();
+        if (leavesOptimizedDuringPreviousDepth != null) {
+            reuseLeavesOptimizedInAdvance(leavesOptimizedDuringPreviousDepth, naCombinationsSorted, reportNode);
+        }
         for (ForkJoinTask<Object> task : tasks) {
-            try {
-                task.get();
-            } catch (ExecutionException e) {
-                throw new OpenRaoException(e);
-            }
+            getTaskResult(task);
+        }
+        discardLeavesOptimizedInAdvanceIfParentIsNotOptimal();
+        if (leafCostBounder.canBoundLeaves()) {
+            SearchTreeReports.reportPrunedLeaves(reportNode, depth, prunedLeavesInDepth.get(), numberOfCombinations);
         }
     }
 
     private Object optimizeOneLeaf(final AbstractNetworkPool networkPool,
                                    final NetworkActionCombination naCombination,
                                    final AtomicInteger remainingLeaves,
+                                   final int depth,
                                    final ReportNode reportNode) throws InterruptedException {
         Network networkClone = networkPool.getAvailableNetwork(); //This is where the threads actually wait for available networks
         try {
             if (combinationFulfillingStopCriterion.isEmpty() || deterministicNetworkActionCombinationComparison(naCombination, combinationFulfillingStopCriterion.get()) < 0) {
                 boolean shouldRangeActionBeRemoved = bloomer.shouldRangeActionsBeRemovedToApplyNa(naCombination, optimalLeaf);
-                if (shouldRangeActionBeRemoved) {
-                    // Remove parentLeaf range actions to respect every maxRa or maxOperator limitation
-                    // If the HVDC line is in AC emulation the we won't be able to apply setpoint
-                    HvdcUtils.filterOutHvdcRangeActionsOnHvdcLineInAcEmulation(input.getOptimizationPerimeter().getRangeActions(), networkClone)
-                        .forEach(ra ->
-                            ra.apply(networkClone, input.getPrePerimeterResult().getRangeActionSetpointResult().getSetpoint(ra))
-                        );
-
-                } else {
-                    // Apply range actions that have been changed by the previous leaf on the network to start next depth leaves
-                    // from previous optimal leaf starting point
-                    // Network actions are not applied here. If in previous leaf AC emulation was deactivated to optimize HVDC range action
-                    // we won't be able to apply the optimized setpoint because the HVDC line will still be in AC emulation
-                    HvdcUtils.filterOutHvdcRangeActionsOnHvdcLineInAcEmulation(previousDepthOptimalLeaf.getRangeActions(), networkClone)
-                        .forEach(ra ->
-                            ra.apply(networkClone, previousDepthOptimalLeaf.getOptimizedSetpoint(ra, input.getOptimizationPerimeter().getMainOptimizationState()))
-                        );
-                }
+                applyParentLeafRangeActions(networkClone, shouldRangeActionBeRemoved, previousDepthOptimalLeaf);
                 optimizeNextLeafAndUpdate(naCombination, shouldRangeActionBeRemoved, networkClone, reportNode);
 
             } else {
@@ -305,11 +309,157 @@ public class SearchTree {
         } catch (OpenRaoException e) {
             SearchTreeReports.reportCanNotOptimizeRemedialActionCombination(reportNode, naCombination.getConcatenatedId(), e.getMessage());
         }
-        SearchTreeReports.reportRemainingLeavesToEvaluate(reportNode, remainingLeaves.decrementAndGet());
+        int remainingLeavesToEvaluate = remainingLeaves.decrementAndGet();
+        SearchTreeReports.reportRemainingLeavesToEvaluate(reportNode, remainingLeavesToEvaluate);
         networkPool.releaseUsedNetwork(networkClone);
+        optimizeNextDepthLeavesInAdvance(networkPool, depth + 1, remainingLeavesToEvaluate);
         return null;
     }
 
+    private void applyParentLeafRangeActions(final Network networkClone, final boolean shouldRangeActionBeRemoved, final Leaf parentLeaf) {
+        if (shouldRangeActionBeRemoved) {
+            // Remove parentLeaf range actions to respect every maxRa or maxOperator limitation
+            // If the HVDC line is in AC emulation the we won't be able to apply setpoint
+            HvdcUtils.filterOutHvdcRangeActionsOnHvdcLineInAcEmulation(input.getOptimizationPerimeter().getRangeActions(), networkClone)
+                .forEach(ra ->
+                    ra.apply(networkClone, input.getPrePerimeterResult().getRangeActionSetpointResult().getSetpoint(ra))
+                );
+
+        } else {
+            // Apply range actions that have been changed by the previous leaf on the network to start next depth leaves
+            // from previous optimal leaf starting point
+            // Network actions are not applied here. If in previous leaf AC emulation was deactivated to optimize HVDC range action
+            // we won't be able to apply the optimized setpoint because the HVDC line will still be in AC emulation
+            HvdcUtils.filterOutHvdcRangeActionsOnHvdcLineInAcEmulation(parentLeaf.getRangeActions(), networkClone)
+                .forEach(ra ->
+                    ra.apply(networkClone, parentLeaf.getOptimizedSetpoint(ra, input.getOptimizationPerimeter().getMainOptimizationState()))
+                );
+        }
+    }
+
+    /**
+     * If some networks of the pool are idle while the last leaves of the current depth are still running, the leaves
+     * of the next depth are bloomed from the current (provisional) optimal leaf and optimized in advance.
+     */
+    private synchronized void optimizeNextDepthLeavesInAdvance(final AbstractNetworkPool networkPool, final int nextDepth, final int remainingLeaves) {
+        if (leavesOptimizedInAdvance.get() != null
+            || remainingLeaves <= 0
+            || remainingLeaves >= networkPool.getNetworkNumberOfClones()
+            || nextDepth > parameters.getTreeParameters().maximumSearchDepth()
+            || optimalLeaf == previousDepthOptimalLeaf
+            || combinationFulfillingStopCriterion.isPresent()
+            || stopCriterionReached(optimalLeaf)) {
+            return;
+        }
+        LeavesOptimizedInAdvance nextDepthLeaves = new LeavesOptimizedInAdvance(optimalLeaf, nextDepth);
+        leavesOptimizedInAdvance.set(nextDepthLeaves);
+        ReportNode nextDepthReportNode = SearchTreeReports.reportNextDepthOptimizationInAdvance(reportNode, nextDepth, optimalLeaf);
+        TreeSet<NetworkActionCombination> naCombinationsSorted = new TreeSet<>(this::deterministicNetworkActionCombinationComparison);
+        naCombinationsSorted.addAll(bloomer.bloom(optimalLeaf, input.getOptimizationPerimeter().getNetworkActions(), nextDepthReportNode));
+        naCombinationsSorted.forEach(naCombination -> {
+            final ReportNode leafOptimizationReportNode = SearchTreeReports.reportLeafOptimization(nextDepthReportNode, verbose, naCombination.getConcatenatedId());
+            nextDepthLeaves.tasks.put(naCombination, networkPool.submit(() -> optimizeLeafInAdvance(networkPool, naCombination, nextDepthLeaves, leafOptimizationReportNode)));
+        });
+    }
+
+    /**
+     * Creates, evaluates and optimizes a leaf of the next depth from the provisional optimal leaf. Contrary to
+     * {@link #optimizeNextLeafAndUpdate}, the optimal leaf is not updated: this is done once the provisional optimal
+     * leaf has been confirmed.
+     */
+    private Optional<Leaf> optimizeLeafInAdvance(final AbstractNetworkPool networkPool,
+                                                 final NetworkActionCombination naCombination,
+                                                 final LeavesOptimizedInAdvance nextDepthLeaves,
+                                                 final ReportNode reportNode) throws InterruptedException {
+        if (nextDepthLeaves.discarded || nextDepthLeaves.comesAfterCombinationFulfillingStopCriterion(naCombination, this::deterministicNetworkActionCombinationComparison)) {
+            // the sequential search would not optimize this leaf either
+            SearchTreeReports.reportSkippingOptimization(reportNode, verbose, naCombination.getConcatenatedId());
+            return Optional.empty();
+        }
+        Leaf parentLeaf = nextDepthLeaves.parentLeaf;
+        Network networkClone = networkPool.getAvailableNetwork();
+        try {
+            boolean shouldRangeActionBeRemoved = bloomer.shouldRangeActionsBeRemovedToApplyNa(naCombination, parentLeaf);
+            applyParentLeafRangeActions(networkClone, shouldRangeActionBeRemoved, parentLeaf);
+            Leaf leaf = createChildLeaf(networkClone, naCombination, shouldRangeActionBeRemoved, parentLeaf);
+            leaf.evaluate(input.getObjectiveFunction(), getSensitivityComputerForEvaluation(shouldRangeActionBeRemoved, parentLeaf, reportNode), reportNode);
+
+            SearchTreeReports.reportEvaluatedLeaf(reportNode, verbose, leaf);
+            if (leaf.getStatus().equals(Leaf.Status.ERROR)) {
+                SearchTreeReports.reportCouldNotEvaluateLeaf(reportNode, verbose, leaf);
+                return Optional.empty();
+            }
+            if (stopCriterionReached(leaf)) {
+                SearchTreeReports.reportOptimizedLeaf(reportNode, verbose, leaf);
+            } else if (nextDepthLeaves.comesAfterCombinationFulfillingStopCriterion(naCombination, this::deterministicNetworkActionCombinationComparison)) {
+                SearchTreeReports.reportSkippingOptimization(reportNode, verbose, naCombination.getConcatenatedId());
+            } else if (cannotImproveOptimalLeaf(leaf, parentLeaf.getCost(), naCombination, reportNode)) {
+                // the leaf cannot beat its parent, which will be the optimal leaf when the next depth starts
+                nextDepthLeaves.prunedCombinations.add(naCombination);
+            } else if (!nextDepthLeaves.discarded) {
+                optimizeLeaf(leaf, reportNode);
+
+                SearchTreeReports.reportOptimizedLeaf(reportNode, verbose, leaf);
+                reportVirtualCostInformation(reportNode, leaf, parentLeaf, true);
+            }
+            if (stopCriterionReached(leaf)) {
+                nextDepthLeaves.updateCombinationFulfillingStopCriterion(naCombination, this::deterministicNetworkActionCombinationComparison);
+            }
+            return Optional.of(leaf);
+        } catch (OpenRaoException e) {
+            SearchTreeReports.reportCanNotOptimizeRemedialActionCombination(reportNode, naCombination.getConcatenatedId(), e.getMessage());
+            return Optional.empty();
+        } finally {
+            networkPool.releaseUsedNetwork(networkClone);
+        }
+    }
+
+    /**
+     * Updates the optimal leaf with the leaves optimized in advance, in the deterministic order of their combinations.
+     */
+    private void reuseLeavesOptimizedInAdvance(final LeavesOptimizedInAdvance leaves,
+                                               final Set<NetworkActionCombination> naCombinations,
+                                               final ReportNode reportNode) throws InterruptedException {
+        int reusedLeaves = 0;
+        for (Map.Entry<NetworkActionCombination, ForkJoinTask<Optional<Leaf>>> leafTask : leaves.tasks.entrySet()) {
+            Optional<Leaf> leaf = getTaskResult(leafTask.getValue());
+            // the leaves whose combination has not been bloomed again are dropped, and so is their pruning
+            if (naCombinations.contains(leafTask.getKey())) {
+                reusedLeaves++;
+                leaf.ifPresent(optimizedLeaf -> updateOptimalLeaf(optimizedLeaf, leafTask.getKey(), reportNode));
+                if (leaves.prunedCombinations.contains(leafTask.getKey())) {
+                    prunedLeavesInDepth.incrementAndGet();
+                }
+            }
+        }
+        SearchTreeReports.reportNextDepthLeavesReused(reportNode, leaves.depth, reusedLeaves);
+    }
+
+    /**
+     * Once all the leaves of the depth are over, the leaves optimized in advance are discarded if their parent is not
+     * the optimal leaf of the depth, so that the result of the search-tree does not depend on the order of the leaves.
+     */
+    private void discardLeavesOptimizedInAdvanceIfParentIsNotOptimal() throws InterruptedException {
+        LeavesOptimizedInAdvance leaves = leavesOptimizedInAdvance.get();
+        if (leaves == null || leaves.parentLeaf == optimalLeaf) {
+            return;
+        }
+        leavesOptimizedInAdvance.set(null);
+        leaves.discarded = true;
+        for (ForkJoinTask<Optional<Leaf>> task : leaves.tasks.values()) {
+            getTaskResult(task);
+        }
+        SearchTreeReports.reportNextDepthLeavesDiscarded(reportNode, leaves.depth, leaves.tasks.size());
+    }
+
+    private static <T> T getTaskResult(final ForkJoinTask<T> task) throws InterruptedException {
+        try {
+            return task.get();
+        } catch (ExecutionException e) {
+            throw new OpenRaoException(e);
+        }
+    }
+
     int deterministicNetworkActionCombinationComparison(NetworkActionCombination ra1, NetworkActionCombination ra2) {
         // 1. First priority given to combinations detected during RAO
         // 2. Second priority given to pre-defined combinations
@@ -364,18 +514,20 @@ public class SearchTree {
             return;
         }
         // We evaluate the leaf with taking the results of the previous optimal leaf if we do not want to update some results
-        leaf.evaluate(input.getObjectiveFunction(), getSensitivityComputerForEvaluation(shouldRangeActionBeRemoved, reportNode), reportNode);
+        leaf.evaluate(input.getObjectiveFunction(), getSensitivityComputerForEvaluation(shouldRangeActionBeRemoved, previousDepthOptimalLeaf, reportNode), reportNode);
 
         SearchTreeReports.reportEvaluatedLeaf(reportNode, verbose, leaf);
         if (!leaf.getStatus().equals(Leaf.Status.ERROR)) {
             if (!stopCriterionReached(leaf)) {
                 if (combinationFulfillingStopCriterion.isPresent() && deterministicNetworkActionCombinationComparison(naCombination, combinationFulfillingStopCriterion.get()) > 0) {
                     SearchTreeReports.reportSkippingOptimization(reportNode, verbose, naCombination.getConcatenatedId());
+                } else if (cannotImproveOptimalLeaf(leaf, getOptimalLeafCost(), naCombination, reportNode)) {
+                    prunedLeavesInDepth.incrementAndGet();
                 } else {
                     optimizeLeaf(leaf, reportNode);
 
                     SearchTreeReports.reportOptimizedLeaf(reportNode, verbose, leaf);
-                    reportVirtualCostInformation(reportNode, leaf, true);
+                    reportVirtualCostInformation(reportNode, leaf, previousDepthOptimalLeaf, true);
                 }
             } else {
                 SearchTreeReports.reportOptimizedLeaf(reportNode, verbose, leaf);
@@ -387,14 +539,38 @@ public class SearchTree {
     }
 
     Leaf createChildLeaf(Network network, NetworkActionCombination naCombination, boolean shouldRangeActionBeRemoved) {
+        return createChildLeaf(network, naCombination, shouldRangeActionBeRemoved, previousDepthOptimalLeaf);
+    }
+
+    private Leaf createChildLeaf(Network network, NetworkActionCombination naCombination, boolean shouldRangeActionBeRemoved, Leaf parentLeaf) {
         return new Leaf(
             input.getOptimizationPerimeter(),
             network,
-            previousDepthOptimalLeaf.getActivatedNetworkActions(),
+            parentLeaf.getActivatedNetworkActions(),
             naCombination,
-            shouldRangeActionBeRemoved ? new RangeActionActivationResultImpl(input.getPrePerimeterResult()) : previousDepthOptimalLeaf.getRangeActionActivationResult(),
+            shouldRangeActionBeRemoved ? new RangeActionActivationResultImpl(input.getPrePerimeterResult()) : parentLeaf.getRangeActionActivationResult(),
             input.getPrePerimeterResult(),
-            shouldRangeActionBeRemoved ? input.getPreOptimizationAppliedRemedialActions() : getPreviousDepthAppliedRemedialActionsBeforeNewLeafEvaluation(previousDepthOptimalLeaf));
+            shouldRangeActionBeRemoved ? input.getPreOptimizationAppliedRemedialActions() : getPreviousDepthAppliedRemedialActionsBeforeNewLeafEvaluation(parentLeaf));
+    }
+
+    /**
+     * Returns true if the leaf cannot reach, even after the optimization of its range actions, a cost lower than the
+     * one of the optimal leaf. Its range actions optimization can then be skipped.
+     */
+    private boolean cannotImproveOptimalLeaf(final Leaf leaf, final double optimalLeafCost, final NetworkActionCombination naCombination, final ReportNode reportNode) {
+        if (input.getOptimizationPerimeter().getRangeActions().isEmpty() || !leafCostBounder.canBoundLeaves()) {
+            return false;
+        }
+        double costLowerBound = leafCostBounder.computeCostLowerBound(leaf);
+        if (costLowerBound > optimalLeafCost + EPSILON && !costSatisfiesStopCriterion(costLowerBound, parameters)) {
+            SearchTreeReports.reportPruningLeaf(reportNode, verbose, naCombination.getConcatenatedId(), costLowerBound, optimalLeafCost);
+            return true;
+        }
+        return false;
+    }
+
+    private synchronized double getOptimalLeafCost() {
+        return optimalLeaf.getCost();
     }
 
     private void optimizeLeaf(final Leaf leaf, final ReportNode reportNode) {
@@ -408,7 +584,7 @@ public class SearchTree {
         }
     }
 
-    private SensitivityComputer getSensitivityComputerForEvaluation(final boolean isRootLeaf, final ReportNode reportNode) {
+    private SensitivityComputer getSensitivityComputerForEvaluation(final boolean isRootLeaf, final Leaf parentLeaf, final ReportNode reportNode) {
 
         SensitivityComputer.SensitivityComputerBuilder sensitivityComputerBuilder = SensitivityComputer.create(reportNode)
             .withToolProvider(input.getToolProvider())
@@ -419,7 +595,7 @@ public class SearchTree {
         if (isRootLeaf) {
             sensitivityComputerBuilder.withAppliedRemedialActions(input.getPreOptimizationAppliedRemedialActions());
         } else {
-            sensitivityComputerBuilder.withAppliedRemedialActions(getPreviousDepthAppliedRemedialActionsBeforeNewLeafEvaluation(previousDepthOptimalLeaf));
+            sensitivityComputerBuilder.withAppliedRemedialActions(getPreviousDepthAppliedRemedialActionsBeforeNewLeafEvaluation(parentLeaf));
         }
 
         if (parameters.getObjectiveFunction().relativePositiveMargins()) {
@@ -527,8 +703,8 @@ public class SearchTree {
         return alreadyAppliedRa;
     }
 
-    private void reportVirtualCostInformation(final ReportNode reportNode, final Leaf rootLeaf, final boolean optimized) {
-        VirtualCostReports.reportVirtualCostInformation(reportNode, verbose, rootLeaf, parameters.getFlowUnit(), previousDepthOptimalLeaf.getFunctionalCost(), parameters, optimized);
+    private void reportVirtualCostInformation(final ReportNode reportNode, final Leaf rootLeaf, final Leaf parentLeaf, final boolean optimized) {
+        VirtualCostReports.reportVirtualCostInformation(reportNode, verbose, rootLeaf, parameters.getFlowUnit(), parentLeaf.getFunctionalCost(), parameters, optimized);
     }
 
     private void reportTechnicalMostLimitingElements(final Leaf rootLeaf, final int numberLoggedElementsDuringTree) {
@@ -547,4 +723,35 @@ public class SearchTree {
             reportTechnicalMostLimitingElements(leaf, numberLoggedElementsDuringTree);
         }
     }
+
+    /**
+     * Leaves of the next depth optimized in advance from a provisional optimal leaf of the current depth.
+     */
+    private static final class LeavesOptimizedInAdvance {
+        private final Leaf parentLeaf;
+        private final int depth;
+        private final Map<NetworkActionCombination, ForkJoinTask<Optional<Leaf>>> tasks = new LinkedHashMap<>();
+        private final Set<NetworkActionCombination> prunedCombinations = ConcurrentHashMap.newKeySet();
+        private Optional<NetworkActionCombination> combinationFulfillingStopCriterion = Optional.empty();
+        private volatile boolean discarded = false;
+
+        private LeavesOptimizedInAdvance(Leaf parentLeaf, int depth) {
+            this.parentLeaf = parentLeaf;
+            this.depth = depth;
+        }
+
+        /**
+         * Same rule as the sequential search: once a leaf fulfills the stop criterion, the combinations that come after
+         * it in the deterministic order are not optimized.
+         */
+        private synchronized boolean comesAfterCombinationFulfillingStopCriterion(NetworkActionCombination naCombination, Comparator<NetworkActionCombination> comparator) {
+            return combinationFulfillingStopCriterion.isPresent() && comparator.compare(naCombination, combinationFulfillingStopCriterion.get()) > 0;
+        }
+
+        private synchronized void updateCombinationFulfillingStopCriterion(NetworkActionCombination naCombination, Comparator<NetworkActionCombination> comparator) {
+            if (combinationFulfillingStopCriterion.isEmpty() || comparator.compare(naCombination, combinationFulfillingStopCriterion.get()) < 0) {
+                combinationFulfillingStopCriterion = Optional.of(naCombination);
+            }
+        }
+    }
 }
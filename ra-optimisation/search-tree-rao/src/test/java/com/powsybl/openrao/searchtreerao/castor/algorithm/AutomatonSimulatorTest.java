@@ -31,6 +31,7 @@ import com.powsybl.openrao.data.raoresult.api.ComputationStatus;
 import com.powsybl.openrao.raoapi.parameters.ObjectiveFunctionParameters;
 import com.powsybl.openrao.raoapi.parameters.RaoParameters;
 import com.powsybl.openrao.raoapi.parameters.extensions.OpenRaoSearchTreeParameters;
+import com.powsybl.openrao.raoapi.parameters.extensions.SearchTreeRaoRangeActionsOptimizationParameters.RangeAutomatonsSimulation;
 import com.powsybl.openrao.searchtreerao.commons.ToolProvider;
 import com.powsybl.openrao.searchtreerao.result.api.FlowResult;
 import com.powsybl.openrao.searchtreerao.result.api.PrePerimeterResult;
@@ -611,6 +612,66 @@ class AutomatonSimulatorTest {
         assertEquals(-3.1, shiftResult.rangeActionsWithSetpoint().get(ara2), DOUBLE_TOLERANCE);
     }
 
+    private AutomatonSimulator createLinearizedShiftAutomatonSimulator() {
+        RaoParameters raoParameters = new RaoParameters(ReportNode.NO_OP);
+        raoParameters.addExtension(OpenRaoSearchTreeParameters.class, new OpenRaoSearchTreeParameters(ReportNode.NO_OP));
+        OpenRaoSearchTreeParameters searchTreeParameters = raoParameters.getExtension(OpenRaoSearchTreeParameters.class);
+        raoParameters.getObjectiveFunctionParameters().setType(ObjectiveFunctionParameters.ObjectiveFunctionType.MAX_MIN_RELATIVE_MARGIN);
+        searchTreeParameters.getLoadFlowAndSensitivityParameters().setSensitivityProvider("OpenLoadFlow");
+        searchTreeParameters.getRangeActionsOptimizationParameters().setRangeAutomatonsSimulation(RangeAutomatonsSimulation.LINEARIZED_SHIFT);
+        ToolProvider toolProvider = Mockito.mock(ToolProvider.class);
+        when(toolProvider.getLoopFlowCnecs(any())).thenReturn(Collections.emptySet());
+        return new AutomatonSimulator(crac, raoParameters, toolProvider, null, mockedPrePerimeterResult, null, 0, ReportNode.NO_OP);
+    }
+
+    private FlowCnec mockCnecAboveUpperBound(double flow, double sensitivityPerRangeAction) {
+        FlowCnec cnec = mock(FlowCnec.class);
+        when(cnec.getMonitoredSides()).thenReturn(Set.of(TwoSides.TWO));
+        when(cnec.getUpperBound(TwoSides.TWO, Unit.AMPERE)).thenReturn(Optional.of(1000.));
+        when(mockedPrePerimeterResult.getFlow(cnec, TwoSides.TWO, Unit.AMPERE)).thenReturn(flow);
+        when(mockedPrePerimeterResult.getSensitivityValue(cnec, TwoSides.TWO, ara1, Unit.AMPERE)).thenReturn(sensitivityPerRangeAction);
+        when(mockedPrePerimeterResult.getSensitivityValue(cnec, TwoSides.TWO, ara2, Unit.AMPERE)).thenReturn(sensitivityPerRangeAction);
+        return cnec;
+    }
+
+    @Test
+    void testShiftRangeActionsUntilFlowCnecsSecureWithLinearizedShift() {
+        AutomatonSimulator linearizedShiftAutomatonSimulator = createLinearizedShiftAutomatonSimulator();
+        // the flows exceed the threshold of 1000 A by 100 A and 300 A, with a total sensitivity of 100 A per degree
+        FlowCnec cnecA = mockCnecAboveUpperBound(1100., 50.);
+        FlowCnec cnecB = mockCnecAboveUpperBound(1300., 50.);
+        // both CNECs are secure after the linearized shift
+        when(mockedPrePerimeterResult.getMargin(cnecA, TwoSides.TWO, Unit.AMPERE)).thenReturn(-100., 0.);
+        when(mockedPrePerimeterResult.getMargin(cnecB, TwoSides.TWO, Unit.AMPERE)).thenReturn(-300., 0.);
+        AutomatonSimulator.TopoAutomatonSimulationResult topoAutomatonSimulationResult = new AutomatonSimulator.TopoAutomatonSimulationResult(mockedPrePerimeterResult, Set.of());
+
+        AutomatonSimulator.RangeAutomatonSimulationResult shiftResult = linearizedShiftAutomatonSimulator.shiftRangeActionsUntilFlowCnecsSecure(
+            List.of(ara1, ara2),
+            Set.of(cnecA, cnecB),
+            network,
+            mockedPreAutoPerimeterSensitivityAnalysis,
+            mockedPrePerimeterResult,
+            autoState,
+            topoAutomatonSimulationResult,
+            ReportNode.NO_OP
+        );
+        // the set-point is shifted by -3 degrees in one shot, from 0.1 to the tap of -3.1 degrees
+        assertEquals(-3.1, shiftResult.rangeActionsWithSetpoint().get(ara1), DOUBLE_TOLERANCE);
+        assertEquals(-3.1, shiftResult.rangeActionsWithSetpoint().get(ara2), DOUBLE_TOLERANCE);
+        Mockito.verify(mockedPreAutoPerimeterSensitivityAnalysis, Mockito.times(1)).runBasedOnInitialResults(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void testComputeLinearizedSetpointIgnoresExcludedCnecs() {
+        AutomatonSimulator linearizedShiftAutomatonSimulator = createLinearizedShiftAutomatonSimulator();
+        FlowCnec cnecA = mockCnecAboveUpperBound(1100., 50.);
+        FlowCnec cnecB = mockCnecAboveUpperBound(1300., 50.);
+
+        assertEquals(-3.1, linearizedShiftAutomatonSimulator.computeLinearizedSetpoint(List.of(ara1, ara2), Set.of(cnecA, cnecB), Set.of(), mockedPrePerimeterResult, 0.1, -3.1, 3.1), DOUBLE_TOLERANCE);
+        // without the most limiting CNEC, a shift of -1 degree is enough
+        assertEquals(-1.1, linearizedShiftAutomatonSimulator.computeLinearizedSetpoint(List.of(ara1, ara2), Set.of(cnecA, cnecB), Set.of(Pair.of(cnecB, TwoSides.TWO)), mockedPrePerimeterResult, 0.1, -3.1, 3.1), DOUBLE_TOLERANCE);
+    }
+
     @Test
     void testSimulateRangeAutomatons() {
         State curativeState = mock(State.class);
@@ -21,6 +21,7 @@ import com.powsybl.openrao.commons.logs.RaoBusinessLogs;
 import com.powsybl.openrao.data.crac.api.Crac;
 import com.powsybl.openrao.data.crac.api.CracFactory;
 import com.powsybl.openrao.data.crac.api.InstantKind;
+import com.powsybl.openrao.data.crac.api.State;
 import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
 import com.powsybl.openrao.data.crac.api.networkaction.ActionType;
 import com.powsybl.openrao.data.crac.api.networkaction.NetworkAction;
@@ -43,6 +44,7 @@ import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
@@ -94,6 +96,28 @@ class CastorFullOptimizationTest {
         assertEquals(OptimizationStepsExecuted.FIRST_PREVENTIVE_ONLY, raoResult.getExecutionDetails());
     }
 
+    @Test
+    void smallRaoWithout2PWithLeavesOptimizedInAdvance() throws IOException {
+        // Same RAO as above with several leaves in parallel: the leaves of the second depth are optimized in advance
+        // while the last leaves of the first depth are running, and the result must not change
+        setup("small-network-2P.uct", "small-crac-2P.json");
+        RaoParameters raoParameters = JsonRaoParameters.read(getClass().getResourceAsStream("/parameters/RaoParameters_2P_v2.json"), ReportNode.NO_OP);
+        RaoResult sequentialRaoResult = new CastorFullOptimization(raoInput, raoParameters, null, ReportNode.NO_OP).run().join();
+        Crac sequentialCrac = crac;
+
+        setup("small-network-2P.uct", "small-crac-2P.json");
+        raoParameters.getExtension(OpenRaoSearchTreeParameters.class).getMultithreadingParameters().setAvailableCPUs(4);
+        RaoResult parallelRaoResult = new CastorFullOptimization(raoInput, raoParameters, null, ReportNode.NO_OP).run().join();
+
+        assertEquals(sequentialRaoResult.getFunctionalCost(sequentialCrac.getPreventiveInstant()), parallelRaoResult.getFunctionalCost(crac.getPreventiveInstant()), DOUBLE_TOLERANCE);
+        assertEquals(sequentialRaoResult.getFunctionalCost(sequentialCrac.getLastInstant()), parallelRaoResult.getFunctionalCost(crac.getLastInstant()), DOUBLE_TOLERANCE);
+        assertEquals(
+            sequentialRaoResult.getActivatedNetworkActionsDuringState(sequentialCrac.getPreventiveState()).stream().map(NetworkAction::getId).collect(Collectors.toSet()),
+            parallelRaoResult.getActivatedNetworkActionsDuringState(crac.getPreventiveState()).stream().map(NetworkAction::getId).collect(Collectors.toSet())
+        );
+        assertEquals(Set.of(crac.getNetworkAction("close_de3_de4"), crac.getNetworkAction("close_fr1_fr5")), parallelRaoResult.getActivatedNetworkActionsDuringState(crac.getPreventiveState()));
+    }
+
     @Test
     void smallRaoWith2P() throws IOException {
         // Same RAO as before but activating 2P => results should be better
@@ -577,4 +601,40 @@ class CastorFullOptimizationTest {
         assertEquals(1, raoResult.getActivatedRangeActionsDuringState(crac.getState("co1_be1_fr5", crac.getInstant(InstantKind.CURATIVE))).size());
         assertEquals("CRA_HVDC", raoResult.getActivatedRangeActionsDuringState(crac.getState("co1_be1_fr5", crac.getInstant(InstantKind.CURATIVE))).iterator().next().getId());
     }
+
+    private RaoResult runCostlyAutoAndCurativeRao(int availableCpus) throws IOException {
+        setup("2Nodes8ParallelLines5LinesClosed.uct", "small-crac-costly-auto-and-curative-4-scenarios.json");
+        RaoParameters raoParameters = JsonRaoParameters.read(getClass().getResourceAsStream("/parameters/RaoParameters_dc_minObjective.json"), ReportNode.NO_OP);
+        raoParameters.getExtension(OpenRaoSearchTreeParameters.class).getMultithreadingParameters().setAvailableCPUs(availableCpus);
+        return new CastorFullOptimization(raoInput, raoParameters, null, ReportNode.NO_OP).run().join();
+    }
+
+    @Test
+    void parallelAutomatonPhaseGivesSameResultsAsSequentialRun() throws IOException {
+        // four contingency scenarios with automaton and curative states, optimized one at a time and then in parallel
+        RaoResult sequentialRaoResult = runCostlyAutoAndCurativeRao(1);
+        Crac sequentialCrac = crac;
+        RaoResult parallelRaoResult = runCostlyAutoAndCurativeRao(4);
+
+        for (String instantId : List.of("auto", "curative")) {
+            assertEquals(sequentialRaoResult.getCost(sequentialCrac.getInstant(instantId)), parallelRaoResult.getCost(crac.getInstant(instantId)), DOUBLE_TOLERANCE);
+            for (Contingency contingency : crac.getContingencies()) {
+                State sequentialState = sequentialCrac.getState(contingency.getId(), sequentialCrac.getInstant(instantId));
+                State parallelState = crac.getState(contingency.getId(), crac.getInstant(instantId));
+                assertEquals(
+                    sequentialRaoResult.getActivatedNetworkActionsDuringState(sequentialState).stream().map(NetworkAction::getId).collect(Collectors.toSet()),
+                    parallelRaoResult.getActivatedNetworkActionsDuringState(parallelState).stream().map(NetworkAction::getId).collect(Collectors.toSet())
+                );
+            }
+            List<FlowCnec> flowCnecs = crac.getFlowCnecs().stream().filter(flowCnec -> flowCnec.getState().getInstant().getId().equals(instantId)).toList();
+            for (FlowCnec flowCnec : flowCnecs) {
+                FlowCnec sequentialFlowCnec = sequentialCrac.getFlowCnec(flowCnec.getId());
+                assertEquals(
+                    sequentialRaoResult.getFlow(sequentialCrac.getInstant(instantId), sequentialFlowCnec, TwoSides.ONE, Unit.MEGAWATT),
+                    parallelRaoResult.getFlow(crac.getInstant(instantId), flowCnec, TwoSides.ONE, Unit.MEGAWATT),
+                    DOUBLE_TOLERANCE
+                );
+            }
+        }
+    }
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.searchtreerao.castor.algorithm;
+
+import com.powsybl.openrao.searchtreerao.castor.algorithm.RangeAutomatonSetpointSolver.LinearizedFlow;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class RangeAutomatonSetpointSolverTest {
+    private static final double DOUBLE_TOLERANCE = 1e-3;
+
+    @Test
+    void testNoShiftIfAllCnecsAreSecure() {
+        List<LinearizedFlow> linearizedFlows = List.of(new LinearizedFlow(50., 10., -100., 100.));
+        assertEquals(0., RangeAutomatonSetpointSolver.computeSetpointShift(linearizedFlows, -5., 5.), DOUBLE_TOLERANCE);
+    }
+
+    @Test
+    void testSmallestShiftSecuringAllCnecs() {
+        // first CNEC requires shift <= -2, second one requires shift >= -4
+        List<LinearizedFlow> linearizedFlows = List.of(
+            new LinearizedFlow(120., 10., -100., 100.),
+            new LinearizedFlow(-60., 20., -140., Double.POSITIVE_INFINITY)
+        );
+        assertEquals(-2., RangeAutomatonSetpointSolver.computeSetpointShift(linearizedFlows, -5., 5.), DOUBLE_TOLERANCE);
+    }
+
+    @Test
+    void testShiftIsLimitedByRange() {
+        List<LinearizedFlow> linearizedFlows = List.of(new LinearizedFlow(200., -10., -100., 100.));
+        assertEquals(5., RangeAutomatonSetpointSolver.computeSetpointShift(linearizedFlows, -5., 5.), DOUBLE_TOLERANCE);
+    }
+
+    @Test
+    void testMinMarginIsMaximizedIfCnecsCannotAllBeSecured() {
+        // first CNEC requires shift <= -5, second one requires shift >= 5: best compromise is no shift
+        List<LinearizedFlow> linearizedFlows = List.of(
+            new LinearizedFlow(150., 10., -100., 100.),
+            new LinearizedFlow(-150., 10., -100., 100.)
+        );
+        assertEquals(0., RangeAutomatonSetpointSolver.computeSetpointShift(linearizedFlows, -10., 10.), DOUBLE_TOLERANCE);
+
+        // minimum margins are -50 - 10 * shift and -70 + 30 * shift, balanced for shift = 0.5
+        linearizedFlows = List.of(
+            new LinearizedFlow(150., 10., -100., 100.),
+            new LinearizedFlow(-170., 30., -100., 100.)
+        );
+        assertEquals(0.5, RangeAutomatonSetpointSolver.computeSetpointShift(linearizedFlows, -10., 10.), DOUBLE_TOLERANCE);
+    }
+
+    @Test
+    void testCnecsWithNullSensitivityAreIgnored() {
+        List<LinearizedFlow> linearizedFlows = List.of(
+            new LinearizedFlow(300., 0., -100., 100.),
+            new LinearizedFlow(150., 10., -100., 100.)
+        );
+        assertEquals(-5., RangeAutomatonSetpointSolver.computeSetpointShift(linearizedFlows, -10., 10.), DOUBLE_TOLERANCE);
+    }
+}
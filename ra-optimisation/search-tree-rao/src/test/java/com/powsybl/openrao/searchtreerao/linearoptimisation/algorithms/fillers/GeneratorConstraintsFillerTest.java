@@ -35,6 +35,7 @@ import com.powsybl.openrao.searchtreerao.linearoptimisation.algorithms.linearpro
 import com.powsybl.openrao.searchtreerao.linearoptimisation.algorithms.linearproblem.OpenRaoMPConstraint;
 import com.powsybl.openrao.searchtreerao.linearoptimisation.algorithms.linearproblem.OpenRaoMPVariable;
 import com.powsybl.openrao.searchtreerao.result.api.FlowResult;
+import com.powsybl.openrao.searchtreerao.result.api.LinearProblemStatus;
 import com.powsybl.openrao.searchtreerao.result.api.RangeActionSetpointResult;
 import com.powsybl.openrao.searchtreerao.result.api.SensitivityResult;
 import com.powsybl.openrao.searchtreerao.result.impl.RangeActionSetpointResultImpl;
@@ -54,7 +55,9 @@ import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
@@ -69,10 +72,12 @@ class GeneratorConstraintsFillerTest {
 
     private final LinearProblemBuilder linearProblemBuilder = new LinearProblemBuilder().withSolver(SearchTreeRaoRangeActionsOptimizationParameters.Solver.SCIP);
     private LinearProblem linearProblem;
+    private GeneratorConstraintsFiller generatorConstraintsFiller;
     private static final double DOUBLE_EPSILON = 1e-3;
     TimeCoupledRaoInput input;
     RaoParameters parameters;
     List<OffsetDateTime> hourlyTimestamps;
+    Map<String, Double> initialGeneratorPowers = Map.of();
 
     @BeforeEach
     void setUp() {
@@ -89,33 +94,34 @@ class GeneratorConstraintsFillerTest {
     }
 
     private void createCoreProblemFillers() {
-        for (OffsetDateTime timestamp : input.getTimestampsToRun()) {
-            RaoInput raoInput = input.getRaoInputs().getData(timestamp).orElseThrow();
-            Crac crac = raoInput.getCrac();
-            OptimizationPerimeter optimizationPerimeter = new PreventiveOptimizationPerimeter(
-                crac.getPreventiveState(),
-                crac.getFlowCnecs(),
-                Set.of(),
-                crac.getNetworkActions(crac.getPreventiveState()),
-                crac.getRangeActions(crac.getPreventiveState())
-            );
+        input.getTimestampsToRun().forEach(timestamp -> linearProblemBuilder.withProblemFiller(createCoreProblemFiller(timestamp)));
+    }
 
-            RangeActionsOptimizationParameters rangeActionParameters = parameters.getRangeActionsOptimizationParameters();
-            Map<RangeAction<?>, Double> map = new HashMap<>();
-            crac.getRangeActions(crac.getPreventiveState()).forEach(action -> map.put(action, 5000.0));
-            RangeActionSetpointResult rangeActionSetpointResult = new RangeActionSetpointResultImpl(map);
-            CostCoreProblemFiller coreProblemFiller = new CostCoreProblemFiller(
-                optimizationPerimeter,
-                rangeActionSetpointResult,
-                rangeActionParameters,
-                null,
-                Unit.MEGAWATT,
-                false,
-                SearchTreeRaoRangeActionsOptimizationParameters.PstModel.APPROXIMATED_INTEGERS,
-                timestamp
-            );
-            linearProblemBuilder.withProblemFiller(coreProblemFiller);
-        }
+    private CostCoreProblemFiller createCoreProblemFiller(OffsetDateTime timestamp) {
+        RaoInput raoInput = input.getRaoInputs().getData(timestamp).orElseThrow();
+        Crac crac = raoInput.getCrac();
+        OptimizationPerimeter optimizationPerimeter = new PreventiveOptimizationPerimeter(
+            crac.getPreventiveState(),
+            crac.getFlowCnecs(),
+            Set.of(),
+            crac.getNetworkActions(crac.getPreventiveState()),
+            crac.getRangeActions(crac.getPreventiveState())
+        );
+
+        RangeActionsOptimizationParameters rangeActionParameters = parameters.getRangeActionsOptimizationParameters();
+        Map<RangeAction<?>, Double> map = new HashMap<>();
+        crac.getRangeActions(crac.getPreventiveState()).forEach(action -> map.put(action, 5000.0));
+        RangeActionSetpointResult rangeActionSetpointResult = new RangeActionSetpointResultImpl(map);
+        return new CostCoreProblemFiller(
+            optimizationPerimeter,
+            rangeActionSetpointResult,
+            rangeActionParameters,
+            null,
+            Unit.MEGAWATT,
+            false,
+            SearchTreeRaoRangeActionsOptimizationParameters.PstModel.APPROXIMATED_INTEGERS,
+            timestamp
+        );
     }
 
     private void createGeneratorConstraintFiller() {
@@ -129,21 +135,26 @@ class GeneratorConstraintsFillerTest {
                 .collect(Collectors.toSet())
             );
         Set<GeneratorConstraints> generatorConstraints = input.getTimeCoupledConstraints().getGeneratorConstraints();
-        GeneratorConstraintsFiller generatorConstraintsFiller = new GeneratorConstraintsFiller(
+        generatorConstraintsFiller = new GeneratorConstraintsFiller(
             networks,
             preventiveStates,
             injectionRangeActions,
-            generatorConstraints);
+            generatorConstraints,
+            initialGeneratorPowers);
         linearProblemBuilder.withProblemFiller(generatorConstraintsFiller);
     }
 
     private void buildAndFillLinearProblem() {
+        linearProblem = linearProblemBuilder.build();
+        fillLinearProblem(linearProblem);
+    }
+
+    private static void fillLinearProblem(LinearProblem linearProblemToFill) {
         FlowResult flowResult = Mockito.mock(FlowResult.class);
         when(flowResult.getFlow(any(), any(), any())).thenReturn(5000.0);
         SensitivityResult sensitivityResult = Mockito.mock(SensitivityResult.class);
         when(sensitivityResult.getSensitivityStatus(any())).thenReturn(ComputationStatus.DEFAULT);
-        linearProblem = linearProblemBuilder.build();
-        linearProblem.fill(flowResult, sensitivityResult);
+        linearProblemToFill.fill(flowResult, sensitivityResult);
     }
 
     private void setUpLinearProblem() {
@@ -238,6 +249,7 @@ class GeneratorConstraintsFillerTest {
 
         assertEquals(20, linearProblem.numVariables());
         assertEquals(15, linearProblem.numConstraints());
+        assertFalse(generatorConstraintsFiller.couplesTimestamps());
     }
 
     @Test
@@ -279,6 +291,7 @@ class GeneratorConstraintsFillerTest {
 
         assertEquals(51, linearProblem.numVariables());
         assertEquals(59, linearProblem.numConstraints());
+        assertTrue(generatorConstraintsFiller.couplesTimestamps());
 
         checkInjectionKey();
         checkGeneratorStateVariableExists(LinearProblem.GeneratorState.ON);
@@ -334,6 +347,36 @@ class GeneratorConstraintsFillerTest {
         checkOnOffAndOffOnTransitionPowerVariation(generatorConstraints);
     }
 
+    @Test
+    void testInitialGeneratorPower() {
+        TimeCoupledConstraints timeCoupledConstraints = new TimeCoupledConstraints();
+        GeneratorConstraints generatorConstraints = GeneratorConstraints.create().withGeneratorId("BBE1AA1 _generator").withUpwardPowerGradient(1500.0).withDownwardPowerGradient(-1000.0).build();
+        timeCoupledConstraints.addGeneratorConstraints(generatorConstraints);
+        initialGeneratorPowers = Map.of("BBE1AA1 _generator", 500.0);
+        setUpLinearProblemWithTimeCoupledConstraints(timeCoupledConstraints, hourlyTimestamps);
+
+        // Same as testPowerGradients with two more constraints linking the power at first timestamp to the initial power
+        assertEquals(51, linearProblem.numVariables());
+        assertEquals(61, linearProblem.numConstraints());
+
+        // generator is initially ON
+        OffsetDateTime firstTimestamp = hourlyTimestamps.getFirst();
+        OffsetDateTime previousTimestamp = firstTimestamp.minusHours(1);
+        OpenRaoMPVariable onVariable = linearProblem.getGeneratorStateVariable("BBE1AA1 _generator", firstTimestamp, LinearProblem.GeneratorState.ON);
+        OpenRaoMPVariable offVariable = linearProblem.getGeneratorStateVariable("BBE1AA1 _generator", firstTimestamp, LinearProblem.GeneratorState.OFF);
+
+        OpenRaoMPConstraint powerTransitionConstraintInf = linearProblem.getGeneratorPowerTransitionConstraint("BBE1AA1 _generator", previousTimestamp, LinearProblem.AbsExtension.POSITIVE);
+        assertEquals(500.0, powerTransitionConstraintInf.lb());
+        assertEquals(1.0, powerTransitionConstraintInf.getCoefficient(linearProblem.getGeneratorPowerVariable("BBE1AA1 _generator", firstTimestamp)));
+        assertEquals(1000.0, powerTransitionConstraintInf.getCoefficient(onVariable));
+        assertEquals(1100.0, powerTransitionConstraintInf.getCoefficient(offVariable));
+
+        OpenRaoMPConstraint powerTransitionConstraintSup = linearProblem.getGeneratorPowerTransitionConstraint("BBE1AA1 _generator", previousTimestamp, LinearProblem.AbsExtension.NEGATIVE);
+        assertEquals(500.0, powerTransitionConstraintSup.ub());
+        assertEquals(-1500.0, powerTransitionConstraintSup.getCoefficient(onVariable));
+        assertEquals(100 - OFF_POWER_THRESHOLD, powerTransitionConstraintSup.getCoefficient(offVariable), DOUBLE_EPSILON);
+    }
+
     @Test
     void testShorterTimeGaps() {
         TimeCoupledConstraints timeCoupledConstraints = new TimeCoupledConstraints();
@@ -880,48 +923,29 @@ class GeneratorConstraintsFillerTest {
         timeCoupledConstraints.addGeneratorConstraints(generatorConstraints);
         setUpLinearProblemWithTimeCoupledConstraints(timeCoupledConstraints, hourlyTimestamps);
 
+        // The generator is initially OFF and cannot be started up: it remains OFF and the compact formulation is used.
+
         // For each timestamp:
 
-        // - VARIABLES (51):
+        // - VARIABLES (25):
         //   - flow
         //   - redispatching set-point
         //   - upward set-point variation
         //   - downward set-point variation
         //   - generator power
-        //   - ON state
-        //   - OFF state
-        //   - ON -> ON transition (except for last timestamp)
-        //   - ON -> OFF transition (except for last timestamp)
-        //   - OFF -> OFF transition (except for last timestamp)
-        //   - OFF -> ON transition (except for last timestamp)
 
-        // - CONSTRAINTS (71):
+        // - CONSTRAINTS (20):
         //   - flow
         //   - set-point variation
         //   - network balancing
         //   - generator power to redispatching
-        //   - ON / OFF power (lower bound)
-        //   - ON / OFF power (upper bound)
-        //   - only one state
-        //   - state from ON (except for last timestamp)
-        //   - state from OFF (except for last timestamp)
-        //   - state to ON (except for last timestamp)
-        //   - state to OFF (except for last timestamp)
-        //   - power transition (lower bound; except for last timestamp)
-        //   - power transition (upper bound; except for last timestamp)
-        //   - lag time constraint
-        //   - start up prohibited constraint
-        //   - start up prohibited first timestamp constraint
 
-        assertEquals(51, linearProblem.numVariables());
-        assertEquals(71, linearProblem.numConstraints());
+        assertEquals(25, linearProblem.numVariables());
+        assertEquals(20, linearProblem.numConstraints());
+        assertFalse(generatorConstraintsFiller.couplesTimestamps());
 
         checkInjectionKey();
-        checkUpwardGradient();
-        checkDownwardGradient();
-        checkGeneratorStateVariableExists(LinearProblem.GeneratorState.ON);
-        checkGeneratorStateVariableExists(LinearProblem.GeneratorState.OFF);
-        checkOnOffAndOffOnTransitionPowerVariation(generatorConstraints);
+        checkGeneratorRemainsOff();
     }
 
     @Test
@@ -931,49 +955,146 @@ class GeneratorConstraintsFillerTest {
         timeCoupledConstraints.addGeneratorConstraints(generatorConstraints);
         setUpLinearProblemWithTimeCoupledConstraints(timeCoupledConstraints, hourlyTimestamps);
 
+        // The generator is initially OFF and cannot be started up: it remains OFF and the compact formulation is used.
+
         // For each timestamp:
 
-        // - VARIABLES (51):
+        // - VARIABLES (25):
         //   - flow
         //   - redispatching set-point
         //   - upward set-point variation
         //   - downward set-point variation
         //   - generator power
-        //   - ON state
-        //   - OFF state
-        //   - ON -> ON transition (except for last timestamp)
-        //   - ON -> OFF transition (except for last timestamp)
-        //   - OFF -> OFF transition (except for last timestamp)
-        //   - OFF -> ON transition (except for last timestamp)
 
-        // - CONSTRAINTS (75):
+        // - CONSTRAINTS (20):
+        //   - flow
+        //   - set-point variation
+        //   - network balancing
+        //   - generator power to redispatching
+
+        assertEquals(25, linearProblem.numVariables());
+        assertEquals(20, linearProblem.numConstraints());
+        assertFalse(generatorConstraintsFiller.couplesTimestamps());
+
+        checkInjectionKey();
+        checkGeneratorRemainsOff();
+    }
+
+    @Test
+    void testTimestampFillersOfAGeneratorRemainingOff() {
+        TimeCoupledConstraints timeCoupledConstraints = new TimeCoupledConstraints();
+        GeneratorConstraints generatorConstraints = GeneratorConstraints.create().withGeneratorId("BBE1AA1 _generator").withUpwardPowerGradient(1500.0).withStartUpAllowed(false).build();
+        timeCoupledConstraints.addGeneratorConstraints(generatorConstraints);
+        setUpLinearProblemWithTimeCoupledConstraints(timeCoupledConstraints, hourlyTimestamps);
+        assertFalse(generatorConstraintsFiller.couplesTimestamps());
+
+        // The timestamps are not coupled, so each timestamp gets its own problem, which must still keep the generator OFF
+        for (OffsetDateTime timestamp : hourlyTimestamps) {
+            LinearProblem timestampLinearProblem = new LinearProblemBuilder().withSolver(SearchTreeRaoRangeActionsOptimizationParameters.Solver.SCIP)
+                .withProblemFiller(createCoreProblemFiller(timestamp))
+                .withProblemFiller(generatorConstraintsFiller.getTimestampFiller(timestamp))
+                .build();
+            fillLinearProblem(timestampLinearProblem);
+
+            // - VARIABLES (5): flow, redispatching set-point, upward and downward set-point variations, generator power
+            // - CONSTRAINTS (4): flow, set-point variation, network balancing, generator power to redispatching
+            assertEquals(5, timestampLinearProblem.numVariables());
+            assertEquals(4, timestampLinearProblem.numConstraints());
+
+            OpenRaoMPVariable powerVariable = timestampLinearProblem.getGeneratorPowerVariable("BBE1AA1 _generator", timestamp);
+            assertEquals(0.0, powerVariable.lb(), DOUBLE_EPSILON);
+            assertEquals(OFF_POWER_THRESHOLD, powerVariable.ub(), DOUBLE_EPSILON);
+
+            assertEquals(LinearProblemStatus.OPTIMAL, timestampLinearProblem.solve());
+            Crac crac = input.getRaoInputs().getData(timestamp).orElseThrow().getCrac();
+            double setPoint = timestampLinearProblem.getRangeActionSetpointVariable(crac.getInjectionRangeAction("Redispatching BE-FR"), crac.getPreventiveState()).solutionValue();
+            assertTrue(setPoint >= -DOUBLE_EPSILON && setPoint <= OFF_POWER_THRESHOLD + DOUBLE_EPSILON);
+        }
+    }
+
+    @Test
+    void testDecomposedProblemsHaveTheSameObjectiveAsTheGlobalProblem() {
+        TimeCoupledConstraints timeCoupledConstraints = new TimeCoupledConstraints();
+        GeneratorConstraints generatorConstraints = GeneratorConstraints.create().withGeneratorId("BBE1AA1 _generator").withDownwardPowerGradient(-1000.0).withLeadTime(2.0).withStartUpAllowed(false).build();
+        timeCoupledConstraints.addGeneratorConstraints(generatorConstraints);
+        setUpLinearProblemWithTimeCoupledConstraints(timeCoupledConstraints, hourlyTimestamps);
+        assertFalse(generatorConstraintsFiller.couplesTimestamps());
+
+        // global problem, as solved when the timestamps are coupled
+        assertEquals(LinearProblemStatus.OPTIMAL, linearProblem.solve());
+        double globalObjective = linearProblem.getObjective().value();
+
+        // one problem per timestamp, as solved when the global problem is decomposed
+        double decomposedObjective = 0.0;
+        for (OffsetDateTime timestamp : hourlyTimestamps) {
+            LinearProblem timestampLinearProblem = new LinearProblemBuilder().withSolver(SearchTreeRaoRangeActionsOptimizationParameters.Solver.SCIP)
+                .withProblemFiller(createCoreProblemFiller(timestamp))
+                .withProblemFiller(generatorConstraintsFiller.getTimestampFiller(timestamp))
+                .build();
+            fillLinearProblem(timestampLinearProblem);
+            assertEquals(LinearProblemStatus.OPTIMAL, timestampLinearProblem.solve());
+            decomposedObjective += timestampLinearProblem.getObjective().value();
+        }
+
+        // the redispatching moves the set-point from 5000 MW down to the power of the OFF generator at each timestamp
+        assertTrue(globalObjective > 0.0);
+        assertEquals(globalObjective, decomposedObjective, DOUBLE_EPSILON * Math.abs(globalObjective));
+    }
+
+    @Test
+    void testPowerGradientsAndShutDownProhibitedWithGeneratorInitiallyOn() {
+        TimeCoupledConstraints timeCoupledConstraints = new TimeCoupledConstraints();
+        GeneratorConstraints generatorConstraints = GeneratorConstraints.create().withGeneratorId("BBE1AA1 _generator").withUpwardPowerGradient(1500.0).withDownwardPowerGradient(-1000.0).withLagTime(1.2).withShutDownAllowed(false).build();
+        timeCoupledConstraints.addGeneratorConstraints(generatorConstraints);
+        initialGeneratorPowers = Map.of("BBE1AA1 _generator", 500.0);
+        setUpLinearProblemWithTimeCoupledConstraints(timeCoupledConstraints, hourlyTimestamps);
+
+        // The generator is initially ON and cannot be shut down: it remains ON and the compact formulation is used.
+
+        // For each timestamp:
+
+        // - VARIABLES (25):
+        //   - flow
+        //   - redispatching set-point
+        //   - upward set-point variation
+        //   - downward set-point variation
+        //   - generator power
+
+        // - CONSTRAINTS (30):
         //   - flow
         //   - set-point variation
         //   - network balancing
         //   - generator power to redispatching
-        //   - ON / OFF power (lower bound)
-        //   - ON / OFF power (upper bound)
-        //   - only one state
-        //   - state from ON (except for last timestamp)
-        //   - state from OFF (except for last timestamp)
-        //   - state to ON (except for last timestamp)
-        //   - state to OFF (except for last timestamp)
         //   - power transition (lower bound; except for last timestamp)
         //   - power transition (upper bound; except for last timestamp)
-        //   - lag time constraint
-        //   - shut down prohibited constraint
-        //   - start up prohibited constraint
-        //   - start up prohibited first timestamp constraint
+        //   + 2 constraints linking the power at first timestamp to the initial power
 
-        assertEquals(51, linearProblem.numVariables());
-        assertEquals(75, linearProblem.numConstraints());
+        assertEquals(25, linearProblem.numVariables());
+        assertEquals(30, linearProblem.numConstraints());
+        assertTrue(generatorConstraintsFiller.couplesTimestamps());
 
         checkInjectionKey();
-        checkUpwardGradient();
-        checkDownwardGradient();
-        checkGeneratorStateVariableExists(LinearProblem.GeneratorState.ON);
-        checkGeneratorStateVariableExists(LinearProblem.GeneratorState.OFF);
-        checkOnOffAndOffOnTransitionPowerVariation(generatorConstraints);
+        iterateOnHourlyTimestamps(timestamp -> {
+            OpenRaoMPVariable powerVariable = linearProblem.getGeneratorPowerVariable("BBE1AA1 _generator", timestamp);
+            assertEquals(100.0, powerVariable.lb(), DOUBLE_EPSILON);
+            assertEquals(9000.0, powerVariable.ub(), DOUBLE_EPSILON);
+        }, 4);
+        iterateOnHourlyTimestamps(timestamp -> {
+            assertEquals(-1000.0, linearProblem.getGeneratorPowerTransitionConstraint("BBE1AA1 _generator", timestamp, LinearProblem.AbsExtension.POSITIVE).lb(), DOUBLE_EPSILON);
+            assertEquals(1500.0, linearProblem.getGeneratorPowerTransitionConstraint("BBE1AA1 _generator", timestamp, LinearProblem.AbsExtension.NEGATIVE).ub(), DOUBLE_EPSILON);
+        }, 3);
+
+        OffsetDateTime previousTimestamp = hourlyTimestamps.getFirst().minusHours(1);
+        assertEquals(-500.0, linearProblem.getGeneratorPowerTransitionConstraint("BBE1AA1 _generator", previousTimestamp, LinearProblem.AbsExtension.POSITIVE).lb(), DOUBLE_EPSILON);
+        assertEquals(2000.0, linearProblem.getGeneratorPowerTransitionConstraint("BBE1AA1 _generator", previousTimestamp, LinearProblem.AbsExtension.NEGATIVE).ub(), DOUBLE_EPSILON);
+    }
+
+    private void checkGeneratorRemainsOff() {
+        iterateOnHourlyTimestamps(timestamp -> {
+            OpenRaoMPVariable powerVariable = linearProblem.getGeneratorPowerVariable("BBE1AA1 _generator", timestamp);
+            assertEquals(0.0, powerVariable.lb(), DOUBLE_EPSILON);
+            assertEquals(OFF_POWER_THRESHOLD, powerVariable.ub(), DOUBLE_EPSILON);
+        }, 4);
     }
 
     private void checkInjectionKey() {
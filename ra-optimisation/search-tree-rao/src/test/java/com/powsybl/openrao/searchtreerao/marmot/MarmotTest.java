@@ -12,10 +12,15 @@ import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.read.ListAppender;
 import com.powsybl.commons.report.ReportNode;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.TwoSides;
 import com.powsybl.openrao.commons.TemporalData;
 import com.powsybl.openrao.commons.TemporalDataImpl;
+import com.powsybl.openrao.commons.Unit;
 import com.powsybl.openrao.commons.logs.TechnicalLogs;
 import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.crac.api.Instant;
+import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
+import com.powsybl.openrao.data.crac.api.rangeaction.RangeAction;
 import com.powsybl.openrao.data.raoresult.api.RaoResult;
 import com.powsybl.openrao.data.raoresult.api.TimeCoupledRaoResult;
 import com.powsybl.openrao.data.timecoupledconstraints.GeneratorConstraints;
@@ -25,8 +30,11 @@ import com.powsybl.openrao.raoapi.RaoInput;
 import com.powsybl.openrao.raoapi.TimeCoupledRaoInput;
 import com.powsybl.openrao.raoapi.json.JsonRaoParameters;
 import com.powsybl.openrao.raoapi.parameters.RaoParameters;
+import com.powsybl.openrao.raoapi.parameters.extensions.MarmotParameters;
 import com.powsybl.openrao.searchtreerao.marmot.results.TimeCoupledRaoResultImpl;
 import com.powsybl.openrao.searchtreerao.marmot.results.extensions.PreTimeCouplingOverloadedCnecs;
+import com.powsybl.openrao.searchtreerao.result.api.PrePerimeterResult;
+import com.powsybl.openrao.sensitivityanalysis.AppliedRemedialActions;
 import org.junit.jupiter.api.Test;
 import org.slf4j.LoggerFactory;
 
@@ -35,12 +43,15 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 
+import static com.powsybl.openrao.raoapi.parameters.extensions.LoadFlowAndSensitivityParameters.getSensitivityWithLoadFlowParameters;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -446,6 +457,123 @@ class MarmotTest {
         assertFunctionalCostAndRedispatchingSetPoint(crac10, timeCoupledRaoResult, 125010.0, 2500.0);
     }
 
+    @Test
+    void testTimestampReusingSensitivitiesOfTimestampWithSameTopology() throws Exception {
+        Network network1 = Network.read("/network/4Nodes_1_PST.xiidm", MarmotTest.class.getResourceAsStream("/network/4Nodes_1_PST.xiidm"));
+        Network network2 = Network.read("/network/4Nodes_1_PST.xiidm", MarmotTest.class.getResourceAsStream("/network/4Nodes_1_PST.xiidm"));
+        // only the injections differ between both timestamps
+        network2.getLoad("FFR1AA1 _load").setP0(3000.);
+        network2.getGenerator("FFR3AA1 _generator").setTargetP(3000.);
+        Crac crac1 = Crac.read("/crac/crac-202503251030.json", MarmotTest.class.getResourceAsStream("/crac/crac-202503251030.json"), network1);
+        Crac crac2 = Crac.read("/crac/crac-202503251130.json", MarmotTest.class.getResourceAsStream("/crac/crac-202503251130.json"), network2);
+        OffsetDateTime timestamp1 = crac1.getTimestamp().orElseThrow();
+        OffsetDateTime timestamp2 = crac2.getTimestamp().orElseThrow();
+
+        RaoParameters raoParameters = JsonRaoParameters.read(MarmotTest.class.getResourceAsStream("/parameters/RaoParameters_minCost_megawatt_dc_with_offset.json"), ReportNode.NO_OP);
+        // sensitivity factors can only be shared when the slack distribution does not depend on the injections
+        getSensitivityWithLoadFlowParameters(raoParameters).getLoadFlowParameters().setDistributedSlack(false);
+
+        try (LazyNetwork lazyNetwork1 = new LazyNetwork(network1); LazyNetwork lazyNetwork2 = new LazyNetwork(network2)) {
+            TemporalData<RaoInput> raoInputs = new TemporalDataImpl<>(Map.of(
+                timestamp1, RaoInput.build(lazyNetwork1, crac1).build(),
+                timestamp2, RaoInput.build(lazyNetwork2, crac2).build()
+            ));
+            TemporalData<AppliedRemedialActions> curativeActions = new TemporalDataImpl<>(Map.of(timestamp1, new AppliedRemedialActions(), timestamp2, new AppliedRemedialActions()));
+            TemporalData<RaoParameters> raoParametersPerTimestamp = new TemporalDataImpl<>(Map.of(timestamp1, raoParameters, timestamp2, raoParameters));
+            TemporalData<PrePerimeterResult> initialResults = raoInputs.map(raoInput -> MarmotUtils.runInitialSensitivityAnalysis(raoInput, raoParameters, ReportNode.NO_OP));
+            // the reusing timestamp considers a CNEC which is not considered by the reference timestamp
+            TemporalData<Set<FlowCnec>> consideredCnecs = new TemporalDataImpl<>(Map.of(
+                timestamp1, Set.of(crac1.getFlowCnec("fr1Fr4Preventive")),
+                timestamp2, Set.of(crac2.getFlowCnec("fr1Fr4Preventive"), crac2.getFlowCnec("fr1Fr4Outage"))
+            ));
+
+            TemporalData<TopologySignature> topologySignatures = Marmot.computeTopologySignatures(raoInputs, curativeActions, raoParameters, 1);
+            assertEquals(topologySignatures.getData(timestamp1).orElseThrow(), topologySignatures.getData(timestamp2).orElseThrow());
+
+            PrePerimeterResult sharedResult = Marmot.runAllSensitivityAnalysesBasedOnInitialResult(raoInputs, curativeActions, initialResults, raoParametersPerTimestamp, consideredCnecs, topologySignatures, 1, ReportNode.NO_OP)
+                .getData(timestamp2).orElseThrow();
+            PrePerimeterResult ownResult = Marmot.runAllSensitivityAnalysesBasedOnInitialResult(raoInputs, curativeActions, initialResults, raoParametersPerTimestamp, consideredCnecs, new TemporalDataImpl<>(), 1, ReportNode.NO_OP)
+                .getData(timestamp2).orElseThrow();
+            assertTrue(sharedResult.getSensitivityResult() instanceof ReusedSensitivityResult);
+            assertEquals(ownResult.getSensitivityStatus(), sharedResult.getSensitivityStatus());
+
+            List<RangeAction<?>> rangeActions = List.of(crac2.getRangeAction("PST_FR1_FR3"), crac2.getRangeAction("redispatchingAction"));
+            for (FlowCnec flowCnec : consideredCnecs.getData(timestamp2).orElseThrow()) {
+                for (TwoSides side : flowCnec.getMonitoredSides()) {
+                    assertEquals(ownResult.getFlow(flowCnec, side, Unit.MEGAWATT), sharedResult.getFlow(flowCnec, side, Unit.MEGAWATT), 1e-6);
+                    for (RangeAction<?> rangeAction : rangeActions) {
+                        assertEquals(ownResult.getSensitivityValue(flowCnec, side, rangeAction, Unit.MEGAWATT), sharedResult.getSensitivityValue(flowCnec, side, rangeAction, Unit.MEGAWATT), 1e-6);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testParallelTimestampsGiveSameResultsAsSequentialRun() throws IOException {
+        List<Crac> sequentialCracs = readTenTimestampsCracs();
+        TimeCoupledRaoResult sequentialResult = runTenTimestampsWithoutGeneratorConstraints(sequentialCracs, 1, ReportNode.NO_OP);
+        List<Crac> parallelCracs = readTenTimestampsCracs();
+        ReportNode parallelReportNode = ReportNode.newRootReportNode()
+            .withAllResourceBundlesFromClasspath()
+            .withMessageTemplate("test.rootnode")
+            .build();
+        TimeCoupledRaoResult parallelResult = runTenTimestampsWithoutGeneratorConstraints(parallelCracs, 4, parallelReportNode);
+
+        Instant preventiveInstant = sequentialCracs.getFirst().getPreventiveInstant();
+        assertEquals(sequentialResult.getGlobalFunctionalCost(preventiveInstant), parallelResult.getGlobalFunctionalCost(preventiveInstant));
+        for (int i = 0; i < sequentialCracs.size(); i++) {
+            Crac sequentialCrac = sequentialCracs.get(i);
+            Crac parallelCrac = parallelCracs.get(i);
+            OffsetDateTime timestamp = sequentialCrac.getTimestamp().orElseThrow();
+            assertEquals(sequentialResult.getFunctionalCost(preventiveInstant, timestamp), parallelResult.getFunctionalCost(preventiveInstant, timestamp));
+            assertEquals(
+                sequentialResult.getOptimizedSetPointOnState(sequentialCrac.getPreventiveState(), sequentialCrac.getRangeAction("redispatchingAction")),
+                parallelResult.getOptimizedSetPointOnState(parallelCrac.getPreventiveState(), parallelCrac.getRangeAction("redispatchingAction"))
+            );
+            RaoResult sequentialRaoResult = sequentialResult.getIndividualRaoResult(timestamp);
+            RaoResult parallelRaoResult = parallelResult.getIndividualRaoResult(timestamp);
+            sequentialCrac.getFlowCnecs(sequentialCrac.getPreventiveState()).forEach(flowCnec -> flowCnec.getMonitoredSides().forEach(side -> assertEquals(
+                sequentialRaoResult.getFlow(preventiveInstant, flowCnec, side, Unit.MEGAWATT),
+                parallelRaoResult.getFlow(parallelCrac.getPreventiveInstant(), parallelCrac.getFlowCnec(flowCnec.getId()), side, Unit.MEGAWATT),
+                1e-6
+            )));
+        }
+
+        // the report nodes of the parallel sensitivity analyses are all merged in the report tree
+        Set<String> reportMessages = new HashSet<>();
+        collectReportMessages(parallelReportNode, reportMessages);
+        parallelCracs.forEach(crac -> assertTrue(reportMessages.contains("[MARMOT] Sensitivity analysis for timestamp " + crac.getTimestamp().orElseThrow())));
+    }
+
+    private static List<Crac> readTenTimestampsCracs() throws IOException {
+        Network network = Network.read("/network/4Nodes_1_PST.xiidm", MarmotTest.class.getResourceAsStream("/network/4Nodes_1_PST.xiidm"));
+        List<Crac> cracs = new ArrayList<>();
+        for (int hour = 10; hour < 20; hour++) {
+            String cracPath = "/crac/crac-20250325%d30.json".formatted(hour);
+            cracs.add(Crac.read(cracPath, MarmotTest.class.getResourceAsStream(cracPath), network));
+        }
+        return cracs;
+    }
+
+    private static TimeCoupledRaoResult runTenTimestampsWithoutGeneratorConstraints(List<Crac> cracs, int numberOfThreads, ReportNode reportNode) throws IOException {
+        String networkPath = getResourcesPath().concat("/network/4Nodes_1_PST.xiidm");
+        RaoParameters raoParameters = JsonRaoParameters.read(MarmotTest.class.getResourceAsStream("/parameters/RaoParameters_minCost_megawatt_dc_with_offset.json"), ReportNode.NO_OP);
+        MarmotParameters marmotParameters = new MarmotParameters();
+        marmotParameters.setNumberOfThreads(numberOfThreads);
+        raoParameters.addExtension(MarmotParameters.class, marmotParameters);
+
+        Map<OffsetDateTime, RaoInput> inputPerTimestamp = new HashMap<>();
+        cracs.forEach(crac -> inputPerTimestamp.put(crac.getTimestamp().orElseThrow(), RaoInput.build(LazyNetwork.of(networkPath), crac).build()));
+        TimeCoupledRaoInput input = new TimeCoupledRaoInput(new TemporalDataImpl<>(inputPerTimestamp), new TimeCoupledConstraints());
+        return new Marmot().run(input, raoParameters, reportNode).join();
+    }
+
+    private static void collectReportMessages(ReportNode reportNode, Set<String> messages) {
+        messages.add(reportNode.getMessage());
+        reportNode.getChildren().forEach(child -> collectReportMessages(child, messages));
+    }
+
     @Test
     void testWithTenTimestampsAndGeneratorConstraintsInjectionKeyGreaterThan1() throws IOException {
         String networkPath = getResourcesPath().concat("/network/4Nodes_1_PST.xiidm");
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.searchtreerao.marmot;
+
+import com.powsybl.openrao.commons.OpenRaoException;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class RollingHorizonWindowTest {
+    private final List<OffsetDateTime> timestamps = IntStream.range(0, 6)
+        .mapToObj(hour -> OffsetDateTime.of(2026, 1, 1, hour, 0, 0, 0, ZoneOffset.UTC))
+        .toList();
+
+    @Test
+    void testSplitWithOverlap() {
+        List<RollingHorizonWindow> windows = RollingHorizonWindow.split(timestamps, 3, 1);
+        assertEquals(3, windows.size());
+        assertEquals(timestamps.subList(0, 3), windows.get(0).timestamps());
+        assertEquals(timestamps.subList(0, 2), windows.get(0).fixedTimestamps());
+        assertEquals(timestamps.subList(2, 5), windows.get(1).timestamps());
+        assertEquals(timestamps.subList(2, 4), windows.get(1).fixedTimestamps());
+        assertEquals(timestamps.subList(4, 6), windows.get(2).timestamps());
+        assertEquals(timestamps.subList(4, 6), windows.get(2).fixedTimestamps());
+    }
+
+    @Test
+    void testSplitMergesTooShortLastWindow() {
+        List<RollingHorizonWindow> windows = RollingHorizonWindow.split(timestamps, 5, 0);
+        assertEquals(1, windows.size());
+        assertEquals(timestamps, windows.getFirst().timestamps());
+        assertEquals(timestamps, windows.getFirst().fixedTimestamps());
+    }
+
+    @Test
+    void testSplitWithWindowLongerThanHorizon() {
+        List<RollingHorizonWindow> windows = RollingHorizonWindow.split(timestamps, 10, 8);
+        assertEquals(1, windows.size());
+        assertEquals(timestamps, windows.getFirst().fixedTimestamps());
+    }
+
+    @Test
+    void testSplitWithInvalidOverlap() {
+        OpenRaoException exception = assertThrows(OpenRaoException.class, () -> RollingHorizonWindow.split(timestamps, 3, 3));
+        assertEquals("Rolling-horizon windows must contain at least 2 timestamps and overlap must be lower than the window size (window size: 3, overlap: 3).", exception.getMessage());
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.searchtreerao.marmot;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.sensitivityanalysis.AppliedRemedialActions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class TopologySignatureTest {
+    private Crac crac;
+    private Network network1;
+    private Network network2;
+
+    @BeforeEach
+    void setUp() {
+        crac = Mockito.mock(Crac.class);
+        Mockito.when(crac.getStates()).thenReturn(Set.of());
+        Mockito.when(crac.getFlowCnecs()).thenReturn(Set.of());
+        Mockito.when(crac.getRangeActions()).thenReturn(Set.of());
+        network1 = Network.read("TestCase12Nodes.uct", getClass().getResourceAsStream("/network/TestCase12Nodes.uct"));
+        network2 = Network.read("TestCase12Nodes.uct", getClass().getResourceAsStream("/network/TestCase12Nodes.uct"));
+    }
+
+    private TopologySignature signature(Network network, boolean distributedSlack) {
+        return TopologySignature.of(network, crac, new AppliedRemedialActions(), distributedSlack);
+    }
+
+    @Test
+    void testSameSignatureWhenOnlyInjectionsChange() {
+        network2.getGenerator("BBE1AA1 _generator").setTargetP(1000.);
+        network2.getLoad("BBE1AA1 _load").setP0(1000.);
+        assertEquals(signature(network1, false), signature(network2, false));
+        assertEquals(signature(network1, true), signature(network2, true));
+    }
+
+    @Test
+    void testDifferentSignatureWhenTopologyChanges() {
+        network2.getLine("BBE1AA1  BBE2AA1  1").getTerminal1().disconnect();
+        assertNotEquals(signature(network1, false), signature(network2, false));
+    }
+
+    @Test
+    void testDifferentSignatureWhenTapChanges() {
+        network2.getTwoWindingsTransformer("BBE2AA1  BBE3AA1  1").getPhaseTapChanger().setTapPosition(5);
+        assertNotEquals(signature(network1, false), signature(network2, false));
+    }
+
+    @Test
+    void testDifferentSignatureWhenSlackParticipationChanges() {
+        network2.getGenerator("BBE1AA1 _generator").setTargetP(0.);
+        assertEquals(signature(network1, false), signature(network2, false));
+        assertNotEquals(signature(network1, true), signature(network2, true));
+    }
+}
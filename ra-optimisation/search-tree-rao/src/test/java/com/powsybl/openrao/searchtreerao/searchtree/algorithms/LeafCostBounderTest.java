@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.searchtreerao.searchtree.algorithms;
+
+import com.powsybl.iidm.network.TwoSides;
+import com.powsybl.openrao.commons.Unit;
+import com.powsybl.openrao.data.crac.api.State;
+import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
+import com.powsybl.openrao.data.crac.api.rangeaction.PstRangeAction;
+import com.powsybl.openrao.data.crac.api.rangeaction.RangeAction;
+import com.powsybl.openrao.raoapi.parameters.ObjectiveFunctionParameters;
+import com.powsybl.openrao.searchtreerao.commons.optimizationperimeters.OptimizationPerimeter;
+import com.powsybl.openrao.searchtreerao.result.api.RangeActionSetpointResult;
+import com.powsybl.openrao.searchtreerao.searchtree.parameters.SearchTreeParameters;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class LeafCostBounderTest {
+    private static final double DOUBLE_TOLERANCE = 1e-6;
+
+    private State state;
+    private PstRangeAction pstRangeAction;
+    private SearchTreeParameters parameters;
+    private LeafCostBounder leafCostBounder;
+    private Leaf leaf;
+
+    @BeforeEach
+    void setUp() {
+        state = Mockito.mock(State.class);
+        when(state.getTimestamp()).thenReturn(Optional.empty());
+
+        pstRangeAction = Mockito.mock(PstRangeAction.class);
+        when(pstRangeAction.getMinAdmissibleSetpoint(0.)).thenReturn(-5.);
+        when(pstRangeAction.getMaxAdmissibleSetpoint(0.)).thenReturn(5.);
+
+        OptimizationPerimeter optimizationPerimeter = Mockito.mock(OptimizationPerimeter.class);
+        when(optimizationPerimeter.getMainOptimizationState()).thenReturn(state);
+        when(optimizationPerimeter.getRangeActionsPerState()).thenReturn(Map.of(state, Set.<RangeAction<?>>of(pstRangeAction)));
+
+        RangeActionSetpointResult prePerimeterSetpoints = Mockito.mock(RangeActionSetpointResult.class);
+        when(prePerimeterSetpoints.getSetpoint(pstRangeAction)).thenReturn(0.);
+
+        parameters = Mockito.mock(SearchTreeParameters.class);
+        when(parameters.getFlowUnit()).thenReturn(Unit.MEGAWATT);
+        when(parameters.getObjectiveFunction()).thenReturn(ObjectiveFunctionParameters.ObjectiveFunctionType.MAX_MIN_MARGIN);
+
+        leafCostBounder = new LeafCostBounder(optimizationPerimeter, prePerimeterSetpoints, parameters);
+
+        leaf = Mockito.mock(Leaf.class);
+        when(leaf.getOptimizedSetpoint(pstRangeAction, state)).thenReturn(1.);
+    }
+
+    private FlowCnec mockFlowCnec(double flow, double sensitivity) {
+        FlowCnec flowCnec = Mockito.mock(FlowCnec.class);
+        when(flowCnec.getState()).thenReturn(state);
+        when(flowCnec.getMonitoredSides()).thenReturn(Set.of(TwoSides.ONE));
+        when(flowCnec.getUpperBound(TwoSides.ONE, Unit.MEGAWATT)).thenReturn(Optional.of(100.));
+        when(flowCnec.getLowerBound(TwoSides.ONE, Unit.MEGAWATT)).thenReturn(Optional.of(-100.));
+        when(leaf.getFlow(flowCnec, TwoSides.ONE, Unit.MEGAWATT)).thenReturn(flow);
+        when(leaf.getSensitivityValue(flowCnec, TwoSides.ONE, pstRangeAction, Unit.MEGAWATT)).thenReturn(sensitivity);
+        return flowCnec;
+    }
+
+    @Test
+    void testCostLowerBound() {
+        // flow of first CNEC can at best be decreased by 60 MW (from set-point 1 to -5): margin cannot exceed 10 MW
+        FlowCnec flowCnec1 = mockFlowCnec(150., 10.);
+        // flow of second CNEC does not depend on the PST: margin cannot exceed 50 MW
+        FlowCnec flowCnec2 = mockFlowCnec(-50., 0.);
+        when(leaf.getMostLimitingElements(Integer.MAX_VALUE)).thenReturn(List.of(flowCnec1, flowCnec2));
+
+        assertTrue(leafCostBounder.canBoundLeaves());
+        assertEquals(-10., leafCostBounder.computeCostLowerBound(leaf), DOUBLE_TOLERANCE);
+    }
+
+    @Test
+    void testNoBoundInAc() {
+        when(parameters.getFlowUnit()).thenReturn(Unit.AMPERE);
+        when(leaf.getMostLimitingElements(Integer.MAX_VALUE)).thenReturn(List.of(mockFlowCnec(150., 10.)));
+
+        assertFalse(leafCostBounder.canBoundLeaves());
+        assertEquals(Double.NEGATIVE_INFINITY, leafCostBounder.computeCostLowerBound(leaf));
+    }
+
+    @Test
+    void testNoBoundForRelativeMargins() {
+        when(parameters.getObjectiveFunction()).thenReturn(ObjectiveFunctionParameters.ObjectiveFunctionType.MAX_MIN_RELATIVE_MARGIN);
+        assertFalse(leafCostBounder.canBoundLeaves());
+    }
+}
@@ -223,6 +223,8 @@ public final class TimeCoupledRaoSteps {
         File cracFile = null;
         if (!useIndividualCracs) {
             cracFile = getFile(cracPath);
+            // the CRACs of all the timestamps are read from the same file: share their immutable definitions
+            cracCreationParameters.setCracFactory(cracCreationParameters.getCracFactory().withSharedDefinitions());
         }
 
         raoParameters = buildConfig(getFile(raoParametersPath));
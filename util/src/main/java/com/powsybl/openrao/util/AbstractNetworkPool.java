@@ -9,6 +9,7 @@ package com.powsybl.openrao.util;
 
 import com.powsybl.iidm.network.Network;
 import com.powsybl.openrao.commons.RandomizedString;
+import com.powsybl.openrao.commons.SharedExecutor;
 
 import java.util.HashSet;
 import java.util.List;
@@ -20,6 +21,7 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.powsybl.openrao.util.MCDContextWrapper.wrapWithMdcContext;
 
@@ -36,6 +38,11 @@ public abstract class AbstractNetworkPool extends ForkJoinPool implements AutoCl
     protected Network network;
     protected String networkInitialVariantId;
     protected Set<String> baseNetworkVariantIds;
+    // Worker threads reserved in the SharedExecutor of the computation that created the pool, so that its other
+    // parallel computations take this pool into account. The pool is sized to the reserved threads (plus the calling
+    // thread), so that it never runs more threads than it was granted.
+    private final SharedExecutor sharedExecutor;
+    private final AtomicInteger reservedThreads;
 
     public static AbstractNetworkPool create(Network network, String targetVariant, int parallelism, boolean initClones) {
         if (parallelism == 1) {
@@ -45,8 +52,29 @@ public abstract class AbstractNetworkPool extends ForkJoinPool implements AutoCl
         }
     }
 
+    /**
+     * Creates a pool whose copies of the network must fit in the given memory budget, in bytes, or
+     * {@link MultipleNetworkPool#NO_MEMORY_BUDGET}. The footprint of a copy is estimated from the size of the network.
+     */
+    public static AbstractNetworkPool create(Network network, String targetVariant, int parallelism, boolean initClones, long memoryBudget) {
+        if (parallelism == 1) {
+            return new SingleNetworkPool(network, targetVariant);
+        } else {
+            return new MultipleNetworkPool(network, targetVariant, parallelism, initClones, memoryBudget);
+        }
+    }
+
     protected AbstractNetworkPool(Network network, String targetVariant, int parallelism) {
-        super(parallelism);
+        this(SharedExecutor.current(), parallelism, network, targetVariant);
+    }
+
+    private AbstractNetworkPool(SharedExecutor sharedExecutor, int parallelism, Network network, String targetVariant) {
+        this(sharedExecutor, sharedExecutor.reserve(parallelism - 1), network, targetVariant);
+    }
+
+    private AbstractNetworkPool(SharedExecutor sharedExecutor, int reservedThreads, Network network, String targetVariant) {
+        super(reservedThreads + 1);
+        this.sharedExecutor = sharedExecutor;
         Objects.requireNonNull(network);
         this.targetVariant = Objects.requireNonNull(targetVariant);
         this.stateSaveVariant = RandomizedString.getRandomizedString("OpenRaoNetworkPool state save ", network.getVariantManager().getVariantIds(), 5);
@@ -55,6 +83,7 @@ public abstract class AbstractNetworkPool extends ForkJoinPool implements AutoCl
         this.networkInitialVariantId = network.getVariantManager().getWorkingVariantId();
         this.network = network;
         this.baseNetworkVariantIds = new HashSet<>(network.getVariantManager().getVariantIds());
+        this.reservedThreads = new AtomicInteger(reservedThreads);
     }
 
     public Network getAvailableNetwork() throws InterruptedException {
@@ -69,6 +98,11 @@ public abstract class AbstractNetworkPool extends ForkJoinPool implements AutoCl
     public void shutdownAndAwaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
         super.shutdown();
         super.awaitTermination(timeout, unit);
+        releaseReservedThreads();
+    }
+
+    protected void releaseReservedThreads() {
+        sharedExecutor.release(reservedThreads.getAndSet(0));
     }
 
     protected void cleanBaseNetwork() {
@@ -102,18 +136,21 @@ public abstract class AbstractNetworkPool extends ForkJoinPool implements AutoCl
     @Override
     public void close() {
         shutdownNow();
+        releaseReservedThreads();
     }
 
     // This will transfer the previous MDC context to the new thread from its pool making it MDC aware, so extra-fields created by application are propagated correctly
     // Must configure the same way different methods from ForkJoinPool when needed
+    // The tasks also run with the SharedExecutor of the computation that created the pool, so that their own parallel
+    // computations share its cap
     @Override
     public ForkJoinTask<?> submit(Runnable task) {
-        return super.submit(wrapWithMdcContext(task));
+        return super.submit(sharedExecutor.wrap(wrapWithMdcContext(task)));
     }
 
     @Override
     public <T> ForkJoinTask<T> submit(Callable<T> task) {
-        return super.submit(wrapWithMdcContext(task));
+        return super.submit(sharedExecutor.wrap(wrapWithMdcContext(task)));
     }
 
     public int getNetworkNumberOfClones() {
@@ -122,4 +159,12 @@ public abstract class AbstractNetworkPool extends ForkJoinPool implements AutoCl
 
     public abstract void initClones(int desiredNumberOfClones);
 
+    /**
+     * Reduces the number of copies of the network to the desired number, for instance when fewer computations remain
+     * than copies. Does nothing by default.
+     */
+    public void shrinkClones(int desiredNumberOfClones) {
+        // the pool only holds the base network
+    }
+
 }
@@ -25,11 +25,29 @@ import static com.powsybl.openrao.commons.logs.OpenRaoLoggerProvider.TECHNICAL_L
  * @author Sebastien Murgey {@literal <sebastien.murgey at rte-france.com>}
  */
 public class MultipleNetworkPool extends AbstractNetworkPool {
+    public static final long NO_MEMORY_BUDGET = Long.MAX_VALUE;
+    private static final long BYTES_PER_MEGABYTE = 1024L * 1024L;
+    // Rough retained size of an identifiable of a network with the data of one variant
+    private static final long ESTIMATED_BYTES_PER_IDENTIFIABLE = 4096L;
+    // A copy holds its initial variant, the state save variant and the working variant
+    private static final int VARIANTS_PER_COPY = 3;
 
-    private int networkNumberOfClones = 0;
+    // Heap that the copies of the network of this pool can use
+    private final long memoryBudget;
+    private final AtomicInteger networkNumberOfClones = new AtomicInteger();
+    // Number of copies above which the copies released by the computations are dropped, see shrinkClones
+    private volatile int targetNumberOfClones = Integer.MAX_VALUE;
 
     protected MultipleNetworkPool(Network network, String targetVariant, int parallelism, boolean initClones) {
+        this(network, targetVariant, parallelism, initClones, NO_MEMORY_BUDGET);
+    }
+
+    protected MultipleNetworkPool(Network network, String targetVariant, int parallelism, boolean initClones, long memoryBudget) {
         super(network, targetVariant, parallelism);
+        if (memoryBudget <= 0) {
+            throw new OpenRaoException(String.format("The memory budget of a network pool must be positive (got %s bytes).", memoryBudget));
+        }
+        this.memoryBudget = memoryBudget;
         if (initClones) {
             initClones(parallelism);
         }
@@ -47,27 +65,98 @@ public class MultipleNetworkPool extends AbstractNetworkPool {
     @Override
     public int getNetworkNumberOfClones() {
         // The number of clones includes the original network itself
-        return networkNumberOfClones;
+        return networkNumberOfClones.get();
     }
 
     @Override
     public void initClones(int desiredNumberOfClones) {
-        int requiredClones = Math.min(getParallelism(), desiredNumberOfClones);
-        int clonesToAdd = requiredClones - networkNumberOfClones;
-
-        if (clonesToAdd == 0) {
+        targetNumberOfClones = Integer.MAX_VALUE;
+        int requiredClones = capToMemoryBudget(Math.min(getParallelism(), desiredNumberOfClones));
+        int clonesToAdd = requiredClones - networkNumberOfClones.get();
+        if (clonesToAdd <= 0) {
             return;
         }
 
-        TECHNICAL_LOGS.debug("Filling network pool with {} new cop{} of network {} on variant {}", clonesToAdd, clonesToAdd == 1 ? "y" : "ies", network.getId(), targetVariant);
-
         String initialVariant = network.getVariantManager().getWorkingVariantId();
         network.getVariantManager().setWorkingVariant(targetVariant);
+        TECHNICAL_LOGS.debug("Filling network pool with {} new cop{} of network {} on variant {}", clonesToAdd, clonesToAdd == 1 ? "y" : "ies", network.getId(), targetVariant);
+        addCopies(requiredClones);
+        network.getVariantManager().setWorkingVariant(initialVariant);
+    }
 
+    /**
+     * Drops the copies of the network above the desired number, so that the memory of the copies that are no longer
+     * needed (for instance when fewer scenarios remain to optimize than copies) is freed before the pool is closed.
+     * The idle copies are dropped at once, the others when they are released. The pool always keeps one copy, and
+     * grows again with {@link #initClones(int)}.
+     */
+    @Override
+    public void shrinkClones(int desiredNumberOfClones) {
+        targetNumberOfClones = Math.max(1, desiredNumberOfClones);
+        while (networkNumberOfClones.get() > targetNumberOfClones) {
+            Network idleCopy = networksQueue.poll();
+            if (idleCopy == null) {
+                return;
+            }
+            if (!dropCopyIfNotNeeded()) {
+                networksQueue.offer(idleCopy);
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void releaseUsedNetwork(Network networkToRelease, boolean deleteWorkingVariant) throws InterruptedException {
+        if (!dropCopyIfNotNeeded()) {
+            super.releaseUsedNetwork(networkToRelease, deleteWorkingVariant);
+        }
+    }
+
+    private boolean dropCopyIfNotNeeded() {
+        while (true) {
+            int clones = networkNumberOfClones.get();
+            if (clones <= targetNumberOfClones) {
+                return false;
+            }
+            if (networkNumberOfClones.compareAndSet(clones, clones - 1)) {
+                TECHNICAL_LOGS.debug("Network pool shrunk to {} cop{} of network {}", clones - 1, clones == 2 ? "y" : "ies", network.getId());
+                return true;
+            }
+        }
+    }
+
+    public long getMemoryBudget() {
+        return memoryBudget;
+    }
+
+    /**
+     * Estimation of the retained heap of a copy of the network, from its number of identifiables. The heap is not
+     * measured since it would require forcing garbage collections.
+     */
+    static long estimateCopyFootprint(Network network) {
+        return Math.max(1, network.getIdentifiables().size() * ESTIMATED_BYTES_PER_IDENTIFIABLE * VARIANTS_PER_COPY);
+    }
+
+    private int capToMemoryBudget(int requiredClones) {
+        if (memoryBudget == NO_MEMORY_BUDGET) {
+            return requiredClones;
+        }
+        long copyFootprint = estimateCopyFootprint(network);
+        long affordableClones = Math.min(memoryBudget, Runtime.getRuntime().maxMemory()) / copyFootprint;
+        // one copy is always created
+        int maxClones = (int) Math.max(1, Math.min(requiredClones, affordableClones));
+        if (maxClones < requiredClones) {
+            TECHNICAL_LOGS.info("Network pool limited to {} copies of network {} instead of {} to fit in the memory budget (about {} MB per copy)",
+                maxClones, network.getId(), requiredClones, copyFootprint / BYTES_PER_MEGABYTE);
+        }
+        return maxClones;
+    }
+
+    private void addCopies(int requiredClones) {
         AtomicInteger remainingClones = new AtomicInteger(requiredClones);
         List<ForkJoinTask<Network>> tasks = new ArrayList<>();
         try {
-            for (int i = networkNumberOfClones; i < requiredClones; i++) {
+            for (int i = networkNumberOfClones.get(); i < requiredClones; i++) {
                 int finalI = i;
                 tasks.add(this.submit(() -> createNetworkCopy(finalI, remainingClones)));
             }
@@ -75,9 +164,9 @@ public class MultipleNetworkPool extends AbstractNetworkPool {
                 try {
                     boolean isSuccess = networksQueue.offer(task.get());
                     if (!isSuccess) {
-                        throw new OpenRaoException(String.format("Cannot offer copy n°'%d' in pool. Should not happen", networkNumberOfClones + 1));
+                        throw new OpenRaoException(String.format("Cannot offer copy n°'%d' in pool. Should not happen", networkNumberOfClones.get() + 1));
                     } else {
-                        networkNumberOfClones++;
+                        networkNumberOfClones.incrementAndGet();
                     }
                 } catch (ExecutionException e) {
                     throw new OpenRaoException(e);
@@ -86,7 +175,6 @@ public class MultipleNetworkPool extends AbstractNetworkPool {
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
-        network.getVariantManager().setWorkingVariant(initialVariant);
     }
 
     private Network createNetworkCopy(int finalI, AtomicInteger remainingClones) {
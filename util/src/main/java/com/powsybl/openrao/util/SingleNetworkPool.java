@@ -48,6 +48,7 @@ public class SingleNetworkPool extends AbstractNetworkPool {
     public void shutdownAndAwaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
         super.shutdown();
         super.awaitTermination(timeout, unit);
+        releaseReservedThreads();
         cleanBaseNetwork();
     }
 }
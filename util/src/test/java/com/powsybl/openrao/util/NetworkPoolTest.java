@@ -11,6 +11,8 @@ import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.read.ListAppender;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.openrao.commons.OpenRaoException;
+import com.powsybl.openrao.commons.SharedExecutor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.slf4j.LoggerFactory;
@@ -24,6 +26,7 @@ import java.util.concurrent.TimeUnit;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -35,6 +38,9 @@ class NetworkPoolTest {
     private String initialVariant;
     private String otherVariant = "otherVariant";
 
+    // the size of the pools must not depend on the number of processors of the machine
+    private final SharedExecutor sharedExecutor = SharedExecutor.withMaxParallelism(100);
+
     @BeforeEach
     public void setUp() {
         network = Network.read("testCase.xiidm", getClass().getResourceAsStream("/testCase.xiidm"));
@@ -42,15 +48,23 @@ class NetworkPoolTest {
         network.getVariantManager().cloneVariant(initialVariant, otherVariant);
     }
 
+    private AbstractNetworkPool createPool(String targetVariant, int parallelism, boolean initClones) {
+        return sharedExecutor.call(() -> AbstractNetworkPool.create(network, targetVariant, parallelism, initClones));
+    }
+
+    private AbstractNetworkPool createPool(String targetVariant, int parallelism, boolean initClones, long memoryBudget) {
+        return sharedExecutor.call(() -> AbstractNetworkPool.create(network, targetVariant, parallelism, initClones, memoryBudget));
+    }
+
     @Test
     void testCreate() {
-        assertTrue(AbstractNetworkPool.create(network, otherVariant, 10, true) instanceof MultipleNetworkPool);
-        assertTrue(AbstractNetworkPool.create(network, otherVariant, 1, true) instanceof SingleNetworkPool);
+        assertTrue(createPool(otherVariant, 10, true) instanceof MultipleNetworkPool);
+        assertTrue(createPool(otherVariant, 1, true) instanceof SingleNetworkPool);
     }
 
     @Test
     void networkPoolUsageTest() {
-        try (AbstractNetworkPool pool = AbstractNetworkPool.create(network, otherVariant, 10, false)) {
+        try (AbstractNetworkPool pool = createPool(otherVariant, 10, false)) {
 
             pool.initClones(4);
             Network networkCopy = pool.getAvailableNetwork();
@@ -71,7 +85,7 @@ class NetworkPoolTest {
 
     @Test
     void singleNetworkPoolUsageTest() throws InterruptedException {
-        AbstractNetworkPool pool = AbstractNetworkPool.create(network, otherVariant, 1, true);
+        AbstractNetworkPool pool = createPool(otherVariant, 1, true);
         Network networkCopy = pool.getAvailableNetwork();
 
         assertNotNull(networkCopy);
@@ -93,7 +107,7 @@ class NetworkPoolTest {
         logger.addAppender(listAppender);
 
         MDC.put("extrafield", "value from caller");
-        AbstractNetworkPool pool = AbstractNetworkPool.create(network, otherVariant, 20, true);
+        AbstractNetworkPool pool = createPool(otherVariant, 20, true);
         for (int i = 0; i < 20; i++) {
             pool.submit(() -> {
                 LoggerFactory.getLogger("LOGGER").info("Hello from forked thread");
@@ -110,36 +124,116 @@ class NetworkPoolTest {
 
     @Test
     void doesNotAddClonesToSingleNetworkPool() {
-        AbstractNetworkPool pool = AbstractNetworkPool.create(network, otherVariant, 1, true);
+        AbstractNetworkPool pool = createPool(otherVariant, 1, true);
         pool.initClones(6);
         assertEquals(1, pool.getNetworkNumberOfClones());
     }
 
     @Test
     void addClonesUnderMaxLimit() {
-        AbstractNetworkPool pool = AbstractNetworkPool.create(network, otherVariant, 8, false);
+        AbstractNetworkPool pool = createPool(otherVariant, 8, false);
         pool.initClones(6);
         assertEquals(6, pool.getNetworkNumberOfClones());
     }
 
     @Test
     void addClonesOverMaxLimit() {
-        AbstractNetworkPool pool = AbstractNetworkPool.create(network, otherVariant, 8, false);
+        AbstractNetworkPool pool = createPool(otherVariant, 8, false);
         pool.initClones(14);
         assertEquals(8, pool.getNetworkNumberOfClones());
     }
 
     @Test
     void initClonesAtConstruction() {
-        AbstractNetworkPool pool = AbstractNetworkPool.create(network, otherVariant, 8, true);
+        AbstractNetworkPool pool = createPool(otherVariant, 8, true);
         assertEquals(8, pool.getNetworkNumberOfClones());
     }
 
+    @Test
+    void poolIsSizedToGrantedThreads() {
+        // all the worker threads but 4 are held by other computations
+        int reservedThreads = sharedExecutor.reserve(Integer.MAX_VALUE) - 4;
+        sharedExecutor.release(4);
+        try (AbstractNetworkPool pool = createPool(otherVariant, 8, false)) {
+            // the pool runs with the 4 available workers and the calling thread
+            assertEquals(5, pool.getParallelism());
+            pool.initClones(8);
+            assertEquals(5, pool.getNetworkNumberOfClones());
+        } finally {
+            sharedExecutor.release(reservedThreads);
+        }
+    }
+
+    @Test
+    void addClonesWithLowMemoryBudget() {
+        // a budget of one byte cannot even hold the first copy, which is always created
+        try (AbstractNetworkPool pool = createPool(otherVariant, 8, false, 1)) {
+            pool.initClones(6);
+            assertEquals(1, pool.getNetworkNumberOfClones());
+            pool.initClones(8);
+            assertEquals(1, pool.getNetworkNumberOfClones());
+        }
+    }
+
+    @Test
+    void addClonesWithinMemoryBudget() {
+        long copyFootprint = MultipleNetworkPool.estimateCopyFootprint(network);
+        try (AbstractNetworkPool pool = createPool(otherVariant, 8, false, 3 * copyFootprint + copyFootprint / 2)) {
+            pool.initClones(2);
+            assertEquals(2, pool.getNetworkNumberOfClones());
+            pool.initClones(6);
+            assertEquals(3, pool.getNetworkNumberOfClones());
+        }
+    }
+
+    @Test
+    void addClonesWithoutMemoryBudget() {
+        try (AbstractNetworkPool pool = createPool(otherVariant, 8, false)) {
+            assertEquals(MultipleNetworkPool.NO_MEMORY_BUDGET, ((MultipleNetworkPool) pool).getMemoryBudget());
+            pool.initClones(6);
+            assertEquals(6, pool.getNetworkNumberOfClones());
+        }
+    }
+
+    @Test
+    void invalidMemoryBudget() {
+        OpenRaoException exception = assertThrows(OpenRaoException.class, () -> createPool(otherVariant, 8, false, 0));
+        assertEquals("The memory budget of a network pool must be positive (got 0 bytes).", exception.getMessage());
+    }
+
+    @Test
+    void shrinkAndGrowClones() throws InterruptedException {
+        try (AbstractNetworkPool pool = createPool(otherVariant, 8, false)) {
+            pool.initClones(4);
+            Network usedNetwork = pool.getAvailableNetwork();
+
+            // the idle copies are dropped at once, the copy in use when it is released
+            pool.shrinkClones(2);
+            assertEquals(2, pool.getNetworkNumberOfClones());
+            pool.shrinkClones(0);
+            assertEquals(1, pool.getNetworkNumberOfClones());
+            pool.releaseUsedNetwork(usedNetwork);
+            assertEquals(1, pool.getNetworkNumberOfClones());
+            assertNotNull(pool.getAvailableNetwork());
+
+            pool.initClones(3);
+            assertEquals(3, pool.getNetworkNumberOfClones());
+        }
+    }
+
+    @Test
+    void shrinkSingleNetworkPool() throws InterruptedException {
+        AbstractNetworkPool pool = createPool(otherVariant, 1, true);
+        pool.shrinkClones(0);
+        assertEquals(1, pool.getNetworkNumberOfClones());
+        assertNotNull(pool.getAvailableNetwork());
+    }
+
     // Does not pass so far
     @Test
     void checkSameInitialVariant() throws InterruptedException {
         Set<String> variantsIds = new HashSet<>(network.getVariantManager().getVariantIds());
-        AbstractNetworkPool pool = AbstractNetworkPool.create(network, otherVariant, 12, false);
+        AbstractNetworkPool pool = createPool(otherVariant, 12, false);
 
         pool.initClones(1);
         Network newNetwork = pool.getAvailableNetwork();